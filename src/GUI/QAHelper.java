@@ -36,8 +36,11 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.font.TextAttribute;
 import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.UnknownHostException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -54,8 +57,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.imageio.ImageIO;
 import javax.sound.sampled.*;
 import javax.swing.*;
@@ -121,6 +127,7 @@ public class QAHelper extends javax.swing.JFrame {
     boolean conditionAndNotesUpdated = false;
     boolean lastConditionAndNotesSaveFailed = false;
     boolean isReloading = false;
+    boolean loadedSpecsSnapshot = false;
     static boolean isTestMode = false;
     boolean gotTestModeFromLog = false;
     boolean isLoggedIn = false;
@@ -168,6 +175,9 @@ public class QAHelper extends javax.swing.JFrame {
     String macBuildInfoPath = "/Users/Shared/Build Info/";
     String windowsBuildInfoPath = "\\Install\\"; // TODO: Choose a better Windows folder at some point.
     String helperLogFilePath = linuxBuildInfoPath + "qa-helper-log.txt"; // This will get changed in QAHelper() after we know if we're running on Linux or Mac
+    WebOutbox webOutbox = null;
+    CPUStressEngine cpuStressEngine = null;
+    CPUSensorSampler cpuSensorSampler = null;
 
     long pidDashKeyTypedMillis = 0;
     long pidLastDigitAfterDashKeyTypedMillis = 0;
@@ -479,30 +489,6 @@ public class QAHelper extends javax.swing.JFrame {
                     if (isLinux) {
                         String possibleSudo = (!adminPassword.equals("*UNKNOWN*") ? "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk " : "");
 
-                        try {
-                            Runtime.getRuntime().exec(new String[]{"/usr/bin/killall", "yes"});
-                        } catch (IOException quitYesException) {
-                            if (isTestMode) {
-                                System.out.println("quitYesException: " + quitYesException);
-                            }
-                        }
-
-                        try {
-                            Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", possibleSudo + "/usr/bin/killall stress-ng"});
-                        } catch (IOException quitStressNgException) {
-                            if (isTestMode) {
-                                System.out.println("quitStressNgException: " + quitStressNgException);
-                            }
-                        }
-
-                        try {
-                            Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", possibleSudo + "/usr/bin/killall stress-ng-cpu"});
-                        } catch (IOException quitStressNgCpuException) {
-                            if (isTestMode) {
-                                System.out.println("quitStressNgCpuException: " + quitStressNgCpuException);
-                            }
-                        }
-
                         try {
                             Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", possibleSudo + "/usr/bin/killall mate-system-monitor"});
                         } catch (IOException quitMateSystemMonitorException) {
@@ -578,14 +564,6 @@ public class QAHelper extends javax.swing.JFrame {
                             }
                         }
                     } else if (isMacOS) {
-                        try {
-                            Runtime.getRuntime().exec(new String[]{"/usr/bin/killall", "yes"});
-                        } catch (IOException quitYesException) {
-                            if (isTestMode) {
-                                System.out.println("quitYesException: " + quitYesException);
-                            }
-                        }
-
                         try {
                             Runtime.getRuntime().exec(new String[]{"/usr/bin/killall", "caffeinate"});
                         } catch (IOException quitCaffeinateException) {
@@ -1036,6 +1014,36 @@ public class QAHelper extends javax.swing.JFrame {
         }
     }
 
+    private synchronized WebOutbox getWebOutbox() {
+        if (webOutbox == null) {
+            // Keep the outbox journal in the QA Helper cache folder of the current user (instead of the build info folder that ships with the computer) since the journal is only readable and writable by that user
+            // and anything still queued doesn't need to be kept with the build info. If there is no QA Helper cache folder (such as on Windows), use the temporary folder of the current user instead.
+            File qaHelperCacheFolder = GetComputerSpecs.getQAHelperCacheFolder();
+
+            if (qaHelperCacheFolder == null) {
+                qaHelperCacheFolder = new File(System.getProperty("java.io.tmpdir"), "qa_helper-cache");
+            }
+
+            qaHelperCacheFolder.mkdirs();
+
+            // Only these endpoints can ever be sent to by the outbox, so nothing else in the journal will ever be sent even if it was somehow modified.
+            // Both the Test Mode and regular URLs are always included so that anything queued in either mode is still sent after relaunching in the other mode.
+            // Secret fields (such as the email key) are NEVER written to the journal and are only added to the form fields when they are being sent.
+            LinkedHashMap<String, Map<String, String>> webOutboxEndpointsSecretFields = new LinkedHashMap<>();
+            webOutboxEndpointsSecretFields.put(privateStrings.getLogSpecsURL(), Collections.emptyMap());
+
+            for (boolean thisEndpointIsTestMode : new boolean[]{false, true}) {
+                webOutboxEndpointsSecretFields.put(privateStrings.getAddToFreeGeekProductionLogURL(thisEndpointIsTestMode), Collections.emptyMap());
+                webOutboxEndpointsSecretFields.put(privateStrings.getLogAbsoluteEnabledURL(thisEndpointIsTestMode), Collections.emptyMap());
+                webOutboxEndpointsSecretFields.put(privateStrings.getFreeGeekAPIurl("email", thisEndpointIsTestMode), Collections.singletonMap("key", privateStrings.getEmailPrivateKey()));
+            }
+
+            webOutbox = new WebOutbox(new File(qaHelperCacheFolder, "qa-helper-outbox.jsonl").getPath(), webOutboxEndpointsSecretFields, isTestMode);
+        }
+
+        return webOutbox;
+    }
+
     private void logSpecsAction(String action) {
         if (computerSpecs != null) {
             if (isTestMode) {
@@ -1049,47 +1057,38 @@ public class QAHelper extends javax.swing.JFrame {
                 }
             }
 
+            ComputerSpecsRecord specsRecord = computerSpecs.getSpecsRecord();
+
             LinkedHashMap<String, String> logSpecsParameters = new LinkedHashMap<>();
             logSpecsParameters.put("action", action);
             logSpecsParameters.put("pid", pid);
             logSpecsParameters.put("user", username + (isIntern ? " (Intern)" : ""));
-            logSpecsParameters.put("brand", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardBrand() : computerSpecs.getFullBrand()));
-            logSpecsParameters.put("model", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardModel() : computerSpecs.getFullModel()));
-            logSpecsParameters.put("serial", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardSerial() : computerSpecs.getFullSerial()));
-            logSpecsParameters.put("uuid", computerSpecs.getHardwareUUID());
-            logSpecsParameters.put("os", computerSpecs.getFullOS());
-            logSpecsParameters.put("chassis", computerSpecs.getChassisType() + " (" + (detectedDeviceType.equals(manualDeviceType) ? detectedDeviceType : (detectedDeviceType + " / " + manualDeviceType)) + ")");
-            logSpecsParameters.put("cpu", ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("CPU")) ? "N/A" : computerSpecs.getFullCPU()));
-            logSpecsParameters.put("ram", ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("RAM")) ? computerSpecs.getFullMotherboardRAM() : computerSpecs.getFullRAM()));
-            logSpecsParameters.put("battery", computerSpecs.getBatteryHealthString());
-            logSpecsParameters.put("power_adapter", computerSpecs.getPowerAdapter());
-            logSpecsParameters.put("storage", computerSpecs.getFullStorage());
-            logSpecsParameters.put("gpu", computerSpecs.getFullGPU());
-            logSpecsParameters.put("audio", computerSpecs.getFullAudio());
-            logSpecsParameters.put("wireless", computerSpecs.getWireless());
-            logSpecsParameters.put("screen", computerSpecs.getFullScreenSize());
-            logSpecsParameters.put("disc_drive", computerSpecs.getFullDiscDrive());
-            logSpecsParameters.put("mac", computerSpecs.getEthernetMAC());
+            logSpecsParameters.put("brand", (deviceTypeIsMotherboard ? specsRecord.getFullMotherboardBrand() : specsRecord.getFullBrand()));
+            logSpecsParameters.put("model", (deviceTypeIsMotherboard ? specsRecord.getFullMotherboardModel() : specsRecord.getFullModel()));
+            logSpecsParameters.put("serial", (deviceTypeIsMotherboard ? specsRecord.getMotherboardSerial() : specsRecord.getSerial()));
+            logSpecsParameters.put("uuid", specsRecord.getHardwareUUID());
+            logSpecsParameters.put("os", specsRecord.getOS());
+            logSpecsParameters.put("chassis", specsRecord.getChassisType() + " (" + (detectedDeviceType.equals(manualDeviceType) ? detectedDeviceType : (detectedDeviceType + " / " + manualDeviceType)) + ")");
+            logSpecsParameters.put("cpu", ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("CPU")) ? "N/A" : specsRecord.getCPU()));
+            logSpecsParameters.put("ram", ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("RAM")) ? specsRecord.getMotherboardRAM() : specsRecord.getRAM()));
+            logSpecsParameters.put("battery", specsRecord.getBatteryHealthSummary());
+            logSpecsParameters.put("power_adapter", specsRecord.getPowerAdapter());
+            logSpecsParameters.put("storage", specsRecord.getStorageSummary());
+            logSpecsParameters.put("gpu", specsRecord.getGPUsummary());
+            logSpecsParameters.put("audio", specsRecord.getAudioSummary());
+            logSpecsParameters.put("wireless", specsRecord.getWirelessSummary());
+            logSpecsParameters.put("screen", specsRecord.getScreenSize());
+            logSpecsParameters.put("disc_drive", specsRecord.getDiscDriveSummary());
+            logSpecsParameters.put("mac", specsRecord.getEthernetMACsSummary());
             logSpecsParameters.put("version", appVersion);
 
-            (new SwingWorker<String, Void>() {
-                @Override
-                protected String doInBackground() throws Exception {
-                    return new WebReader(privateStrings.getLogSpecsURL(), logSpecsParameters, 15).getOutputLinesAsString();
-                }
+            getWebOutbox().enqueue(privateStrings.getLogSpecsURL(), logSpecsParameters).whenComplete((String logSpecsResult, Throwable logSpecsException) -> {
+                //System.out.println("logSpecsResult: " + logSpecsResult); // DEBUG
 
-                @Override
-                protected void done() {
-                    if (isTestMode) {
-                        try {
-                            String logSpecsResult = get();
-                            //System.out.println("logSpecsResult: " + logSpecsResult); // DEBUG
-                        } catch (InterruptedException | ExecutionException logSpecsException) {
-                            System.out.println("logSpecsException: " + logSpecsException);
-                        }
-                    }
+                if ((logSpecsException != null) && isTestMode) {
+                    System.out.println("logSpecsException: " + logSpecsException);
                 }
-            }).execute();
+            });
         }
     }
 
@@ -1100,44 +1099,69 @@ public class QAHelper extends javax.swing.JFrame {
                 isIntern = "true";
             }
 
+            CompletableFuture<String> queuedAddToProductionLog = null;
+
             for (;;) {
                 String addToProductLogResult;
 
-                String windowsLicense = "";
-                if (isWindows) {
-                    try {
-                        List<String> allHelperLogLines = Files.readAllLines(Paths.get(helperLogFilePath));
-                        for (String thisHelperLogLine : allHelperLogLines) {
-                            if (thisHelperLogLine.startsWith("Uploaded CBR for DPK: ")) {
-                                String[] uploadedCBRLineParts = thisHelperLogLine.split("\\+");
-                                if ((uploadedCBRLineParts.length >= 2) && uploadedCBRLineParts[1].startsWith("WIN")) {
-                                    windowsLicense = uploadedCBRLineParts[1];
-                                } else {
-                                    windowsLicense = "UNKNOWN-DPK";
+                if (queuedAddToProductionLog != null) {
+                    // Still waiting on the same queued entry to be sent, so don't queue a duplicate entry (which would add this computer to the production log twice), just try sending it again now.
+                    getWebOutbox().sendNow();
+                } else {
+                    String windowsLicense = "";
+                    if (isWindows) {
+                        try {
+                            List<String> allHelperLogLines = Files.readAllLines(Paths.get(helperLogFilePath));
+                            for (String thisHelperLogLine : allHelperLogLines) {
+                                if (thisHelperLogLine.startsWith("Uploaded CBR for DPK: ")) {
+                                    String[] uploadedCBRLineParts = thisHelperLogLine.split("\\+");
+                                    if ((uploadedCBRLineParts.length >= 2) && uploadedCBRLineParts[1].startsWith("WIN")) {
+                                        windowsLicense = uploadedCBRLineParts[1];
+                                    } else {
+                                        windowsLicense = "UNKNOWN-DPK";
+                                    }
+                                } else if (thisHelperLogLine.startsWith("Reverted DPK")) {
+                                    windowsLicense = "";
                                 }
-                            } else if (thisHelperLogLine.startsWith("Reverted DPK")) {
-                                windowsLicense = "";
                             }
-                        }
-                    } catch (IOException readLogException) {
-                        if (isTestMode) {
-                            System.out.println("readLogException: " + readLogException);
+                        } catch (IOException readLogException) {
+                            if (isTestMode) {
+                                System.out.println("readLogException: " + readLogException);
+                            }
                         }
                     }
-                }
 
-                LinkedHashMap<String, String> addToProductionLogParameters = new LinkedHashMap<>();
-                addToProductionLogParameters.put("is_intern", isIntern);
-                addToProductionLogParameters.put("technician", username);
-                addToProductionLogParameters.put("id", pid);
-                addToProductionLogParameters.put("device_type", manualDeviceType);
-                addToProductionLogParameters.put("brand", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardBrand() : computerSpecs.getFullBrand()));
-                addToProductionLogParameters.put("model", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardModel() : computerSpecs.getFullModel()));
-                addToProductionLogParameters.put("serial", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardSerial() : computerSpecs.getFullSerial()));
-                addToProductionLogParameters.put("os", ((isLinuxLiveBoot || isWindowsPE || isMacTestBoot || deviceTypeIsMotherboard) ? "N/A" : computerSpecs.getFullOS()));
-                addToProductionLogParameters.put("windows_license", windowsLicense); // "windows_license" must always be included, but the value can be empty.
+                    LinkedHashMap<String, String> addToProductionLogParameters = new LinkedHashMap<>();
+                    addToProductionLogParameters.put("is_intern", isIntern);
+                    addToProductionLogParameters.put("technician", username);
+                    addToProductionLogParameters.put("id", pid);
+                    addToProductionLogParameters.put("device_type", manualDeviceType);
+                    addToProductionLogParameters.put("brand", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardBrand() : computerSpecs.getFullBrand()));
+                    addToProductionLogParameters.put("model", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardModel() : computerSpecs.getFullModel()));
+                    addToProductionLogParameters.put("serial", (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardSerial() : computerSpecs.getFullSerial()));
+                    addToProductionLogParameters.put("os", ((isLinuxLiveBoot || isWindowsPE || isMacTestBoot || deviceTypeIsMotherboard) ? "N/A" : computerSpecs.getFullOS()));
+                    addToProductionLogParameters.put("windows_license", windowsLicense); // "windows_license" must always be included, but the value can be empty.
+
+                    queuedAddToProductionLog = getWebOutbox().enqueue(privateStrings.getAddToFreeGeekProductionLogURL(isTestMode), addToProductionLogParameters, "ADDED");
+                }
 
-                addToProductLogResult = new WebReader(privateStrings.getAddToFreeGeekProductionLogURL(isTestMode), addToProductionLogParameters, 20).getOutputLinesAsString();
+                // Only wait 20 seconds for the queued entry to be sent since the technician is waiting on this. If it's not sent by then, it stays queued (even if QA Helper is quit)
+                // and the technician can choose to continue and let it be sent automatically once connected instead of being stuck until the connection is working.
+                boolean isStillQueued = false;
+                try {
+                    addToProductLogResult = queuedAddToProductionLog.get(20, TimeUnit.SECONDS);
+                    queuedAddToProductionLog = null;
+                } catch (ExecutionException addToProductionLogRejectedException) {
+                    addToProductLogResult = addToProductionLogRejectedException.getCause().getMessage();
+                    queuedAddToProductionLog = null; // The server responded with an error, so this entry is done and a new one must be queued to try again.
+                } catch (TimeoutException addToProductionLogQueuedException) {
+                    addToProductLogResult = "NO RESPONSE (STILL QUEUED TO BE SENT ONCE CONNECTED)";
+                    isStillQueued = true;
+                } catch (InterruptedException addToProductionLogInterruptedException) {
+                    // Stop waiting (the entry is still queued to be sent automatically) and keep the interrupt so that whatever interrupted this thread can see it.
+                    Thread.currentThread().interrupt();
+                    break;
+                }
 
                 if (addToProductLogResult.equals("ADDED")) {
                     break;
@@ -1167,10 +1191,16 @@ public class QAHelper extends javax.swing.JFrame {
                     + "If this computer does not have an Ethernet port, use an Ethernet adapter.<br/>"
                     + "Once you're connected to Wi-Fi or Ethernet, it may take a few moments for the internet connection to be established.<br/>"
                     + "If it takes more than a few minutes, consult an instructor or inform Free Geek I.T.</html>"},
-                        "QA Helper  —  Add to Production Log Error", JOptionPane.YES_NO_OPTION, JOptionPane.ERROR_MESSAGE, null, new String[]{"Try Again", "Continue Without Logging Automatically (Only Choose If Added Manually)"}, "Try Again");
+                        "QA Helper  —  Add to Production Log Error", JOptionPane.YES_NO_OPTION, JOptionPane.ERROR_MESSAGE, null, new String[]{"Try Again", (isStillQueued ? "Continue and Add to Production Log Automatically Once Connected" : "Continue Without Logging Automatically (Only Choose If Added Manually)")}, "Try Again");
 
                 if (addToProductionLogErrorResponse == JOptionPane.NO_OPTION) { // Check for "JOptionPane.NO_OPTION" specifically because still want pressing Escape key to Try Again. Canceling must be manually clicked.
-                    if (JOptionPane.showConfirmDialog(qaHelperWindow, "<html><b>Are you sure you want to continue WITHOUT automatically adding this computer to you production log?</b><br/><br/>This computer MUST still be manually added to your production log.<br/><br/><i>Only choose &quot;Yes&quot; if you have manually added this computer to your production log.</i></html>", "QA Helper  —  Confirm DO NOT Automatically Add to Production Log", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE) == JOptionPane.YES_OPTION) {
+                    if (isStillQueued) {
+                        sendErrorEmail("CHOSE TO CONTINUE WITH DEVICE QUEUED TO BE ADDED TO PRODUCTION LOG ONCE CONNECTED");
+
+                        loadingWindow.setAlwaysOnTop(true);
+
+                        break;
+                    } else if (JOptionPane.showConfirmDialog(qaHelperWindow, "<html><b>Are you sure you want to continue WITHOUT automatically adding this computer to you production log?</b><br/><br/>This computer MUST still be manually added to your production log.<br/><br/><i>Only choose &quot;Yes&quot; if you have manually added this computer to your production log.</i></html>", "QA Helper  —  Confirm DO NOT Automatically Add to Production Log", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE) == JOptionPane.YES_OPTION) {
                         sendErrorEmail("CHOSE TO CONTINUE WITHOUT AUTOMATICALLY ADDING DEVICE TO PRODUCTION LOG");
 
                         loadingWindow.setAlwaysOnTop(true);
@@ -1239,78 +1269,113 @@ public class QAHelper extends javax.swing.JFrame {
     }
 
     private void sendEmail(String emailType, String emailMessage) {
-        (new SwingWorker<Void, Void>() {
+        String emailPID = pid;
+        if (emailPID.equals("N/A") && (txtPID != null)) {
+            String possiblePID = txtPID.getText().replaceAll("\\s", "").toUpperCase();
+            if (!possiblePID.isEmpty()) {
+                emailPID = possiblePID;
+            }
+        }
+
+        boolean isIntern = false;
+        if (isLoggedIn) {
+            if (new String(pswPassword.getPassword()).equals("intern")) {
+                isIntern = true;
+            }
+        }
+
+        String finalEmailPID = emailPID;
+        boolean finalIsIntern = isIntern;
+
+        // The location and IP lookups don't depend on each other, so run them at the same time and only send the email once both are done (without tying up any SwingWorker thread while waiting on the network).
+        WebReader.readAsync(privateStrings.getFreeGeekAPIurl("location?fg-referrer=qahelper", isTestMode)).thenCombine(WebReader.readAsync(privateStrings.getFreeGeekAPIurl("ip", isTestMode)), (WebResponse locationInfoResponse, WebResponse remoteIPResponse) -> {
+            String locationInfo = locationInfoResponse.getFirstOutputLine();
+            if (locationInfo.isEmpty()) {
+                locationInfo = "UNKNOWN CITY,UNKNOWN STATE";
+            }
+
+            String remoteIP = remoteIPResponse.getFirstOutputLine();
+            if (remoteIP.isEmpty()) {
+                remoteIP = "UNKNOWN IP";
+            }
+
+            String fullEmailMessage = "<b>QA Helper Version:</b> " + appVersion + (isPeripheralTestMode ? " (Peripheral Test Mode)" : "") + "<br/>"
+                    + "<b>Java Version:</b> " + System.getProperty("java.version") + "<br/><br/>"
+                    + "<b>OS:</b> " + (((computerSpecs != null) && !computerSpecs.getFullOS().equals("N/A")) ? computerSpecs.getFullOS() : (System.getProperty("os.name") + " " + System.getProperty("os.version"))) + "<br/>"
+                    + "<b>Serial:</b> " + ((computerSpecs != null) ? escapeSingleLineSpecStringForHTML((deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardSerial() : computerSpecs.getFullSerial())) : "Specs Not Loaded") + "<br/><br/>"
+                    + "<b>ID:</b> " + (finalEmailPID.equals("N/A") ? "N/A" : ("<a href=\"" + privateStrings.getFreeGeekSpecsURL(finalEmailPID, isTestMode) + "\" target=\"_blank\">" + finalEmailPID + "</a>")) + (isTestMode ? " (Test Mode)" : "") + "<br/>"
+                    + "<b>User:</b> " + username + (finalIsIntern ? " (Intern)" : "") + "<br/>"
+                    + "<b>Email:</b> " + (loggedInUserInfo.containsKey("userEmail") ? loggedInUserInfo.get("userEmail") : "N/A") + "<br/>"
+                    + "<b>Location:</b> " + locationInfo.replace(",", ", ") + "<br/>"
+                    + "<b>IP:</b> " + remoteIP + "<br/>"
+                    + "<b>System Time:</b> " + new SimpleDateFormat("MM/dd/yyyy h:mm:ss a z").format(new Date()) + "<br/><br/>"
+                    + "<b>" + emailType + " Message:</b><br/><span style=\"font-family:monospace\">" + escapeMultiLineStringForHTML(emailMessage) + "</span>";
+
+            LinkedHashMap<String, String> sendEmailParameters = new LinkedHashMap<>();
+            sendEmailParameters.put("from_email", privateStrings.getEmailFromAddress());
+            sendEmailParameters.put("from_name", "QA Helper " + emailType);
+            sendEmailParameters.put("to_email", privateStrings.getEmailToAddress());
+            sendEmailParameters.put("subject", "QA Helper " + emailType);
+            sendEmailParameters.put("body", fullEmailMessage);
+
+            return sendEmailParameters;
+        }).thenCompose((LinkedHashMap<String, String> sendEmailParameters) -> getWebOutbox().enqueue(privateStrings.getFreeGeekAPIurl("email", isTestMode), sendEmailParameters)).whenComplete((String sendEmailResult, Throwable sendEmailException) -> {
+            //System.out.println("sendEmailResult: " + sendEmailResult); // DEBUG
+
+            if ((sendEmailException != null) && isTestMode) {
+                System.out.println("sendEmailException: " + sendEmailException);
+            }
+        });
+    }
+
+    private void reload() {
+        reload(true);
+    }
+
+    private void revalidateSpecsSnapshot() {
+        // Only the volatile specs can have changed since the specs snapshot was saved during this same boot, so only reload those specs categories.
+        (new SwingWorker<Boolean, Void>() {
             @Override
-            protected Void doInBackground() throws Exception {
-                try {
-                    String emailPID = pid;
-                    if (emailPID.equals("N/A") && (txtPID != null)) {
-                        String possiblePID = txtPID.getText().replaceAll("\\s", "").toUpperCase();
-                        if (!possiblePID.isEmpty()) {
-                            emailPID = possiblePID;
-                        }
-                    }
+            protected Boolean doInBackground() throws Exception {
+                GetComputerSpecs revalidatedComputerSpecs = computerSpecs.loadSpecsCategories(adminPassword, isTestMode, GetComputerSpecs.SpecsCategory.BATTERY, GetComputerSpecs.SpecsCategory.DISC_DRIVE, GetComputerSpecs.SpecsCategory.NETWORK);
 
-                    String locationInfo = new WebReader(privateStrings.getFreeGeekAPIurl("location?fg-referrer=qahelper", isTestMode)).getFirstOutputLine();
-                    if (locationInfo.isEmpty()) {
-                        locationInfo = "UNKNOWN CITY,UNKNOWN STATE";
-                    }
+                if (revalidatedComputerSpecs == null) {
+                    return false;
+                }
 
-                    String remoteIP = new WebReader(privateStrings.getFreeGeekAPIurl("ip", isTestMode)).getFirstOutputLine();
-                    if (remoteIP.isEmpty()) {
-                        remoteIP = "UNKNOWN IP";
-                    }
+                while (isReloading || !actionsEnabled) {
+                    TimeUnit.MILLISECONDS.sleep(500); // Don't change the specs (which a running test or reload may be reading) or the displayed specs until reloading or the running test is done.
+                }
 
-                    boolean isIntern = false;
-                    if (isLoggedIn) {
-                        if (new String(pswPassword.getPassword()).equals("intern")) {
-                            isIntern = true;
+                // If all specs were fully reloaded while waiting, the revalidated specs will NOT be swapped in since they are no newer than the fully reloaded specs.
+                return computerSpecs.swapInSpecsCategories(revalidatedComputerSpecs, isTestMode);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    if (get()) {
+                        if (isTestMode) {
+                            System.out.println("Specs Snapshot Was Outdated - Displaying Revalidated Specs");
                         }
-                    }
 
-                    String fullEmailMessage = "<b>QA Helper Version:</b> " + appVersion + (isPeripheralTestMode ? " (Peripheral Test Mode)" : "") + "<br/>"
-                            + "<b>Java Version:</b> " + System.getProperty("java.version") + "<br/><br/>"
-                            + "<b>OS:</b> " + (((computerSpecs != null) && !computerSpecs.getFullOS().equals("N/A")) ? computerSpecs.getFullOS() : (System.getProperty("os.name") + " " + System.getProperty("os.version"))) + "<br/>"
-                            + "<b>Serial:</b> " + ((computerSpecs != null) ? escapeSingleLineSpecStringForHTML((deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardSerial() : computerSpecs.getFullSerial())) : "Specs Not Loaded") + "<br/><br/>"
-                            + "<b>ID:</b> " + (emailPID.equals("N/A") ? "N/A" : ("<a href=\"" + privateStrings.getFreeGeekSpecsURL(emailPID, isTestMode) + "\" target=\"_blank\">" + emailPID + "</a>")) + (isTestMode ? " (Test Mode)" : "") + "<br/>"
-                            + "<b>User:</b> " + username + (isIntern ? " (Intern)" : "") + "<br/>"
-                            + "<b>Email:</b> " + (loggedInUserInfo.containsKey("userEmail") ? loggedInUserInfo.get("userEmail") : "N/A") + "<br/>"
-                            + "<b>Location:</b> " + locationInfo.replace(",", ", ") + "<br/>"
-                            + "<b>IP:</b> " + remoteIP + "<br/>"
-                            + "<b>System Time:</b> " + new SimpleDateFormat("MM/dd/yyyy h:mm:ss a z").format(new Date()) + "<br/><br/>"
-                            + "<b>" + emailType + " Message:</b><br/><span style=\"font-family:monospace\">" + escapeMultiLineStringForHTML(emailMessage) + "</span>";
-
-                    LinkedHashMap<String, String> sendEmailParameters = new LinkedHashMap<>();
-                    sendEmailParameters.put("key", privateStrings.getEmailPrivateKey());
-                    sendEmailParameters.put("from_email", privateStrings.getEmailFromAddress());
-                    sendEmailParameters.put("from_name", "QA Helper " + emailType);
-                    sendEmailParameters.put("to_email", privateStrings.getEmailToAddress());
-                    sendEmailParameters.put("subject", "QA Helper " + emailType);
-                    sendEmailParameters.put("body", fullEmailMessage);
-
-                    String sendEmailResult = new WebReader(privateStrings.getFreeGeekAPIurl("email", isTestMode), sendEmailParameters).getOutputLinesAsString();
-                    //System.out.println("sendEmailResult: " + sendEmailResult); // DEBUG
-                } catch (Exception sendEmailException) {
+                        displayComputerSpecs();
+                    }
+                } catch (InterruptedException | ExecutionException revalidateSpecsSnapshotException) {
                     if (isTestMode) {
-                        System.out.println("sendEmailException: " + sendEmailException);
+                        System.out.println("revalidateSpecsSnapshotException: " + revalidateSpecsSnapshotException);
                     }
                 }
-
-                return null;
             }
         }).execute();
     }
 
-    private void reload() {
-        reload(true);
-    }
-
     private void reload(boolean reloadSpecs) {
         if (!isReloading) {
             isReloading = true;
             setActionsEnabled(false);
 
-            if (reloadSpecs || (isLinux && (adminPassword.equals("*UNKNOWN*") || !new CommandReader("printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk echo '<CORRECT>'").getFirstOutputLine().equals("<CORRECT>")))) {
+            if (reloadSpecs || (isLinux && !PrivilegedCommandSession.startSession(adminPassword, isTestMode))) { // Starting (or reusing) the privileged helper session also confirms that the admin password is still correct.
                 loadingWindow.setLoadingTextAndDisplay("QA Helper is Loading Computer Specs", "Loading");
 
                 boolean wasFirstLoad = isFirstLoad;
@@ -1321,7 +1386,7 @@ public class QAHelper extends javax.swing.JFrame {
 
                 long startLoadTime = System.currentTimeMillis();
 
-                (new SwingWorker<String[], Void>() {
+                (new SwingWorker<String[], String>() {
                     @Override
                     protected String[] doInBackground() throws Exception {
                         String previousAdminPassword = adminPassword;
@@ -1331,6 +1396,8 @@ public class QAHelper extends javax.swing.JFrame {
                         String possibleSudo = (isLinux && !adminPassword.equals("*UNKNOWN*") ? "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk " : "");
 
                         if (wasFirstLoad) {
+                            getWebOutbox(); // Open the outbox (and resume its journal) on first load so that anything still pending from a previous launch is sent right away instead of only after something new is queued.
+
                             autoUpdateApp(); // Only check for updates on first load
 
                             if (isLinux) {
@@ -1349,10 +1416,19 @@ public class QAHelper extends javax.swing.JFrame {
                         }
 
                         if (!isPeripheralTestMode && (reloadSpecs || gotNewAdminPassword)) {
+                            // Show each spec in the loading window as soon as it's loaded so that the most important specs can be read while the rest are still loading.
+                            GetComputerSpecs.SpecsListener loadedSpecsListener = (String specName, String specValue) -> publish(specName + ": " + specValue);
+
                             if (computerSpecs == null) {
-                                computerSpecs = new GetComputerSpecs(adminPassword, isTestMode);
+                                // When QA Helper is re-launched during the same boot, show the specs snapshot from the last load right away and then revalidate it in the background after the window is displayed.
+                                computerSpecs = GetComputerSpecs.loadSpecsSnapshot(adminPassword, isTestMode);
+                                loadedSpecsSnapshot = (computerSpecs != null);
+
+                                if (!loadedSpecsSnapshot) {
+                                    computerSpecs = new GetComputerSpecs(adminPassword, isTestMode, loadedSpecsListener);
+                                }
                             } else {
-                                computerSpecs.reloadSpecs(adminPassword, isTestMode);
+                                computerSpecs.reloadSpecs(adminPassword, isTestMode, loadedSpecsListener);
                             }
                         }
 
@@ -1422,6 +1498,13 @@ public class QAHelper extends javax.swing.JFrame {
                         return (isLoggedIn ? loadStatusHistory(false) : null);
                     }
 
+                    @Override
+                    protected void process(java.util.List<String> loadedSpecs) {
+                        for (String thisLoadedSpec : loadedSpecs) {
+                            loadingWindow.addLoadingProgressText(thisLoadedSpec);
+                        }
+                    }
+
                     @Override
                     protected void done() {
                         String[] currentStatusAndTech = null;
@@ -1453,6 +1536,11 @@ public class QAHelper extends javax.swing.JFrame {
 
                         displayComputerSpecs(currentStatusAndTech);
 
+                        if (loadedSpecsSnapshot) {
+                            loadedSpecsSnapshot = false;
+                            revalidateSpecsSnapshot();
+                        }
+
                         if (isLinuxFirstLaunch && !lastStatus.equals("UNKNOWN STATUS")) {
                             new LinuxAutoScripts(lastStatus, adminPassword);
 
@@ -2346,34 +2434,15 @@ public class QAHelper extends javax.swing.JFrame {
         if (isLinux) {
             if (!adminPassword.equals("*UNKNOWN*")) {
                 if (!new File(linuxBuildInfoPath).exists()) {
-                    try {
-                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/mkdir '" + linuxBuildInfoPath.replace("'", "'\\''") + "'"}).waitFor();
-                    } catch (IOException | InterruptedException createLinuxBuildInfoFolderException) {
-                        if (isTestMode) {
-                            System.out.println("createLinuxBuildInfoFolderException: " + createLinuxBuildInfoFolderException);
-                        }
-                    }
+                    PrivilegedCommandSession.runCommand(adminPassword, "/bin/mkdir '" + linuxBuildInfoPath.replace("'", "'\\''") + "'", isTestMode);
                 }
 
                 if (!new File(helperLogFilePath).exists()) {
-                    try {
-                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/touch '" + helperLogFilePath.replace("'", "'\\''") + "'"}).waitFor();
-                        createdHelperLogFile = true;
-                    } catch (IOException | InterruptedException createLinuxHelperLogFileException) {
-                        if (isTestMode) {
-                            System.out.println("createLinuxHelperLogFileException: " + createLinuxHelperLogFileException);
-                        }
-                    }
+                    createdHelperLogFile = (PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/touch '" + helperLogFilePath.replace("'", "'\\''") + "'", isTestMode).getExitCode() == 0);
                 }
 
-                try {
-                    // Always make sure helperLogFilePath is writable without sudo (in case it already exists because it was copied from the pre-install environment).
-                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/chmod 666 '" + helperLogFilePath.replace("'", "'\\''") + "'"}).waitFor();
-                } catch (IOException | InterruptedException makeHelperLogFileWritableException) {
-                    if (isTestMode) {
-                        System.out.println("makeHelperLogFileWritableException: " + makeHelperLogFileWritableException);
-                    }
-                }
+                // Always make sure helperLogFilePath is writable without sudo (in case it already exists because it was copied from the pre-install environment).
+                PrivilegedCommandSession.runCommand(adminPassword, "/bin/chmod 666 '" + helperLogFilePath.replace("'", "'\\''") + "'", isTestMode);
             }
         } else {
             if (isMacOS && !new File(macBuildInfoPath).exists()) {
@@ -2419,13 +2488,14 @@ public class QAHelper extends javax.swing.JFrame {
 
             File driversCacheModelNameFile = new File(windowsBuildInfoPath + "Drivers Cache Model Name.txt");
             if (!driversCacheModelNameFile.exists()) {
-                String driversCacheModelName = ((deviceTypeIsMotherboard ? computerSpecs.getMotherboardBrand() : computerSpecs.getBrand()).replaceAll("[^A-Za-z0-9]", "")
+                ComputerSpecsRecord specsRecord = computerSpecs.getSpecsRecord();
+                String driversCacheModelName = ((deviceTypeIsMotherboard ? specsRecord.getMotherboardBrand() : specsRecord.getBrand()).replaceAll("[^A-Za-z0-9]", "")
                         + " "
-                        + (deviceTypeIsMotherboard ? computerSpecs.getMotherboardModel() : computerSpecs.getModel()).replace(" / ", "+").replace(" (", "+").replaceAll("[^A-Za-z0-9+]", "")
+                        + (deviceTypeIsMotherboard ? specsRecord.getMotherboardModel() : specsRecord.getModel()).replace(" / ", "+").replace(" (", "+").replaceAll("[^A-Za-z0-9+]", "")
                         + " "
-                        + computerSpecs.getGPUids()
+                        + (specsRecord.getGPUids().isEmpty() ? "N-A" : String.join("+", specsRecord.getGPUids()))
                         + " "
-                        + computerSpecs.getAudioIDs());
+                        + (specsRecord.getAudioIDs().isEmpty() ? "N-A" : String.join("+", specsRecord.getAudioIDs())));
 
                 try (BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(driversCacheModelNameFile))) {
                     bufferedWriter.write(driversCacheModelName);
@@ -4782,63 +4852,34 @@ public class QAHelper extends javax.swing.JFrame {
                         }
 
                         if (!new File(linuxBuildInfoPath).exists()) {
-                            try {
-                                Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/mkdir '" + linuxBuildInfoPath.replace("'", "'\\''") + "'"}).waitFor();
-                            } catch (IOException | InterruptedException createBuildInfoFolderException) {
-                                if (isTestMode) {
-                                    System.out.println("createBuildInfoFolderException: " + createBuildInfoFolderException);
-                                }
-                            }
+                            PrivilegedCommandSession.runCommand(adminPassword, "/bin/mkdir '" + linuxBuildInfoPath.replace("'", "'\\''") + "'", isTestMode);
                         }
 
                         if (new File(linuxBuildInfoPath).exists()) {
-                            try {
-                                String dmidecodeOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "dmidecode-output.txt";
+                            // Each of these output files are created and written by the privileged helper session, but are still made writable by everyone like the helper log file.
+                            String dmidecodeOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "dmidecode-output.txt";
 
-                                if (!new File(dmidecodeOutputPath).exists()) {
-                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/touch '" + dmidecodeOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/chmod 666 '" + dmidecodeOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/sbin/dmidecode -q > '" + dmidecodeOutputPath.replace("'", "'\\''") + "'"}).waitFor();
-                                }
-                            } catch (IOException | InterruptedException saveDmidecodeException) {
-                                if (isTestMode) {
-                                    System.out.println("saveDmidecodeException: " + saveDmidecodeException);
-                                }
+                            if (!new File(dmidecodeOutputPath).exists()) {
+                                PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/touch '" + dmidecodeOutputPath.replace("'", "'\\''") + "' && /bin/chmod 666 '" + dmidecodeOutputPath.replace("'", "'\\''") + "' && /usr/sbin/dmidecode -q > '" + dmidecodeOutputPath.replace("'", "'\\''") + "'", isTestMode);
                             }
 
-                            try {
-                                String lshwOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "lshw-output.txt";
+                            String lshwOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "lshw-output.txt";
 
-                                if (!new File(lshwOutputPath).exists()) {
-                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/touch '" + lshwOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/chmod 666 '" + lshwOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/lshw > '" + lshwOutputPath.replace("'", "'\\''") + "'"}).waitFor();
-                                }
-                            } catch (IOException | InterruptedException saveLshwException) {
-                                if (isTestMode) {
-                                    System.out.println("saveLshwException: " + saveLshwException);
-                                }
+                            if (!new File(lshwOutputPath).exists()) {
+                                PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/touch '" + lshwOutputPath.replace("'", "'\\''") + "' && /bin/chmod 666 '" + lshwOutputPath.replace("'", "'\\''") + "' && /usr/bin/lshw > '" + lshwOutputPath.replace("'", "'\\''") + "'", isTestMode);
                             }
 
-                            try {
-                                String hdsentinelOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "hdsentinel-output.txt";
+                            String hdsentinelOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "hdsentinel-output.txt";
 
-                                if (!new File(hdsentinelOutputPath).exists()) {
-                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/touch '" + hdsentinelOutputPath + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/chmod 666 '" + hdsentinelOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' '" + computerSpecs.getDriveHealth().replace("'", "'\\''") + "' > '" + hdsentinelOutputPath.replace("'", "'\\''") + "'"}).waitFor();
-                                }
-                            } catch (IOException | InterruptedException saveHdsentinelException) {
-                                if (isTestMode) {
-                                    System.out.println("saveHdsentinelException: " + saveHdsentinelException);
-                                }
+                            if (!new File(hdsentinelOutputPath).exists()) {
+                                PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/touch '" + hdsentinelOutputPath.replace("'", "'\\''") + "' && /bin/chmod 666 '" + hdsentinelOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' '" + computerSpecs.getDriveHealth().replace("'", "'\\''") + "' > '" + hdsentinelOutputPath.replace("'", "'\\''") + "'", isTestMode);
                             }
 
                             if (deviceTypeIsLaptop || !computerSpecs.getBatteryHealthArray().isEmpty()) {
-                                try {
-                                    String upowerOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "upower-output.txt";
+                                String upowerOutputPath = linuxBuildInfoPath + (!pidPrefix.isEmpty() ? ((pidPrefix.equals("FG") ? "free-geek" : pidPrefix.toLowerCase()) + "_") : "") + "upower-output.txt";
 
-                                    if (!new File(upowerOutputPath).exists()) {
-                                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/touch '" + upowerOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/chmod 666 '" + upowerOutputPath.replace("'", "'\\''") + "' && printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/upower --dump > '" + upowerOutputPath.replace("'", "'\\''") + "'"}).waitFor();
-                                    }
-                                } catch (IOException | InterruptedException saveUpowerException) {
-                                    if (isTestMode) {
-                                        System.out.println("saveUpowerException: " + saveUpowerException);
-                                    }
+                                if (!new File(upowerOutputPath).exists()) {
+                                    PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/touch '" + upowerOutputPath.replace("'", "'\\''") + "' && /bin/chmod 666 '" + upowerOutputPath.replace("'", "'\\''") + "' && /usr/bin/upower --dump > '" + upowerOutputPath.replace("'", "'\\''") + "'", isTestMode);
                                 }
                             }
                         }
@@ -5237,13 +5278,7 @@ public class QAHelper extends javax.swing.JFrame {
 
             if (!new File("/usr/sbin/oem-config-prepare").exists()) {
                 if (!adminPassword.equals("*UNKNOWN*")) {
-                    try {
-                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get install --no-install-recommends -qq oem-config-gtk"}).waitFor();
-                    } catch (IOException | InterruptedException installOemConfigGtkException) {
-                        if (isTestMode) {
-                            System.out.println("installOemConfigGtkException: " + installOemConfigGtkException);
-                        }
-                    }
+                    PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/apt-get install --no-install-recommends -qq oem-config-gtk", isTestMode);
 
                     if (!new File("/usr/sbin/oem-config-prepare").exists() && !isLinuxUbiquityMode) {
                         try {
@@ -5578,14 +5613,8 @@ public class QAHelper extends javax.swing.JFrame {
                             xclipIsInstalled = xclipWasInstalled;
 
                             if (!xclipIsInstalled) {
-                                try {
-                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get install --no-install-recommends -qq xclip"}).waitFor();
-                                    xclipIsInstalled = !new CommandReader("/usr/bin/xclip -version 2>&1").getFirstOutputLineContaining(".").isEmpty();
-                                } catch (IOException | InterruptedException installXclipException) {
-                                    if (isTestMode) {
-                                        System.out.println("installXclipException: " + installXclipException);
-                                    }
-                                }
+                                PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/apt-get install --no-install-recommends -qq xclip", isTestMode);
+                                xclipIsInstalled = !new CommandReader("/usr/bin/xclip -version 2>&1").getFirstOutputLineContaining(".").isEmpty();
                             }
                         }
 
@@ -5605,13 +5634,7 @@ public class QAHelper extends javax.swing.JFrame {
                         }
 
                         if (!xclipWasInstalled && xclipIsInstalled) {
-                            try {
-                                Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get purge --auto-remove -qq xclip"}).waitFor();
-                            } catch (IOException | InterruptedException uninstallXclipException) {
-                                if (isTestMode) {
-                                    System.out.println("uninstallXclipException: " + uninstallXclipException);
-                                }
-                            }
+                            PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/apt-get purge --auto-remove -qq xclip", isTestMode);
                         }
 
                         if (isLinux) {
@@ -7983,13 +8006,11 @@ public class QAHelper extends javax.swing.JFrame {
                 + (deviceTypeIsLaptop
                 ? "<br/><br/><center>" + new TwemojiImage("ElectricPlug", qaHelperWindow).toImgTag("left") + " <i>MAKE SURE THIS LAPTOP IS PLUGGED IN BEFORE STARTING CPU STRESS TEST</i> " + new TwemojiImage("DoubleExclamationMark", qaHelperWindow).toImgTag("right") + "</center>"
                 : "")
-                + (isLinux
-                ? "<br/><center>"
+                + "<br/><center>"
                 + "<i>After CPU Stress Test is finished, you will be presented with results<br/>"
                 + "which will also display whether CPU Stress Test has <b style='color: " + successColorHTML + "'>passed</b> or <b style='color: " + errorColorHTML + "'>failed</b>.</i>"
                 + "<br/><br/>"
                 + new TwemojiImage("BackhandIndexPointingRight", qaHelperWindow).toImgTag("left") + " <i>CONSULT AN INSTRUCTOR IF CPU STRESS TEST FAILS</i> " + new TwemojiImage("DoubleExclamationMark", qaHelperWindow).toImgTag("right") + "</center>"
-                : "")
                 + "</html>",
                 " ",
                 "<html><b>CPU Stress Test Duration:</b></html>",
@@ -8012,257 +8033,27 @@ public class QAHelper extends javax.swing.JFrame {
 
                 loadingWindow.setLoadingTextAndDisplay("QA Helper is Setting Up CPU Stress Test", "Testing", "Brain");
 
-                (new SwingWorker<String, String>() {
+                (new SwingWorker<CPUStressEngine.Result, String>() {
                     @Override
-                    protected String doInBackground() throws Exception {
+                    protected CPUStressEngine.Result doInBackground() throws Exception {
+                        // The CPU Stress Test runs in QA Helper itself (with one verified worker per CPU thread) so that it works the same on every OS and never needs anything to be installed.
                         if (isLinux) {
-                            boolean stressWasInstalled = false;
-                            boolean stressInstalledViaTerminal = false;
-                            String stressPath = "/usr/bin/stress-ng";
-                            String[] possibleStressPaths = new String[]{"/usr/bin/stress-ng", "LD_LIBRARY_PATH=/cdrom/preseed/dependencies/ /cdrom/preseed/dependencies/stress-ng"};
-
-                            for (String thisStressPath : possibleStressPaths) {
-                                stressWasInstalled = !new CommandReader(thisStressPath + " -V").getFirstOutputLineContaining(".").isEmpty();
-
-                                if (stressWasInstalled) {
-                                    stressPath = thisStressPath;
-                                    break;
-                                }
-                            }
-
-                            if (isTestMode) {
-                                System.out.println("stressPath: " + stressPath);
-                            }
-
-                            boolean stressIsInstalled = stressWasInstalled;
-
-                            if (!stressWasInstalled) {
-                                String previousAdminPassword = adminPassword;
-                                getAdminPassword("Run CPU Stress Test"); // Double-check that admin password is still correct.
-
-                                if (!adminPassword.equals(previousAdminPassword)) {
-                                    computerSpecs.reloadSpecs(adminPassword, isTestMode);
-
-                                    publish("reloaded");
-                                }
-
-                                if (!adminPassword.equals("*UNKNOWN*")) {
-                                    try {
-                                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get install --no-install-recommends -qq stress-ng"}).waitFor();
-                                        stressIsInstalled = !new CommandReader(new String[]{"/usr/bin/stress-ng", "-V"}).getFirstOutputLineContaining(".").isEmpty();
-                                    } catch (IOException | InterruptedException installStressException) {
-                                        if (isTestMode) {
-                                            System.out.println("installStressException: " + installStressException);
-                                        }
-                                    }
-
-                                    if (!stressIsInstalled && !isLinuxUbiquityMode) {
-                                        try {
-                                            File waitForTerminalPIDtempFile = File.createTempFile("qa_helper-wait_for_terminal_pid", ".txt");
-                                            waitForTerminalPIDtempFile.deleteOnExit();
-
-                                            Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/" + (isLinuxMATE ? "mate" : "gnome") + "-terminal --window" + (isLinuxMATE ? "" : "-with-profile-internal-id '0'") + " --title 'QA Helper  —  Installing \"stress-ng\"' --hide-menubar --geometry '80x25+0+0' -x /bin/bash -c 'orig_temp_owner=$(/usr/bin/stat -c %U " + waitForTerminalPIDtempFile.getPath() + "); /bin/chown root " + waitForTerminalPIDtempFile.getPath() + "; echo $$ > " + waitForTerminalPIDtempFile.getPath() + "; /bin/chown ${orig_temp_owner} " + waitForTerminalPIDtempFile.getPath() + "; echo \"\nINSTALLING \\\"stress-ng\\\"\n\n\"; /usr/local/bin/apt install --no-install-recommends -y stress-ng; echo \"\n\nFINISHED INSTALLING \\\"stress-ng\\\"\nTHIS TERMINAL WINDOW WILL CLOSE IN 5 SECONDS - OR PRESS ENTER TO CLOSE NOW\"; read -t 5; /usr/bin/wmctrl -a \"QA Helper\"'"});
-
-                                            String waitForTerminalPID = "";
-
-                                            for (int i = 0; i < 10; i++) {
-                                                if (waitForTerminalPIDtempFile.exists()) {
-                                                    try {
-                                                        List<String> waitForTerminalPIDtempFileLines = Files.readAllLines(waitForTerminalPIDtempFile.toPath());
-
-                                                        if (!waitForTerminalPIDtempFileLines.isEmpty()) {
-                                                            waitForTerminalPID = waitForTerminalPIDtempFileLines.get(0);
-                                                            if (!waitForTerminalPID.isEmpty()) {
-                                                                break;
-                                                            }
-                                                        }
-                                                    } catch (IOException | IndexOutOfBoundsException getTerminalPIDException) {
-                                                        if (isTestMode) {
-                                                            System.out.println("getTerminalPIDException: " + getTerminalPIDException);
-                                                        }
-                                                    }
-                                                }
-
-                                                TimeUnit.MILLISECONDS.sleep(500);
-                                            }
-
-                                            if (waitForTerminalPIDtempFile.exists()) {
-                                                waitForTerminalPIDtempFile.delete();
-                                            }
-
-                                            if (!waitForTerminalPID.isEmpty()) {
-                                                while (!new CommandReader(new String[]{"/bin/ps", "-p", waitForTerminalPID, "-o", "pid="}).getFirstOutputLine().isEmpty()) {
-                                                    TimeUnit.MILLISECONDS.sleep(500);
-                                                }
-                                            }
-
-                                            stressIsInstalled = !new CommandReader(new String[]{"/usr/bin/stress-ng", "-V"}).getFirstOutputLineContaining(".").isEmpty();
-                                            stressInstalledViaTerminal = stressIsInstalled;
-                                        } catch (IOException | InterruptedException installStressViaTerminalException) {
-                                            if (isTestMode) {
-                                                System.out.println("installStressViaTerminalException: " + installStressViaTerminalException);
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-
-                            if (stressIsInstalled) {
-                                String possibleSudo = (!adminPassword.equals("*UNKNOWN*") ? "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk " : ""); // Man pages says stress-ng can do better with sudo
-
-                                try {
-                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", possibleSudo + "/usr/bin/" + (isLinuxMATE ? "mate" : "gnome") + "-system-monitor"});
-                                } catch (IOException openSystemMonitorException) {
-                                    if (isTestMode) {
-                                        System.out.println("openSystemMonitorException: " + openSystemMonitorException);
-                                    }
-                                }
-
-                                publish("running");
-
-                                (new SwingWorker<Void, String>() {
-                                    @Override
-                                    protected Void doInBackground() throws Exception {
-                                        do {
-                                            TimeUnit.SECONDS.sleep(5);
-                                            publish("progress");
-                                        } while (loadingWindow.isVisible() && loadingWindow.getLoadingText().startsWith("QA Helper is Stressing CPU") && !new CommandReader(new String[]{"/usr/bin/pgrep", "stress-ng"}).getFirstOutputLine().isEmpty());
-
-                                        return null;
-                                    }
-
-                                    @Override
-                                    protected void process(java.util.List<String> tasks) {
-                                        if (loadingWindow.isVisible() && loadingWindow.getLoadingText().startsWith("QA Helper is Stressing CPU")) {
-                                            boolean firstUpdate = loadingWindow.isIndeterminate();
-
-                                            loadingWindow.setLoadingProgressText(new CommandReader(new String[]{"/usr/bin/sensors"}).getOutputLinesAsString());
-
-                                            if (firstUpdate) {
-                                                loadingWindow.setLoadingProgressBarToMax((cpuStressTestDurationMinutes * 60) / 5);
-                                            }
-
-                                            loadingWindow.incrementLoadingProgressBar();
-                                        }
-                                    }
-                                }).execute();
-
-                                String stressReturn = new CommandReader(possibleSudo + stressPath + " -c 0 --verify -t " + cpuStressTestDurationMinutes + "m --verbose 2>&1").getOutputLinesAsString();
-
-                                if (!stressWasInstalled) {
-                                    publish("finishing");
-                                    TimeUnit.SECONDS.sleep(1); // Sleep for a second to make sure the finishing progress has time to show before being closed.
-
-                                    if (stressInstalledViaTerminal) {
-                                        try {
-                                            File waitForTerminalPIDtempFile = File.createTempFile("qa_helper-wait_for_terminal_pid", ".txt");
-                                            waitForTerminalPIDtempFile.deleteOnExit();
-
-                                            Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/" + (isLinuxMATE ? "mate" : "gnome") + "-terminal --window" + (isLinuxMATE ? "" : "-with-profile-internal-id '0'") + " --title 'QA Helper  —  Uninstalling \"stress-ng\"' --hide-menubar --geometry '80x25+0+0' -x /bin/bash -c 'orig_temp_owner=$(/usr/bin/stat -c %U " + waitForTerminalPIDtempFile.getPath() + "); /bin/chown root " + waitForTerminalPIDtempFile.getPath() + "; echo $$ > " + waitForTerminalPIDtempFile.getPath() + "; /bin/chown ${orig_temp_owner} " + waitForTerminalPIDtempFile.getPath() + "; echo \"\nUNINSTALLING \\\"stress-ng\\\"\n\n\"; /usr/local/bin/apt purge --auto-remove -y stress-ng; echo \"\n\nFINISHED UNINSTALLING \\\"stress-ng\\\"\nTHIS TERMINAL WINDOW WILL CLOSE IN 5 SECONDS - OR PRESS ENTER TO CLOSE NOW\"; read -t 5; /usr/bin/wmctrl -a \"QA Helper\"'"});
-
-                                            String waitForTerminalPID = "";
-
-                                            for (int i = 0; i < 10; i++) {
-                                                if (waitForTerminalPIDtempFile.exists()) {
-                                                    try {
-                                                        List<String> waitForTerminalPIDtempFileLines = Files.readAllLines(waitForTerminalPIDtempFile.toPath());
-
-                                                        if (!waitForTerminalPIDtempFileLines.isEmpty()) {
-                                                            waitForTerminalPID = waitForTerminalPIDtempFileLines.get(0);
-                                                            if (!waitForTerminalPID.isEmpty()) {
-                                                                break;
-                                                            }
-                                                        }
-                                                    } catch (IOException | IndexOutOfBoundsException getTerminalPIDException) {
-                                                        if (isTestMode) {
-                                                            System.out.println("getTerminalPIDException: " + getTerminalPIDException);
-                                                        }
-                                                    }
-                                                }
-
-                                                TimeUnit.MILLISECONDS.sleep(500);
-                                            }
-
-                                            if (waitForTerminalPIDtempFile.exists()) {
-                                                waitForTerminalPIDtempFile.delete();
-                                            }
-
-                                            if (!waitForTerminalPID.isEmpty()) {
-                                                while (!new CommandReader(new String[]{"/bin/ps", "-p", waitForTerminalPID, "-o", "pid="}).getFirstOutputLine().isEmpty()) {
-                                                    TimeUnit.MILLISECONDS.sleep(500);
-                                                }
-                                            }
-                                        } catch (IOException | InterruptedException uninstallStressViaTerminalException) {
-                                            if (isTestMode) {
-                                                System.out.println("uninstallStressViaTerminalException: " + uninstallStressViaTerminalException);
-                                            }
-                                        }
-                                    } else {
-                                        try {
-                                            Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get purge --auto-remove -qq stress-ng"}).waitFor();
-                                        } catch (IOException | InterruptedException uninstallStressException) {
-                                            if (isTestMode) {
-                                                System.out.println("uninstallStressException: " + uninstallStressException);
-                                            }
-                                        }
-                                    }
-                                }
-
-                                return stressReturn;
-
-                            } else {
-                                return "install-error";
-                            }
-                        } else if (isMacOS) {
-                            try {
-                                for (int thread = 0; thread < computerSpecs.getThreadCount(); thread++) {
-                                    // For some reason running exec(new String[]{"yes"}) spawns processes that don't use any CPU.
-                                    // Maybe because it knows it has no interface to output to?
-                                    // But, directing "yes" output to "/dev/null" makes it take full CPU as desired.
-                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "/usr/bin/yes > /dev/null"});
-                                    TimeUnit.MILLISECONDS.sleep(100); // To allow CPU to ramp up
-                                }
-
-                                Runtime.getRuntime().exec(new String[]{"/usr/bin/caffeinate", "-dimsut", "315"}); // Make sure the computer stays awake for the duration of the CPU Stress Test
-
-                                publish("running");
-
-                                int secondsPassed = 0;
-
-                                do {
-                                    TimeUnit.SECONDS.sleep(5);
-                                    secondsPassed += 5;
-
-                                    publish("mac-progress");
-
-                                } while (secondsPassed <= (cpuStressTestDurationMinutes * 60));
-                            } catch (IOException | InterruptedException runYesStressTestException) {
-                                if (isTestMode) {
-                                    System.out.println("runYesStressTestException: " + runYesStressTestException);
-                                }
-                            }
-
-                            publish("finishing");
-                            TimeUnit.SECONDS.sleep(1); // Sleep for a second to make sure the finishing progress has time to show before being closed.
-
                             try {
-                                Runtime.getRuntime().exec(new String[]{"/usr/bin/killall", "yes"});
-                            } catch (IOException quitYesException) {
+                                Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", (!adminPassword.equals("*UNKNOWN*") ? "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk " : "") + "/usr/bin/" + (isLinuxMATE ? "mate" : "gnome") + "-system-monitor"});
+                            } catch (IOException openSystemMonitorException) {
                                 if (isTestMode) {
-                                    System.out.println("quitYesException: " + quitYesException);
+                                    System.out.println("openSystemMonitorException: " + openSystemMonitorException);
                                 }
                             }
-
+                        } else if (isMacOS) {
                             try {
-                                Runtime.getRuntime().exec(new String[]{"/usr/bin/killall", "caffeinate"});
-                            } catch (IOException quitCaffeinateException) {
+                                Runtime.getRuntime().exec(new String[]{"/usr/bin/caffeinate", "-dimsut", String.valueOf((cpuStressTestDurationMinutes * 60) + 15)}); // Make sure the computer stays awake for the duration of the CPU Stress Test
+                            } catch (IOException startCaffeinateException) {
                                 if (isTestMode) {
-                                    System.out.println("quitCaffeinateException: " + quitCaffeinateException);
+                                    System.out.println("startCaffeinateException: " + startCaffeinateException);
                                 }
                             }
-
-                            return "mac-windows-done";
-                        } else {
+                        } else if (isWindows) {
                             try {
                                 Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\cmd.exe", "/c", "START /MAX " + (new File("\\Install\\Diagnostic Tools\\OpenHardwareMonitor\\OpenHardwareMonitor.exe").exists() ? "\"OpenHardwareMonitor\" \"\\Install\\Diagnostic Tools\\OpenHardwareMonitor\\OpenHardwareMonitor.exe\"" : (isWindowsPE ? "\\Windows\\System32\\Taskmgr.exe" : "\\Windows\\System32\\resmon.exe"))});
                             } catch (IOException openResourceOrTaskManagerException) {
@@ -8270,104 +8061,108 @@ public class QAHelper extends javax.swing.JFrame {
                                     System.out.println("openResourceOrTaskManagerException: " + openResourceOrTaskManagerException);
                                 }
                             }
+                        }
 
-                            try {
-                                for (int thread = 0; thread < computerSpecs.getThreadCount(); thread++) {
-                                    Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\WindowsPowerShell\\v1.0\\powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-Command", "While (Get-CimInstance Win32_Process -Filter \\\"Name LIKE 'java%.exe' AND CommandLine LIKE '%QA_Helper.jar%'\\\" -Property Name,CommandLine) { <# QA Helper CPU Stress Test #> }"});
-                                    TimeUnit.MILLISECONDS.sleep(100); // To allow CPU to ramp up
-                                }
+                        int cpuStressWorkerCount = computerSpecs.getThreadCount();
+                        if (cpuStressWorkerCount < 1) { // If the thread count could not be loaded, still stress every thread that Java can see (instead of only running a single worker).
+                            cpuStressWorkerCount = Runtime.getRuntime().availableProcessors();
+                        }
 
-                                publish("running");
+                        cpuStressEngine = new CPUStressEngine(cpuStressWorkerCount);
 
-                                int secondsPassed = 0;
+                        publish("preparing");
+                        cpuStressEngine.prepare(); // This is still part of setting up since it takes a moment to compute the correct results that the workers are verified against.
 
-                                do {
-                                    TimeUnit.SECONDS.sleep(5);
-                                    secondsPassed += 5;
+                        cpuStressEngine.start();
+
+                        if (isLinux) {
+                            // Sample temperatures and frequencies every second for the whole test (with room to spare in the ring buffer) so that thermal throttling can fail the test instead of only being visible while it runs.
+                            cpuSensorSampler = new CPUSensorSampler(1000, ((cpuStressTestDurationMinutes * 60) + 60));
+                            cpuSensorSampler.start();
+                        } else {
+                            cpuSensorSampler = null;
+                        }
 
-                                    publish("windows-progress");
+                        publish("running");
 
-                                } while (secondsPassed <= (cpuStressTestDurationMinutes * 60));
-                            } catch (IOException | InterruptedException runPowerShellStressTestException) {
-                                if (isTestMode) {
-                                    System.out.println("runPowerShellStressTestException: " + runPowerShellStressTestException);
-                                }
+                        int secondsPassed = 0;
+
+                        try {
+                            do {
+                                TimeUnit.SECONDS.sleep(5);
+                                secondsPassed += 5;
+
+                                publish("progress");
+                            } while (secondsPassed < (cpuStressTestDurationMinutes * 60));
+                        } catch (InterruptedException runCPUstressTestException) {
+                            if (isTestMode) {
+                                System.out.println("runCPUstressTestException: " + runCPUstressTestException);
                             }
+                        }
+
+                        publish("finishing");
+
+                        CPUStressEngine.Result cpuStressTestResult = cpuStressEngine.stop();
+
+                        if (cpuSensorSampler != null) {
+                            cpuSensorSampler.stop();
+                        }
 
-                            publish("finishing");
-                            TimeUnit.SECONDS.sleep(1); // Sleep for a second to make sure the finishing progress has time to show before being closed.
+                        TimeUnit.SECONDS.sleep(1); // Sleep for a second to make sure the finishing progress has time to show before being closed.
 
+                        if (isMacOS) {
                             try {
-                                Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\WindowsPowerShell\\v1.0\\powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-Command", "Get-CimInstance Win32_Process -Filter \\\"Name = 'powershell.exe' AND CommandLine LIKE '%<# QA Helper CPU Stress Test #>%'\\\" | Invoke-CimMethod -Name Terminate"}).waitFor();
-                            } catch (IOException terminatePowerShellStressProcessesException) {
+                                Runtime.getRuntime().exec(new String[]{"/usr/bin/killall", "caffeinate"});
+                            } catch (IOException quitCaffeinateException) {
                                 if (isTestMode) {
-                                    System.out.println("terminatePowerShellStressProcessesException: " + terminatePowerShellStressProcessesException);
+                                    System.out.println("quitCaffeinateException: " + quitCaffeinateException);
                                 }
                             }
-
-                            return "mac-windows-done";
                         }
+
+                        return cpuStressTestResult;
                     }
 
                     @Override
                     protected void process(java.util.List<String> tasks) {
                         tasks.forEach((thisTask) -> {
                             switch (thisTask) {
-                                case "reloaded":
-                                    displayComputerSpecs();
+                                case "preparing":
+                                    loadingWindow.setLoadingProgressText("Computing Correct Results to Verify Against...");
                                     break;
                                 case "running":
                                     loadingWindow.setLoadingTextAndDisplay("QA Helper is Stressing CPU for " + cpuStressTestDurationMinutes + " Minutes", "Testing", "Brain");
+                                    loadingWindow.setLoadingProgressText("");
                                     break;
-                                case "windows-progress":
-                                    boolean firstWindowsUpdate = loadingWindow.isIndeterminate();
+                                case "progress":
+                                    if (loadingWindow.isVisible() && loadingWindow.getLoadingText().startsWith("QA Helper is Stressing CPU")) {
+                                        boolean firstUpdate = loadingWindow.isIndeterminate();
 
-                                    // TODO: MSAcpi_ThermalZoneTemperature is not CPU but some general temp. Also not available on all computers and requires admin. Also SLOW
-                                    /*
-                                    String[] systemTemps = new CommandReader(new String[]{"\\Windows\\System32\\WindowsPowerShell\\v1.0\\powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-Command", "Get-CimInstance MSAcpi_ThermalZoneTemperature -Namespace ROOT\\WMI -Property CurrentTemperature,CriticalTripPoint | Format-List CurrentTemperature,CriticalTripPoint"}).getOutputLines();
+                                        CPUStressEngine.Result currentCPUstressTestResult = cpuStressEngine.getResult();
+                                        String cpuStressTestProgressText = "Current Score: " + currentCPUstressTestResult.getScore() + ((currentCPUstressTestResult.getVerificationErrorCount() > 0) ? "\nVERIFICATION ERRORS: " + currentCPUstressTestResult.getVerificationErrorCount() : "");
 
-                                    String currentSystemTempInfo = "";
-
-                                    for (String thisSystemTempLine : systemTemps) {
-                                        if (thisSystemTempLine.contains(": ")) {
-                                            String thisRawSystemTemp = thisSystemTempLine.substring(thisSystemTempLine.indexOf(": ") + 2).replaceAll("[^0-9.]", "");
-                                            if (!thisRawSystemTemp.isEmpty() && !thisRawSystemTemp.equals(".")) {
-                                                String thisSystemCelciumTemp = new DecimalFormat("#.#").format(((Double.parseDouble(thisRawSystemTemp) / 10) - 273.15)) + " C";
+                                        if (isLinux) {
+                                            if ((cpuSensorSampler != null) && cpuSensorSampler.isAvailable()) {
+                                                cpuStressTestProgressText += "\n\n" + cpuSensorSampler.getLatestSampleString();
+                                            } else {
+                                                cpuStressTestProgressText += "\n\n" + new CommandReader(new String[]{"/usr/bin/sensors"}).getOutputLinesAsString();
+                                            }
+                                        } else if (isMacOS) {
+                                            String thermalLevelsOutput = new CommandReader("/usr/sbin/sysctl -a | /usr/bin/grep thermal_level").getOutputLinesAsString().replace("machdep.xcpm.", "").toUpperCase().replace("_THERMAL_LEVEL", " Thermal Level");
 
-                                                if (thisSystemTempLine.startsWith("CurrentTemperature")) {
-                                                    currentSystemTempInfo += "Current System Temperature: " + thisSystemCelciumTemp + "\n";
-                                                } else if (thisSystemTempLine.startsWith("CriticalTripPoint")) {
-                                                    currentSystemTempInfo += "Critical System Temperature: " + thisSystemCelciumTemp + "\n\n";
-                                                }
+                                            if (!thermalLevelsOutput.isEmpty()) { // These thermal levels are not available on Apple Silcon.
+                                                cpuStressTestProgressText += "\n\n" + thermalLevelsOutput + "\n\n\nPLEASE NOTE:\nTHESE THERMAL LEVELS ARE ARBITRARY NUMBERS PROVIDED BY THE SYSTEM, BUT THEY SHOULD LEVEL OFF AND THEN STAY STEADY THROUGHOUT THE TEST.";
                                             }
                                         }
-                                    }
-
-                                    if (currentSystemTempInfo.isEmpty())
-                                        currentSystemTempInfo = "SYSTEM TEMPERATURES ARE NOT AVAILABLE\nFOR THIS COMPUTER";
 
-                                    loadingWindow.setLoadingProgressText(currentSystemTempInfo);
-                                     */
-                                    if (firstWindowsUpdate) {
-                                        loadingWindow.setLoadingProgressBarToMax((cpuStressTestDurationMinutes * 60) / 5);
-                                    }
-
-                                    loadingWindow.incrementLoadingProgressBar();
-                                    break;
-                                case "mac-progress":
-                                    boolean firstMacUpdate = loadingWindow.isIndeterminate();
-
-                                    String thermalLevelsOutput = new CommandReader("/usr/sbin/sysctl -a | /usr/bin/grep thermal_level").getOutputLinesAsString().replace("machdep.xcpm.", "").toUpperCase().replace("_THERMAL_LEVEL", " Thermal Level");
+                                        loadingWindow.setLoadingProgressText(cpuStressTestProgressText);
 
-                                    if (!thermalLevelsOutput.isEmpty()) { // These thermal levels are not available on Apple Silcon.
-                                        loadingWindow.setLoadingProgressText(thermalLevelsOutput + "\n\n\nPLEASE NOTE:\nTHESE THERMAL LEVELS ARE ARBITRARY NUMBERS PROVIDED BY THE SYSTEM, BUT THEY SHOULD LEVEL OFF AND THEN STAY STEADY THROUGHOUT THE TEST.");
-                                    }
+                                        if (firstUpdate) {
+                                            loadingWindow.setLoadingProgressBarToMax((cpuStressTestDurationMinutes * 60) / 5);
+                                        }
 
-                                    if (firstMacUpdate) {
-                                        loadingWindow.setLoadingProgressBarToMax((cpuStressTestDurationMinutes * 60) / 5);
+                                        loadingWindow.incrementLoadingProgressBar();
                                     }
-
-                                    loadingWindow.incrementLoadingProgressBar();
                                     break;
                                 case "finishing":
                                     if (loadingWindow.isVisible()) {
@@ -8388,77 +8183,50 @@ public class QAHelper extends javax.swing.JFrame {
                         focusWindow();
 
                         try {
-                            String stressReturn = get();
+                            CPUStressEngine.Result cpuStressTestResult = get();
 
                             loadingWindow.closeWindow();
 
-                            ArrayList<String> cpuStressTestCompletedButtons = new ArrayList<>(Arrays.asList("Continue", "Stress Test CPU Again"));
-
-                            if (stressReturn.equals("install-error")) {
-                                playAlertSound("error");
-                                JOptionPane.showMessageDialog(qaHelperWindow, "<html><b>Failed to Install \"stress-ng\"</b><br/><br/><i>To manually install \"stress-ng\", open Terminal and run:</i><br/><pre>sudo apt install stress-ng</pre><br/>After \"stress-ng\" is installed, come back here and try again.</html>", "QA Helper  —  CPU Stress Test Error", JOptionPane.ERROR_MESSAGE);
-                            } else if (stressReturn.equals("mac-windows-done")) {
-                                playAlertSound("success");
-                                int cpuStressTestCompletedDialogResponse = JOptionPane.showOptionDialog(qaHelperWindow, "<html><b>CPU Stress Test Completed</b></html>", "QA Helper  —  CPU Stress Test Completed", JOptionPane.DEFAULT_OPTION, JOptionPane.INFORMATION_MESSAGE, new TwemojiImage("Brain", qaHelperWindow).toImageIcon(32), cpuStressTestCompletedButtons.toArray(), cpuStressTestCompletedButtons.get(0));
+                            CPUSensorSampler.Summary cpuSensorSummary = (((cpuSensorSampler != null) && cpuSensorSampler.isAvailable()) ? cpuSensorSampler.getSummary() : null);
 
-                                String cpuStressTestCompletedDialogResponseString = "Continue";
-                                if (cpuStressTestCompletedDialogResponse > -1) {
-                                    cpuStressTestCompletedDialogResponseString = cpuStressTestCompletedButtons.get(cpuStressTestCompletedDialogResponse);
-                                }
+                            boolean stressPassed = (cpuStressTestResult.didPass() && ((cpuSensorSummary == null) || !cpuSensorSummary.didThermalThrottle()));
 
-                                if (isWindows) {
-                                    try {
-                                        // taskkill does not exist in WinPE (unless it has been manually copied in) and will always exist in full Windows, no need to make it hard a requirement when I can just use PowerShell (PowerShell just takes longer so we'll still use taskkill when it's available).
-                                        if (!isWindowsPE || new File("\\Windows\\System32\\taskkill.exe").exists()) {
-                                            Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\taskkill.exe", "/im", (new File("\\Install\\Diagnostic Tools\\OpenHardwareMonitor\\OpenHardwareMonitor.exe").exists() ? "OpenHardwareMonitor.exe" : (isWindowsPE ? "Taskmgr.exe" : "perfmon.exe")), "/t"}).waitFor(); // Even though we launch resmon.exe the running executable is perfmon.exe
-                                        } else {
-                                            Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\WindowsPowerShell\\v1.0\\powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-Command", "Stop-Process -Name " + (new File("\\Install\\Diagnostic Tools\\OpenHardwareMonitor\\OpenHardwareMonitor.exe").exists() ? "OpenHardwareMonitor" : "Taskmgr")}).waitFor();
-                                        }
-                                    } catch (IOException | InterruptedException quitTaskManagerException) {
-                                        if (isTestMode) {
-                                            System.out.println("quitTaskManagerException: " + quitTaskManagerException);
-                                        }
-                                    }
-                                }
+                            writeToHelperLogFile("CPU Stress Test: " + (stressPassed ? "Passed" : "FAILED") + " (Score " + cpuStressTestResult.getScore() + " with " + cpuStressTestResult.getWorkerCount() + " Threads for " + cpuStressTestDurationMinutes + " Minutes"
+                                    + (((cpuSensorSummary != null) && !Double.isNaN(cpuSensorSummary.getMaxCelsius())) ? String.format(", Max %.0f C", cpuSensorSummary.getMaxCelsius()) : "")
+                                    + (((cpuSensorSummary != null) && cpuSensorSummary.didThermalThrottle()) ? ", THERMAL THROTTLED" : "") + ")");
 
-                                if (cpuStressTestCompletedDialogResponseString.contains("Test")) {
-                                    setActionsEnabled(true);
-                                    btnStressCPUActionPerformed(evt);
-                                } else if (!isCPUverified && btnVerifyCPU.isVisible() && btnVerifyCPU.isEnabled()) {
-                                    btnVerifyCPUActionPerformed(null);
-                                }
-                            } else if (isLinux) {
-                                String lastStressReturnLines = stressReturn.substring(stressReturn.lastIndexOf("stress-ng: info:"));
-                                boolean stressPassed = (lastStressReturnLines.contains("] successful run completed in ") && (lastStressReturnLines.contains("s (" + cpuStressTestDurationMinutes + " min" + ((cpuStressTestDurationMinutes == 1) ? "" : "s")) || lastStressReturnLines.contains("s (" + (cpuStressTestDurationMinutes - 1) + " mins, 59.") || lastStressReturnLines.contains(" " + cpuStressTestDurationMinutes + " min" + ((cpuStressTestDurationMinutes == 1) ? "" : "s")) || lastStressReturnLines.contains(" " + (cpuStressTestDurationMinutes - 1) + " mins, 59.")));
+                            ArrayList<String> cpuStressTestCompletedButtons = new ArrayList<>(Arrays.asList("Continue", "Stress Test CPU Again"));
 
-                                JLabel cpuStressTestOutputHeaderLabel = new JLabel("<html><b>CPU Stress Test " + (stressPassed ? "Passed" : "Failed") + "</b><br/><br/></html>");
-                                if (!stressPassed) {
-                                    cpuStressTestOutputHeaderLabel.setForeground(errorColor);
-                                }
+                            JLabel cpuStressTestOutputHeaderLabel = new JLabel("<html><b>CPU Stress Test " + (stressPassed ? "Passed" : "Failed") + "</b><br/><br/></html>");
+                            if (!stressPassed) {
+                                cpuStressTestOutputHeaderLabel.setForeground(errorColor);
+                            }
 
-                                JTextArea cpuTestOutputPanelTextArea = new JTextArea(30, 85);
-                                cpuTestOutputPanelTextArea.setText(stressReturn.replace("[sudo] password for " + new CommandReader(new String[]{"/usr/bin/id", "-un"}).getFirstOutputLine() + ": ", ""));
-                                cpuTestOutputPanelTextArea.setEditable(false);
-                                cpuTestOutputPanelTextArea.setLineWrap(true);
-                                cpuTestOutputPanelTextArea.setWrapStyleWord(true);
-                                cpuTestOutputPanelTextArea.setFont(new Font(Font.MONOSPACED, lblVersion.getFont().getStyle(), cpuTestOutputPanelTextArea.getFont().getSize()));
-                                JScrollPane cpuStressTestOutputScrollPane = new JScrollPane(cpuTestOutputPanelTextArea);
+                            JTextArea cpuTestOutputPanelTextArea = new JTextArea(30, 85);
+                            cpuTestOutputPanelTextArea.setText((((cpuSensorSummary == null) || (cpuSensorSummary.getSampleCount() == 0)) ? "" : cpuSensorSummary.getReport() + "\n\n") + cpuStressTestResult.getReport());
+                            cpuTestOutputPanelTextArea.setCaretPosition(0);
+                            cpuTestOutputPanelTextArea.setEditable(false);
+                            cpuTestOutputPanelTextArea.setLineWrap(true);
+                            cpuTestOutputPanelTextArea.setWrapStyleWord(true);
+                            cpuTestOutputPanelTextArea.setFont(new Font(Font.MONOSPACED, lblVersion.getFont().getStyle(), cpuTestOutputPanelTextArea.getFont().getSize()));
+                            JScrollPane cpuStressTestOutputScrollPane = new JScrollPane(cpuTestOutputPanelTextArea);
 
-                                if (!stressPassed) {
-                                    Collections.reverse(cpuStressTestCompletedButtons);
-                                }
+                            if (!stressPassed) {
+                                Collections.reverse(cpuStressTestCompletedButtons);
+                            }
 
-                                playAlertSound((stressPassed ? "success" : "error"));
-                                focusWindow();
-                                int cpuStressTestCompletedDialogResponse = JOptionPane.showOptionDialog(qaHelperWindow, new Object[]{
-                                    cpuStressTestOutputHeaderLabel, cpuStressTestOutputScrollPane
-                                }, "QA Helper  —  CPU Stress Test " + (stressPassed ? "Passed" : "Failed"), JOptionPane.DEFAULT_OPTION, (stressPassed ? JOptionPane.PLAIN_MESSAGE : JOptionPane.ERROR_MESSAGE), new TwemojiImage("Brain", qaHelperWindow).toImageIcon(), cpuStressTestCompletedButtons.toArray(), cpuStressTestCompletedButtons.get(0));
+                            playAlertSound((stressPassed ? "success" : "error"));
+                            focusWindow();
+                            int cpuStressTestCompletedDialogResponse = JOptionPane.showOptionDialog(qaHelperWindow, new Object[]{
+                                cpuStressTestOutputHeaderLabel, cpuStressTestOutputScrollPane
+                            }, "QA Helper  —  CPU Stress Test " + (stressPassed ? "Passed" : "Failed"), JOptionPane.DEFAULT_OPTION, (stressPassed ? JOptionPane.PLAIN_MESSAGE : JOptionPane.ERROR_MESSAGE), new TwemojiImage("Brain", qaHelperWindow).toImageIcon(), cpuStressTestCompletedButtons.toArray(), cpuStressTestCompletedButtons.get(0));
 
-                                String cpuStressTestCompletedDialogResponseString = "Continue";
-                                if (cpuStressTestCompletedDialogResponse > -1) {
-                                    cpuStressTestCompletedDialogResponseString = cpuStressTestCompletedButtons.get(cpuStressTestCompletedDialogResponse);
-                                }
+                            String cpuStressTestCompletedDialogResponseString = "Continue";
+                            if (cpuStressTestCompletedDialogResponse > -1) {
+                                cpuStressTestCompletedDialogResponseString = cpuStressTestCompletedButtons.get(cpuStressTestCompletedDialogResponse);
+                            }
 
+                            if (isLinux) {
                                 try {
                                     Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", (!adminPassword.equals("*UNKNOWN*") ? "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk " : "") + "/usr/bin/killall " + (isLinuxMATE ? "mate" : "gnome") + "-system-monitor"});
                                 } catch (IOException quitSystemMonitorException) {
@@ -8466,18 +8234,31 @@ public class QAHelper extends javax.swing.JFrame {
                                         System.out.println("quitSystemMonitorException: " + quitSystemMonitorException);
                                     }
                                 }
-
-                                if (cpuStressTestCompletedDialogResponseString.contains("Test")) {
-                                    setActionsEnabled(true);
-                                    btnStressCPUActionPerformed(evt);
-                                } else if (stressPassed) {
-                                    if (!isCPUverified && btnVerifyCPU.isVisible() && btnVerifyCPU.isEnabled()) {
-                                        btnVerifyCPUActionPerformed(null);
-                                    } else if (!isPeripheralTestMode) {
-                                        focusNextTestTaskVerifyButton(btnStressCPU);
+                            } else if (isWindows) {
+                                try {
+                                    // taskkill does not exist in WinPE (unless it has been manually copied in) and will always exist in full Windows, no need to make it hard a requirement when I can just use PowerShell (PowerShell just takes longer so we'll still use taskkill when it's available).
+                                    if (!isWindowsPE || new File("\\Windows\\System32\\taskkill.exe").exists()) {
+                                        Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\taskkill.exe", "/im", (new File("\\Install\\Diagnostic Tools\\OpenHardwareMonitor\\OpenHardwareMonitor.exe").exists() ? "OpenHardwareMonitor.exe" : (isWindowsPE ? "Taskmgr.exe" : "perfmon.exe")), "/t"}).waitFor(); // Even though we launch resmon.exe the running executable is perfmon.exe
+                                    } else {
+                                        Runtime.getRuntime().exec(new String[]{"\\Windows\\System32\\WindowsPowerShell\\v1.0\\powershell.exe", "-NoLogo", "-NoProfile", "-NonInteractive", "-Command", "Stop-Process -Name " + (new File("\\Install\\Diagnostic Tools\\OpenHardwareMonitor\\OpenHardwareMonitor.exe").exists() ? "OpenHardwareMonitor" : "Taskmgr")}).waitFor();
+                                    }
+                                } catch (IOException | InterruptedException quitTaskManagerException) {
+                                    if (isTestMode) {
+                                        System.out.println("quitTaskManagerException: " + quitTaskManagerException);
                                     }
                                 }
                             }
+
+                            if (cpuStressTestCompletedDialogResponseString.contains("Test")) {
+                                setActionsEnabled(true);
+                                btnStressCPUActionPerformed(evt);
+                            } else if (stressPassed) {
+                                if (!isCPUverified && btnVerifyCPU.isVisible() && btnVerifyCPU.isEnabled()) {
+                                    btnVerifyCPUActionPerformed(null);
+                                } else if (!isPeripheralTestMode) {
+                                    focusNextTestTaskVerifyButton(btnStressCPU);
+                                }
+                            }
                         } catch (HeadlessException | InterruptedException | ExecutionException finishedStressException) {
                             if (isTestMode) {
                                 System.out.println("finishedStressException: " + finishedStressException);
@@ -8523,53 +8304,89 @@ public class QAHelper extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_btnVerifyCPUActionPerformed
 
+    private void showLinuxDriveHealth() {
+        String driveHealth = computerSpecs.getDriveHealth();
+
+        if (!driveHealth.equals("N/A")) {
+            JTextArea hdSentinelOutputTextArea = new JTextArea(30, 100);
+            hdSentinelOutputTextArea.setText(computerSpecs.getDriveHealth());
+            hdSentinelOutputTextArea.setCaretPosition(0);
+            hdSentinelOutputTextArea.setEditable(false);
+            hdSentinelOutputTextArea.setLineWrap(true);
+            hdSentinelOutputTextArea.setWrapStyleWord(true);
+            hdSentinelOutputTextArea.setFont(new Font(Font.MONOSPACED, lblVersion.getFont().getStyle(), hdSentinelOutputTextArea.getFont().getSize()));
+            JScrollPane hdSentinelOutputScrollPane = new JScrollPane(hdSentinelOutputTextArea);
+
+            // On 04/24/26, drive health checks changed FROM: Power On Time < 2500 days, Estimated Remaining Lifetime > 399 days, Description CONTAINS "is PERFECT", Tip IS "No actions needed."
+            // TO: Health Percentage >= 70%, Power On Time < 3000 days (Ignoring >= 10000 days as a false reading), Description CONTAINS "is PERFECT", Tip IS "No actions needed." OR "It is recommended to continuously monitor the hard disk status."
+            JOptionPane.showMessageDialog(qaHelperWindow, new Object[]{
+                "<html><b>Confirm Specs for Every Drive:</b><br/><br/>"
+                + "<b>Health</b> <i>MUST</i> be <u>70% or GREATER</u>.<br/>"
+                + "<b>Power on time</b> <i>MUST</i> be <u>LESS than 3,000 days</u> <i>(ignoring 10,000 days or MORE as a false reading)</i>.<br/>"
+                + "The <b>description</b> <i>MUST</i> contain <u>\"is PERFECT\"</u>.<br/>"
+                + "The <b>last line</b> <i>MUST</i> be <u>\"No actions needed\"</u> <i>OR</i> <u>\"It is recommended to continuously monitor the hard disk status\"</u>.<br/>"
+                + "<br/>"
+                + "</html>",
+                hdSentinelOutputScrollPane}, "QA Helper  —  Drive Health", JOptionPane.PLAIN_MESSAGE, new TwemojiImage("Hospital", qaHelperWindow).toImageIcon());
+
+            if (!computerSpecs.getDriveHealthWarning() && !computerSpecs.getDriveRecalled()) {
+                String disksFormattedWithoutPartitionTable = computerSpecs.getDisksFormattedWithoutPartitionTable();
+
+                if (disksFormattedWithoutPartitionTable.isEmpty()) {
+                    if (!isDriveHealthVerified && btnVerifyDriveHealth.isVisible() && btnVerifyDriveHealth.isEnabled()) {
+                        btnVerifyDriveHealthActionPerformed(null);
+                    } else if (!isPeripheralTestMode) {
+                        focusNextTestTaskVerifyButton(btnDriveHealth);
+                    }
+                }
+            }
+        } else {
+            playAlertSound("error");
+            JOptionPane.showMessageDialog(qaHelperWindow, "<html><b>Failed to Load Drive Health</b><br/><br/><i>Try again after reloading specs and entering admin password.</i></html>", "QA Helper  —  Drive Health Error", JOptionPane.ERROR_MESSAGE);
+            btnReloadSpecs.requestFocusInWindow();
+        }
+    }
+
     private void btnDriveHealthActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnDriveHealthActionPerformed
         if (actionsEnabled) {
             if (isLinux) {
                 setActionsEnabled(false);
 
-                String driveHealth = computerSpecs.getDriveHealth();
-
-                if (!driveHealth.equals("N/A")) {
-                    JTextArea hdSentinelOutputTextArea = new JTextArea(30, 100);
-                    hdSentinelOutputTextArea.setText(computerSpecs.getDriveHealth());
-                    hdSentinelOutputTextArea.setCaretPosition(0);
-                    hdSentinelOutputTextArea.setEditable(false);
-                    hdSentinelOutputTextArea.setLineWrap(true);
-                    hdSentinelOutputTextArea.setWrapStyleWord(true);
-                    hdSentinelOutputTextArea.setFont(new Font(Font.MONOSPACED, lblVersion.getFont().getStyle(), hdSentinelOutputTextArea.getFont().getSize()));
-                    JScrollPane hdSentinelOutputScrollPane = new JScrollPane(hdSentinelOutputTextArea);
-
-                    // On 04/24/26, drive health checks changed FROM: Power On Time < 2500 days, Estimated Remaining Lifetime > 399 days, Description CONTAINS "is PERFECT", Tip IS "No actions needed."
-                    // TO: Health Percentage >= 70%, Power On Time < 3000 days (Ignoring >= 10000 days as a false reading), Description CONTAINS "is PERFECT", Tip IS "No actions needed." OR "It is recommended to continuously monitor the hard disk status."
-                    JOptionPane.showMessageDialog(qaHelperWindow, new Object[]{
-                        "<html><b>Confirm Specs for Every Drive:</b><br/><br/>"
-                        + "<b>Health</b> <i>MUST</i> be <u>70% or GREATER</u>.<br/>"
-                        + "<b>Power on time</b> <i>MUST</i> be <u>LESS than 3,000 days</u> <i>(ignoring 10,000 days or MORE as a false reading)</i>.<br/>"
-                        + "The <b>description</b> <i>MUST</i> contain <u>\"is PERFECT\"</u>.<br/>"
-                        + "The <b>last line</b> <i>MUST</i> be <u>\"No actions needed\"</u> <i>OR</i> <u>\"It is recommended to continuously monitor the hard disk status\"</u>.<br/>"
-                        + "<br/>"
-                        + "</html>",
-                        hdSentinelOutputScrollPane}, "QA Helper  —  Drive Health", JOptionPane.PLAIN_MESSAGE, new TwemojiImage("Hospital", qaHelperWindow).toImageIcon());
+                if (computerSpecs.getDriveHealth().equals("N/A") && !adminPassword.equals("*UNKNOWN*")) {
+                    // If Drive Health didn't load with the specs (such as if the admin password was entered after they loaded), only reload the storage specs to get it.
+                    // This uses the cached (or still running) Hard Disk Sentinel check for the installed drives if there is one instead of always running it again.
+                    loadingWindow.setLoadingTextAndDisplay("QA Helper is Loading Drive Health", "Loading");
 
-                    if (!computerSpecs.getDriveHealthWarning() && !computerSpecs.getDriveRecalled()) {
-                        String disksFormattedWithoutPartitionTable = computerSpecs.getDisksFormattedWithoutPartitionTable();
+                    (new SwingWorker<Boolean, Void>() {
+                        @Override
+                        protected Boolean doInBackground() throws Exception {
+                            return computerSpecs.reloadSpecsCategories(adminPassword, isTestMode, GetComputerSpecs.SpecsCategory.STORAGE);
+                        }
 
-                        if (disksFormattedWithoutPartitionTable.isEmpty()) {
-                            if (!isDriveHealthVerified && btnVerifyDriveHealth.isVisible() && btnVerifyDriveHealth.isEnabled()) {
-                                btnVerifyDriveHealthActionPerformed(null);
-                            } else if (!isPeripheralTestMode) {
-                                focusNextTestTaskVerifyButton(btnDriveHealth);
+                        @Override
+                        protected void done() {
+                            try {
+                                if (get()) {
+                                    displayComputerSpecs();
+                                }
+                            } catch (InterruptedException | ExecutionException reloadDriveHealthException) {
+                                if (isTestMode) {
+                                    System.out.println("reloadDriveHealthException: " + reloadDriveHealthException);
+                                }
                             }
+
+                            loadingWindow.closeWindow();
+
+                            showLinuxDriveHealth();
+
+                            setActionsEnabled(true);
                         }
-                    }
+                    }).execute();
                 } else {
-                    playAlertSound("error");
-                    JOptionPane.showMessageDialog(qaHelperWindow, "<html><b>Failed to Load Drive Health</b><br/><br/><i>Try again after reloading specs and entering admin password.</i></html>", "QA Helper  —  Drive Health Error", JOptionPane.ERROR_MESSAGE);
-                    btnReloadSpecs.requestFocusInWindow();
-                }
+                    showLinuxDriveHealth();
 
-                setActionsEnabled(true);
+                    setActionsEnabled(true);
+                }
             } else if (isWindows) {
                 if (new File("\\Install\\Diagnostic Tools\\CrystalDiskInfo\\DiskInfo64.exe").exists()) {
                     try {
@@ -8744,6 +8561,61 @@ public class QAHelper extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_btnVerifyDiscDriveActionPerformed
 
+    private List<InetAddress> getInternetTestNetworkDeviceAddresses(List<String> networkDeviceIDs) {
+        // Get the addresses of all of the specified network devices so that connections can be attempted from all of them at the same time.
+        ArrayList<InetAddress> networkDeviceAddresses = new ArrayList<>();
+
+        for (String thisNetworkDeviceID : networkDeviceIDs) {
+            if (isWindows) {
+                // The network device IDs on Windows are the adapter names (such as "Ethernet" or "Wi-Fi") which Java doesn't know about, so get the IP from "netsh" instead.
+                String thisWindowsNetworkDeviceIP = new CommandReader(new String[]{"\\Windows\\System32\\netsh.exe", "interface", "ipv4", "show", "addresses", thisNetworkDeviceID}).getFirstOutputLineContaining("IP Address:").replace("IP Address:", "").trim();
+
+                if (!thisWindowsNetworkDeviceIP.isEmpty()) {
+                    try {
+                        networkDeviceAddresses.add(InetAddress.getByName(thisWindowsNetworkDeviceIP)); // Will not do a DNS lookup since it's an IP address.
+                    } catch (UnknownHostException getWindowsNetworkDeviceAddressException) {
+                        if (isTestMode) {
+                            System.out.println("getWindowsNetworkDeviceAddressException: " + getWindowsNetworkDeviceAddressException);
+                        }
+                    }
+                }
+            } else {
+                networkDeviceAddresses.addAll(NetworkReachabilityProbe.getNetworkDeviceAddresses(thisNetworkDeviceID));
+            }
+        }
+
+        return networkDeviceAddresses;
+    }
+
+    private InetSocketAddress getNetworkBenchmarkServerAddress() {
+        // The network benchmark is only run when a local NetworkBenchmarkServer has been set up (with "java -cp QA_Helper.jar Utilities.NetworkBenchmarkServer") and its "HOST[:PORT]" has been saved into this file in the build info folder.
+        // Benchmarking against a server on the local network measures the network device and cabling of this computer rather than the speed of the internet connection.
+        File networkBenchmarkServerFile = new File(isLinux ? linuxBuildInfoPath + "qa-helper-network-benchmark-server.txt" : (isWindows ? windowsBuildInfoPath : macBuildInfoPath) + "QA Helper Network Benchmark Server.txt");
+
+        if (networkBenchmarkServerFile.exists()) {
+            try {
+                String networkBenchmarkServer = String.join("", Files.readAllLines(networkBenchmarkServerFile.toPath())).trim();
+
+                if (!networkBenchmarkServer.isEmpty()) {
+                    int networkBenchmarkServerPort = NetworkBenchmark.DEFAULT_PORT;
+
+                    if (networkBenchmarkServer.matches(".+:[0-9]+") && !networkBenchmarkServer.matches(".*:.*:.*[^\\]]:[0-9]+")) { // Don't mistake the end of a bare IPv6 address for a port.
+                        networkBenchmarkServerPort = Integer.parseInt(networkBenchmarkServer.substring(networkBenchmarkServer.lastIndexOf(":") + 1));
+                        networkBenchmarkServer = networkBenchmarkServer.substring(0, networkBenchmarkServer.lastIndexOf(":"));
+                    }
+
+                    return new InetSocketAddress(networkBenchmarkServer.replaceAll("^\\[|\\]$", ""), networkBenchmarkServerPort);
+                }
+            } catch (IOException | IllegalArgumentException getNetworkBenchmarkServerAddressException) {
+                if (isTestMode) {
+                    System.out.println("getNetworkBenchmarkServerAddressException: " + getNetworkBenchmarkServerAddressException);
+                }
+            }
+        }
+
+        return null;
+    }
+
     private void btnTestInternetActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_btnTestInternetActionPerformed
         boolean isBackgroundTest = (evt == null);
 
@@ -8835,6 +8707,10 @@ public class QAHelper extends javax.swing.JFrame {
                     boolean wiFiTestPassed = false;
                     boolean wiFiTestSkipped = false;
 
+                    InetSocketAddress networkBenchmarkServerAddress = (isBackgroundTest ? null : getNetworkBenchmarkServerAddress()); // Never slow down (or saturate the network during) automatic background tests with a benchmark.
+                    NetworkBenchmark.Result ethernetBenchmarkResult = null;
+                    NetworkBenchmark.Result wiFiBenchmarkResult = null;
+
                     do {
                         if (hasEthernetPort && !ethernetTestPassed && !ethernetTestSkipped) {
                             publish("ethernet");
@@ -8931,37 +8807,33 @@ public class QAHelper extends javax.swing.JFrame {
                                     break;
                                 }
 
-                                for (String thisEthernetNetworkDeviceID : ethernetNetworkDeviceIDs) {
-                                    for (int ethernetTestAttempt = 0; ethernetTestAttempt < 5; ethernetTestAttempt++) {
-                                        if (isMacOS && new CommandReader(new String[]{"/usr/sbin/ipconfig", "getifaddr", thisEthernetNetworkDeviceID}).getFirstOutputLineContaining(".").isEmpty()) {
-                                            break; // On Apple Silicon Macs there may be multiple internal Ethernet devices (even if there is not a physical Ethernet port), so only attempt on devices with an IP (ie. an adapter is connected) to not hang too long on unconnected devices.
-                                        }
-
-                                        String thisWindowsEthernetNetworkDeviceIP = (isWindows ? new CommandReader(new String[]{"\\Windows\\System32\\netsh.exe", "interface", "ipv4", "show", "addresses", thisEthernetNetworkDeviceID}).getFirstOutputLineContaining("IP Address:").replace("IP Address:", "").trim() : "");
+                                for (int ethernetTestAttempt = 0; ethernetTestAttempt < 5; ethernetTestAttempt++) {
+                                    List<InetAddress> ethernetNetworkDeviceAddresses = getInternetTestNetworkDeviceAddresses(ethernetNetworkDeviceIDs);
 
-                                        // Can't only check for "Sent = 1, Received = 1" from ping on Windows because "Destination host unreachable" error will show no packet loss.
-                                        connectedToCompanySiteViaEthernet = (new CommandReader((isLinux ? new String[]{"/bin/ping", "-I", thisEthernetNetworkDeviceID, "-W", "2", "-c", "1", "www." + osCompanySiteName}
-                                                : (isWindows ? new String[]{"\\Windows\\System32\\PING.EXE", "-S", thisWindowsEthernetNetworkDeviceIP, "-w", "2", "-n", "1", "www." + osCompanySiteName}
-                                                : new String[]{"/sbin/ping", "-b", thisEthernetNetworkDeviceID, "-t", "2", "-c", "1", "www." + osCompanySiteName}))).getOutputLinesContaining((isWindows ? new String[]{"TTL=", "Sent = 1, Received = 1", "round trip times"} : new String[]{"ttl=", "1 packets transmitted, 1 ", "min/avg/max"})).length == 3);
-
-                                        connectedToGoogleViaEthernet = (new CommandReader((isLinux ? new String[]{"/bin/ping", "-I", thisEthernetNetworkDeviceID, "-W", "2", "-c", "1", "www.google.com"}
-                                                : (isWindows ? new String[]{"\\Windows\\System32\\PING.EXE", "-S", thisWindowsEthernetNetworkDeviceIP, "-w", "2", "-n", "1", "www.google.com"}
-                                                : new String[]{"/sbin/ping", "-b", thisEthernetNetworkDeviceID, "-t", "2", "-c", "1", "www.google.com"}))).getOutputLinesContaining((isWindows ? new String[]{"TTL=", "Sent = 1, Received = 1", "round trip times"} : new String[]{"ttl=", "1 packets transmitted, 1 ", "min/avg/max"})).length == 3);
-
-                                        if (connectedToCompanySiteViaEthernet || connectedToGoogleViaEthernet) {
-                                            ethernetTestPassed = true;
-                                            break;
-                                        } else {
-                                            TimeUnit.SECONDS.sleep(1);
-                                        }
+                                    if (isMacOS && ethernetNetworkDeviceAddresses.isEmpty()) {
+                                        break; // On Apple Silicon Macs there may be multiple internal Ethernet devices (even if there is not a physical Ethernet port), so only attempt when some device has an IP (ie. an adapter is connected) to not hang too long on unconnected devices.
                                     }
 
-                                    if (ethernetTestPassed) {
+                                    Set<String> reachableHostNames = NetworkReachabilityProbe.getReachableHosts(ethernetNetworkDeviceAddresses, new String[]{"www." + osCompanySiteName, "www.google.com"}, 443, 2500);
+                                    connectedToCompanySiteViaEthernet = reachableHostNames.contains("www." + osCompanySiteName);
+                                    connectedToGoogleViaEthernet = reachableHostNames.contains("www.google.com");
+
+                                    if (connectedToCompanySiteViaEthernet || connectedToGoogleViaEthernet) {
+                                        ethernetTestPassed = true;
                                         break;
+                                    } else {
+                                        TimeUnit.SECONDS.sleep(1);
                                     }
                                 }
 
                                 if (ethernetTestPassed) {
+                                    if (networkBenchmarkServerAddress != null) {
+                                        // Benchmark Ethernet now since it will be disabled when Wi-Fi is tested.
+                                        publish("ethernet-benchmark");
+                                        ethernetBenchmarkResult = NetworkBenchmark.run(getInternetTestNetworkDeviceAddresses(ethernetNetworkDeviceIDs), networkBenchmarkServerAddress, 4, 3000);
+                                        writeToHelperLogFile("Internet Benchmark: Ethernet " + ethernetBenchmarkResult);
+                                    }
+
                                     break;
                                 } else if (isBackgroundTest) {
                                     ethernetTestSkipped = true;
@@ -9408,28 +9280,15 @@ public class QAHelper extends javax.swing.JFrame {
 
                                 if (!connectedWiFiNetworkName.isEmpty()) {
                                     for (int wiFiTestAttempt = 0; wiFiTestAttempt < 5; wiFiTestAttempt++) {
-                                        for (String thisWiFiNetworkDeviceID : wiFiNetworkDeviceIDs) {
-                                            String thisWindowsWiFiNetworkDeviceIP = (isWindows ? new CommandReader(new String[]{"\\Windows\\System32\\netsh.exe", "interface", "ipv4", "show", "addresses", thisWiFiNetworkDeviceID}).getFirstOutputLineContaining("IP Address:").replace("IP Address:", "").trim() : "");
+                                        Set<String> reachableHostNames = NetworkReachabilityProbe.getReachableHosts(getInternetTestNetworkDeviceAddresses(wiFiNetworkDeviceIDs), new String[]{"www." + osCompanySiteName, "www.google.com"}, 443, 2500);
+                                        connectedToCompanySiteViaWiFi = reachableHostNames.contains("www." + osCompanySiteName);
+                                        connectedToGoogleViaWiFi = reachableHostNames.contains("www.google.com");
 
-                                            // Can't only check for "Sent = 1, Received = 1" from ping on Windows because "Destination host unreachable" error will show no packet loss.
-                                            connectedToCompanySiteViaWiFi = (new CommandReader((isLinux ? new String[]{"/bin/ping", "-I", thisWiFiNetworkDeviceID, "-W", "2", "-c", "1", "www." + osCompanySiteName}
-                                                    : (isWindows ? new String[]{"\\Windows\\System32\\PING.EXE", "-S", thisWindowsWiFiNetworkDeviceIP, "-w", "2", "-n", "1", "www." + osCompanySiteName}
-                                                    : new String[]{"/sbin/ping", "-b", thisWiFiNetworkDeviceID, "-t", "2", "-c", "1", "www." + osCompanySiteName}))).getOutputLinesContaining((isWindows ? new String[]{"TTL=", "Sent = 1, Received = 1", "round trip times"} : new String[]{"ttl=", "1 packets transmitted, 1 ", "min/avg/max"})).length == 3);
-
-                                            connectedToGoogleViaWiFi = (new CommandReader((isLinux ? new String[]{"/bin/ping", "-I", thisWiFiNetworkDeviceID, "-W", "2", "-c", "1", "www.google.com"}
-                                                    : (isWindows ? new String[]{"\\Windows\\System32\\PING.EXE", "-S", thisWindowsWiFiNetworkDeviceIP, "-w", "2", "-n", "1", "www.google.com"}
-                                                    : new String[]{"/sbin/ping", "-b", thisWiFiNetworkDeviceID, "-t", "2", "-c", "1", "www.google.com"}))).getOutputLinesContaining((isWindows ? new String[]{"TTL=", "Sent = 1, Received = 1", "round trip times"} : new String[]{"ttl=", "1 packets transmitted, 1 ", "min/avg/max"})).length == 3);
-
-                                            if (connectedToCompanySiteViaWiFi || connectedToGoogleViaWiFi) {
-                                                wiFiTestPassed = true;
-                                                break;
-                                            } else {
-                                                TimeUnit.SECONDS.sleep(1);
-                                            }
-                                        }
-
-                                        if (wiFiTestPassed) {
+                                        if (connectedToCompanySiteViaWiFi || connectedToGoogleViaWiFi) {
+                                            wiFiTestPassed = true;
                                             break;
+                                        } else {
+                                            TimeUnit.SECONDS.sleep(1);
                                         }
                                     }
                                 }
@@ -9442,6 +9301,12 @@ public class QAHelper extends javax.swing.JFrame {
                                 }
 
                                 if (wiFiTestPassed) {
+                                    if ((networkBenchmarkServerAddress != null) && !connectedWiFiNetworkName.isEmpty()) {
+                                        publish("wifi-benchmark");
+                                        wiFiBenchmarkResult = NetworkBenchmark.run(getInternetTestNetworkDeviceAddresses(wiFiNetworkDeviceIDs), networkBenchmarkServerAddress, 4, 3000);
+                                        writeToHelperLogFile("Internet Benchmark: Wi-Fi " + wiFiBenchmarkResult);
+                                    }
+
                                     break;
                                 } else if (isBackgroundTest) {
                                     wiFiTestSkipped = true;
@@ -9534,6 +9399,10 @@ public class QAHelper extends javax.swing.JFrame {
 
                             resultsOutput += new TwemojiImage("MagnifyingGlassTiltedLeft", qaHelperWindow).toImgTag("left") + " Number of Wi-Fi Networks Detected: " + numberOfWiFiNetworksDetected;
 
+                            if (wiFiBenchmarkResult != null) {
+                                resultsOutput += "<br/><br/>" + new TwemojiImage("Stopwatch", qaHelperWindow).toImgTag("left") + " Wi-Fi Benchmark: " + escapeSingleLineSpecStringForHTML(wiFiBenchmarkResult.toString());
+                            }
+
                             if (numberOfWiFiNetworksDetected == 0) {
                                 resultsOutput += "<br/><br/>" + new TwemojiImage("DoubleExclamationMark", qaHelperWindow).toImgTag("left") + " <i>MOVE CLOSER TO WI-FI ACCESS POINT AND TRY AGAIN</i>";
                             } else if (connectedWiFiNetworkName.isEmpty() && !isWindows) {
@@ -9555,6 +9424,10 @@ public class QAHelper extends javax.swing.JFrame {
                             resultsOutput += new TwemojiImage("ThumbsUp", qaHelperWindow).toImgTag("left") + " " + ((connectedToCompanySiteViaEthernet && connectedToGoogleViaEthernet)
                                     ? "Successfully Connected to " + osCompanySiteName + " &amp; Google.com via Ethernet" : ((connectedToCompanySiteViaEthernet ? "Successfully Connected to " + osCompanySiteName + " via Ethernet" : "")
                                     + (connectedToGoogleViaEthernet ? "Successfully Connected to Google.com via Ethernet" : "")));
+
+                            if (ethernetBenchmarkResult != null) {
+                                resultsOutput += "<br/><br/>" + new TwemojiImage("Stopwatch", qaHelperWindow).toImgTag("left") + " Ethernet Benchmark: " + escapeSingleLineSpecStringForHTML(ethernetBenchmarkResult.toString());
+                            }
                         } else if (ethernetCableConnected) {
                             resultsOutput += new TwemojiImage("ThumbsDown", qaHelperWindow).toImgTag("left") + " Failed to Connect to Both " + osCompanySiteName + " &amp; Google.com via Ethernet";
                         } else {
@@ -9604,6 +9477,10 @@ public class QAHelper extends javax.swing.JFrame {
                                 loadingWindow.setLoadingTextAndDisplay("QA Helper is Testing Wi-Fi", "Testing", "SatelliteAntenna");
                             } else if (thisTask.equals("ethernet")) {
                                 loadingWindow.setLoadingTextAndDisplay("QA Helper is Testing Ethernet", "Testing", "SatelliteAntenna");
+                            } else if (thisTask.equals("wifi-benchmark")) {
+                                loadingWindow.setLoadingTextAndDisplay("QA Helper is Benchmarking Wi-Fi", "Testing", "SatelliteAntenna");
+                            } else if (thisTask.equals("ethernet-benchmark")) {
+                                loadingWindow.setLoadingTextAndDisplay("QA Helper is Benchmarking Ethernet", "Testing", "SatelliteAntenna");
                             }
                         });
                     }
@@ -11853,14 +11730,8 @@ public class QAHelper extends javax.swing.JFrame {
                                         }
 
                                         if (!adminPassword.equals("*UNKNOWN*")) {
-                                            try {
-                                                Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get install --no-install-recommends -qq " + webCamAppName}).waitFor();
-                                                webCamAppIsInstalled = !new CommandReader(webCamAppPath + " -v").getFirstOutputLineContaining(".").isEmpty();
-                                            } catch (IOException | InterruptedException installWebCamAppException) {
-                                                if (isTestMode) {
-                                                    System.out.println("installWebCamAppException: " + installWebCamAppException);
-                                                }
-                                            }
+                                            PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/apt-get install --no-install-recommends -qq " + webCamAppName, isTestMode);
+                                            webCamAppIsInstalled = !new CommandReader(webCamAppPath + " -v").getFirstOutputLineContaining(".").isEmpty();
 
                                             if (!webCamAppIsInstalled && !isLinuxUbiquityMode) {
                                                 try {
@@ -12026,13 +11897,7 @@ public class QAHelper extends javax.swing.JFrame {
                                                     }
                                                 }
                                             } else {
-                                                try {
-                                                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get purge --auto-remove -qq " + webCamAppName}).waitFor();
-                                                } catch (IOException | InterruptedException uninstallWebCamAppException) {
-                                                    if (isTestMode) {
-                                                        System.out.println("uninstallWebCamAppException: " + uninstallWebCamAppException);
-                                                    }
-                                                }
+                                                PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/apt-get purge --auto-remove -qq " + webCamAppName, isTestMode);
                                             }
                                         }
                                     } else {
@@ -12640,7 +12505,14 @@ public class QAHelper extends javax.swing.JFrame {
                             }
                         }
 
-                        return new WebReader(privateStrings.getLogAbsoluteEnabledURL(isTestMode), logAbsoluteEnabledParameters, 20).getFirstOutputLine();
+                        // The server responds with "LOGGED" or "ALREADY LOGGED", and anything else means it was rejected. If it's not sent within 20 seconds, it stays queued to be sent automatically once connected.
+                        try {
+                            return getWebOutbox().enqueue(privateStrings.getLogAbsoluteEnabledURL(isTestMode), logAbsoluteEnabledParameters, "LOGGED").get(20, TimeUnit.SECONDS).trim();
+                        } catch (ExecutionException logAbsoluteEnabledRejectedException) {
+                            return logAbsoluteEnabledRejectedException.getCause().getMessage();
+                        } catch (TimeoutException logAbsoluteEnabledQueuedException) {
+                            return "QUEUED";
+                        }
                     }
 
                     @Override
@@ -12658,7 +12530,9 @@ public class QAHelper extends javax.swing.JFrame {
                                 System.out.println("logAbsoluteEnabledResult = " + logAbsoluteEnabledResult);
                             }
 
-                            if (logAbsoluteEnabledResult.endsWith("LOGGED")) {
+                            if (logAbsoluteEnabledResult.equals("QUEUED")) {
+                                JOptionPane.showMessageDialog(qaHelperWindow, "<html><b>Queued to Log ID \"" + pid + "\" as Absolute Persistence/Computrace Enabled</b><br/><br/>This computer is not currently connected to the internet, but it will be logged automatically as soon as it's connected.<br/><br/><i>Leave QA Helper open (or open it again) once this computer is connected to the internet so that it can be logged.</i></html>", "QA Helper  —  Queued to Log Absolute Persistence/Computrace Enabled", JOptionPane.WARNING_MESSAGE, new TwemojiImage("ControlKnobs", qaHelperWindow).toImageIcon(32));
+                            } else if (logAbsoluteEnabledResult.endsWith("LOGGED")) {
                                 JOptionPane.showMessageDialog(qaHelperWindow, "<html><b>" + (logAbsoluteEnabledResult.startsWith("ALREADY") ? "Already" : "Successfully") + " Logged ID \"" + pid + "\" as Absolute Persistence/Computrace Enabled</u></b><br/><br/><p style='font-family: monospace'><b>Serial:</b> " + computerSpecs.getSerial() + "<br/><b>&nbsp;&nbsp;UUID:</b> " + computerSpecs.getHardwareUUID() + "</p></html>", "QA Helper  —  " + (logAbsoluteEnabledResult.startsWith("ALREADY") ? "Already" : "Successfully") + " Logged Absolute Persistence/Computrace Enabled", JOptionPane.INFORMATION_MESSAGE, new TwemojiImage("ControlKnobs", qaHelperWindow).toImageIcon(32));
                             } else {
                                 if (logAbsoluteEnabledResult.isEmpty()) {
@@ -15107,69 +14981,71 @@ public class QAHelper extends javax.swing.JFrame {
         if ((actionsEnabled || (evt == null)) && !isWindowsPE && (computerSpecs != null)) {
             setActionsEnabled(false);
 
-            ArrayList<String> storageArray = computerSpecs.getStorageArray();
-            ArrayList<String> storageSerialsArray = computerSpecs.getStorageSerialsArray();
+            ComputerSpecsRecord specsRecord = computerSpecs.getSpecsRecord();
 
-            ArrayList<String> screenErrorArray = computerSpecs.getScreenErrorArray();
+            List<String> storageArray = specsRecord.getDriveDescriptions();
+            List<String> storageSerialsArray = specsRecord.getDriveSerials();
 
-            ArrayList<String> gpuArray = computerSpecs.getGPUarray();
-            ArrayList<String> gpuErrorArray = computerSpecs.getGPUerrorArray();
+            List<String> screenErrorArray = specsRecord.getScreenErrors();
 
-            ArrayList<String> audioArray = computerSpecs.getAudioArray();
-            ArrayList<String> audioErrorArray = computerSpecs.getAudioErrorArray();
+            List<String> gpuArray = specsRecord.getGPUnames();
+            List<String> gpuErrorArray = specsRecord.getGPUerrors();
 
-            ArrayList<String> wirelessArray = computerSpecs.getWirelessArray();
-            ArrayList<String> wirelessErrorArray = computerSpecs.getWirelessErrorArray();
+            List<String> audioArray = specsRecord.getAudioDevices();
+            List<String> audioErrorArray = specsRecord.getAudioErrors();
 
-            ArrayList<String> discDriveArray = computerSpecs.getDiscDriveArray();
+            List<String> wirelessArray = specsRecord.getWirelessDevices();
+            List<String> wirelessErrorArray = specsRecord.getWirelessErrors();
 
-            ArrayList<String> batteryHealthArray = computerSpecs.getBatteryHealthArray();
+            List<String> discDriveArray = specsRecord.getDiscDrives();
+
+            List<String> batteryHealthArray = specsRecord.getBatteryDescriptions();
 
             String specsToSave = (isLoggedIn ? ("         ID: " + pid + "\n\n") : "")
                     + "Device Type: " + manualDeviceType + "\n"
-                    + "      Brand: " + (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardBrand() : computerSpecs.getFullBrand()) + "\n"
-                    + "      Model: " + (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardModel() : computerSpecs.getFullModel()) + "\n"
-                    + "     Serial: " + (deviceTypeIsMotherboard ? computerSpecs.getFullMotherboardSerial() : computerSpecs.getFullSerial()) + "\n"
-                    + "       UUID: " + computerSpecs.getHardwareUUID() + "\n"
-                    + ((isLinuxLiveBoot || isMacTestBoot || deviceTypeIsMotherboard) ? "" : "         OS: " + computerSpecs.getFullOS() + "\n")
+                    + "      Brand: " + (deviceTypeIsMotherboard ? specsRecord.getFullMotherboardBrand() : specsRecord.getFullBrand()) + "\n"
+                    + "      Model: " + (deviceTypeIsMotherboard ? specsRecord.getFullMotherboardModel() : specsRecord.getFullModel()) + "\n"
+                    + "     Serial: " + (deviceTypeIsMotherboard ? specsRecord.getMotherboardSerial() : specsRecord.getSerial()) + "\n"
+                    + "       UUID: " + specsRecord.getHardwareUUID() + "\n"
+                    + ((isLinuxLiveBoot || isMacTestBoot || deviceTypeIsMotherboard) ? "" : "         OS: " + specsRecord.getOS() + "\n")
                     + "\n"
-                    + "        CPU: " + ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("CPU")) ? "N/A" : computerSpecs.getFullCPU()) + "\n"
-                    + "        RAM: " + ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("RAM")) ? computerSpecs.getFullMotherboardRAM() : computerSpecs.getFullRAM()) + "\n"
+                    + "        CPU: " + ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("CPU")) ? "N/A" : specsRecord.getCPU()) + "\n"
+                    + "        RAM: " + ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("RAM")) ? specsRecord.getMotherboardRAM() : specsRecord.getRAM()) + "\n"
                     + (deviceTypeHasScreen
-                            ? ("     Screen: " + (screenErrorArray.isEmpty() ? "" : "• ") + computerSpecs.getFullScreenSize()
+                            ? ("     Screen: " + (screenErrorArray.isEmpty() ? "" : "• ") + specsRecord.getScreenSize()
                             + (screenErrorArray.isEmpty() ? "" : ("\n             • " + String.join("\n             • ", screenErrorArray))) + "\n") : "")
                     + ((deviceTypeIsMotherboard && !motherboardIncludedComponents.contains("GPU"))
                     ? ""
                     : "        GPU: " + (((gpuArray.size() > 1) || !gpuErrorArray.isEmpty())
                     ? ("• " + (gpuArray.isEmpty() ? "N/A" : String.join("\n             • ", gpuArray)))
-                    : computerSpecs.getFullGPU())
+                    : specsRecord.getGPUsummary())
                     + (gpuErrorArray.isEmpty() ? "" : ("\n             • " + String.join("\n             • ", gpuErrorArray))) + "\n")
                     + "      Audio: " + (((audioArray.size() > 1) || !audioErrorArray.isEmpty())
                     ? ("• " + (audioArray.isEmpty() ? "N/A" : String.join("\n             • ", audioArray)))
-                    : computerSpecs.getFullAudio())
+                    : specsRecord.getAudioSummary())
                     + (audioErrorArray.isEmpty() ? "" : ("\n             • " + String.join("\n             • ", audioErrorArray))) + "\n"
                     + "   Wireless: " + (((wirelessArray.size() > 1) || !wirelessErrorArray.isEmpty())
                     ? ("• " + (wirelessArray.isEmpty() ? "N/A" : String.join("\n             • ", wirelessArray)))
-                    : computerSpecs.getWireless())
+                    : specsRecord.getWirelessSummary())
                     + (wirelessErrorArray.isEmpty() ? "" : ("\n             • " + String.join("\n             • ", wirelessErrorArray))) + "\n";
 
             if (!deviceTypeIsMotherboard && !discDriveArray.isEmpty()) {
                 specsToSave += "\n"
                         + " Disc Drive: " + ((discDriveArray.size() > 1)
                         ? ("• " + String.join("\n             • ", discDriveArray))
-                        : computerSpecs.getFullDiscDrive()) + "\n"
-                        + "  CD Burner: " + (computerSpecs.discDriveCanBurnCDs() ? "Yes" : "No") + "\n"
-                        + " DVD Burner: " + (computerSpecs.discDriveCanBurnDVDs() ? "Yes" : "No") + "\n";
+                        : specsRecord.getDiscDriveSummary()) + "\n"
+                        + "  CD Burner: " + (specsRecord.discDriveCanBurnCDs() ? "Yes" : "No") + "\n"
+                        + " DVD Burner: " + (specsRecord.discDriveCanBurnDVDs() ? "Yes" : "No") + "\n";
             }
 
             if (!deviceTypeIsMotherboard && (deviceTypeIsLaptop || !batteryHealthArray.isEmpty())) {
-                ArrayList<String> batteryHealthWarningArray = computerSpecs.getBatteryHealthWarningArray();
-                ArrayList<String> batteryHealthErrorArray = computerSpecs.getBatteryHealthErrorArray();
+                List<String> batteryHealthWarningArray = specsRecord.getBatteryWarnings();
+                List<String> batteryHealthErrorArray = specsRecord.getBatteryErrors();
 
                 specsToSave += "\n"
                         + " Battery Health: " + ((batteryHealthArray.size() > 1)
                         ? ("• " + String.join("\n                 • ", batteryHealthArray))
-                        : computerSpecs.getBatteryHealthString()) + "\n"
+                        : specsRecord.getBatteryHealthSummary()) + "\n"
                         + "Battery Warning: " + (batteryHealthWarningArray.isEmpty()
                         ? "None"
                         : ((batteryHealthWarningArray.size() > 1)
@@ -15180,22 +15056,22 @@ public class QAHelper extends javax.swing.JFrame {
                         : ((batteryHealthErrorArray.size() > 1)
                         ? ("• " + String.join("\n                 • ", batteryHealthErrorArray))
                         : batteryHealthErrorArray.get(0))) + "\n"
-                        + (computerSpecs.getPowerAdapter().isEmpty() ? "" : ("  Power Adapter: " + computerSpecs.getPowerAdapter() + "\n"));
+                        + (specsRecord.getPowerAdapter().isEmpty() ? "" : ("  Power Adapter: " + specsRecord.getPowerAdapter() + "\n"));
             }
 
             if (!deviceTypeIsMotherboard) {
                 specsToSave += "\n"
                         + "Storage: " + ((storageArray.size() > 1)
                         ? ("• " + String.join("\n         • ", storageArray))
-                        : computerSpecs.getFullStorage()) + "\n"
+                        : specsRecord.getStorageSummary()) + "\n"
                         + "Storage Serial: " + ((storageSerialsArray.size() > 1)
                         ? ("• " + String.join("\n                • ", storageSerialsArray))
-                        : computerSpecs.getFullStorageSerial()) + "\n"
-                        + "Storage Health Warning: " + (computerSpecs.getDriveHealthWarning() ? "Yes" : "No") + "\n"
-                        + (computerSpecs.getDriveHealth().equals("N/A")
+                        : specsRecord.getDriveSerialsSummary()) + "\n"
+                        + "Storage Health Warning: " + (specsRecord.getDriveHealthWarning() ? "Yes" : "No") + "\n"
+                        + (specsRecord.getDriveHealth().equals("N/A")
                         ? ""
                         : ("Storage Health:" + "\n"
-                        + computerSpecs.getDriveHealth() + "\n"));
+                        + specsRecord.getDriveHealth() + "\n"));
             }
 
             if (isLoggedIn) {
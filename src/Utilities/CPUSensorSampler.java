@@ -0,0 +1,483 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class samples CPU temperatures, frequencies, and throttle counts directly from sysfs on Linux into a ring buffer so they can be summarized and checked for thermal throttling
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class CPUSensorSampler {
+
+    // These are the hwmon drivers that report actual CPU temperatures. If none of them exist, every hwmon temperature is used instead (which will at least include the ACPI thermal zones).
+    private static final List<String> CPU_HWMON_NAMES = Arrays.asList("coretemp", "k10temp", "zenpower", "cpu_thermal", "soc_thermal", "cpu0_thermal");
+
+    // If the CPU frequency under load ends up below this fraction of what it was at the start of the test while the CPU is this hot, the CPU has been throttled down to keep from overheating.
+    private static final double THROTTLED_FREQUENCY_FRACTION = 0.6;
+    private static final double THROTTLED_FREQUENCY_MIN_CELSIUS = 90;
+    private static final double DEFAULT_CRITICAL_CELSIUS = 100;
+
+    private final List<File> temperatureInputFiles = new ArrayList<>();
+    private final List<File> frequencyInputFiles = new ArrayList<>();
+    private final List<File> throttleCountFiles = new ArrayList<>();
+    private final double criticalCelsius;
+    private final double maxFrequencyMHz;
+    private final int sampleIntervalMillis;
+
+    private final Sample[] sampleRingBuffer;
+    private int nextSampleIndex = 0;
+    private int sampleCount = 0;
+    private long totalSampleCount = 0;
+
+    private ScheduledExecutorService samplerExecutor = null;
+    private long startNanoTime = 0;
+    private long startThrottleCount = 0;
+
+    public static class Sample {
+
+        private final long elapsedMillis;
+        private final double maxCelsius;
+        private final double averageCelsius;
+        private final double averageFrequencyMHz;
+        private final double minFrequencyMHz;
+        private final long throttleCount;
+
+        private Sample(long elapsedMillis, double maxCelsius, double averageCelsius, double averageFrequencyMHz, double minFrequencyMHz, long throttleCount) {
+            this.elapsedMillis = elapsedMillis;
+            this.maxCelsius = maxCelsius;
+            this.averageCelsius = averageCelsius;
+            this.averageFrequencyMHz = averageFrequencyMHz;
+            this.minFrequencyMHz = minFrequencyMHz;
+            this.throttleCount = throttleCount;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public double getMaxCelsius() {
+            return maxCelsius; // Will be NaN if no temperatures are available.
+        }
+
+        public double getAverageCelsius() {
+            return averageCelsius;
+        }
+
+        public double getAverageFrequencyMHz() {
+            return averageFrequencyMHz; // Will be NaN if no frequencies are available.
+        }
+
+        public double getMinFrequencyMHz() {
+            return minFrequencyMHz;
+        }
+
+        public long getThrottleCount() {
+            return throttleCount;
+        }
+    }
+
+    public CPUSensorSampler(int sampleIntervalMillis, int maxSampleCount) {
+        this("/sys", sampleIntervalMillis, maxSampleCount);
+    }
+
+    CPUSensorSampler(String sysfsPath, int sampleIntervalMillis, int maxSampleCount) {
+        this.sampleIntervalMillis = Math.max(100, sampleIntervalMillis);
+        sampleRingBuffer = new Sample[Math.max(1, maxSampleCount)];
+
+        // Find all of the sensor files just once so each sample is only a few tiny file reads (instead of forking "sensors" and parsing its output).
+        File[] hwmonFolders = new File(sysfsPath + "/class/hwmon").listFiles();
+        ArrayList<File> cpuTemperatureInputFiles = new ArrayList<>();
+        ArrayList<File> otherTemperatureInputFiles = new ArrayList<>();
+        double lowestCriticalCelsius = Double.MAX_VALUE;
+
+        if (hwmonFolders != null) {
+            Arrays.sort(hwmonFolders);
+
+            for (File thisHwmonFolder : hwmonFolders) {
+                boolean isCPUhwmon = CPU_HWMON_NAMES.contains(readFirstLine(new File(thisHwmonFolder, "name")));
+                File[] thisHwmonTemperatureInputFiles = thisHwmonFolder.listFiles((File thisHwmonFile) -> thisHwmonFile.getName().matches("temp[0-9]+_input"));
+
+                if (thisHwmonTemperatureInputFiles != null) {
+                    Arrays.sort(thisHwmonTemperatureInputFiles);
+
+                    for (File thisTemperatureInputFile : thisHwmonTemperatureInputFiles) {
+                        if (isCPUhwmon) {
+                            cpuTemperatureInputFiles.add(thisTemperatureInputFile);
+
+                            double thisCriticalCelsius = (readLongValue(new File(thisHwmonFolder, thisTemperatureInputFile.getName().replace("_input", "_crit"))) / 1000.0);
+                            if ((thisCriticalCelsius > 0) && (thisCriticalCelsius < lowestCriticalCelsius)) {
+                                lowestCriticalCelsius = thisCriticalCelsius;
+                            }
+                        } else {
+                            otherTemperatureInputFiles.add(thisTemperatureInputFile);
+                        }
+                    }
+                }
+            }
+        }
+
+        temperatureInputFiles.addAll(cpuTemperatureInputFiles.isEmpty() ? otherTemperatureInputFiles : cpuTemperatureInputFiles);
+        criticalCelsius = ((lowestCriticalCelsius == Double.MAX_VALUE) ? DEFAULT_CRITICAL_CELSIUS : lowestCriticalCelsius);
+
+        File[] cpuFolders = new File(sysfsPath + "/devices/system/cpu").listFiles((File thisCPUfolder) -> thisCPUfolder.getName().matches("cpu[0-9]+"));
+        double highestMaxFrequencyMHz = 0;
+
+        if (cpuFolders != null) {
+            Arrays.sort(cpuFolders);
+
+            for (File thisCPUfolder : cpuFolders) {
+                File thisFrequencyInputFile = new File(thisCPUfolder, "cpufreq/scaling_cur_freq");
+                if (thisFrequencyInputFile.exists()) {
+                    frequencyInputFiles.add(thisFrequencyInputFile);
+                    highestMaxFrequencyMHz = Math.max(highestMaxFrequencyMHz, (readLongValue(new File(thisCPUfolder, "cpufreq/cpuinfo_max_freq")) / 1000.0));
+                }
+
+                // These counters only exist on Intel CPUs, but they are the most direct way to know that the CPU has throttled itself.
+                File thisThrottleCountFile = new File(thisCPUfolder, "thermal_throttle/core_throttle_count");
+                if (thisThrottleCountFile.exists()) {
+                    throttleCountFiles.add(thisThrottleCountFile);
+                }
+            }
+        }
+
+        maxFrequencyMHz = highestMaxFrequencyMHz;
+    }
+
+    public boolean isAvailable() {
+        return (!temperatureInputFiles.isEmpty() || !frequencyInputFiles.isEmpty());
+    }
+
+    public synchronized void start() {
+        if ((samplerExecutor != null) || !isAvailable()) {
+            return;
+        }
+
+        nextSampleIndex = 0;
+        sampleCount = 0;
+        totalSampleCount = 0;
+        startNanoTime = System.nanoTime();
+        startThrottleCount = readThrottleCount();
+
+        samplerExecutor = Executors.newSingleThreadScheduledExecutor((Runnable samplerRunnable) -> {
+            Thread samplerThread = new Thread(samplerRunnable, "qa_helper-cpu_sensor_sampler");
+            samplerThread.setDaemon(true); // Never keep the app from quitting just because sampling is still running.
+            samplerThread.setPriority(Thread.MAX_PRIORITY); // Make sure sampling keeps up even when every core is being stressed.
+            return samplerThread;
+        });
+
+        samplerExecutor.scheduleAtFixedRate(this::takeSample, 0, sampleIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (samplerExecutor != null) {
+            samplerExecutor.shutdownNow();
+            samplerExecutor = null;
+        }
+    }
+
+    private void takeSample() {
+        double totalCelsius = 0;
+        double maxCelsius = Double.NaN;
+        int temperatureCount = 0;
+
+        for (File thisTemperatureInputFile : temperatureInputFiles) {
+            long thisMilliCelsius = readLongValue(thisTemperatureInputFile);
+
+            if (thisMilliCelsius > 0) {
+                double thisCelsius = (thisMilliCelsius / 1000.0);
+                totalCelsius += thisCelsius;
+                maxCelsius = (Double.isNaN(maxCelsius) ? thisCelsius : Math.max(maxCelsius, thisCelsius));
+                temperatureCount++;
+            }
+        }
+
+        double totalFrequencyMHz = 0;
+        double minFrequencyMHz = Double.NaN;
+        int frequencyCount = 0;
+
+        for (File thisFrequencyInputFile : frequencyInputFiles) {
+            long thisFrequencyKHz = readLongValue(thisFrequencyInputFile);
+
+            if (thisFrequencyKHz > 0) {
+                double thisFrequencyMHz = (thisFrequencyKHz / 1000.0);
+                totalFrequencyMHz += thisFrequencyMHz;
+                minFrequencyMHz = (Double.isNaN(minFrequencyMHz) ? thisFrequencyMHz : Math.min(minFrequencyMHz, thisFrequencyMHz));
+                frequencyCount++;
+            }
+        }
+
+        Sample thisSample = new Sample(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime), maxCelsius, ((temperatureCount == 0) ? Double.NaN : (totalCelsius / temperatureCount)),
+                ((frequencyCount == 0) ? Double.NaN : (totalFrequencyMHz / frequencyCount)), minFrequencyMHz, (readThrottleCount() - startThrottleCount));
+
+        synchronized (this) {
+            sampleRingBuffer[nextSampleIndex] = thisSample;
+            nextSampleIndex = ((nextSampleIndex + 1) % sampleRingBuffer.length);
+            sampleCount = Math.min((sampleCount + 1), sampleRingBuffer.length);
+            totalSampleCount++;
+        }
+    }
+
+    public synchronized Sample getLatestSample() {
+        if (sampleCount == 0) {
+            return null;
+        }
+
+        return sampleRingBuffer[((nextSampleIndex - 1) + sampleRingBuffer.length) % sampleRingBuffer.length];
+    }
+
+    public synchronized List<Sample> getSamples() {
+        // Oldest to newest (only the most recent samples are kept once the ring buffer is full).
+        ArrayList<Sample> samples = new ArrayList<>(sampleCount);
+
+        for (int i = 0; i < sampleCount; i++) {
+            samples.add(sampleRingBuffer[(((nextSampleIndex - sampleCount) + i) + sampleRingBuffer.length) % sampleRingBuffer.length]);
+        }
+
+        return samples;
+    }
+
+    public String getLatestSampleString() {
+        Sample latestSample = getLatestSample();
+
+        if (latestSample == null) {
+            return "";
+        }
+
+        Summary currentSummary = getSummary();
+
+        return (Double.isNaN(latestSample.getMaxCelsius()) ? "" : String.format("CPU Temperature: %.1f C (Max %.1f C, Critical %.0f C)\n", latestSample.getMaxCelsius(), currentSummary.getMaxCelsius(), criticalCelsius))
+                + (Double.isNaN(latestSample.getAverageFrequencyMHz()) ? "" : String.format("CPU Frequency: %.2f GHz (Min %.2f GHz%s)\n", (latestSample.getAverageFrequencyMHz() / 1000), (currentSummary.getMinFrequencyMHz() / 1000), ((maxFrequencyMHz > 0) ? String.format(", Max %.2f GHz", (maxFrequencyMHz / 1000)) : "")))
+                + (throttleCountFiles.isEmpty() ? "" : "CPU Throttle Events: " + latestSample.getThrottleCount() + "\n");
+    }
+
+    public Summary getSummary() {
+        return new Summary(getSamples(), criticalCelsius, maxFrequencyMHz, !throttleCountFiles.isEmpty());
+    }
+
+    public static class Summary {
+
+        private final List<Sample> samples;
+        private final double criticalCelsius;
+        private final double maxFrequencyMHz;
+        private final boolean hasThrottleCounts;
+
+        private double minCelsius = Double.NaN;
+        private double maxCelsius = Double.NaN;
+        private double averageCelsius = Double.NaN;
+        private double minFrequencyMHz = Double.NaN;
+        private double peakFrequencyMHz = Double.NaN;
+        private double averageFrequencyMHz = Double.NaN;
+        private double startFrequencyMHz = Double.NaN;
+        private double endFrequencyMHz = Double.NaN;
+        private double endMaxCelsius = Double.NaN;
+        private long throttleCount = 0;
+
+        private Summary(List<Sample> samples, double criticalCelsius, double maxFrequencyMHz, boolean hasThrottleCounts) {
+            this.samples = samples;
+            this.criticalCelsius = criticalCelsius;
+            this.maxFrequencyMHz = maxFrequencyMHz;
+            this.hasThrottleCounts = hasThrottleCounts;
+
+            double totalCelsius = 0;
+            int temperatureCount = 0;
+            double totalFrequencyMHz = 0;
+            int frequencyCount = 0;
+
+            for (Sample thisSample : samples) {
+                if (!Double.isNaN(thisSample.getMaxCelsius())) {
+                    minCelsius = (Double.isNaN(minCelsius) ? thisSample.getMaxCelsius() : Math.min(minCelsius, thisSample.getMaxCelsius()));
+                    maxCelsius = (Double.isNaN(maxCelsius) ? thisSample.getMaxCelsius() : Math.max(maxCelsius, thisSample.getMaxCelsius()));
+                    totalCelsius += thisSample.getMaxCelsius();
+                    temperatureCount++;
+                }
+
+                if (!Double.isNaN(thisSample.getAverageFrequencyMHz())) {
+                    minFrequencyMHz = (Double.isNaN(minFrequencyMHz) ? thisSample.getMinFrequencyMHz() : Math.min(minFrequencyMHz, thisSample.getMinFrequencyMHz()));
+                    peakFrequencyMHz = (Double.isNaN(peakFrequencyMHz) ? thisSample.getAverageFrequencyMHz() : Math.max(peakFrequencyMHz, thisSample.getAverageFrequencyMHz()));
+                    totalFrequencyMHz += thisSample.getAverageFrequencyMHz();
+                    frequencyCount++;
+                }
+
+                throttleCount = Math.max(throttleCount, thisSample.getThrottleCount());
+            }
+
+            if (temperatureCount > 0) {
+                averageCelsius = (totalCelsius / temperatureCount);
+            }
+
+            if (frequencyCount > 0) {
+                averageFrequencyMHz = (totalFrequencyMHz / frequencyCount);
+            }
+
+            // Compare the first and last tenths of the test (at least one sample each) to see if the CPU slowed down as it heated up.
+            if (!samples.isEmpty()) {
+                int edgeSampleCount = Math.max(1, (samples.size() / 10));
+                startFrequencyMHz = getAverage(samples.subList(0, edgeSampleCount), true);
+                endFrequencyMHz = getAverage(samples.subList((samples.size() - edgeSampleCount), samples.size()), true);
+                endMaxCelsius = getAverage(samples.subList((samples.size() - edgeSampleCount), samples.size()), false);
+            }
+        }
+
+        private static double getAverage(List<Sample> samples, boolean averageFrequency) {
+            double total = 0;
+            int count = 0;
+
+            for (Sample thisSample : samples) {
+                double thisValue = (averageFrequency ? thisSample.getAverageFrequencyMHz() : thisSample.getMaxCelsius());
+
+                if (!Double.isNaN(thisValue)) {
+                    total += thisValue;
+                    count++;
+                }
+            }
+
+            return ((count == 0) ? Double.NaN : (total / count));
+        }
+
+        public int getSampleCount() {
+            return samples.size();
+        }
+
+        public double getMinCelsius() {
+            return minCelsius;
+        }
+
+        public double getMaxCelsius() {
+            return maxCelsius;
+        }
+
+        public double getAverageCelsius() {
+            return averageCelsius;
+        }
+
+        public double getCriticalCelsius() {
+            return criticalCelsius;
+        }
+
+        public double getMinFrequencyMHz() {
+            return minFrequencyMHz;
+        }
+
+        public double getPeakFrequencyMHz() {
+            return peakFrequencyMHz;
+        }
+
+        public double getAverageFrequencyMHz() {
+            return averageFrequencyMHz;
+        }
+
+        public long getThrottleCount() {
+            return throttleCount;
+        }
+
+        public boolean didReachCriticalTemperature() {
+            return (!Double.isNaN(maxCelsius) && (maxCelsius >= criticalCelsius));
+        }
+
+        public boolean didFrequencyDropWhileHot() {
+            return (!Double.isNaN(startFrequencyMHz) && !Double.isNaN(endFrequencyMHz) && !Double.isNaN(endMaxCelsius)
+                    && (endFrequencyMHz < (startFrequencyMHz * THROTTLED_FREQUENCY_FRACTION)) && (endMaxCelsius >= THROTTLED_FREQUENCY_MIN_CELSIUS));
+        }
+
+        public boolean didThermalThrottle() {
+            // Occasional throttle events are normal for many laptops under full load, so they are only reported. But hitting the critical temperature or the CPU slowing way down once it got hot means the cooling can't keep up (such as a failing fan or dried out thermal paste).
+            return (didReachCriticalTemperature() || didFrequencyDropWhileHot());
+        }
+
+        public String getCurve(int bucketCount) {
+            // Summarize the samples into a few evenly sized time buckets so the temperature and frequency curves over the whole test can be seen at a glance.
+            StringBuilder curve = new StringBuilder();
+
+            if (samples.isEmpty()) {
+                return "";
+            }
+
+            int samplesPerBucket = Math.max(1, (int) Math.ceil(samples.size() / (double) Math.max(1, bucketCount)));
+
+            for (int bucketStartIndex = 0; bucketStartIndex < samples.size(); bucketStartIndex += samplesPerBucket) {
+                List<Sample> bucketSamples = samples.subList(bucketStartIndex, Math.min(samples.size(), (bucketStartIndex + samplesPerBucket)));
+                long bucketEndSeconds = TimeUnit.MILLISECONDS.toSeconds(bucketSamples.get(bucketSamples.size() - 1).getElapsedMillis());
+
+                double bucketMaxCelsius = Double.NaN;
+                for (Sample thisSample : bucketSamples) {
+                    if (!Double.isNaN(thisSample.getMaxCelsius())) {
+                        bucketMaxCelsius = (Double.isNaN(bucketMaxCelsius) ? thisSample.getMaxCelsius() : Math.max(bucketMaxCelsius, thisSample.getMaxCelsius()));
+                    }
+                }
+
+                double bucketAverageFrequencyMHz = getAverage(bucketSamples, true);
+
+                curve.append(String.format("%2d:%02d", (bucketEndSeconds / 60), (bucketEndSeconds % 60)))
+                        .append(Double.isNaN(bucketMaxCelsius) ? "" : String.format("  %5.1f C", bucketMaxCelsius))
+                        .append(Double.isNaN(bucketAverageFrequencyMHz) ? "" : String.format("  %4.2f GHz", (bucketAverageFrequencyMHz / 1000)))
+                        .append("\n");
+            }
+
+            return curve.toString();
+        }
+
+        public String getReport() {
+            if (samples.isEmpty()) {
+                return "";
+            }
+
+            return (Double.isNaN(maxCelsius) ? "" : String.format("CPU Temperature: Min %.1f C, Avg %.1f C, Max %.1f C (Critical %.0f C)\n", minCelsius, averageCelsius, maxCelsius, criticalCelsius))
+                    + (Double.isNaN(averageFrequencyMHz) ? "" : String.format("CPU Frequency: Min %.2f GHz, Avg %.2f GHz, Peak %.2f GHz%s\n", (minFrequencyMHz / 1000), (averageFrequencyMHz / 1000), (peakFrequencyMHz / 1000), ((maxFrequencyMHz > 0) ? String.format(" (Max %.2f GHz)", (maxFrequencyMHz / 1000)) : "")))
+                    + (hasThrottleCounts ? "CPU Throttle Events: " + throttleCount + "\n" : "")
+                    + (didReachCriticalTemperature() ? "CPU REACHED CRITICAL TEMPERATURE\n" : "")
+                    + (didFrequencyDropWhileHot() ? String.format("CPU THERMAL THROTTLED FROM %.2f GHz TO %.2f GHz\n", (startFrequencyMHz / 1000), (endFrequencyMHz / 1000)) : "")
+                    + "\n" + getCurve(10);
+        }
+    }
+
+    private long readThrottleCount() {
+        long totalThrottleCount = 0;
+
+        for (File thisThrottleCountFile : throttleCountFiles) {
+            totalThrottleCount += Math.max(0, readLongValue(thisThrottleCountFile));
+        }
+
+        return totalThrottleCount;
+    }
+
+    private static long readLongValue(File sysfsFile) {
+        try {
+            return Long.parseLong(readFirstLine(sysfsFile));
+        } catch (NumberFormatException readLongValueException) {
+            return -1; // Sensors that are missing or not currently readable.
+        }
+    }
+
+    private static String readFirstLine(File sysfsFile) {
+        try {
+            return new String(Files.readAllBytes(sysfsFile.toPath())).trim();
+        } catch (IOException readFirstLineException) {
+            return "";
+        }
+    }
+}
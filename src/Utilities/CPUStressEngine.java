@@ -0,0 +1,446 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class stresses every CPU thread with deterministic integer, floating point, memory bandwidth, and crypto workloads whose results are all verified while they run
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class CPUStressEngine {
+
+    public enum Workload {
+        INTEGER("Integer"),
+        FLOATING_POINT("Floating Point"),
+        MEMORY_BANDWIDTH("Memory Bandwidth"),
+        CRYPTO("SHA-256");
+
+        private final String displayName;
+
+        Workload(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    // Each workload is run with one of these different seeds in turn so that every pass does different work (which the JIT can't skip) that still has a known correct result to verify against.
+    private static final int SEED_COUNT = 8;
+
+    private static final int INTEGER_ITERATIONS = 1000000;
+    private static final int FLOATING_POINT_ITERATIONS = 250000;
+    private static final int MEMORY_BUFFER_LONGS = 262144; // 2 MB per buffer (and each worker has 2) to make sure the working set of all the workers together is much larger than the CPU caches.
+    private static final int CRYPTO_BUFFER_BYTES = 65536;
+    private static final int CRYPTO_ROUNDS = 4;
+
+    private final int workerCount;
+    private final long[][] expectedChecksums = new long[Workload.values().length][SEED_COUNT];
+    private boolean isPrepared = false;
+    private final ArrayList<Worker> workers = new ArrayList<>();
+    private volatile boolean isRunning = false;
+    private long startNanoTime = 0;
+    private long stopNanoTime = 0;
+
+    public CPUStressEngine(int workerCount) {
+        this.workerCount = Math.max(1, workerCount);
+    }
+
+    public synchronized void prepare() {
+        // Compute the correct results once up front (before the CPU is hot) so that any worker that comes up with a different result while under stress is a verification failure.
+        // This takes a moment since every workload is run once for every seed, so it can be called separately (while showing that the test is being set up) before calling "start", which will otherwise call it.
+        if (isPrepared) {
+            return;
+        }
+
+        Worker referenceWorker = new Worker(0);
+        for (Workload thisWorkload : Workload.values()) {
+            for (int seedIndex = 0; seedIndex < SEED_COUNT; seedIndex++) {
+                expectedChecksums[thisWorkload.ordinal()][seedIndex] = referenceWorker.runWorkload(thisWorkload, seedIndex);
+            }
+        }
+
+        isPrepared = true;
+    }
+
+    public synchronized void start() {
+        if (isRunning) {
+            return;
+        }
+
+        prepare(); // Always done before the start time is set so that computing the correct results is never counted as part of the stress test.
+
+        workers.clear();
+        isRunning = true;
+        startNanoTime = System.nanoTime();
+
+        // Java can't pin a thread to a specific core, but starting exactly one busy worker per hardware thread leaves the OS scheduler no idle core to move work off of, so every core stays fully loaded for the whole test.
+        for (int workerIndex = 0; workerIndex < workerCount; workerIndex++) {
+            Worker thisWorker = new Worker(workerIndex);
+            workers.add(thisWorker);
+
+            Thread workerThread = new Thread(thisWorker, "qa_helper-cpu_stress_worker-" + (workerIndex + 1));
+            workerThread.setDaemon(true); // Never keep the app from quitting just because the stress test is still running.
+            workerThread.setPriority(Thread.MIN_PRIORITY); // Keep the GUI responsive while still using all of the CPU that isn't needed for anything else.
+            thisWorker.workerThread = workerThread;
+            workerThread.start();
+        }
+    }
+
+    public synchronized Result stop() {
+        if (isRunning) {
+            isRunning = false;
+            stopNanoTime = System.nanoTime();
+
+            for (Worker thisWorker : workers) {
+                try {
+                    thisWorker.workerThread.join(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException joinWorkerException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        return getResult();
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public synchronized Result getResult() {
+        // Can be called while running to get live progress (such as the current score).
+        long elapsedNanos = ((isRunning ? System.nanoTime() : stopNanoTime) - startNanoTime);
+        double elapsedSeconds = Math.max(0.001, (elapsedNanos / 1000000000.0));
+
+        double[] workerOpsPerSecond = new double[workers.size()];
+        double[][] workerWorkloadOpsPerSecond = new double[workers.size()][Workload.values().length];
+        long[] workerVerificationErrors = new long[workers.size()];
+        String[] workerFailureMessages = new String[workers.size()];
+
+        for (int workerIndex = 0; workerIndex < workers.size(); workerIndex++) {
+            Worker thisWorker = workers.get(workerIndex);
+
+            for (Workload thisWorkload : Workload.values()) {
+                long thisWorkloadCompletedOps = thisWorker.completedOps.get(thisWorkload.ordinal());
+                long thisWorkloadNanos = thisWorker.workloadNanos.get(thisWorkload.ordinal());
+
+                workerOpsPerSecond[workerIndex] += (thisWorkloadCompletedOps / elapsedSeconds);
+
+                // Workloads are measured by the time actually spent running each of them since every worker runs them all in turn.
+                if (thisWorkloadNanos > 0) {
+                    workerWorkloadOpsPerSecond[workerIndex][thisWorkload.ordinal()] = (thisWorkloadCompletedOps / (thisWorkloadNanos / 1000000000.0));
+                }
+            }
+
+            workerVerificationErrors[workerIndex] = thisWorker.verificationErrorCount;
+            workerFailureMessages[workerIndex] = thisWorker.failureMessage;
+        }
+
+        return new Result(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), workerOpsPerSecond, workerWorkloadOpsPerSecond, workerVerificationErrors, workerFailureMessages);
+    }
+
+    private class Worker implements Runnable {
+
+        private final AtomicLongArray completedOps = new AtomicLongArray(Workload.values().length);
+        private final AtomicLongArray workloadNanos = new AtomicLongArray(Workload.values().length);
+        private final int workerIndex;
+        private Thread workerThread = null;
+        private volatile long verificationErrorCount = 0;
+        private volatile String failureMessage = null;
+
+        // Each worker gets its own buffers so that the memory workload is measuring memory bandwidth and not contention between workers.
+        private long[] memorySourceBuffer = null;
+        private long[] memoryDestinationBuffer = null;
+        private byte[] cryptoBuffer = null;
+        private MessageDigest sha256Digest = null;
+
+        Worker(int workerIndex) {
+            this.workerIndex = workerIndex;
+        }
+
+        @Override
+        public void run() {
+            try {
+                int passIndex = workerIndex; // Start each worker on a different seed so they aren't all doing identical work in lockstep.
+
+                while (isRunning) {
+                    int seedIndex = (passIndex % SEED_COUNT);
+
+                    for (Workload thisWorkload : Workload.values()) {
+                        long workloadStartNanoTime = System.nanoTime();
+
+                        if (runWorkload(thisWorkload, seedIndex) != expectedChecksums[thisWorkload.ordinal()][seedIndex]) {
+                            verificationErrorCount++;
+
+                            if (failureMessage == null) {
+                                failureMessage = thisWorkload.getDisplayName() + " Verification Failed (Seed " + seedIndex + ")";
+                            }
+                        }
+
+                        workloadNanos.addAndGet(thisWorkload.ordinal(), (System.nanoTime() - workloadStartNanoTime));
+                        completedOps.incrementAndGet(thisWorkload.ordinal());
+
+                        if (!isRunning) {
+                            break;
+                        }
+                    }
+
+                    passIndex++;
+                }
+            } catch (RuntimeException | OutOfMemoryError workerException) {
+                failureMessage = workerException.toString();
+            }
+        }
+
+        long runWorkload(Workload workload, int seedIndex) {
+            long seed = (0x9E3779B97F4A7C15L * (seedIndex + 1));
+
+            switch (workload) {
+                case INTEGER:
+                    return runIntegerWorkload(seed);
+                case FLOATING_POINT:
+                    return runFloatingPointWorkload(seedIndex);
+                case MEMORY_BANDWIDTH:
+                    return runMemoryBandwidthWorkload(seed);
+                case CRYPTO:
+                    return runCryptoWorkload(seed);
+                default:
+                    return 0;
+            }
+        }
+
+        private long runIntegerWorkload(long seed) {
+            // Mixes xorshift, multiplication, rotation, and division so that all of the integer units get exercised.
+            long xorshiftState = seed;
+            long checksum = 0;
+
+            for (int i = 0; i < INTEGER_ITERATIONS; i++) {
+                xorshiftState ^= (xorshiftState << 13);
+                xorshiftState ^= (xorshiftState >>> 7);
+                xorshiftState ^= (xorshiftState << 17);
+
+                checksum += (xorshiftState * 0xBF58476D1CE4E5B9L);
+                checksum = Long.rotateLeft(checksum, 29) ^ (xorshiftState % 1000003);
+            }
+
+            return checksum;
+        }
+
+        private long runFloatingPointWorkload(int seedIndex) {
+            // Only uses basic arithmetic and square roots (which are all exactly rounded per IEEE 754) so the result is identical on every CPU and every run.
+            double realValue = (0.1 + (seedIndex * 0.05));
+            double imaginaryValue = 0.3;
+            double seriesSum = 0;
+
+            for (int i = 1; i <= FLOATING_POINT_ITERATIONS; i++) {
+                double nextRealValue = ((realValue * realValue) - (imaginaryValue * imaginaryValue) + 0.25);
+                imaginaryValue = ((2 * realValue * imaginaryValue) + 0.01);
+                realValue = nextRealValue;
+
+                double magnitude = Math.sqrt((realValue * realValue) + (imaginaryValue * imaginaryValue));
+                if (magnitude > 2) { // Pull the point back in so the values never overflow.
+                    realValue /= magnitude;
+                    imaginaryValue /= magnitude;
+                }
+
+                seriesSum += (magnitude / i) - (1.0 / ((2.0 * i) + 1));
+            }
+
+            return Double.doubleToLongBits(seriesSum + realValue + imaginaryValue);
+        }
+
+        private long runMemoryBandwidthWorkload(long seed) {
+            if (memorySourceBuffer == null) {
+                memorySourceBuffer = new long[MEMORY_BUFFER_LONGS];
+                memoryDestinationBuffer = new long[MEMORY_BUFFER_LONGS];
+            }
+
+            // Write, copy, and then read back the full buffers, which streams 4 times the size of a buffer through memory.
+            long fillValue = seed;
+            for (int i = 0; i < MEMORY_BUFFER_LONGS; i++) {
+                fillValue = ((fillValue * 6364136223846793005L) + 1442695040888963407L);
+                memorySourceBuffer[i] = fillValue;
+            }
+
+            System.arraycopy(memorySourceBuffer, 0, memoryDestinationBuffer, 0, MEMORY_BUFFER_LONGS);
+
+            long checksum = 0;
+            for (int i = 0; i < MEMORY_BUFFER_LONGS; i++) {
+                checksum = ((checksum * 31) + memoryDestinationBuffer[i]);
+            }
+
+            return checksum;
+        }
+
+        private long runCryptoWorkload(long seed) {
+            if (cryptoBuffer == null) {
+                cryptoBuffer = new byte[CRYPTO_BUFFER_BYTES];
+
+                try {
+                    sha256Digest = MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException getSHA256digestException) {
+                    throw new IllegalStateException(getSHA256digestException); // SHA-256 is required to exist in every Java implementation.
+                }
+            }
+
+            Arrays.fill(cryptoBuffer, (byte) seed);
+
+            byte[] digest = new byte[0];
+            for (int i = 0; i < CRYPTO_ROUNDS; i++) {
+                // Chain each digest into the next round so that all of the rounds must actually be computed.
+                System.arraycopy(digest, 0, cryptoBuffer, 0, digest.length);
+                digest = sha256Digest.digest(cryptoBuffer);
+            }
+
+            long checksum = 0;
+            for (int i = 0; i < 8; i++) {
+                checksum = ((checksum << 8) | (digest[i] & 0xFF));
+            }
+
+            return checksum;
+        }
+    }
+
+    public static class Result {
+
+        private final long elapsedMillis;
+        private final double[] workerOpsPerSecond;
+        private final double[][] workerWorkloadOpsPerSecond;
+        private final long[] workerVerificationErrors;
+        private final String[] workerFailureMessages;
+
+        private Result(long elapsedMillis, double[] workerOpsPerSecond, double[][] workerWorkloadOpsPerSecond, long[] workerVerificationErrors, String[] workerFailureMessages) {
+            this.elapsedMillis = elapsedMillis;
+            this.workerOpsPerSecond = workerOpsPerSecond;
+            this.workerWorkloadOpsPerSecond = workerWorkloadOpsPerSecond;
+            this.workerVerificationErrors = workerVerificationErrors;
+            this.workerFailureMessages = workerFailureMessages;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public int getWorkerCount() {
+            return workerOpsPerSecond.length;
+        }
+
+        public double getWorkerOpsPerSecond(int workerIndex) {
+            return workerOpsPerSecond[workerIndex];
+        }
+
+        public double getWorkloadOpsPerSecond(Workload workload) {
+            double workloadOpsPerSecond = 0;
+
+            for (double[] thisWorkerWorkloadOpsPerSecond : workerWorkloadOpsPerSecond) {
+                workloadOpsPerSecond += thisWorkerWorkloadOpsPerSecond[workload.ordinal()];
+            }
+
+            return workloadOpsPerSecond;
+        }
+
+        public long getScore() {
+            // The total verified operations per second of all workers, which is comparable between computers since the workloads are always exactly the same.
+            double totalOpsPerSecond = 0;
+
+            for (int workerIndex = 0; workerIndex < getWorkerCount(); workerIndex++) {
+                totalOpsPerSecond += getWorkerOpsPerSecond(workerIndex);
+            }
+
+            return Math.round(totalOpsPerSecond * 10);
+        }
+
+        public long getVerificationErrorCount() {
+            long verificationErrorCount = 0;
+
+            for (long thisWorkerVerificationErrors : workerVerificationErrors) {
+                verificationErrorCount += thisWorkerVerificationErrors;
+            }
+
+            return verificationErrorCount;
+        }
+
+        public boolean didPass() {
+            if (getWorkerCount() == 0) {
+                return false;
+            }
+
+            for (int workerIndex = 0; workerIndex < getWorkerCount(); workerIndex++) {
+                if ((workerFailureMessages[workerIndex] != null) || (getWorkerOpsPerSecond(workerIndex) == 0)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        public String getReport() {
+            StringBuilder report = new StringBuilder();
+
+            long elapsedSeconds = TimeUnit.MILLISECONDS.toSeconds(elapsedMillis);
+            report.append("Ran ").append(getWorkerCount()).append(" Stress Worker").append((getWorkerCount() == 1) ? "" : "s").append(" for ").append(elapsedSeconds / 60).append(" min").append(((elapsedSeconds / 60) == 1) ? "" : "s").append(", ").append(elapsedSeconds % 60).append(" secs\n\n");
+            report.append("Score: ").append(getScore()).append("\n");
+            report.append("Verification Errors: ").append(getVerificationErrorCount()).append("\n\n");
+
+            for (Workload thisWorkload : Workload.values()) {
+                report.append(thisWorkload.getDisplayName()).append(": ").append(String.format("%.1f", getWorkloadOpsPerSecond(thisWorkload))).append(" ops/sec\n");
+            }
+
+            // Also show the slowest worker compared to the median since a single core that is much slower than the rest under load can mean it's being throttled or is faulty.
+            double[] sortedWorkerOpsPerSecond = new double[getWorkerCount()];
+            for (int workerIndex = 0; workerIndex < getWorkerCount(); workerIndex++) {
+                sortedWorkerOpsPerSecond[workerIndex] = getWorkerOpsPerSecond(workerIndex);
+            }
+            Arrays.sort(sortedWorkerOpsPerSecond);
+
+            double medianWorkerOpsPerSecond = ((sortedWorkerOpsPerSecond.length == 0) ? 0 : sortedWorkerOpsPerSecond[sortedWorkerOpsPerSecond.length / 2]);
+
+            report.append("\n");
+
+            for (int workerIndex = 0; workerIndex < getWorkerCount(); workerIndex++) {
+                double thisWorkerOpsPerSecond = getWorkerOpsPerSecond(workerIndex);
+
+                report.append("Thread ").append(workerIndex + 1).append(": ").append(String.format("%.1f", thisWorkerOpsPerSecond)).append(" ops/sec");
+
+                if (workerVerificationErrors[workerIndex] > 0) {
+                    report.append(" - ").append(workerVerificationErrors[workerIndex]).append(" VERIFICATION ERROR").append((workerVerificationErrors[workerIndex] == 1) ? "" : "S");
+                }
+
+                if (workerFailureMessages[workerIndex] != null) {
+                    report.append(" - FAILED: ").append(workerFailureMessages[workerIndex]);
+                } else if ((medianWorkerOpsPerSecond > 0) && (thisWorkerOpsPerSecond < (medianWorkerOpsPerSecond / 2))) {
+                    report.append(" - SLOWER THAN HALF OF MEDIAN");
+                }
+
+                report.append("\n");
+            }
+
+            return report.toString().trim();
+        }
+    }
+}
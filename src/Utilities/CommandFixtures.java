@@ -0,0 +1,288 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * This class records the output of the commands run by CommandReader (and PrivilegedCommandSession) while loading specs into a fixture file and can replay those outputs instead of running the commands
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class CommandFixtures {
+
+    // Anything recorded with the shell quoted admin password in it (such as "printf '%s\n' 'PASSWORD' | sudo -Sk ...") or any command argument that is exactly the admin password is saved with this placeholder instead,
+    // and this placeholder must be used as the admin password when replaying fixtures that were "recordedWithAdmin" so that those commands will still match.
+    public static final String ADMIN_PASSWORD_PLACEHOLDER = "*ADMIN_PASSWORD*";
+
+    // The exit code of a command that isn't in the fixture file, which is the same as if the command didn't exist at all.
+    private static final int MISSING_COMMAND_EXIT_CODE = 127;
+
+    private static BufferedWriter recordingWriter = null;
+    private static String recordingAdminPassword = null;
+    private static HashMap<String, ArrayList<Fixture>> replayFixtures = null;
+    private static HashMap<String, Integer> replayCounts = null;
+    private static final ArrayList<String> missingReplayCommands = new ArrayList<>();
+    private static final Set<Thread> activeRecorderThreads = ConcurrentHashMap.newKeySet(); // The CommandReader threads that are still reading the output of a command to record it.
+
+    static class Fixture {
+
+        final String output;
+        final String errorOutput;
+        final int exitCode;
+        final boolean reachedDeadline;
+        final boolean failedToStart;
+
+        Fixture(String output, String errorOutput, int exitCode, boolean reachedDeadline, boolean failedToStart) {
+            this.failedToStart = failedToStart;
+            this.output = output;
+            this.errorOutput = errorOutput;
+            this.exitCode = exitCode;
+            this.reachedDeadline = reachedDeadline;
+        }
+    }
+
+    private CommandFixtures() {
+        // Only static methods.
+    }
+
+    public static synchronized void startRecording(File fixtureFile, String adminPassword) throws IOException {
+        // NOTE: Recording is only ever started by "SpecsParsingBenchmark --record" which does nothing but load specs while recording. It is intentionally NOT possible to start recording for a whole QA Helper session
+        // since many other commands run by QA Helper include secrets (such as passwords for "sudo", "dscl -authonly", and encrypted config files) that this class has no way of knowing about to redact.
+        // The admin password must be passed here (instead of only being set later) so that it's redacted from the very first command that is recorded.
+        stop();
+
+        recordingWriter = Files.newBufferedWriter(fixtureFile.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        JSONObject fixtureHeader = new JSONObject();
+        fixtureHeader.put("os.name", System.getProperty("os.name"));
+        fixtureHeader.put("os.version", System.getProperty("os.version"));
+        fixtureHeader.put("os.arch", System.getProperty("os.arch"));
+        fixtureHeader.put("recorded", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date()));
+
+        recordingWriter.write(fixtureHeader.toString());
+        recordingWriter.newLine();
+        recordingWriter.flush();
+
+        setRecordingAdminPassword(adminPassword); // Set after the header is written since this adds the "recordedWithAdmin" line.
+    }
+
+    public static synchronized void setRecordingAdminPassword(String adminPassword) {
+        // Called by PrivilegedCommandSession and GetComputerSpecs with the current admin password in case it changed since recording was started so that it is never saved in a fixture file.
+        if (recordingWriter != null) {
+            boolean wasRecordingWithAdmin = (recordingAdminPassword != null);
+            recordingAdminPassword = (((adminPassword == null) || adminPassword.isEmpty() || adminPassword.equals("*UNKNOWN*") || adminPassword.equals(ADMIN_PASSWORD_PLACEHOLDER)) ? null : adminPassword);
+
+            if (!wasRecordingWithAdmin && (recordingAdminPassword != null)) {
+                // Specs are loaded differently with and without admin, so replaying must use the same kind of admin password as when the commands were recorded.
+                try {
+                    recordingWriter.write(new JSONObject().put("recordedWithAdmin", true).toString());
+                    recordingWriter.newLine();
+                    recordingWriter.flush();
+                } catch (IOException recordAdminStateException) {
+                    System.out.println("recordAdminStateException: " + recordAdminStateException);
+                }
+            }
+        }
+    }
+
+    public static synchronized JSONObject startReplaying(File fixtureFile) throws IOException {
+        // Returns the header of the fixture file which includes the "os.name" and "os.version" of the computer it was recorded on (and "recordedWithAdmin" if an admin password was used).
+        stop();
+
+        List<String> fixtureLines = Files.readAllLines(fixtureFile.toPath(), StandardCharsets.UTF_8);
+        JSONObject fixtureHeader = new JSONObject();
+        HashMap<String, ArrayList<Fixture>> loadedFixtures = new HashMap<>();
+
+        try {
+            for (int lineIndex = 0; lineIndex < fixtureLines.size(); lineIndex++) {
+                if (fixtureLines.get(lineIndex).trim().isEmpty()) {
+                    continue;
+                }
+
+                JSONObject thisFixtureJSON = new JSONObject(fixtureLines.get(lineIndex));
+
+                if (lineIndex == 0) {
+                    fixtureHeader = thisFixtureJSON;
+                } else if (!thisFixtureJSON.has("command")) {
+                    for (String thisHeaderKey : thisFixtureJSON.keySet()) {
+                        fixtureHeader.put(thisHeaderKey, thisFixtureJSON.get(thisHeaderKey));
+                    }
+                } else {
+                    loadedFixtures.computeIfAbsent(getFixtureKey(thisFixtureJSON.getJSONArray("command").toList().stream().map(String::valueOf).toArray(String[]::new)), (String newFixtureKey) -> new ArrayList<>())
+                            .add(new Fixture(thisFixtureJSON.optString("output"), thisFixtureJSON.optString("error"), thisFixtureJSON.optInt("exitCode"), thisFixtureJSON.optBoolean("reachedDeadline"), thisFixtureJSON.optBoolean("failedToStart")));
+                }
+            }
+        } catch (JSONException loadFixturesException) {
+            throw new IOException("Invalid Command Fixture File: " + fixtureFile.getName(), loadFixturesException);
+        }
+
+        replayFixtures = loadedFixtures;
+        replayCounts = new HashMap<>();
+        missingReplayCommands.clear();
+
+        return fixtureHeader;
+    }
+
+    public static synchronized void rewindReplay() {
+        // Start replaying each command from its first recorded output again (such as before each iteration of a benchmark).
+        if (replayCounts != null) {
+            replayCounts.clear();
+        }
+    }
+
+    public static void stopAfterPendingRecordings(int timeoutSeconds) {
+        // CommandReader records each command on a background thread once it's done, so wait for any commands that are still being recorded before stopping (but never wait forever for any that never exit).
+        // This can't be synchronized since the recorder threads need to be able to record their fixtures while this is waiting.
+        long deadlineNanoTime = (System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds));
+
+        for (Thread thisRecorderThread : activeRecorderThreads) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanoTime - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+
+            try {
+                thisRecorderThread.join(remainingMillis);
+            } catch (InterruptedException waitForRecorderThreadException) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        stop();
+    }
+
+    static void addRecorderThread(Thread recorderThread) {
+        activeRecorderThreads.add(recorderThread);
+    }
+
+    static void removeRecorderThread(Thread recorderThread) {
+        activeRecorderThreads.remove(recorderThread);
+    }
+
+    public static synchronized void stop() {
+        if (recordingWriter != null) {
+            try {
+                recordingWriter.close();
+            } catch (IOException stopRecordingException) {
+                System.out.println("stopRecordingException: " + stopRecordingException);
+            }
+
+            recordingWriter = null;
+            recordingAdminPassword = null;
+        }
+
+        replayFixtures = null;
+        replayCounts = null;
+    }
+
+    public static synchronized boolean isRecording() {
+        return (recordingWriter != null);
+    }
+
+    public static synchronized boolean isReplaying() {
+        return (replayFixtures != null);
+    }
+
+    public static synchronized List<String> getMissingReplayCommands() {
+        // Every command that was run during replay but wasn't in the fixture file (which is usually because the parsing code now runs a different command than when the fixture was recorded).
+        return new ArrayList<>(missingReplayCommands);
+    }
+
+    static synchronized Fixture getReplayFixture(String[] commandArray) {
+        if (replayFixtures == null) {
+            return null;
+        }
+
+        // If a command was run more times than it was recorded, keep returning the last recorded output for it.
+        String fixtureKey = getFixtureKey(commandArray);
+        ArrayList<Fixture> commandFixtures = replayFixtures.get(fixtureKey);
+
+        if (commandFixtures == null) {
+            if (!missingReplayCommands.contains(fixtureKey)) {
+                missingReplayCommands.add(fixtureKey);
+            }
+
+            return new Fixture("", "", MISSING_COMMAND_EXIT_CODE, false, false);
+        }
+
+        int replayCount = replayCounts.merge(fixtureKey, 1, Integer::sum);
+        return commandFixtures.get(Math.min(replayCount, commandFixtures.size()) - 1);
+    }
+
+    static synchronized void recordFixture(String[] commandArray, String output, String errorOutput, int exitCode, boolean reachedDeadline, boolean failedToStart) {
+        if (recordingWriter == null) {
+            return;
+        }
+
+        JSONArray redactedCommandArray = new JSONArray();
+        for (String thisCommandArgument : commandArray) {
+            redactedCommandArray.put(((recordingAdminPassword != null) && thisCommandArgument.equals(recordingAdminPassword)) ? ADMIN_PASSWORD_PLACEHOLDER : redactAdminPassword(thisCommandArgument));
+        }
+
+        JSONObject fixtureJSON = new JSONObject();
+        fixtureJSON.put("command", redactedCommandArray);
+        fixtureJSON.put("output", redactAdminPassword(output));
+        fixtureJSON.put("error", redactAdminPassword(errorOutput));
+        fixtureJSON.put("exitCode", exitCode);
+        fixtureJSON.put("reachedDeadline", reachedDeadline);
+
+        if (failedToStart) {
+            fixtureJSON.put("failedToStart", true); // Such as when the command isn't installed.
+        }
+
+        try {
+            recordingWriter.write(fixtureJSON.toString());
+            recordingWriter.newLine();
+            recordingWriter.flush(); // Flush every fixture so that nothing is lost if QA Helper is quit (or crashes) while recording.
+        } catch (IOException recordFixtureException) {
+            System.out.println("recordFixtureException: " + recordFixtureException);
+        }
+    }
+
+    private static String redactAdminPassword(String recordedString) {
+        if ((recordingAdminPassword == null) || (recordedString == null)) {
+            return recordedString;
+        }
+
+        // The password is always single quoted when it's included in a shell command, so only redact the whole quoted password (including the quotes) instead of every occurrence of the bare password
+        // since a short password could easily also be part of some unrelated output (such as a model or serial number) which would then be corrupted in the fixture.
+        return recordedString.replace("'" + recordingAdminPassword.replace("'", "'\\''") + "'", "'" + ADMIN_PASSWORD_PLACEHOLDER + "'");
+    }
+
+    private static String getFixtureKey(String[] commandArray) {
+        return String.join(" ␣ ", commandArray); // Separate the arguments with something readable that will never be in an actual argument.
+    }
+}
@@ -20,8 +20,16 @@ package Utilities;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * This class reads commands determined by constructor and returns all lines or line containing a given string
@@ -30,83 +38,313 @@ import java.util.ArrayList;
  */
 public class CommandReader {
 
+    // Only keep this much of the error output so that a chatty command can never use up a bunch of memory just because its stderr needed to be drained.
+    private static final int MAX_ERROR_OUTPUT_LENGTH = 65536;
+
+    private static final ScheduledExecutorService DEADLINE_WATCHDOG = Executors.newSingleThreadScheduledExecutor((Runnable watchdogRunnable) -> {
+        Thread watchdogThread = new Thread(watchdogRunnable, "qa_helper-command_deadline_watchdog");
+        watchdogThread.setDaemon(true);
+        return watchdogThread;
+    });
+
+    private Process commandProcess;
     private BufferedReader commandReader;
+    private Thread errorDrainThread;
+    private Thread fixtureRecorderThread;
+    private final StringBuilder errorOutput = new StringBuilder();
+    private ScheduledFuture<?> deadlineWatchdogTask;
+    private volatile boolean reachedDeadline = false;
+    private int completedExitCode = -1;
     private final boolean isWindows = System.getProperty("os.name").startsWith("Windows");
 
     public CommandReader(String commandString) {
-        initCommandReader((isWindows ? new String[]{"\\Windows\\System32\\cmd.exe", "/c", commandString} : new String[]{"/bin/sh", "-c", commandString}));
+        this(commandString, 0);
+    }
+
+    public CommandReader(String commandString, int timeoutSeconds) {
+        initCommandReader((isWindows ? new String[]{"\\Windows\\System32\\cmd.exe", "/c", commandString} : new String[]{"/bin/sh", "-c", commandString}), timeoutSeconds);
     }
 
     public CommandReader(String[] commandArray) {
-        initCommandReader(commandArray);
+        initCommandReader(commandArray, 0);
+    }
+
+    public CommandReader(String[] commandArray, int timeoutSeconds) {
+        initCommandReader(commandArray, timeoutSeconds);
+    }
+
+    CommandReader(String commandString, int timeoutSeconds, boolean useCommandFixtures) {
+        // Only used by PrivilegedCommandSession to run its "sudo" fallback without recording (or replaying) it since the command includes the admin password (the privileged command itself is recorded by PrivilegedCommandSession instead).
+        initCommandReader((isWindows ? new String[]{"\\Windows\\System32\\cmd.exe", "/c", commandString} : new String[]{"/bin/sh", "-c", commandString}), timeoutSeconds, useCommandFixtures);
+    }
+
+    CommandReader(String completedOutput, String completedErrorOutput, int completedExitCode, boolean reachedDeadline) {
+        // Only used by PrivilegedCommandSession to return output that was already collected from the privileged helper with all the same methods as any other command.
+        commandReader = new BufferedReader(new StringReader(completedOutput));
+        errorOutput.append(completedErrorOutput);
+        this.completedExitCode = completedExitCode;
+        this.reachedDeadline = reachedDeadline;
+    }
+
+    private void initCommandReader(String[] commandArray, int timeoutSeconds) {
+        initCommandReader(commandArray, timeoutSeconds, true);
     }
 
-    private void initCommandReader(String[] commandArray) {
+    private void initCommandReader(String[] commandArray, int timeoutSeconds, boolean useCommandFixtures) {
+        if (useCommandFixtures && CommandFixtures.isReplaying()) {
+            CommandFixtures.Fixture replayFixture = CommandFixtures.getReplayFixture(commandArray);
+
+            if (replayFixture != null) {
+                commandReader = (replayFixture.failedToStart ? null : new BufferedReader(new StringReader(replayFixture.output)));
+                errorOutput.append(replayFixture.errorOutput);
+                completedExitCode = replayFixture.exitCode;
+                reachedDeadline = replayFixture.reachedDeadline;
+                return;
+            }
+        }
+
         try {
-            commandReader = new BufferedReader(new InputStreamReader(Runtime.getRuntime().exec(commandArray).getInputStream()));
+            commandProcess = new ProcessBuilder(commandArray).start();
+
+            // Nothing is ever written to the commands, so close stdin right away so that any command that tries to read from it gets EOF instead of hanging forever.
+            commandProcess.getOutputStream().close();
+
+            commandReader = new BufferedReader(new InputStreamReader(commandProcess.getInputStream()));
+
+            // Always drain stderr concurrently since a command could block forever if it fills up the stderr pipe buffer while we're only reading stdout.
+            InputStream errorStream = commandProcess.getErrorStream();
+            errorDrainThread = new Thread(() -> {
+                try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(errorStream))) {
+                    String thisErrorLine;
+                    while ((thisErrorLine = errorReader.readLine()) != null) {
+                        synchronized (errorOutput) {
+                            if (errorOutput.length() < MAX_ERROR_OUTPUT_LENGTH) {
+                                errorOutput.append(thisErrorLine).append('\n');
+                            }
+                        }
+                    }
+                } catch (IOException drainErrorStreamException) {
+                    // Ignore drainErrorStreamException (the stream will be closed if the process is destroyed)
+                }
+            }, "qa_helper-command_stderr_drain");
+            errorDrainThread.setDaemon(true);
+            errorDrainThread.start();
+
+            if (timeoutSeconds > 0) {
+                deadlineWatchdogTask = DEADLINE_WATCHDOG.schedule(() -> {
+                    reachedDeadline = true;
+                    destroyCommandProcess();
+                }, timeoutSeconds, TimeUnit.SECONDS);
+            }
+
+            if (useCommandFixtures && CommandFixtures.isRecording()) {
+                // When recording, always read the full output (even if the caller stops reading early, or never reads it at all) so the fixture has everything any parsing code could ever need.
+                // The full output is read on a background thread so that this constructor never blocks (which would hang anything that never reads the output and doesn't exit right away),
+                // and the caller reads from what is being recorded as it comes in, which also makes sure it gets exactly the same output that will be replayed.
+                BufferedReader processOutputReader = commandReader;
+                RecordingOutputReader recordingOutputReader = new RecordingOutputReader();
+                commandReader = new BufferedReader(recordingOutputReader);
+
+                fixtureRecorderThread = new Thread(() -> {
+                    try {
+                        String thisLine;
+                        while ((thisLine = processOutputReader.readLine()) != null) {
+                            recordingOutputReader.appendLine(thisLine);
+                        }
+                    } catch (IOException recordOutputException) {
+                        // Ignore recordOutputException (the stream will be closed if the process is destroyed)
+                    }
+
+                    recordingOutputReader.finish();
+
+                    try {
+                        commandProcess.waitFor();
+                    } catch (InterruptedException waitForRecordedCommandException) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    if (deadlineWatchdogTask != null) {
+                        deadlineWatchdogTask.cancel(false);
+                    }
+
+                    CommandFixtures.recordFixture(commandArray, recordingOutputReader.getRecordedOutput(), getErrorOutput(), getExitCode(), reachedDeadline, false);
+                    CommandFixtures.removeRecorderThread(Thread.currentThread());
+                }, "qa_helper-command_fixture_recorder");
+                fixtureRecorderThread.setDaemon(true);
+                CommandFixtures.addRecorderThread(fixtureRecorderThread);
+                fixtureRecorderThread.start();
+            }
         } catch (IOException commandReaderException) {
+            commandProcess = null;
             commandReader = null;
             // Ignore Error
 
+            if (useCommandFixtures && CommandFixtures.isRecording()) {
+                CommandFixtures.recordFixture(commandArray, "", "", -1, false, true);
+            }
+
             //JOptionPane.showMessageDialog(null, "<html><b>Failed To Perform Command</b><br/><br/>" + Arrays.toString(command) + "</html>", "QA Helper  —  Command Error", JOptionPane.ERROR_MESSAGE);
             //System.out.println("commandReaderException: " + commandReaderException);
         }
     }
 
-    public String getFirstOutputLine() {
-        return getFirstOutputLineContaining("");
+    private void destroyCommandProcess() {
+        if (commandProcess != null) {
+            // Also destroy any descendants since killing a shell (or "timeout", etc) does not kill whatever it started which could still be holding the output pipes open.
+            // NOTE: Anything that was started with "sudo" can't be killed without admin privileges, so only a timeout built into the command itself is guaranteed to stop those.
+            commandProcess.descendants().forEach(ProcessHandle::destroyForcibly);
+            commandProcess.destroyForcibly();
+        }
     }
 
-    public String getFirstOutputLineContaining(String match) {
-        if (commandReader == null) {
-            return "";
+    private void finishCommand(boolean stoppedReadingEarly) {
+        try {
+            commandReader.close();
+        } catch (IOException closeReaderException) {
+
         }
 
-        boolean getFirstLine = match.isEmpty();
+        if (commandProcess == null) {
+            return;
+        }
+
+        if (fixtureRecorderThread != null) {
+            // When recording, the command is never killed early since the fixture recorder thread keeps reading all of its output (and stops the deadline watchdog once the command is done).
+            // If all of the output was read, give the command a moment to exit so that its exit code is available, just like when not recording.
+            if (!stoppedReadingEarly) {
+                try {
+                    fixtureRecorderThread.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException joinFixtureRecorderThreadException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return;
+        }
+
+        if (stoppedReadingEarly) {
+            // Don't leave the command running (and blocked on a full pipe) once we've already gotten the output we need from it.
+            destroyCommandProcess();
+        }
+
+        try {
+            if (!commandProcess.waitFor(5, TimeUnit.SECONDS)) {
+                // Even after all of the output was read, the command could still be hung (such as if it closed its output and then blocked on something else), so never leave it running forever once we're done with it.
+                destroyCommandProcess();
+            }
+        } catch (InterruptedException waitForCommandException) {
+            destroyCommandProcess(); // Don't leave the command running if we won't be waiting for it.
+            Thread.currentThread().interrupt();
+        }
+
+        if (deadlineWatchdogTask != null) {
+            deadlineWatchdogTask.cancel(false);
+        }
+    }
+
+    public void readOutputLines(Predicate<String> outputLineHandler) {
+        // Pass each line to the outputLineHandler as it is read instead of collecting all the output in memory. Return "false" from the outputLineHandler to stop reading and kill the command.
+        if (commandReader == null) {
+            return;
+        }
 
-        String outputLine = "";
+        boolean stoppedReadingEarly = false;
 
         try {
             String thisLine;
             while ((thisLine = commandReader.readLine()) != null) {
-                if (getFirstLine || thisLine.contains(match)) {
-                    outputLine = thisLine;
+                if (!outputLineHandler.test(thisLine)) {
+                    stoppedReadingEarly = true;
                     break;
                 }
             }
-
-            commandReader.close();
         } catch (IOException readLineException) {
 
         }
 
-        return outputLine;
+        finishCommand(stoppedReadingEarly);
     }
 
-    public String getFirstOutputLineNotContaining(String match) {
+    public void readOutput(Predicate<Reader> outputHandler) {
+        // Pass the output as a Reader for parsers that consume the output directly as it streams from the command instead of line by line. Return "false" from the outputHandler to stop reading and kill the command.
         if (commandReader == null) {
-            return "";
+            return;
         }
 
-        boolean getFirstNonEmptyLine = match.isEmpty();
+        finishCommand(!outputHandler.test(commandReader));
+    }
+
+    public String getErrorOutput() {
+        if (errorDrainThread != null) {
+            try {
+                errorDrainThread.join(1000);
+            } catch (InterruptedException joinErrorDrainThreadException) {
+                // Ignore joinErrorDrainThreadException
+            }
+        }
+
+        synchronized (errorOutput) {
+            return errorOutput.toString().trim();
+        }
+    }
+
+    public int getExitCode() {
+        // Only call this after reading the output. Will return -1 if the command failed to start or is still running (or 124 if it had to be killed at its deadline, like the "timeout" command).
+        if (reachedDeadline) {
+            return 124;
+        }
 
-        String outputLine = "";
+        if (commandProcess == null) {
+            return completedExitCode;
+        }
 
         try {
-            String thisLine;
-            while ((thisLine = commandReader.readLine()) != null) {
-                if ((getFirstNonEmptyLine && !thisLine.isEmpty()) || !thisLine.contains(match)) {
-                    outputLine = thisLine;
-                    break;
-                }
+            return commandProcess.exitValue();
+        } catch (IllegalThreadStateException exitValueException) {
+            return -1;
+        }
+    }
+
+    public boolean reachedDeadline() {
+        return reachedDeadline;
+    }
+
+    public String getFirstOutputLine() {
+        return getFirstOutputLineContaining("");
+    }
+
+    public String getFirstOutputLineContaining(String match) {
+        boolean getFirstLine = match.isEmpty();
+
+        String[] outputLine = {""};
+
+        readOutputLines((String thisLine) -> {
+            if (getFirstLine || thisLine.contains(match)) {
+                outputLine[0] = thisLine;
+                return false;
             }
 
-            commandReader.close();
-        } catch (IOException readLineException) {
+            return true;
+        });
 
-        }
+        return outputLine[0];
+    }
+
+    public String getFirstOutputLineNotContaining(String match) {
+        boolean getFirstNonEmptyLine = match.isEmpty();
+
+        String[] outputLine = {""};
+
+        readOutputLines((String thisLine) -> {
+            if ((getFirstNonEmptyLine && !thisLine.isEmpty()) || !thisLine.contains(match)) {
+                outputLine[0] = thisLine;
+                return false;
+            }
+
+            return true;
+        });
 
-        return outputLine;
+        return outputLine[0];
     }
 
     public String[] getOutputLines() {
@@ -136,25 +374,21 @@ public class CommandReader {
             }
         }
 
-        try {
-            String thisLine;
-            while ((thisLine = commandReader.readLine()) != null) {
-                if (matchAllLines) {
-                    outputLines.add(thisLine);
-                } else {
-                    for (String thisMatch : matches) {
-                        if (thisLine.contains(thisMatch)) {
-                            outputLines.add(thisLine);
-                            break;
-                        }
+        boolean addAllLines = matchAllLines;
+        readOutputLines((String thisLine) -> {
+            if (addAllLines) {
+                outputLines.add(thisLine);
+            } else {
+                for (String thisMatch : matches) {
+                    if (thisLine.contains(thisMatch)) {
+                        outputLines.add(thisLine);
+                        break;
                     }
                 }
             }
 
-            commandReader.close();
-        } catch (IOException readLineException) {
-
-        }
+            return true;
+        });
 
         return outputLines.toArray(String[]::new);
     }
@@ -178,30 +412,86 @@ public class CommandReader {
             }
         }
 
-        try {
-            String thisLine;
-            while ((thisLine = commandReader.readLine()) != null) {
-                if (!matchNonEmptyLines || (matchNonEmptyLines && !thisLine.isEmpty())) {
-                    boolean lineContainsMatch = false;
+        boolean onlyNonEmptyLines = matchNonEmptyLines;
+        readOutputLines((String thisLine) -> {
+            if (!onlyNonEmptyLines || !thisLine.isEmpty()) {
+                boolean lineContainsMatch = false;
 
-                    for (String thisMatch : matches) {
-                        if (!thisMatch.isEmpty() && thisLine.contains(thisMatch)) {
-                            lineContainsMatch = true;
-                            break;
-                        }
+                for (String thisMatch : matches) {
+                    if (!thisMatch.isEmpty() && thisLine.contains(thisMatch)) {
+                        lineContainsMatch = true;
+                        break;
                     }
+                }
 
-                    if (!lineContainsMatch) {
-                        outputLines.add(thisLine);
-                    }
+                if (!lineContainsMatch) {
+                    outputLines.add(thisLine);
                 }
             }
 
-            commandReader.close();
-        } catch (IOException readLineException) {
+            return true;
+        });
+
+        return outputLines.toArray(String[]::new);
+    }
+
+    private static class RecordingOutputReader extends Reader {
+
+        // Holds all the output that has been recorded so far (with the lines joined by "\n" just like the output is replayed) so that the caller can read it as it comes in without blocking the recorder.
+        private final StringBuilder recordedOutput = new StringBuilder();
+        private int readPosition = 0;
+        private boolean hasAppendedLine = false;
+        private boolean isFinished = false;
 
+        private synchronized void appendLine(String outputLine) {
+            // Track whether any line was appended instead of checking if the output is still empty so that leading empty lines are kept (and still end up at the same line positions when replayed).
+            if (hasAppendedLine) {
+                recordedOutput.append("\n");
+            }
+
+            recordedOutput.append(outputLine);
+            hasAppendedLine = true;
+            notifyAll();
         }
 
-        return outputLines.toArray(String[]::new);
+        private synchronized void finish() {
+            isFinished = true;
+            notifyAll();
+        }
+
+        private synchronized String getRecordedOutput() {
+            return recordedOutput.toString();
+        }
+
+        @Override
+        public synchronized int read(char[] readBuffer, int readOffset, int readLength) throws IOException {
+            if (readLength == 0) {
+                return 0;
+            }
+
+            while ((readPosition >= recordedOutput.length()) && !isFinished) {
+                try {
+                    wait();
+                } catch (InterruptedException waitForRecordedOutputException) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(waitForRecordedOutputException);
+                }
+            }
+
+            if (readPosition >= recordedOutput.length()) {
+                return -1;
+            }
+
+            int charsToRead = Math.min(readLength, (recordedOutput.length() - readPosition));
+            recordedOutput.getChars(readPosition, (readPosition + charsToRead), readBuffer, readOffset);
+            readPosition += charsToRead;
+
+            return charsToRead;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close since the recorder thread keeps reading (and recording) the command output even if the caller stops reading early.
+        }
     }
 }
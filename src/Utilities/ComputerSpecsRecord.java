@@ -0,0 +1,565 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * This class is an immutable and typed record of all loaded specs which is built once each time specs are loaded and can be exported as compact JSON
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public final class ComputerSpecsRecord {
+
+    private final String os;
+    private final String chassisType;
+    private final boolean isLaptop;
+    private final boolean hasScreen;
+    private final boolean hasTouchscreen;
+    private final boolean hasCamera;
+
+    private final String brand;
+    private final String fullBrand;
+    private final String model;
+    private final String fullModel;
+    private final String serial;
+    private final String motherboardBrand;
+    private final String fullMotherboardBrand;
+    private final String motherboardModel;
+    private final String fullMotherboardModel;
+    private final String motherboardSerial;
+    private final String hardwareUUID;
+    private final String macModelIdentifier;
+    private final List<String> ethernetMACs;
+    private final String ethernetMACsSummary;
+
+    private final String cpu;
+    private final int threadCount;
+
+    private final String ram;
+    private final String motherboardRAM;
+    private final long ramBytes;
+    private final int ramSpeedMHz;
+
+    private final List<String> gpuNames;
+    private final String gpuSummary;
+    private final List<String> gpuIDs;
+    private final List<String> gpuErrors;
+
+    private final List<String> audioDevices;
+    private final String audioSummary;
+    private final List<String> audioIDs;
+    private final List<String> audioErrors;
+
+    private final List<String> wirelessDevices;
+    private final String wirelessSummary;
+    private final List<String> wirelessErrors;
+
+    private final String screenSize;
+    private final List<String> screenErrors;
+
+    private final List<String> discDrives;
+    private final String discDriveSummary;
+    private final boolean discDriveCanBurnCDs;
+    private final boolean discDriveCanBurnDVDs;
+
+    private final List<Drive> drives;
+    private final List<String> driveDescriptions;
+    private final String storageSummary;
+    private final List<String> driveSerials;
+    private final String driveSerialsSummary;
+    private final String driveHealth;
+    private final boolean driveHealthWarning;
+    private final boolean driveTrimWarning;
+    private final boolean driveRecalled;
+
+    private final List<Battery> batteries;
+    private final List<String> batteryDescriptions;
+    private final String batteryHealthSummary;
+    private final List<String> batteryWarnings;
+    private final List<String> batteryErrors;
+    private final String powerAdapter;
+
+    private ComputerSpecsRecord(GetComputerSpecs computerSpecs) {
+        os = computerSpecs.getFullOS();
+        chassisType = computerSpecs.getChassisType();
+        isLaptop = computerSpecs.isLaptop();
+        hasScreen = computerSpecs.hasScreen();
+        hasTouchscreen = computerSpecs.hasTouchscreen();
+        hasCamera = computerSpecs.hasCamera();
+
+        // The shorter brand and model are kept along with the full brand and model since the shorter ones are what have always been used for the Drivers Cache Model Name.
+        brand = computerSpecs.getBrand();
+        fullBrand = computerSpecs.getFullBrand();
+        model = computerSpecs.getModel();
+        fullModel = computerSpecs.getFullModel();
+        serial = computerSpecs.getFullSerial();
+        motherboardBrand = computerSpecs.getMotherboardBrand();
+        fullMotherboardBrand = computerSpecs.getFullMotherboardBrand();
+        motherboardModel = computerSpecs.getMotherboardModel();
+        fullMotherboardModel = computerSpecs.getFullMotherboardModel();
+        motherboardSerial = computerSpecs.getFullMotherboardSerial();
+        hardwareUUID = computerSpecs.getHardwareUUID();
+        macModelIdentifier = computerSpecs.getMacModelIdentifier();
+        ethernetMACs = copyList(computerSpecs.getEthernetMACarray());
+        ethernetMACsSummary = joinOrNA(ethernetMACs);
+
+        cpu = computerSpecs.getFullCPU();
+        threadCount = computerSpecs.getThreadCount();
+
+        ram = computerSpecs.getFullRAM();
+        motherboardRAM = computerSpecs.getFullMotherboardRAM();
+        ramBytes = computerSpecs.getRAMbytes();
+        ramSpeedMHz = computerSpecs.getRAMspeedMHz();
+
+        // GPU IDs are kept as their own list instead of being attached to each GPU since they are deduplicated and sorted (for the Drivers Cache Model Name) and only loaded on Windows,
+        // so they can never be matched up with each GPU name (unlike drive serials), even when there happens to be the same number of each.
+        gpuNames = copyList(computerSpecs.getGPUarray());
+        gpuSummary = joinOrNA(gpuNames);
+        gpuIDs = copyList(computerSpecs.getGPUidsArray());
+        gpuErrors = copyList(computerSpecs.getGPUerrorArray());
+
+        audioDevices = copyList(computerSpecs.getAudioArray());
+        audioSummary = joinOrNA(audioDevices);
+        audioIDs = copyList(computerSpecs.getAudioIDsArray());
+        audioErrors = copyList(computerSpecs.getAudioErrorArray());
+
+        wirelessDevices = copyList(computerSpecs.getWirelessArray());
+        wirelessSummary = joinOrNA(wirelessDevices);
+        wirelessErrors = copyList(computerSpecs.getWirelessErrorArray());
+
+        screenSize = computerSpecs.getFullScreenSize();
+        screenErrors = copyList(computerSpecs.getScreenErrorArray());
+
+        discDrives = copyList(computerSpecs.getDiscDriveArray());
+        discDriveSummary = joinOrNA(discDrives);
+        discDriveCanBurnCDs = computerSpecs.discDriveCanBurnCDs();
+        discDriveCanBurnDVDs = computerSpecs.discDriveCanBurnDVDs();
+
+        // The size, kind, and model of each drive are stored along with each drive description while specs are loaded, so they always line up with the drive descriptions.
+        // But, serials are only added for drives that have one, so they can only be matched up with each drive when there is the same number of serials as drives.
+        ArrayList<String> storageArray = computerSpecs.getStorageArray();
+        ArrayList<Long> storageSizesBytesArray = computerSpecs.getStorageSizesBytesArray();
+        ArrayList<String> storageKindsArray = computerSpecs.getStorageKindsArray();
+        ArrayList<String> storageModelsArray = computerSpecs.getStorageModelsArray();
+        ArrayList<String> storageSerialsArray = computerSpecs.getStorageSerialsArray();
+        boolean storageSerialsMatchDrives = (storageSerialsArray.size() == storageArray.size());
+
+        ArrayList<Drive> loadedDrives = new ArrayList<>();
+        for (int driveIndex = 0; driveIndex < storageArray.size(); driveIndex++) {
+            loadedDrives.add(new Drive(storageArray.get(driveIndex), storageSizesBytesArray.get(driveIndex), storageKindsArray.get(driveIndex), storageModelsArray.get(driveIndex), (storageSerialsMatchDrives ? storageSerialsArray.get(driveIndex) : "")));
+        }
+        drives = Collections.unmodifiableList(loadedDrives);
+        driveDescriptions = copyList(storageArray);
+        storageSummary = joinOrNA(driveDescriptions);
+        driveSerials = copyList(storageSerialsArray);
+        driveSerialsSummary = String.join(" + ", driveSerials); // Empty instead of "N/A" when there are no serials, same as "GetComputerSpecs.getFullStorageSerial".
+        driveHealth = computerSpecs.getDriveHealth();
+        driveHealthWarning = computerSpecs.getDriveHealthWarning();
+        driveTrimWarning = computerSpecs.getDriveTrimWarning();
+        driveRecalled = computerSpecs.getDriveRecalled();
+
+        ArrayList<String> batteryHealthArray = computerSpecs.getBatteryHealthArray();
+        ArrayList<Double> batteryCapacityPercentsArray = computerSpecs.getBatteryCapacityPercentsArray();
+        ArrayList<Integer> batteryCycleCountsArray = computerSpecs.getBatteryCycleCountsArray();
+        ArrayList<Double> batteryVoltsArray = computerSpecs.getBatteryVoltsArray();
+
+        ArrayList<Battery> loadedBatteries = new ArrayList<>();
+        for (int batteryIndex = 0; batteryIndex < batteryHealthArray.size(); batteryIndex++) {
+            loadedBatteries.add(new Battery(batteryHealthArray.get(batteryIndex), batteryCapacityPercentsArray.get(batteryIndex), batteryCycleCountsArray.get(batteryIndex), batteryVoltsArray.get(batteryIndex)));
+        }
+        batteries = Collections.unmodifiableList(loadedBatteries);
+        batteryDescriptions = copyList(batteryHealthArray);
+        batteryHealthSummary = joinOrNA(batteryDescriptions);
+        batteryWarnings = copyList(computerSpecs.getBatteryHealthWarningArray());
+        batteryErrors = copyList(computerSpecs.getBatteryHealthErrorArray());
+        powerAdapter = computerSpecs.getPowerAdapter();
+    }
+
+    static ComputerSpecsRecord fromComputerSpecs(GetComputerSpecs computerSpecs) {
+        return new ComputerSpecsRecord(computerSpecs);
+    }
+
+    private static List<String> copyList(List<String> list) {
+        return Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    private static String joinOrNA(List<String> list) {
+        // Lists are joined once here the same way as "GetComputerSpecs" joins them for display (such as "getFullStorage") so that nothing needs to join them again.
+        return (list.isEmpty() ? "N/A" : String.join(" + ", list));
+    }
+
+    private static Object getJSONNumberOrNull(double number) {
+        return ((number < 0) ? JSONObject.NULL : number); // Unknown values are -1.
+    }
+
+    public static final class Drive {
+
+        private final String description;
+        private final long sizeBytes;
+        private final String kind;
+        private final String model;
+        private final String serial;
+
+        private Drive(String description, long sizeBytes, String kind, String model, String serial) {
+            this.description = description;
+            this.sizeBytes = sizeBytes;
+            this.kind = kind;
+            this.model = model;
+            this.serial = serial;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes; // 0 if unknown.
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getModel() {
+            return model;
+        }
+
+        public String getSerial() {
+            return serial;
+        }
+
+        JSONObject toJSON() {
+            return new JSONObject().put("description", description).put("sizeBytes", sizeBytes).put("kind", kind).put("model", model).put("serial", serial);
+        }
+    }
+
+    public static final class Battery {
+
+        private final String description;
+        private final double capacityPercent;
+        private final int cycleCount;
+        private final double volts;
+
+        private Battery(String description, double capacityPercent, int cycleCount, double volts) {
+            this.description = description;
+            this.capacityPercent = capacityPercent;
+            this.cycleCount = cycleCount;
+            this.volts = volts;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public double getCapacityPercent() {
+            return capacityPercent; // -1 if unknown (such as "NO POWER" or "UNKNOWN CAPACITY").
+        }
+
+        public int getCycleCount() {
+            return cycleCount; // -1 if unknown.
+        }
+
+        public double getVolts() {
+            return volts; // -1 if unknown.
+        }
+
+        JSONObject toJSON() {
+            return new JSONObject().put("description", description).put("capacityPercent", getJSONNumberOrNull(capacityPercent)).put("cycleCount", getJSONNumberOrNull(cycleCount)).put("volts", getJSONNumberOrNull(volts));
+        }
+    }
+
+    public String getOS() {
+        return os;
+    }
+
+    public String getChassisType() {
+        return chassisType;
+    }
+
+    public boolean isLaptop() {
+        return isLaptop;
+    }
+
+    public boolean hasScreen() {
+        return hasScreen;
+    }
+
+    public boolean hasTouchscreen() {
+        return hasTouchscreen;
+    }
+
+    public boolean hasCamera() {
+        return hasCamera;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public String getFullBrand() {
+        return fullBrand;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getFullModel() {
+        return fullModel;
+    }
+
+    public String getSerial() {
+        return serial;
+    }
+
+    public String getMotherboardBrand() {
+        return motherboardBrand;
+    }
+
+    public String getFullMotherboardBrand() {
+        return fullMotherboardBrand;
+    }
+
+    public String getMotherboardModel() {
+        return motherboardModel;
+    }
+
+    public String getFullMotherboardModel() {
+        return fullMotherboardModel;
+    }
+
+    public String getMotherboardSerial() {
+        return motherboardSerial;
+    }
+
+    public String getHardwareUUID() {
+        return hardwareUUID;
+    }
+
+    public String getMacModelIdentifier() {
+        return macModelIdentifier;
+    }
+
+    public List<String> getEthernetMACs() {
+        return ethernetMACs;
+    }
+
+    public String getEthernetMACsSummary() {
+        return ethernetMACsSummary;
+    }
+
+    public String getCPU() {
+        return cpu;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public String getRAM() {
+        return ram;
+    }
+
+    public String getMotherboardRAM() {
+        return motherboardRAM;
+    }
+
+    public long getRAMbytes() {
+        return ramBytes; // 0 if unknown.
+    }
+
+    public int getRAMspeedMHz() {
+        return ramSpeedMHz; // 0 if unknown.
+    }
+
+    public List<String> getGPUnames() {
+        return gpuNames;
+    }
+
+    public String getGPUsummary() {
+        return gpuSummary;
+    }
+
+    public List<String> getGPUids() {
+        return gpuIDs;
+    }
+
+    public List<String> getGPUerrors() {
+        return gpuErrors;
+    }
+
+    public List<String> getAudioDevices() {
+        return audioDevices;
+    }
+
+    public String getAudioSummary() {
+        return audioSummary;
+    }
+
+    public List<String> getAudioIDs() {
+        return audioIDs;
+    }
+
+    public List<String> getAudioErrors() {
+        return audioErrors;
+    }
+
+    public List<String> getWirelessDevices() {
+        return wirelessDevices;
+    }
+
+    public String getWirelessSummary() {
+        return wirelessSummary;
+    }
+
+    public List<String> getWirelessErrors() {
+        return wirelessErrors;
+    }
+
+    public String getScreenSize() {
+        return screenSize;
+    }
+
+    public List<String> getScreenErrors() {
+        return screenErrors;
+    }
+
+    public List<String> getDiscDrives() {
+        return discDrives;
+    }
+
+    public String getDiscDriveSummary() {
+        return discDriveSummary;
+    }
+
+    public boolean discDriveCanBurnCDs() {
+        return discDriveCanBurnCDs;
+    }
+
+    public boolean discDriveCanBurnDVDs() {
+        return discDriveCanBurnDVDs;
+    }
+
+    public List<Drive> getDrives() {
+        return drives;
+    }
+
+    public List<String> getDriveDescriptions() {
+        return driveDescriptions;
+    }
+
+    public String getStorageSummary() {
+        return storageSummary;
+    }
+
+    public List<String> getDriveSerials() {
+        return driveSerials;
+    }
+
+    public String getDriveSerialsSummary() {
+        return driveSerialsSummary;
+    }
+
+    public String getDriveHealth() {
+        return driveHealth;
+    }
+
+    public boolean getDriveHealthWarning() {
+        return driveHealthWarning;
+    }
+
+    public boolean getDriveTrimWarning() {
+        return driveTrimWarning;
+    }
+
+    public boolean getDriveRecalled() {
+        return driveRecalled;
+    }
+
+    public List<Battery> getBatteries() {
+        return batteries;
+    }
+
+    public List<String> getBatteryDescriptions() {
+        return batteryDescriptions;
+    }
+
+    public String getBatteryHealthSummary() {
+        return batteryHealthSummary;
+    }
+
+    public List<String> getBatteryWarnings() {
+        return batteryWarnings;
+    }
+
+    public List<String> getBatteryErrors() {
+        return batteryErrors;
+    }
+
+    public String getPowerAdapter() {
+        return powerAdapter;
+    }
+
+    public JSONObject toJSON() {
+        JSONObject specsJSON = new JSONObject();
+        specsJSON.put("os", os);
+        specsJSON.put("chassisType", chassisType);
+        specsJSON.put("isLaptop", isLaptop);
+        specsJSON.put("hasScreen", hasScreen);
+        specsJSON.put("hasTouchscreen", hasTouchscreen);
+        specsJSON.put("hasCamera", hasCamera);
+        specsJSON.put("brand", fullBrand);
+        specsJSON.put("model", fullModel);
+        specsJSON.put("serial", serial);
+        specsJSON.put("motherboardBrand", fullMotherboardBrand);
+        specsJSON.put("motherboardModel", fullMotherboardModel);
+        specsJSON.put("motherboardSerial", motherboardSerial);
+        specsJSON.put("hardwareUUID", hardwareUUID);
+        specsJSON.put("macModelIdentifier", macModelIdentifier);
+        specsJSON.put("ethernetMACs", new JSONArray(ethernetMACs));
+        specsJSON.put("cpu", new JSONObject().put("name", cpu).put("threadCount", threadCount));
+        specsJSON.put("ram", new JSONObject().put("description", ram).put("bytes", ramBytes).put("speedMHz", ramSpeedMHz).put("motherboardDescription", motherboardRAM));
+
+        specsJSON.put("gpu", new JSONObject().put("names", new JSONArray(gpuNames)).put("ids", new JSONArray(gpuIDs)).put("errors", new JSONArray(gpuErrors)));
+
+        specsJSON.put("audio", new JSONObject().put("devices", new JSONArray(audioDevices)).put("ids", new JSONArray(audioIDs)).put("errors", new JSONArray(audioErrors)));
+        specsJSON.put("wireless", new JSONObject().put("devices", new JSONArray(wirelessDevices)).put("errors", new JSONArray(wirelessErrors)));
+        specsJSON.put("screen", new JSONObject().put("size", screenSize).put("errors", new JSONArray(screenErrors)));
+        specsJSON.put("discDrive", new JSONObject().put("devices", new JSONArray(discDrives)).put("canBurnCDs", discDriveCanBurnCDs).put("canBurnDVDs", discDriveCanBurnDVDs));
+
+        JSONArray drivesJSON = new JSONArray();
+        drives.forEach((thisDrive) -> drivesJSON.put(thisDrive.toJSON()));
+        specsJSON.put("storage", new JSONObject().put("drives", drivesJSON).put("health", driveHealth).put("healthWarning", driveHealthWarning).put("trimWarning", driveTrimWarning).put("recalled", driveRecalled));
+
+        JSONArray batteriesJSON = new JSONArray();
+        batteries.forEach((thisBattery) -> batteriesJSON.put(thisBattery.toJSON()));
+        specsJSON.put("battery", new JSONObject().put("batteries", batteriesJSON).put("warnings", new JSONArray(batteryWarnings)).put("errors", new JSONArray(batteryErrors)).put("powerAdapter", powerAdapter));
+
+        return specsJSON;
+    }
+
+    @Override
+    public String toString() {
+        return toJSON().toString(); // Compact JSON.
+    }
+}
@@ -19,22 +19,34 @@
 package Utilities;
 
 import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
-import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.w3c.dom.*;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
@@ -48,9 +60,10 @@ public final class GetComputerSpecs {
      * @param args the command line arguments
      */
     //variable declarations
-    private String hdSentinelBinaryTempPath;
-    private String pciIDsDbTempPath;
-    private String loadSpecsExceptionString = "";
+    // NOTE: Any fields that are NOT specs must be "transient" so that they are not included in specs snapshots.
+    private transient String loadSpecsExceptionString = "";
+
+    private static final ConcurrentHashMap<String, String> EXTRACTED_RESOURCE_PATHS = new ConcurrentHashMap<>();
 
     private String os = "N/A";
     private String fullOS = "N/A";
@@ -64,7 +77,7 @@ public final class GetComputerSpecs {
     private String chassisType = "N/A";
     private boolean isLaptop = false;
     private boolean hasScreen = false;
-    private final ArrayList<String> macScreenFeaturesArray = new ArrayList<>();
+    private ArrayList<String> macScreenFeaturesArray = new ArrayList<>();
     private boolean hasTouchscreen = false;
     private boolean hasCamera = false;
     private boolean possibleCustomDesktopOrBareMotherboard = false;
@@ -82,74 +95,597 @@ public final class GetComputerSpecs {
     private int cpuThreadCount = 0;
     private String ram = "N/A";
     private String fullRAM = "N/A";
+    private long ramBytes = 0L;
+    private int ramSpeedMHz = 0;
     private String motherboardRAM = "N/A";
     private String fullMotherboardRAM = "N/A";
     private String storage = "N/A";
-    private final ArrayList<String> storageArray = new ArrayList<>();
+    private ArrayList<String> storageArray = new ArrayList<>();
+    // These storage and battery values are always added along with each storage or battery description (see "addStorageDrive" and "addBatteryHealth") so that they always line up with "storageArray" and "batteryHealthArray".
+    private ArrayList<Long> storageSizesBytesArray = new ArrayList<>();
+    private ArrayList<String> storageKindsArray = new ArrayList<>();
+    private ArrayList<String> storageModelsArray = new ArrayList<>();
     private String storageSerial = "";
-    private final ArrayList<String> storageSerialsArray = new ArrayList<>();
-    private final ArrayList<String> disksFormattedWithoutPartitionTable = new ArrayList<>();
+    private ArrayList<String> storageSerialsArray = new ArrayList<>();
+    private ArrayList<String> disksFormattedWithoutPartitionTable = new ArrayList<>();
     private String driveHealth = "N/A";
     private boolean driveHealthWarning = false;
     private boolean driveTrimWarning = false;
     private boolean driveRecalled = false;
-    private final ArrayList<String> batteryHealthArray = new ArrayList<>();
+    private ArrayList<String> batteryHealthArray = new ArrayList<>();
+    private ArrayList<Double> batteryCapacityPercentsArray = new ArrayList<>(); // -1 when unknown (instead of NaN) since JSON can't hold NaN for specs snapshots.
+    private ArrayList<Integer> batteryCycleCountsArray = new ArrayList<>(); // -1 when unknown.
+    private ArrayList<Double> batteryVoltsArray = new ArrayList<>(); // -1 when unknown.
     private String powerAdapter = "";
-    private final ArrayList<String> batteryHealthWarningArray = new ArrayList<>();
-    private final ArrayList<String> batteryHealthErrorArray = new ArrayList<>();
+    private ArrayList<String> batteryHealthWarningArray = new ArrayList<>();
+    private ArrayList<String> batteryHealthErrorArray = new ArrayList<>();
     private String gpu = "N/A";
-    private final ArrayList<String> gpuArray = new ArrayList<>();
-    private final ArrayList<String> gpuIDsArray = new ArrayList<>();
-    private final ArrayList<String> gpuErrorArray = new ArrayList<>();
+    private ArrayList<String> gpuArray = new ArrayList<>();
+    private ArrayList<String> gpuIDsArray = new ArrayList<>();
+    private ArrayList<String> gpuErrorArray = new ArrayList<>();
     private String audio = "N/A";
-    private final ArrayList<String> audioArray = new ArrayList<>();
-    private final ArrayList<String> audioIDsArray = new ArrayList<>();
-    private final ArrayList<String> audioErrorArray = new ArrayList<>();
-    private final ArrayList<String> wirelessArray = new ArrayList<>();
-    private final ArrayList<String> wirelessErrorArray = new ArrayList<>();
+    private ArrayList<String> audioArray = new ArrayList<>();
+    private ArrayList<String> audioIDsArray = new ArrayList<>();
+    private ArrayList<String> audioErrorArray = new ArrayList<>();
+    private ArrayList<String> wirelessArray = new ArrayList<>();
+    private ArrayList<String> wirelessErrorArray = new ArrayList<>();
     private String screenSize = "N/A";
     private String fullScreenSize = "N/A";
     private String screenResolution = "";
-    private final ArrayList<String> screenErrorArray = new ArrayList<>();
+    private ArrayList<String> screenErrorArray = new ArrayList<>();
     private String discDrive = "N/A";
-    private final ArrayList<String> discDriveArray = new ArrayList<>();
-    private final ArrayList<String> discDriveLogicalNames = new ArrayList<>();
+    private ArrayList<String> discDriveArray = new ArrayList<>();
+    private ArrayList<String> discDriveLogicalNames = new ArrayList<>();
     private boolean discDriveCanBurnCDs = false;
     private boolean discDriveCanBurnDVDs = false;
     private boolean hasDiscInDiscDrive = false;
     private boolean keyboardRecalled = false;
     private boolean serialIsMAC = false;
 
-    private final ArrayList<String> ethernetMACarray = new ArrayList<>();
+    private ArrayList<String> ethernetMACarray = new ArrayList<>();
+
+    private transient String productKeyFromRegistryVbsTempPath;
+
+    private transient EnumSet<SpecsCategory> specsCategoriesToLoad = null; // This will be "null" when loading all specs (see "reloadSpecsCategories").
+    private transient boolean specsLoadedWithAdmin = false;
+    private transient boolean isHeadless = false; // When "true" (such as from "QAHelperCLI"), nothing that needs a display or user interaction is ever launched while loading specs.
+    private transient SpecsListener specsListener = null;
+    private transient int fullReloadCount = 0; // Only read or changed while synchronized on this instance (see "reloadSpecs" and "loadSpecsCategories").
+    private transient int fullReloadCountBeforeLoadingCategories = 0; // Only set on partial instances (see "loadSpecsCategories" and "swapInSpecsCategories").
+    private transient volatile ComputerSpecsRecord specsRecord = null; // Built once each time specs are loaded or changed (see "updateSpecsRecord").
+
+    // Increment this whenever the meaning or format of any spec field changes so that any older specs snapshots are ignored instead of displaying mismatched specs.
+    private static final int SPECS_SNAPSHOT_FORMAT_VERSION = 2;
+
+    public enum SpecsCategory {
+        STORAGE, // Includes Drive Health.
+        BATTERY, // Includes Power Adapter.
+        NETWORK, // Wireless (Wi-Fi, Bluetooth, and Cellular) and Ethernet MAC Addresses.
+        AUDIO,
+        GPU,
+        SCREEN, // Includes Touchscreen and Camera.
+        DISC_DRIVE // Includes whether or not there is a disc in the drive.
+    }
+
+    public interface SpecsListener {
 
-    private String productKeyFromRegistryVbsTempPath;
+        // This is called on the thread that is loading specs (NOT the Event Dispatch Thread) as soon as each spec is known while loading, so that loading progress can be shown with the actual loaded values (such as in the loading window).
+        // These are preliminary values that could still be cleaned up or combined with other info by the time all specs are done loading, so they must NOT be used as the final specs (which are only displayed once all specs are done loading).
+        void specLoaded(String specName, String specValue);
+    }
 
     public GetComputerSpecs(String adminPassword, boolean isTestMode) {
         reloadSpecs(adminPassword, isTestMode);
     }
 
-    private String cleanComputerBrand(String dirtyComputerBrand) {
-        for (String thisStringToRemove : new String[]{",", " inc.", " incorporated", " inc", " ltd.", " ltd", " limited", " co.", " corp.", " corporation", " computers", " computer", " systems", " technology", " electronics", " software international", " gmbh", "(r) client"}) {
-            dirtyComputerBrand = dirtyComputerBrand.replaceAll("(?i)" + Pattern.quote(thisStringToRemove), "");
-        }
+    public GetComputerSpecs(String adminPassword, boolean isTestMode, SpecsListener specsListener) {
+        reloadSpecs(adminPassword, isTestMode, specsListener);
+    }
 
-        return dirtyComputerBrand.replace("ASUSTeK", "ASUS").replace("FUJITSU", "Fujitsu").replace("Hewlett-Packard", "HP").replace("INTEL", "Intel").replace("LENOVO", "Lenovo").replace("Micro-Star International", "MSI").replace("MICRO-STAR INTERNATIONAL", "MSI").replace("SAMSUNG", "Samsung").replace("TOSHIBA", "Toshiba").replace("GOOGLE", "Google").trim().replaceAll("\\s{2,}", " ");
+    public GetComputerSpecs(String adminPassword, boolean isTestMode, boolean isHeadless) {
+        this.isHeadless = isHeadless;
+        reloadSpecs(adminPassword, isTestMode);
     }
 
-    public boolean ignoreSpecsPlaceholders(String rawModel) {
-        String modelForComparison = rawModel.toLowerCase().replaceAll("[^a-z0-9]", ""); // Make lowercase and remove all except letters and number to not have to worry about any possible slight variations.
+    private GetComputerSpecs() {
+        // Only used by "loadSpecsSnapshot" and "reloadSpecsCategories" to create an instance without loading any specs.
+    }
 
-        if (modelForComparison.isEmpty()) {
+    private boolean shouldLoadSpecsCategory(SpecsCategory... specsCategories) {
+        if (specsCategoriesToLoad == null) {
             return true;
         }
 
-        if (modelForComparison.replaceAll("[0-1]", "").isEmpty()) {
-            // Ignore any values that are all 1's and 0's. Such as the Lenovo IdeaPad Z580 with the System Serial of "11000000000000000000000000000001" (while the correct serial is stored with the motherboard).
-            // This also ignores some SKUs that are all zeros.
-            return true;
+        for (SpecsCategory thisSpecsCategory : specsCategories) {
+            if (specsCategoriesToLoad.contains(thisSpecsCategory)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String[][] getLinuxLscpuOutput() {
+        // Read the same "/proc/cpuinfo" and "/sys/devices/system/cpu/" files that "lscpu" does, and only fall back on launching "lscpu" (twice) if they can't be read (or it's not an x86 processor).
+        String[][] sysfsLscpuOutput = LinuxSysfsReader.getLscpuOutput();
+        if (sysfsLscpuOutput != null) {
+            return sysfsLscpuOutput;
+        }
+
+        return new String[][]{
+            new CommandReader(new String[]{"/usr/bin/lscpu"}).getOutputLines(),
+            new CommandReader(new String[]{"/usr/bin/lscpu", "-p=SOCKET,CPU,MHZ,MAXMHZ,CORE"}).getOutputLinesNotContaining("#") // Ignore header lines that start with "#"
+        };
+    }
+
+    private static String getLinuxUdevBlockDeviceProperty(String blockDevicePath, String udevPropertyName) {
+        // Read the property straight from the udev database file for the block device, and only fall back on launching "udevadm" if it can't be read.
+        String udevPropertyValue = LinuxSysfsReader.getUdevBlockDeviceProperty(blockDevicePath, udevPropertyName);
+        if (udevPropertyValue != null) {
+            return udevPropertyValue;
+        }
+
+        // "udevadm" is at "/sbin/udevadm" on Mint 19.3 and older, but is at "/usr/bin/udevadm" on at least Mint 20.2 and newer. maybe only after usrmerge.
+        return new CommandReader(new String[]{(new File("/usr/bin/udevadm").exists() ? "/usr/bin/udevadm" : "/sbin/udevadm"), "info", "--query", "property", "--property", udevPropertyName, "--value", blockDevicePath}).getFirstOutputLine();
+    }
+
+    public boolean reloadSpecsCategories(String adminPassword, boolean isTestMode, SpecsCategory... specsCategories) {
+        // Load and then immediately swap in the specified specs categories. Returns "true" if any of the reloaded specs changed.
+        return swapInSpecsCategories(loadSpecsCategories(adminPassword, isTestMode, specsCategories), isTestMode);
+    }
+
+    public GetComputerSpecs loadSpecsCategories(String adminPassword, boolean isTestMode, SpecsCategory... specsCategories) {
+        // Load only the specified specs categories into a separate partial instance so that all other specs in this instance are left untouched (and can still be read while the probes are running).
+        // The returned partial specs are NOT swapped into this instance until "swapInSpecsCategories" is called, so that the caller can wait to change these specs until it's safe to display them.
+        // Returns "null" if the specs categories could not be loaded.
+        // NOTE: Only the probes needed for the specified categories are run on Linux. On macOS and Windows, all specs are loaded together by a few big commands,
+        // so all specs are still loaded into the partial instance, but only the specs in the specified categories will be swapped into this instance.
+        if (specsCategories.length == 0) {
+            return null;
+        }
+
+        if (isTestMode) {
+            System.out.println("\n\nReloading Specs Categories: " + Arrays.toString(specsCategories));
+        }
+
+        GetComputerSpecs partialComputerSpecs = new GetComputerSpecs();
+
+        synchronized (this) {
+            partialComputerSpecs.fullReloadCountBeforeLoadingCategories = fullReloadCount;
+        }
+
+        partialComputerSpecs.specsCategoriesToLoad = EnumSet.copyOf(Arrays.asList(specsCategories));
+        partialComputerSpecs.reloadSpecs(adminPassword, isTestMode);
+
+        if (!partialComputerSpecs.loadSpecsExceptionString.isEmpty()) {
+            // Keep the previous specs instead of replacing them with incomplete specs.
+            if (isTestMode) {
+                System.out.println("reloadSpecsCategoriesException: " + partialComputerSpecs.loadSpecsExceptionString);
+            }
+
+            return null;
+        }
+
+        return partialComputerSpecs;
+    }
+
+    public boolean swapInSpecsCategories(GetComputerSpecs partialComputerSpecs, boolean isTestMode) {
+        // Only the specs in the specified categories of the partial specs (from "loadSpecsCategories") are swapped into this instance. Returns "true" if any of the swapped in specs changed.
+        if ((partialComputerSpecs == null) || (partialComputerSpecs.specsCategoriesToLoad == null)) {
+            return false;
+        }
+
+        boolean specsChanged;
+
+        synchronized (this) {
+            if (fullReloadCount != partialComputerSpecs.fullReloadCountBeforeLoadingCategories) {
+                // All specs were reloaded while these specs categories were loading, so these partial specs are no newer than what's already loaded and must not be mixed in with them.
+                if (isTestMode) {
+                    System.out.println("Skipped Swapping In Reloaded Specs Categories Since All Specs Were Reloaded");
+                }
+
+                return false;
+            }
+
+            JSONObject previousSpecsJSON = getSpecsAsJSON();
+
+            for (SpecsCategory thisSpecsCategory : partialComputerSpecs.specsCategoriesToLoad) {
+                setSpecsCategory(thisSpecsCategory, partialComputerSpecs);
+            }
+
+            specsChanged = !getSpecsAsJSON().similar(previousSpecsJSON);
+
+            if (specsChanged) {
+                updateSpecsRecord();
+            }
+        }
+
+        if (specsChanged) {
+            saveSpecsSnapshot(isTestMode);
+        }
+
+        return specsChanged;
+    }
+
+    private void setSpecsCategory(SpecsCategory specsCategory, GetComputerSpecs fromComputerSpecs) {
+        // Always assign new lists (instead of clearing and adding to the existing lists) so that anything currently reading the previous lists is never affected.
+        switch (specsCategory) {
+            case STORAGE:
+                storage = fromComputerSpecs.storage;
+                storageArray = new ArrayList<>(fromComputerSpecs.storageArray);
+                storageSizesBytesArray = new ArrayList<>(fromComputerSpecs.storageSizesBytesArray);
+                storageKindsArray = new ArrayList<>(fromComputerSpecs.storageKindsArray);
+                storageModelsArray = new ArrayList<>(fromComputerSpecs.storageModelsArray);
+                storageSerial = fromComputerSpecs.storageSerial;
+                storageSerialsArray = new ArrayList<>(fromComputerSpecs.storageSerialsArray);
+                disksFormattedWithoutPartitionTable = new ArrayList<>(fromComputerSpecs.disksFormattedWithoutPartitionTable);
+                driveHealth = fromComputerSpecs.driveHealth;
+                driveHealthWarning = fromComputerSpecs.driveHealthWarning;
+                driveTrimWarning = fromComputerSpecs.driveTrimWarning;
+                driveRecalled = fromComputerSpecs.driveRecalled;
+                break;
+            case BATTERY:
+                batteryHealthArray = new ArrayList<>(fromComputerSpecs.batteryHealthArray);
+                batteryCapacityPercentsArray = new ArrayList<>(fromComputerSpecs.batteryCapacityPercentsArray);
+                batteryCycleCountsArray = new ArrayList<>(fromComputerSpecs.batteryCycleCountsArray);
+                batteryVoltsArray = new ArrayList<>(fromComputerSpecs.batteryVoltsArray);
+                powerAdapter = fromComputerSpecs.powerAdapter;
+                batteryHealthWarningArray = new ArrayList<>(fromComputerSpecs.batteryHealthWarningArray);
+                batteryHealthErrorArray = new ArrayList<>(fromComputerSpecs.batteryHealthErrorArray);
+                break;
+            case NETWORK:
+                wirelessArray = new ArrayList<>(fromComputerSpecs.wirelessArray);
+                wirelessErrorArray = new ArrayList<>(fromComputerSpecs.wirelessErrorArray);
+                ethernetMACarray = new ArrayList<>(fromComputerSpecs.ethernetMACarray);
+                break;
+            case AUDIO:
+                audio = fromComputerSpecs.audio;
+                audioArray = new ArrayList<>(fromComputerSpecs.audioArray);
+                audioIDsArray = new ArrayList<>(fromComputerSpecs.audioIDsArray);
+                audioErrorArray = new ArrayList<>(fromComputerSpecs.audioErrorArray);
+                break;
+            case GPU:
+                gpu = fromComputerSpecs.gpu;
+                gpuArray = new ArrayList<>(fromComputerSpecs.gpuArray);
+                gpuIDsArray = new ArrayList<>(fromComputerSpecs.gpuIDsArray);
+                gpuErrorArray = new ArrayList<>(fromComputerSpecs.gpuErrorArray);
+                break;
+            case SCREEN:
+                hasScreen = fromComputerSpecs.hasScreen;
+                macScreenFeaturesArray = new ArrayList<>(fromComputerSpecs.macScreenFeaturesArray);
+                hasTouchscreen = fromComputerSpecs.hasTouchscreen;
+                hasCamera = fromComputerSpecs.hasCamera;
+                screenSize = fromComputerSpecs.screenSize;
+                fullScreenSize = fromComputerSpecs.fullScreenSize;
+                screenResolution = fromComputerSpecs.screenResolution;
+                screenErrorArray = new ArrayList<>(fromComputerSpecs.screenErrorArray);
+                break;
+            case DISC_DRIVE:
+                discDrive = fromComputerSpecs.discDrive;
+                discDriveArray = new ArrayList<>(fromComputerSpecs.discDriveArray);
+                discDriveLogicalNames = new ArrayList<>(fromComputerSpecs.discDriveLogicalNames);
+                discDriveCanBurnCDs = fromComputerSpecs.discDriveCanBurnCDs;
+                discDriveCanBurnDVDs = fromComputerSpecs.discDriveCanBurnDVDs;
+                hasDiscInDiscDrive = fromComputerSpecs.hasDiscInDiscDrive;
+                break;
+            default:
+                break;
+        }
+    }
+
+    public static File getQAHelperCacheFolder() {
+        String osName = System.getProperty("os.name");
+
+        if (osName.startsWith("Linux")) {
+            return new File(System.getProperty("user.home") + "/.local/qa-helper");
+        } else if (osName.startsWith("Mac OS X") || osName.startsWith("macOS")) {
+            return new File(System.getProperty("user.home") + "/Library/Caches/QA Helper");
+        }
+
+        return null;
+    }
+
+    private static File getSpecsSnapshotFile() {
+        // Windows has no quick way to get a unique boot ID (and WinPE is always a fresh boot anyway), so specs snapshots are not used on Windows.
+        File qaHelperCacheFolder = getQAHelperCacheFolder();
+        return ((qaHelperCacheFolder == null) ? null : new File(qaHelperCacheFolder, "specs-snapshot.json"));
+    }
+
+    private static String getCurrentBootID() {
+        String osName = System.getProperty("os.name");
+
+        if (osName.startsWith("Linux")) {
+            try {
+                return String.join("", Files.readAllLines(Paths.get("/proc/sys/kernel/random/boot_id"))).trim();
+            } catch (IOException readLinuxBootIDException) {
+                return "";
+            }
+        } else if (osName.startsWith("Mac OS X") || osName.startsWith("macOS")) {
+            return new CommandReader(new String[]{"/usr/sbin/sysctl", "-n", "kern.bootsessionuuid"}, 5).getFirstOutputLine().trim();
         }
 
-        return Arrays.asList(
+        return "";
+    }
+
+    private static String getCurrentHardwareIdentity() {
+        // This is only used to double check that a specs snapshot is from this computer, so it's fine if it can't be retrieved (it will just fall back on only checking the boot ID).
+        // It must be retrievable without admin privileges since specs snapshots are also loaded when no admin password is available.
+        String osName = System.getProperty("os.name");
+
+        if (osName.startsWith("Linux")) {
+            // The DMI UUID and serials (such as "product_uuid" and "board_serial") are only readable by root, so use the DMI fields that are readable by any user along with the MAC addresses of the physical network interfaces.
+            ArrayList<String> hardwareIdentityParts = new ArrayList<>();
+
+            for (String thisDMIfieldName : new String[]{"sys_vendor", "product_name", "product_version", "board_vendor", "board_name", "bios_version"}) {
+                String thisDMIfieldValue = LinuxSysfsReader.readFirstLine("/sys/class/dmi/id/" + thisDMIfieldName);
+                if ((thisDMIfieldValue != null) && !thisDMIfieldValue.isEmpty()) {
+                    hardwareIdentityParts.add(thisDMIfieldValue);
+                }
+            }
+
+            File[] networkInterfaceFolders = new File("/sys/class/net").listFiles();
+            if (networkInterfaceFolders != null) {
+                ArrayList<String> physicalNetworkInterfaceMACs = new ArrayList<>();
+
+                for (File thisNetworkInterfaceFolder : networkInterfaceFolders) {
+                    if (new File(thisNetworkInterfaceFolder, "device").exists()) { // Only physical network interfaces have a "device" link (virtual ones like "lo" or bridges don't).
+                        String thisNetworkInterfaceMAC = LinuxSysfsReader.readFirstLine(thisNetworkInterfaceFolder.getPath() + "/address");
+                        if ((thisNetworkInterfaceMAC != null) && !thisNetworkInterfaceMAC.isEmpty()) {
+                            physicalNetworkInterfaceMACs.add(thisNetworkInterfaceMAC.toUpperCase());
+                        }
+                    }
+                }
+
+                Collections.sort(physicalNetworkInterfaceMACs); // Sort since the order of the listed folders is not guaranteed.
+                hardwareIdentityParts.addAll(physicalNetworkInterfaceMACs);
+            }
+
+            return String.join(" | ", hardwareIdentityParts);
+        } else if (osName.startsWith("Mac OS X") || osName.startsWith("macOS")) {
+            String ioregPlatformUUIDline = new CommandReader(new String[]{"/usr/sbin/ioreg", "-rd1", "-c", "IOPlatformExpertDevice"}, 5).getFirstOutputLineContaining("\"IOPlatformUUID\"");
+            String[] ioregPlatformUUIDlineParts = ioregPlatformUUIDline.split("\"");
+
+            if (ioregPlatformUUIDlineParts.length >= 4) {
+                return ioregPlatformUUIDlineParts[3].trim().toUpperCase();
+            }
+        }
+
+        return "";
+    }
+
+    public static GetComputerSpecs loadSpecsSnapshot(String adminPassword, boolean isTestMode) {
+        // Specs that were loaded earlier during this same boot of this same computer can't have changed (other than the volatile specs that are revalidated by QA Helper in the background).
+        // So, load them from the specs snapshot which only takes a few milliseconds instead of running all of the probes again. Returns "null" if there is no valid specs snapshot for this boot.
+        File specsSnapshotFile = getSpecsSnapshotFile();
+
+        if ((specsSnapshotFile == null) || !specsSnapshotFile.exists()) {
+            return null;
+        }
+
+        try {
+            JSONObject specsSnapshot = new JSONObject(Files.readString(specsSnapshotFile.toPath()));
+
+            if (specsSnapshot.getInt("formatVersion") != SPECS_SNAPSHOT_FORMAT_VERSION) {
+                if (isTestMode) {
+                    System.out.println("Ignoring Specs Snapshot: Format Version Changed");
+                }
+
+                return null;
+            }
+
+            String currentBootID = getCurrentBootID();
+            if (currentBootID.isEmpty() || !currentBootID.equals(specsSnapshot.getString("bootID"))) {
+                if (isTestMode) {
+                    System.out.println("Ignoring Specs Snapshot: Boot ID Changed");
+                }
+
+                return null;
+            }
+
+            String currentHardwareIdentity = getCurrentHardwareIdentity();
+            if (!currentHardwareIdentity.isEmpty() && !currentHardwareIdentity.equals(specsSnapshot.optString("hardwareIdentity"))) {
+                if (isTestMode) {
+                    System.out.println("Ignoring Specs Snapshot: Hardware Identity Changed");
+                }
+
+                return null;
+            }
+
+            if (!adminPassword.equals("*UNKNOWN*") && !specsSnapshot.getBoolean("loadedWithAdmin")) {
+                // Some specs can only be loaded with admin privileges on Linux, so don't use a specs snapshot that was loaded without admin when admin is now available.
+                if (isTestMode) {
+                    System.out.println("Ignoring Specs Snapshot: Loaded Without Admin");
+                }
+
+                return null;
+            }
+
+            GetComputerSpecs snapshotComputerSpecs = new GetComputerSpecs();
+            snapshotComputerSpecs.setSpecsFromJSON(specsSnapshot.getJSONObject("specs"));
+            snapshotComputerSpecs.specsLoadedWithAdmin = specsSnapshot.getBoolean("loadedWithAdmin");
+            snapshotComputerSpecs.updateSpecsRecord();
+
+            if (isTestMode) {
+                System.out.println("\n\nLoaded Specs Snapshot from " + specsSnapshot.getString("savedDate"));
+                snapshotComputerSpecs.printSpecs();
+            }
+
+            return snapshotComputerSpecs;
+        } catch (IOException | JSONException | ReflectiveOperationException loadSpecsSnapshotException) {
+            if (isTestMode) {
+                System.out.println("loadSpecsSnapshotException: " + loadSpecsSnapshotException);
+            }
+        }
+
+        return null;
+    }
+
+    private synchronized void saveSpecsSnapshot(boolean isTestMode) {
+        File specsSnapshotFile = getSpecsSnapshotFile();
+
+        if ((specsSnapshotFile == null) || CommandFixtures.isReplaying()) {
+            return; // Specs loaded from replayed command fixtures are from some other computer, so they must never be saved as the specs snapshot of this computer.
+        }
+
+        if (!loadSpecsExceptionString.isEmpty()) {
+            // Never save incomplete specs, and delete any previous specs snapshot so that the next launch will try loading all specs again.
+            specsSnapshotFile.delete();
+            return;
+        }
+
+        String currentBootID = getCurrentBootID();
+        if (currentBootID.isEmpty()) {
+            return;
+        }
+
+        try {
+            JSONObject specsSnapshot = new JSONObject();
+            specsSnapshot.put("formatVersion", SPECS_SNAPSHOT_FORMAT_VERSION);
+            specsSnapshot.put("bootID", currentBootID);
+            specsSnapshot.put("hardwareIdentity", getCurrentHardwareIdentity()); // NOT the "hardwareUUID" spec since that can only be loaded with admin privileges on Linux.
+            specsSnapshot.put("loadedWithAdmin", specsLoadedWithAdmin);
+            specsSnapshot.put("savedDate", new java.util.Date().toString());
+            specsSnapshot.put("specs", getSpecsAsJSON());
+
+            specsSnapshotFile.getParentFile().mkdirs();
+
+            // Write to a uniquely named temporary file in the same folder first and then move it into place so that a specs snapshot can never be read while it's only partially written,
+            // and so that multiple instances of QA Helper saving at the same time can never write into the same temporary file (the last one to be moved into place will just win).
+            Path specsSnapshotTempPath = Files.createTempFile(specsSnapshotFile.getParentFile().toPath(), "specs-snapshot-", ".tmp");
+            try {
+                Files.writeString(specsSnapshotTempPath, specsSnapshot.toString());
+                Files.move(specsSnapshotTempPath, specsSnapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(specsSnapshotTempPath); // Will only still exist if writing or moving failed.
+            }
+        } catch (IOException | JSONException saveSpecsSnapshotException) {
+            if (isTestMode) {
+                System.out.println("saveSpecsSnapshotException: " + saveSpecsSnapshotException);
+            }
+        }
+    }
+
+    JSONObject getSpecsAsJSON() {
+        // Every non-transient field is a spec, so include them all by reflection so that the specs snapshot can never get out of sync when specs are added or removed.
+        JSONObject specsJSON = new JSONObject();
+
+        for (Field thisSpecField : GetComputerSpecs.class.getDeclaredFields()) {
+            int thisSpecFieldModifiers = thisSpecField.getModifiers();
+
+            if (!Modifier.isStatic(thisSpecFieldModifiers) && !Modifier.isTransient(thisSpecFieldModifiers)) {
+                try {
+                    Object thisSpecValue = thisSpecField.get(this);
+
+                    if (thisSpecValue instanceof ArrayList) {
+                        specsJSON.put(thisSpecField.getName(), new JSONArray((ArrayList<?>) thisSpecValue));
+                    } else {
+                        specsJSON.put(thisSpecField.getName(), thisSpecValue);
+                    }
+                } catch (IllegalAccessException getSpecFieldException) {
+                    // Can never happen since these are all fields of this class.
+                }
+            }
+        }
+
+        return specsJSON;
+    }
+
+    private void setSpecsFromJSON(JSONObject specsJSON) throws ReflectiveOperationException {
+        for (Field thisSpecField : GetComputerSpecs.class.getDeclaredFields()) {
+            int thisSpecFieldModifiers = thisSpecField.getModifiers();
+
+            if (!Modifier.isStatic(thisSpecFieldModifiers) && !Modifier.isTransient(thisSpecFieldModifiers)) {
+                String thisSpecName = thisSpecField.getName();
+                Class<?> thisSpecType = thisSpecField.getType();
+
+                if (thisSpecType == String.class) {
+                    thisSpecField.set(this, specsJSON.getString(thisSpecName));
+                } else if (thisSpecType == boolean.class) {
+                    thisSpecField.setBoolean(this, specsJSON.getBoolean(thisSpecName));
+                } else if (thisSpecType == int.class) {
+                    thisSpecField.setInt(this, specsJSON.getInt(thisSpecName));
+                } else if (thisSpecType == long.class) {
+                    thisSpecField.setLong(this, specsJSON.getLong(thisSpecName));
+                } else if (thisSpecType == ArrayList.class) {
+                    // Arrays of numeric values (such as "storageSizesBytesArray") must be read back as the same type they were declared with since "JSONArray" would otherwise return whatever number type fits each value.
+                    Object thisSpecArrayElementType = ((ParameterizedType) thisSpecField.getGenericType()).getActualTypeArguments()[0];
+                    ArrayList<Object> thisSpecArray = new ArrayList<>();
+
+                    JSONArray thisSpecJSONArray = specsJSON.getJSONArray(thisSpecName);
+                    for (int i = 0; i < thisSpecJSONArray.length(); i++) {
+                        if (thisSpecArrayElementType == String.class) {
+                            thisSpecArray.add(thisSpecJSONArray.getString(i));
+                        } else if (thisSpecArrayElementType == Long.class) {
+                            thisSpecArray.add(thisSpecJSONArray.getLong(i));
+                        } else if (thisSpecArrayElementType == Integer.class) {
+                            thisSpecArray.add(thisSpecJSONArray.getInt(i));
+                        } else if (thisSpecArrayElementType == Double.class) {
+                            thisSpecArray.add(thisSpecJSONArray.getDouble(i));
+                        } else {
+                            throw new NoSuchFieldException("Unsupported Spec Array Type for \"" + thisSpecName + "\": " + thisSpecArrayElementType);
+                        }
+                    }
+
+                    thisSpecField.set(this, thisSpecArray);
+                } else {
+                    throw new NoSuchFieldException("Unsupported Spec Type for \"" + thisSpecName + "\": " + thisSpecType.getName());
+                }
+            }
+        }
+    }
+
+    private static int getRAMSpeedMHz(String ramSpeedString) {
+        // The RAM speed string will start with the speed number (such as "2667 MT/s" or "2667 MHz" or just "2667" on Windows), and the returned speed is rounded the same way as the displayed speed (see where "ramSpeed" is set).
+        String[] ramSpeedParts = ramSpeedString.split(" ", 2);
+
+        try {
+            int ramSpeedNumber = Integer.parseInt(ramSpeedParts[0]);
+            int ramSpeedLastTwoDigits = (ramSpeedNumber % 100);
+
+            if (ramSpeedLastTwoDigits == 32 || ramSpeedLastTwoDigits == 34) {
+                return (ramSpeedNumber - ramSpeedLastTwoDigits + 33);
+            } else if (ramSpeedLastTwoDigits == 67) {
+                return (ramSpeedNumber - 1);
+            }
+
+            return ramSpeedNumber;
+        } catch (NumberFormatException ramSpeedException) {
+            return 0;
+        }
+    }
+
+    private void addStorageDrive(String storageDescription, long storageSizeBytes, String storageKind, String storageModel) {
+        storageArray.add(storageDescription);
+        storageSizesBytesArray.add(storageSizeBytes);
+        storageKindsArray.add(storageKind);
+        storageModelsArray.add(storageModel);
+    }
+
+    private void setStorageDrive(int storageIndex, String storageDescription, long storageSizeBytes, String storageKind, String storageModel) {
+        storageArray.set(storageIndex, storageDescription);
+        storageSizesBytesArray.set(storageIndex, storageSizeBytes);
+        storageKindsArray.set(storageIndex, storageKind);
+        storageModelsArray.set(storageIndex, storageModel);
+    }
+
+    private void addBatteryHealth(String batteryDescription, double batteryCapacityPercent, int batteryCycleCount, double batteryVolts) {
+        batteryHealthArray.add(batteryDescription);
+        batteryCapacityPercentsArray.add(batteryCapacityPercent);
+        batteryCycleCountsArray.add(batteryCycleCount);
+        batteryVoltsArray.add(batteryVolts);
+    }
+
+    private String cleanComputerBrand(String dirtyComputerBrand) {
+        dirtyComputerBrand = SpecsParsing.replaceAll(dirtyComputerBrand, SpecsParsing.COMPUTER_BRAND_STRINGS_TO_REMOVE_PATTERNS, "");
+
+        return SpecsParsing.collapseWhitespace(dirtyComputerBrand.replace("ASUSTeK", "ASUS").replace("FUJITSU", "Fujitsu").replace("Hewlett-Packard", "HP").replace("INTEL", "Intel").replace("LENOVO", "Lenovo").replace("Micro-Star International", "MSI").replace("MICRO-STAR INTERNATIONAL", "MSI").replace("SAMSUNG", "Samsung").replace("TOSHIBA", "Toshiba").replace("GOOGLE", "Google").trim());
+    }
+
+    // Placeholders are matched against normalized values (see "SpecsPlaceholderMatcher.normalize") and this matcher is only built once so that checking a value takes the same time no matter how many placeholders are listed here.
+    // Placeholders that are not unique enough to safely ignore within longer values (such as "na" or "all") must only be listed as EXACT placeholders.
+    // Only long and obviously generic placeholders should be listed as CONTAINED placeholders, which will also ignore values like "To Be Filled By O.E.M. 1.0" or "Default string Default string".
+    private static final SpecsPlaceholderMatcher SPECS_PLACEHOLDER_MATCHER = new SpecsPlaceholderMatcher(
+            new String[]{ // EXACT Placeholders
                 "tobefilledbyoem", "notapplicable", // Could be in Any Field
                 "systemmanufacturer", // Manufacturers
                 "systemversion", "chassisversion", "notspecified", "lenovoproduct", "type1productconfigid", "rev1xx", "rev10", "102a", "0123456789", "invalid", "tbdbyoem", // Versions
@@ -158,15 +694,37 @@ public final class GetComputerSpecs {
                 "systemserialnumber", "chassisserialnumber", "123456789", "ing", "na", "nosn000", // Serials
                 "revx0x", "xx", // Motherboard Versions
                 "none" // Motherboard Serials
-        ).contains(modelForComparison);
+            },
+            new String[]{ // CONTAINED Placeholders
+                "tobefilledbyoem", "tbdbyoem", "defaultstring", // Could be in Any Field
+                "systemmanufacturer", // Manufacturers
+                "type1productconfigid", // Versions
+                "systemproductname", // Products
+                "systemskunumber", // SKUs
+                "systemserialnumber", "chassisserialnumber" // Serials
+            }
+    );
+
+    public boolean ignoreSpecsPlaceholders(String rawModel) {
+        String modelForComparison = SpecsPlaceholderMatcher.normalize(rawModel);
+
+        if (modelForComparison.isEmpty()) {
+            return true;
+        }
+
+        if (SpecsParsing.containsOnlyZerosAndOnes(modelForComparison)) {
+            // Ignore any values that are all 1's and 0's. Such as the Lenovo IdeaPad Z580 with the System Serial of "11000000000000000000000000000001" (while the correct serial is stored with the motherboard).
+            // This also ignores some SKUs that are all zeros.
+            return true;
+        }
+
+        return SPECS_PLACEHOLDER_MATCHER.matches(modelForComparison);
     }
 
     private String cleanCPU(String dirtyCPU) {
-        for (String thisStringToReplaceWithSpace : new String[]{"genuine", "authentic", "(r)", "(tm)", "?", " cpu", " apu", " processor"}) {
-            dirtyCPU = dirtyCPU.replaceAll("(?i)" + Pattern.quote(thisStringToReplaceWithSpace), " ");
-        }
+        dirtyCPU = SpecsParsing.replaceAll(dirtyCPU, SpecsParsing.CPU_STRINGS_TO_REPLACE_WITH_SPACE_PATTERNS, " ");
 
-        return dirtyCPU.trim().replaceAll("\\s{2,}", " ");
+        return SpecsParsing.collapseWhitespace(dirtyCPU.trim());
     }
 
     private String cleanDeviceBrand(String dirtyDeviceBrand) {
@@ -193,12 +751,9 @@ public final class GetComputerSpecs {
             }
         }
 
-        // "(R)", "®" (\u00AE), "(TM)", and "™" (\u2122) could exist when brand is coming from Windows driver info rather than PCI ID Repo
-        for (String thisStringToRemove : new String[]{"(r)", "\u00AE", "(tm)", "\u2122", "?", ",", " inc.", " incorporated", " inc", " ltd.", " ltd", " limited", " co.", " corp.", " corporation", " computers", " computer", " systems", " semiconductors", " semiconductor", " and subsidiaries"}) {
-            cleanedDeviceBrand = cleanedDeviceBrand.replaceAll("(?i)" + Pattern.quote(thisStringToRemove), "");
-        }
+        cleanedDeviceBrand = SpecsParsing.replaceAll(cleanedDeviceBrand, SpecsParsing.DEVICE_BRAND_STRINGS_TO_REMOVE_PATTERNS, "");
 
-        return cleanedDeviceBrand.replace("Advanced Micro Devices", "AMD").trim().replaceAll("\\s{2,}", " ");
+        return SpecsParsing.collapseWhitespace(cleanedDeviceBrand.replace("Advanced Micro Devices", "AMD").trim());
     }
 
     private String cleanDeviceModel(String dirtyDeviceModel) {
@@ -219,13 +774,152 @@ public final class GetComputerSpecs {
         }
 
         // "(R)", "®" (\u00AE), "(TM)", "™" (\u2122), and "Device" could exist when model is coming from Windows driver info rather than PCI ID Repo
-        return cleanedDeviceModel.replace("(R)", "").replace("\u00AE", "").replace("(TM)", "").replace("\u2122", "").replace("?", "").replace("Generation", "Gen").replace("High Definition", "HD").replace("processor", "CPU").replace("Processor", "CPU").replace("Wireless-", "").replace("Wireless", "").replace("PCIe", "").replace("PCI Express", "").replace("PCI-Express", "").replace(" Controller", "").replace(" Adapter", "").replace(" Device", "").replace(" CODEC", "").replace(" Network", "").replace(" Modem", "").replace("()", "").trim().replaceAll("\\s{2,}", " ");
+        return SpecsParsing.collapseWhitespace(cleanedDeviceModel.replace("(R)", "").replace("\u00AE", "").replace("(TM)", "").replace("\u2122", "").replace("?", "").replace("Generation", "Gen").replace("High Definition", "HD").replace("processor", "CPU").replace("Processor", "CPU").replace("Wireless-", "").replace("Wireless", "").replace("PCIe", "").replace("PCI Express", "").replace("PCI-Express", "").replace(" Controller", "").replace(" Adapter", "").replace(" Device", "").replace(" CODEC", "").replace(" Network", "").replace(" Modem", "").replace("()", "").trim());
+    }
+
+    private static String extractCachedResource(String resourceName, boolean makeExecutable, boolean isTestMode) {
+        // Bundled resources (such as the HD Sentinel binary and PCI ID Repository) are extracted into the QA Helper cache folder in a file named with the SHA-256 hash of their contents,
+        // so they only ever need to be written once for each version of the resource instead of into a new temporary file every time the specs are loaded.
+        // The existing file is always validated against the hash once per launch (and then remembered for the rest of the session) before it is used, and is replaced if it doesn't match.
+        String cachedResourcePath = EXTRACTED_RESOURCE_PATHS.get(resourceName);
+        if (cachedResourcePath != null) {
+            return cachedResourcePath;
+        }
+
+        synchronized (EXTRACTED_RESOURCE_PATHS) {
+            cachedResourcePath = EXTRACTED_RESOURCE_PATHS.get(resourceName);
+            if (cachedResourcePath != null) {
+                return cachedResourcePath;
+            }
+
+            try {
+                String resourceHash;
+                try (InputStream resourceInputStream = GetComputerSpecs.class.getClassLoader().getResourceAsStream("Resources/" + resourceName)) {
+                    if (resourceInputStream == null) {
+                        throw new FileNotFoundException("Resources/" + resourceName);
+                    }
+
+                    resourceHash = getSHA256Hash(resourceInputStream);
+                }
+
+                File qaHelperCacheFolder = getQAHelperCacheFolder();
+                File resourceCacheFolder = ((qaHelperCacheFolder == null) ? new File(System.getProperty("java.io.tmpdir"), "qa_helper-resources") : new File(qaHelperCacheFolder, "resources"));
+                File cachedResourceFile = new File(resourceCacheFolder, resourceHash.substring(0, 16) + "-" + resourceName);
+
+                boolean cachedResourceIsValid = false;
+                if (cachedResourceFile.isFile()) {
+                    try (InputStream cachedResourceInputStream = new FileInputStream(cachedResourceFile)) {
+                        cachedResourceIsValid = getSHA256Hash(cachedResourceInputStream).equals(resourceHash);
+                    }
+                }
+
+                if (!cachedResourceIsValid) {
+                    if (isTestMode) {
+                        System.out.println("Extracting Resource \"" + resourceName + "\" to Cache: " + cachedResourceFile.getPath());
+                    }
+
+                    resourceCacheFolder.mkdirs();
+
+                    // Write to a temporary file in the same folder and then move it into place so that a partially written file can never be used.
+                    File cachedResourceTempFile = File.createTempFile(cachedResourceFile.getName() + "-", ".tmp", resourceCacheFolder);
+
+                    try (InputStream resourceInputStream = GetComputerSpecs.class.getClassLoader().getResourceAsStream("Resources/" + resourceName)) {
+                        Files.copy(resourceInputStream, cachedResourceTempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+                        if (makeExecutable) {
+                            cachedResourceTempFile.setExecutable(true);
+                        }
+
+                        Files.move(cachedResourceTempFile.toPath(), cachedResourceFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } finally {
+                        cachedResourceTempFile.delete();
+                    }
+
+                    // Remove any previous versions of this resource so they don't pile up.
+                    File[] previousCachedResourceFiles = resourceCacheFolder.listFiles((File thisResourceCacheFolder, String thisCachedResourceFileName) -> (thisCachedResourceFileName.endsWith("-" + resourceName) && !thisCachedResourceFileName.equals(cachedResourceFile.getName())));
+                    if (previousCachedResourceFiles != null) {
+                        for (File thisPreviousCachedResourceFile : previousCachedResourceFiles) {
+                            thisPreviousCachedResourceFile.delete();
+                        }
+                    }
+                } else if (makeExecutable && !cachedResourceFile.canExecute()) {
+                    cachedResourceFile.setExecutable(true);
+                }
+
+                EXTRACTED_RESOURCE_PATHS.put(resourceName, cachedResourceFile.getPath());
+                return cachedResourceFile.getPath();
+            } catch (IOException | NoSuchAlgorithmException | SecurityException extractCachedResourceException) {
+                if (isTestMode) {
+                    System.out.println("extractCachedResourceException (" + resourceName + "): " + extractCachedResourceException);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static String getSHA256Hash(InputStream inputStream) throws IOException, NoSuchAlgorithmException {
+        MessageDigest sha256Digest = MessageDigest.getInstance("SHA-256");
+
+        byte[] readBuffer = new byte[65536];
+        int bytesRead;
+        while ((bytesRead = inputStream.read(readBuffer)) != -1) {
+            sha256Digest.update(readBuffer, 0, bytesRead);
+        }
+
+        StringBuilder sha256Hex = new StringBuilder();
+        for (byte thisHashByte : sha256Digest.digest()) {
+            sha256Hex.append(String.format("%02x", thisHashByte));
+        }
+
+        return sha256Hex.toString();
+    }
+
+    private static String extractPCIidsDb(boolean isTestMode) {
+        return extractCachedResource("pci.ids", false, isTestMode);
+    }
+
+    private static String extractHDSentinelBinary(boolean isTestMode) {
+        return extractCachedResource("hdsentinel-020-x64", true, isTestMode);
+    }
+
+    private void publishLoadedSpec(String specName, String specValue) {
+        if ((specsListener != null) && (specValue != null) && !specValue.isEmpty() && !specValue.equals("N/A")) {
+            try {
+                specsListener.specLoaded(specName, specValue);
+            } catch (Exception specsListenerException) {
+                // A listener failing should never break loading specs.
+            }
+        }
+    }
+
+    private void publishLoadedSpec(String specName, List<String> specValues) {
+        publishLoadedSpec(specName, String.join(" + ", specValues));
     }
 
     public void reloadSpecs(String adminPassword, boolean isTestMode) {
+        reloadSpecs(adminPassword, isTestMode, null);
+    }
+
+    public synchronized void reloadSpecs(String adminPassword, boolean isTestMode, SpecsListener specsListener) {
+        // This is synchronized so that specs categories can never be swapped in by "reloadSpecsCategories" (and two full reloads can never run at once) while the lists are being cleared and loaded,
+        // which could otherwise leave mixed or duplicated lists (or throw a ConcurrentModificationException while they are being read to check for changes).
+        fullReloadCount++;
+        this.specsListener = specsListener;
+
+        try {
+            loadSpecs(adminPassword, isTestMode);
+        } finally {
+            this.specsListener = null;
+        }
+    }
+
+    private void loadSpecs(String adminPassword, boolean isTestMode) {
         try {
             String adminPasswordQuotedForShell = "'" + adminPassword.replace("'", "'\\''") + "'";
 
+            CommandFixtures.setRecordingAdminPassword(adminPassword); // Some commands below include the admin password, which must never be saved if command fixtures are being recorded.
+
             if (isTestMode) {
                 System.out.println("\n\nReloading Specs in Test Mode");
             }
@@ -260,11 +954,16 @@ public final class GetComputerSpecs {
             fullCPU = "N/A";
             cpuThreadCount = 0;
             ram = "N/A";
+            ramBytes = 0L;
+            ramSpeedMHz = 0;
             fullRAM = "N/A";
             motherboardRAM = "N/A";
             fullMotherboardRAM = "N/A";
             storage = "N/A";
             storageArray.clear();
+            storageSizesBytesArray.clear();
+            storageKindsArray.clear();
+            storageModelsArray.clear();
             storageSerial = "";
             storageSerialsArray.clear();
             disksFormattedWithoutPartitionTable.clear();
@@ -273,6 +972,9 @@ public final class GetComputerSpecs {
             driveTrimWarning = false;
             driveRecalled = false;
             batteryHealthArray.clear();
+            batteryCapacityPercentsArray.clear();
+            batteryCycleCountsArray.clear();
+            batteryVoltsArray.clear();
             powerAdapter = "";
             batteryHealthWarningArray.clear();
             batteryHealthErrorArray.clear();
@@ -313,7 +1015,7 @@ public final class GetComputerSpecs {
                     actualMacOSversion = System.getProperty("os.version"); // This should never be needed, just just in case.
                 }
 
-                String[] versionParts = actualMacOSversion.replaceAll("[^0-9.]", "").split("\\.");
+                String[] versionParts = SpecsParsing.keepDigitsAndPeriods(actualMacOSversion).split("\\.");
 
                 if (versionParts.length >= 2 && versionParts[0].equals("10")) {
                     int minorVersionPart = Integer.parseInt(versionParts[1]);
@@ -452,21 +1154,15 @@ public final class GetComputerSpecs {
                 aptCachePolicyCommand.addAll(requiredLinuxToolsPackages);
                 String[] aptCachePolicyCommandArray = aptCachePolicyCommand.toArray(String[]::new);
 
-                if (!adminPassword.equals("*UNKNOWN*") && (new CommandReader(aptCachePolicyCommandArray).getOutputLinesContaining("Installed: (none)").length > 0)) {
+                if ((specsCategoriesToLoad == null) && !adminPassword.equals("*UNKNOWN*") && (new CommandReader(aptCachePolicyCommandArray).getOutputLinesContaining("Installed: (none)").length > 0)) {
                     if (isTestMode) {
                         System.out.println("installedLinuxToolsLocations:\n" + new CommandReader(aptCachePolicyCommandArray).getOutputLinesAsString());
                     }
 
                     boolean requiredToolsAreInstalled = false;
 
-                    try {
-                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/apt-get install --no-install-recommends -qq " + String.join(" ", requiredLinuxToolsPackages)}).waitFor();
-                        requiredToolsAreInstalled = (new CommandReader(aptCachePolicyCommandArray).getOutputLinesContaining("Installed: (none)").length == 0);
-                    } catch (IOException | InterruptedException installRequiredToolsException) {
-                        if (isTestMode) {
-                            System.out.println("installRequiredToolsException: " + installRequiredToolsException);
-                        }
-                    }
+                    PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/apt-get install --no-install-recommends -qq " + String.join(" ", requiredLinuxToolsPackages), isTestMode);
+                    requiredToolsAreInstalled = (new CommandReader(aptCachePolicyCommandArray).getOutputLinesContaining("Installed: (none)").length == 0);
 
                     if (new File("/proc/cmdline").exists()) {
                         try {
@@ -479,7 +1175,20 @@ public final class GetComputerSpecs {
                         }
                     }
 
-                    if (!requiredToolsAreInstalled && !isLinuxUbiquityMode) {
+                    if (!requiredToolsAreInstalled && isHeadless) {
+                        // Can't launch a Terminal window to install the required tools when headless, so report which packages are still missing instead of silently loading incomplete specs.
+                        ArrayList<String> missingLinuxToolsPackages = new ArrayList<>();
+                        String thisAptCachePolicyPackage = "";
+                        for (String thisAptCachePolicyLine : new CommandReader(aptCachePolicyCommandArray).getOutputLines()) {
+                            if (!thisAptCachePolicyLine.startsWith(" ") && thisAptCachePolicyLine.endsWith(":")) {
+                                thisAptCachePolicyPackage = thisAptCachePolicyLine.substring(0, (thisAptCachePolicyLine.length() - 1));
+                            } else if (thisAptCachePolicyLine.contains("Installed: (none)") && !thisAptCachePolicyPackage.isEmpty()) {
+                                missingLinuxToolsPackages.add(thisAptCachePolicyPackage);
+                            }
+                        }
+
+                        loadSpecsExceptionString = "Required Tools Not Installed: " + (missingLinuxToolsPackages.isEmpty() ? "UNKNOWN" : String.join(", ", missingLinuxToolsPackages));
+                    } else if (!requiredToolsAreInstalled && !isLinuxUbiquityMode) {
                         try {
                             File waitForTerminalPIDtempFile = File.createTempFile("qa_helper-wait_for_terminal_pid", ".txt");
                             waitForTerminalPIDtempFile.deleteOnExit();
@@ -527,13 +1236,146 @@ public final class GetComputerSpecs {
                     }
                 }
 
+                // Start all of the spec probes that don't depend on each other right away so that they run concurrently while their results are parsed below in the same order as always.
+                // The "lshw" and HD Sentinel probes depend on parsed results (RAM and Product Name from "dmidecode" and "lsmem", and internal drives from "lsblk"), so they are started as soon as those are known.
+                // This makes loading specs take about as long as the longest chain of probes rather than the sum of every single probe.
+                SpecsProbeRunner specsProbes = new SpecsProbeRunner(isTestMode);
+
+                // When only reloading some specs categories (see "reloadSpecsCategories"), only the probes needed for those categories are started.
+                // Any probes that are not started will just get their fallback results below, which leaves the specs from other categories as "N/A" in the partial specs which are then ignored.
+                if (specsCategoriesToLoad == null) {
+                    specsProbes.addProbe("lsb_release -ds", () -> new CommandReader(new String[]{"/usr/bin/lsb_release", "-ds"}).getFirstOutputLine());
+                    specsProbes.addProbe("lsb_release -cs", () -> new CommandReader(new String[]{"/usr/bin/lsb_release", "-cs"}).getFirstOutputLine());
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.SCREEN)) {
+                    specsProbes.addProbe("xinput", () -> {
+                        // "/proc/bus/input/devices" lists the same device names as "xinput" without needing to launch it (or even for X to be running), so only fall back on "xinput" if it can't be read.
+                        Boolean hasATTranslatedKeyboard = LinuxSysfsReader.hasInputDeviceNameContaining("AT Translated");
+                        if (hasATTranslatedKeyboard != null) {
+                            return (hasATTranslatedKeyboard ? "AT Translated" : "");
+                        }
+
+                        return new CommandReader(new String[]{"/usr/bin/xinput"}).getFirstOutputLineContaining("AT Translated");
+                    });
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.BATTERY, SpecsCategory.SCREEN)) { // Battery Design Voltage and Chassis Type (for "hasScreen") come from "dmidecode".
+                    specsProbes.addProbe("dmidecode", () -> {
+                        // Without admin, "dmidecode" can't read anything at all, but the System, Base Board, and Chassis Information (other than serials and UUID) can still be read from "/sys/class/dmi/id/".
+                        // With admin, still run "dmidecode" since the OEM Strings (for Dell SKUs), Memory Arrays and Devices (for RAM), Portable Battery (for Design Voltage), and serials and UUID are only available from it.
+                        // But, if "dmidecode" still doesn't output anything (such as if it isn't installed), fall back on what can be read from "/sys/class/dmi/id/".
+                        if (adminPassword.equals("*UNKNOWN*")) {
+                            String[] sysfsDmidecodeLines = LinuxSysfsReader.getDmidecodeLines();
+                            if (sysfsDmidecodeLines != null) {
+                                return sysfsDmidecodeLines;
+                            }
+                        }
+
+                        String[] dmidecodeLines = PrivilegedCommandSession.runCommand(adminPassword, "/usr/sbin/dmidecode --type 1,2,3,11,16,17,22", isTestMode).getOutputLines();
+                        if (dmidecodeLines.length == 0) {
+                            String[] sysfsDmidecodeLines = LinuxSysfsReader.getDmidecodeLines();
+                            if (sysfsDmidecodeLines != null) {
+                                return sysfsDmidecodeLines;
+                            }
+                        }
+
+                        return dmidecodeLines;
+                    });
+                }
+                if (specsCategoriesToLoad == null) {
+                    specsProbes.addProbe("lsmem", () -> {
+                        // "lsmem" just totals the online memory blocks in "/sys/devices/system/memory/", so do the same directly and only fall back on "lsmem" if they can't be read.
+                        Long sysfsTotalOnlineMemoryBytes = LinuxSysfsReader.getTotalOnlineMemoryBytes();
+                        if (sysfsTotalOnlineMemoryBytes != null) {
+                            return sysfsTotalOnlineMemoryBytes.toString();
+                        }
+
+                        String lsmemTotalOutput = new CommandReader(new String[]{"/usr/bin/lsmem", "-b"}).getFirstOutputLineContaining("Total online memory:");
+                        return (lsmemTotalOutput.contains(": ") ? lsmemTotalOutput.substring(lsmemTotalOutput.indexOf(": ") + 2).trim() : "");
+                    });
+                    specsProbes.addProbe("lscpu", () -> {
+                        if (!CommandFixtures.isReplaying()) { // Warming up the CPU would only slow down replaying since the replayed "lscpu" output already has the speed that was recorded.
+                            try {
+                                // Start up a "yes" process and sleep a half second to get an accurate cpuCurrentSpeedString
+                                Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "/usr/bin/yes > /dev/null & /bin/sleep 0.5"}).waitFor();
+                            } catch (IOException | InterruptedException yesForLscpuException) {
+                                if (isTestMode) {
+                                    System.out.println("yesForLscpuException: " + yesForLscpuException);
+                                }
+                            }
+                        }
+
+                        return getLinuxLscpuOutput();
+                    });
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.STORAGE)) {
+                    specsProbes.addProbe("lsblk", () -> {
+                        // Read the same "/sys/block/" files and udev database that "lsblk" does (such as "size" and "queue/rotational") and only fall back on "lsblk" if they can't be read.
+                        String[] sysfsLsblkLines = LinuxSysfsReader.getLsblkLines();
+                        if (sysfsLsblkLines != null) {
+                            return sysfsLsblkLines;
+                        }
+
+                        return new CommandReader(new String[]{"/bin/lsblk", "-abdPpo", "NAME,SIZE,TRAN,ROTA,TYPE,RM,RO,SERIAL,VENDOR,MODEL", "-x", "NAME"}).getOutputLines();
+                    });
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.NETWORK)) {
+                    specsProbes.addProbe("nmcli", () -> new CommandReader(new String[]{"/usr/bin/nmcli", "-f", "GENERAL.VENDOR,GENERAL.PRODUCT,GENERAL.HWADDR,GENERAL.TYPE", "device", "show"}, 15).getOutputLines());
+                    specsProbes.addProbe("mmcli", () -> new CommandReader(new String[]{"/usr/bin/mmcli", "--list-modems"}, 15).getOutputLines());
+                    specsProbes.addProbe("btmgmt", () -> new CommandReader(new String[]{"/usr/bin/btmgmt", "info"}, 15).getOutputLinesContaining(new String[]{" version ", "supported settings:"}));
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.GPU, SpecsCategory.AUDIO, SpecsCategory.NETWORK)) { // "lspci" is also used as a fallback to detect cellular cards.
+                    specsProbes.addProbe("pci.ids", () -> extractPCIidsDb(isTestMode));
+                    specsProbes.addProbe("lspci", () -> {
+                        ArrayList<String> lspciCommand = new ArrayList<>();
+                        lspciCommand.addAll(Arrays.asList("/usr/bin/lspci", "-vnnmm"));
+
+                        String pciIDsDbPath = specsProbes.getProbeOutputLine("pci.ids");
+                        if (!pciIDsDbPath.isEmpty()) {
+                            lspciCommand.addAll(Arrays.asList("-i", pciIDsDbPath));
+                        }
+
+                        return new CommandReader(lspciCommand.toArray(String[]::new)).getOutputLines();
+                    }, "pci.ids");
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.BATTERY)) {
+                    specsProbes.addProbe("upower -i", () -> {
+                        // Read the same "/sys/class/power_supply/" files that UPower does (such as "cycle_count" and the full and design energies for the capacity) and only fall back on "upower" if they can't be read.
+                        LinkedHashMap<String, String[]> allBatteryInfo = LinuxSysfsReader.getUpowerBatteryInfo();
+                        if (allBatteryInfo != null) {
+                            return allBatteryInfo;
+                        }
+
+                        allBatteryInfo = new LinkedHashMap<>();
+
+                        for (String thisPowerSource : new CommandReader(new String[]{"/usr/bin/upower", "-e"}).getOutputLines()) {
+                            if (!thisPowerSource.endsWith("/DisplayDevice")) { // Ignore the "DisplayDevice": https://upower.freedesktop.org/docs/UPower.html#UPower.GetDisplayDevice
+                                allBatteryInfo.put(thisPowerSource, new CommandReader(new String[]{"/usr/bin/upower", "-i", thisPowerSource}).getOutputLines());
+                            }
+                        }
+
+                        return allBatteryInfo;
+                    });
+                }
+                if (shouldLoadSpecsCategory(SpecsCategory.SCREEN)) {
+                    specsProbes.addProbe("udevadm", () -> {
+                        // Check the input devices in the udev database files directly instead of exporting the whole database, and only fall back on "udevadm" if they can't be read.
+                        Boolean hasUdevTouchscreen = LinuxSysfsReader.hasUdevInputDeviceProperty("ID_INPUT_TOUCHSCREEN=1");
+                        if (hasUdevTouchscreen != null) {
+                            return (hasUdevTouchscreen ? "ID_INPUT_TOUCHSCREEN=1" : "");
+                        }
+
+                        return new CommandReader(new String[]{(new File("/usr/bin/udevadm").exists() ? "/usr/bin/udevadm" : "/sbin/udevadm"), "info", "--export-db"}, 30).getFirstOutputLineContaining("ID_INPUT_TOUCHSCREEN=1"); // The udev database can be huge, but reading stops (and udevadm gets killed) as soon as a touchscreen is found.
+                    });
+                    specsProbes.addProbe("xrandr", () -> new CommandReader(new String[]{"/usr/bin/xrandr"}).getOutputLines());
+                }
+
                 // Java os.name and os.version are not flavor specific enough in Linux
-                String linuxReleaseDescription = new CommandReader(new String[]{"/usr/bin/lsb_release", "-ds"}).getFirstOutputLine();
+                String linuxReleaseDescription = specsProbes.getProbeOutputLine("lsb_release -ds");
                 if (!linuxReleaseDescription.isEmpty()) {
                     os = linuxReleaseDescription;
                 }
 
-                String linuxReleaseCodename = new CommandReader(new String[]{"/usr/bin/lsb_release", "-cs"}).getFirstOutputLine();
+                String linuxReleaseCodename = specsProbes.getProbeOutputLine("lsb_release -cs");
                 if (!linuxReleaseCodename.isEmpty() && !os.toLowerCase().contains(linuxReleaseCodename.toLowerCase())) {
                     os += " " + linuxReleaseCodename.substring(0, 1).toUpperCase() + linuxReleaseCodename.substring(1);
                 }
@@ -549,10 +1391,10 @@ public final class GetComputerSpecs {
                     }
                 }
 
-                isLaptop = !new CommandReader(new String[]{"/usr/bin/xinput"}).getFirstOutputLineContaining("AT Translated").isEmpty(); // "AT Translated Set 2 keyboard" is always in internal keyboard which will only exist on laptops (Only checking Chassis Type is not reliable enough).
+                isLaptop = !specsProbes.getProbeOutputLine("xinput").isEmpty(); // "AT Translated Set 2 keyboard" is always in internal keyboard which will only exist on laptops (Only checking Chassis Type is not reliable enough).
 
                 // Use dmidecode for Model, Chassis, RAM, and Battery Design Voltage.
-                String[] dmidecodeLines = new CommandReader("printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/sbin/dmidecode --type 1,2,3,11,16,17,22").getOutputLines();
+                String[] dmidecodeLines = specsProbes.getProbeOutputLines("dmidecode");
 
                 String thisDmidecodeCategoryHandle = "Unknown";
                 String thisDmidecodeCategory = "Unknown";
@@ -588,7 +1430,7 @@ public final class GetComputerSpecs {
                     }
 
                     if (thisDmidecodeLine.contains(": ")) {
-                        String thisDmidecodeProperty = thisDmidecodeLine.substring(thisDmidecodeLine.indexOf(": ") + 2).replaceAll("^[. /]+", "").replaceAll("[. /]+$", ""); // Trim all leading and trailing spaces, periods, and slashes.
+                        String thisDmidecodeProperty = SpecsParsing.trimPeriodsSpacesAndSlashes(thisDmidecodeLine, thisDmidecodeLine.indexOf(": ") + 2); // Trim all leading and trailing spaces, periods, and slashes.
 
                         if (!thisDmidecodeProperty.isEmpty()) {
                             switch (thisDmidecodeCategory) {
@@ -598,13 +1440,13 @@ public final class GetComputerSpecs {
                                             brand = cleanComputerBrand(thisDmidecodeProperty);
                                         } else if (thisDmidecodeLine.startsWith("\tProduct Name:")) {
                                             systemProductName = thisDmidecodeProperty;
-                                        } else if (thisDmidecodeLine.startsWith("\tVersion:") && thisDmidecodeProperty.replaceAll("[^A-Za-z0-9]", "").length() > 4) {
+                                        } else if (thisDmidecodeLine.startsWith("\tVersion:") && SpecsParsing.countAlphanumerics(thisDmidecodeProperty) > 4) {
                                             model = thisDmidecodeProperty;
                                         } else if (thisDmidecodeLine.startsWith("\tSerial Number:")) {
                                             serial = thisDmidecodeProperty;
                                         } else if (thisDmidecodeLine.startsWith("\tUUID:")) {
                                             hardwareUUID = thisDmidecodeProperty.toUpperCase();
-                                        } else if (thisDmidecodeLine.startsWith("\tSKU Number:") && thisDmidecodeProperty.replaceAll("[^A-Za-z0-9]", "").length() > 1) {
+                                        } else if (thisDmidecodeLine.startsWith("\tSKU Number:") && SpecsParsing.countAlphanumerics(thisDmidecodeProperty) > 1) {
                                             systemProductSKU = thisDmidecodeProperty;
                                         }
                                     }
@@ -616,7 +1458,7 @@ public final class GetComputerSpecs {
                                             possibleMotherboardBrand = cleanComputerBrand(thisDmidecodeProperty);
                                         } else if (thisDmidecodeLine.startsWith("\tProduct Name:")) {
                                             possibleMotherboardModel = thisDmidecodeProperty;
-                                        } else if (thisDmidecodeLine.startsWith("\tVersion:") && thisDmidecodeProperty.replaceAll("[^A-Za-z0-9]", "").length() > 4) {
+                                        } else if (thisDmidecodeLine.startsWith("\tVersion:") && SpecsParsing.countAlphanumerics(thisDmidecodeProperty) > 4) {
                                             possibleMotherboardVersion = thisDmidecodeProperty;
                                         } else if (thisDmidecodeLine.startsWith("\tSerial Number:")) {
                                             possibleMotherboardSerial = thisDmidecodeProperty;
@@ -696,7 +1538,7 @@ public final class GetComputerSpecs {
                                         thisBatteryName = thisDmidecodeProperty;
                                     } else if (thisDmidecodeLine.startsWith("\tDesign Voltage:")) {
                                         try {
-                                            batteryDesignVoltages.put(thisBatteryManufacturer + " " + thisBatteryName, new DecimalFormat("#.#").format(Double.parseDouble(thisDmidecodeProperty.replaceAll("[^0-9]", "")) / 1000));
+                                            batteryDesignVoltages.put(thisBatteryManufacturer + " " + thisBatteryName, new DecimalFormat("#.#").format(Double.parseDouble(SpecsParsing.keepDigits(thisDmidecodeProperty)) / 1000));
                                         } catch (NumberFormatException batteryDesignVoltageException) {
                                             if (isTestMode) {
                                                 System.out.println("batteryDesignVoltageException: " + batteryDesignVoltageException);
@@ -779,6 +1621,7 @@ public final class GetComputerSpecs {
                                 } else if (ramType.isEmpty() && thisDmidecodeMemoryDeviceLine.startsWith("\tType:") && thisDmidecodeMemoryDeviceProperty.contains("DDR")) {
                                     ramType = " " + thisDmidecodeMemoryDeviceProperty;
                                 } else if (ramSpeed.isEmpty() && thisDmidecodeMemoryDeviceLine.startsWith("\tSpeed:") && (thisDmidecodeMemoryDeviceProperty.contains(" MT/s") || thisDmidecodeMemoryDeviceProperty.contains(" MHz"))) {
+                                    ramSpeedMHz = getRAMSpeedMHz(thisDmidecodeMemoryDeviceProperty);
                                     ramSpeed = " @ " + thisDmidecodeMemoryDeviceProperty.replace(" MT/s", " MHz").replace("32 ", "33 ").replace("34 ", "33 ").replace("67 ", "66 "); // MT/s is actually more correct, but MHz is what people are used to. Also, replace any MHz speeds that end with "32" or "34" to "33" and "67" to "66" to account for rounding differences (such as "1332 MHz" vs "1333 MHz" and "2667 MHz" vs "2666 MHz" etc) that would make the software show a slightly different number than what would be on the actual RAM label.
                                 } else if (ramVoltage.isEmpty() && thisDmidecodeMemoryDeviceLine.startsWith("\tConfigured Voltage:") && thisDmidecodeMemoryDeviceProperty.contains(" V")) {
                                     ramVoltage = thisDmidecodeMemoryDeviceProperty;
@@ -788,11 +1631,9 @@ public final class GetComputerSpecs {
                     }
                 }
 
-                // Use lsmem for Total RAM (because dmidecode won't get any RAM info if we don't have admin password and it's more accurate than free and lshw)
-                String lsmemTotalOutput = new CommandReader(new String[]{"/usr/bin/lsmem", "-b"}).getFirstOutputLineContaining("Total online memory:");
-                if (lsmemTotalOutput.contains(": ")) {
-                    String lsmemTotalBytesString = lsmemTotalOutput.substring(lsmemTotalOutput.indexOf(": ") + 2).trim();
-
+                // Use lsmem (or the same online memory blocks it reads from sysfs) for Total RAM (because dmidecode won't get any RAM info if we don't have admin password and it's more accurate than free and lshw)
+                String lsmemTotalBytesString = specsProbes.getProbeOutputLine("lsmem");
+                if (!lsmemTotalBytesString.isEmpty()) {
                     try {
                         long totalRAMbytes = Long.parseLong(lsmemTotalBytesString);
 
@@ -801,6 +1642,7 @@ public final class GetComputerSpecs {
                         }
 
                         ram = new DecimalFormat("#").format((totalRAMbytes / 1024 / 1024 / 1024)) + " GB";
+                        ramBytes = totalRAMbytes;
                     } catch (NumberFormatException ramSizeException) {
                         if (isTestMode) {
                             System.out.println("ramSizeException: " + ramSizeException);
@@ -808,24 +1650,68 @@ public final class GetComputerSpecs {
                     }
                 }
 
-                // Use lscpu for Processor info instead of dmidecode or lshw because it always loads full info without admin.
-                String cpuThreadsPerCore = "";
+                publishLoadedSpec("Brand", brand);
+                publishLoadedSpec("Model", model);
+                publishLoadedSpec("Serial", serial);
+                publishLoadedSpec("RAM", ram);
+
+                // Now that RAM and Product Name are known from "dmidecode" and "lsmem", start the "lshw" probe which only loads the classes that are still needed (see comments where "lshw" is parsed below).
+                // The "lshw" output will be parsed below after everything else that was already started, but it will be running the whole time.
+                boolean lshwNeedsMemoryClass = ram.equals("N/A");
+                boolean lshwNeedsSystemClass = systemProductName.equals("N/A");
+                if (shouldLoadSpecsCategory(SpecsCategory.STORAGE, SpecsCategory.DISC_DRIVE)) {
+                    specsProbes.addProbe("lshw", () -> {
+                        // Use lshw for Disc Drives, and to detect Hard Drives formatted without a partition table
+                        // Must also load Storage class to be able to exclude drives connected via USB.
+                        // Volume class is loaded to catch Disks formatted without a partition table.
+                        ArrayList<String> lshwCommand = new ArrayList<>();
+                        lshwCommand.addAll(Arrays.asList("/usr/bin/lshw", "-xml", "-c", "storage", "-c", "disk", "-c", "volume"));
+
+                        // ALSO: Use lshw for systemProductName and ram in case we didn't get them using dmidecode and lsmem. This is useful for ARM procs (such as Raspberry Pi) which don't have dmidecode or lsmem.
+                        if (lshwNeedsMemoryClass) {
+                            lshwCommand.addAll(Arrays.asList("-c", "memory"));
+                        }
+                        if (lshwNeedsSystemClass) {
+                            lshwCommand.addAll(Arrays.asList("-c", "system"));
+                        }
 
-                try {
-                    // Start up a "yes" process and sleep a half second to get an accurate cpuCurrentSpeedString
-                    Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "/usr/bin/yes > /dev/null & /bin/sleep 0.5"}).waitFor();
-                } catch (IOException | InterruptedException yesForLscpuException) {
-                    if (isTestMode) {
-                        System.out.println("yesForLscpuException: " + yesForLscpuException);
-                    }
+                        // lshw can hang on some buggy hardware, so give it a deadline. When run with sudo, it must also be run with "timeout" since the CommandReader deadline can't kill a process owned by root.
+                        // The XML is parsed as it streams from the command (in this probe thread) so that the whole output never needs to be held in a string or a DOM.
+                        LshwXMLParser lshwXMLParser = new LshwXMLParser();
+                        if (adminPassword.equals("*UNKNOWN*")) {
+                            new CommandReader(lshwCommand.toArray(String[]::new), 60).readOutput(lshwXMLParser::parse);
+                        } else {
+                            PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/timeout 60 " + String.join(" ", lshwCommand), 65, isTestMode).readOutput(lshwXMLParser::parse);
+                        }
+
+                        return lshwXMLParser;
+                    });
                 }
 
+                // Use lscpu for Processor info instead of dmidecode or lshw because it always loads full info without admin.
+                String cpuThreadsPerCore = "";
+
                 double cpuCurrentSpeedMHz = -1.0; // Initialize to "-1" to be able to determine if the "CPU MHz:" doesn't exist at all.
 
                 for (int lscpuAttempt = 0; lscpuAttempt < 2; lscpuAttempt++) {
                     // Re-attempt if cpuCurrentSpeedMHz is less that 1000 MHz
-                    String[] lscpuLines = new CommandReader(new String[]{"/usr/bin/lscpu"}).getOutputLines();
-                    String[] lscpuCoreLines = new CommandReader(new String[]{"/usr/bin/lscpu", "-p=SOCKET,CPU,MHZ,MAXMHZ,CORE"}).getOutputLinesNotContaining("#"); // Ignore header lines that start with "#"
+                    if ((lscpuAttempt > 0) && !specsProbes.hasProbe("lscpu")) {
+                        break; // Don't re-attempt when the "lscpu" probe wasn't started because only some specs categories are being reloaded.
+                    }
+
+                    String[] lscpuLines;
+                    String[] lscpuCoreLines;
+
+                    if (lscpuAttempt == 0) {
+                        // The first attempt (with the "yes" process already started) was run by the "lscpu" probe.
+                        String[][] lscpuProbeOutput = specsProbes.getProbeResult("lscpu", new String[][]{new String[0], new String[0]});
+                        lscpuLines = lscpuProbeOutput[0];
+                        lscpuCoreLines = lscpuProbeOutput[1];
+                    } else {
+                        String[][] lscpuOutput = getLinuxLscpuOutput();
+                        lscpuLines = lscpuOutput[0];
+                        lscpuCoreLines = lscpuOutput[1];
+                    }
 
                     for (String thisLscpuLine : lscpuLines) {
                         if (thisLscpuLine.contains(": ")) {
@@ -861,21 +1747,21 @@ public final class GetComputerSpecs {
                     // Don't determine P cores by hyperthreading since there are some CPUs where the P cores are not hyperthreaded such as: https://ark.intel.com/content/www/us/en/ark/products/226264/intel-celeron-processor-7305-8m-cache-1-10-ghz.html
                     HashMap<String, HashMap<String, ArrayList<String>>> cpuCoresInfo = new HashMap<>();
                     HashMap<String, Integer> cpuCoresCurrentSpeeds = new HashMap<>();
+                    DecimalFormat cpuCoreMaxSpeedFormat = new DecimalFormat("#.#"); // Only create this once instead of 3 times for every core line.
                     for (String thisLscpuCoreLine : lscpuCoreLines) {
-                        String[] thisCpuCoreLineParts = thisLscpuCoreLine.split(",");
-                        if (thisCpuCoreLineParts.length == 5) {
-                            String thisSocketID = thisCpuCoreLineParts[0];
-                            if (thisSocketID.equals("0")) { // Only ever examine SOCKET #0 because if there are multiple CPUs they should match and the P+E core counts should be the same.
-                                String thisCoreMaxString = thisCpuCoreLineParts[3];
+                        SpecsParsing.LineFields thisCpuCoreLineFields = new SpecsParsing.LineFields(thisLscpuCoreLine, ',', false);
+                        if (thisCpuCoreLineFields.getFieldCount() == 5) {
+                            if (thisCpuCoreLineFields.fieldEquals(0, "0")) { // Only ever examine SOCKET #0 because if there are multiple CPUs they should match and the P+E core counts should be the same.
+                                String thisCoreMaxString = thisCpuCoreLineFields.getField(3);
                                 if (thisCoreMaxString.isEmpty()) {
                                     thisCoreMaxString = "0";
                                 } else {
                                     try {
-                                        thisCoreMaxString = new DecimalFormat("#.#").format((Double.parseDouble(thisCoreMaxString) / 1000));
+                                        thisCoreMaxString = cpuCoreMaxSpeedFormat.format((Double.parseDouble(thisCoreMaxString) / 1000));
 
                                         double thisCoreMaxDouble = Double.parseDouble(thisCoreMaxString);
-                                        String thisCoreMaxStringRoundUp = new DecimalFormat("#.#").format(thisCoreMaxDouble + 0.1);
-                                        String thisCoreMaxStringRoundDown = new DecimalFormat("#.#").format(thisCoreMaxDouble - 0.1);
+                                        String thisCoreMaxStringRoundUp = cpuCoreMaxSpeedFormat.format(thisCoreMaxDouble + 0.1);
+                                        String thisCoreMaxStringRoundDown = cpuCoreMaxSpeedFormat.format(thisCoreMaxDouble - 0.1);
 
                                         if (cpuCoresInfo.containsKey(thisCoreMaxStringRoundUp)) {
                                             thisCoreMaxString = thisCoreMaxStringRoundUp;
@@ -891,15 +1777,15 @@ public final class GetComputerSpecs {
                                     cpuCoresInfo.put(thisCoreMaxString, new HashMap<>());
                                 }
 
-                                String thisCoreID = thisCpuCoreLineParts[4];
+                                String thisCoreID = thisCpuCoreLineFields.getField(4);
 
                                 if (!cpuCoresInfo.get(thisCoreMaxString).containsKey(thisCoreID)) {
                                     cpuCoresInfo.get(thisCoreMaxString).put(thisCoreID, new ArrayList<>());
                                 }
 
-                                cpuCoresInfo.get(thisCoreMaxString).get(thisCoreID).add(thisCpuCoreLineParts[1]);
+                                cpuCoresInfo.get(thisCoreMaxString).get(thisCoreID).add(thisCpuCoreLineFields.getField(1));
 
-                                String thisCoreCurrentMHzString = thisCpuCoreLineParts[2];
+                                String thisCoreCurrentMHzString = thisCpuCoreLineFields.getField(2);
                                 if (thisCoreCurrentMHzString.isEmpty()) {
                                     thisCoreCurrentMHzString = "0";
                                 }
@@ -975,7 +1861,7 @@ public final class GetComputerSpecs {
 
                     if ((cpuCurrentSpeedMHz < 0) || (cpuCurrentSpeedMHz >= 1000)) {
                         break;
-                    } else {
+                    } else if (!CommandFixtures.isReplaying()) {
                         try {
                             // Start up ANOTHER "yes" process and sleep a half second to get an accurate cpuCurrentSpeedString
                             Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "/usr/bin/yes > /dev/null & /bin/sleep 0.5"}).waitFor();
@@ -1010,34 +1896,36 @@ public final class GetComputerSpecs {
 
                 }
 
+                publishLoadedSpec("CPU", cpu);
+
                 // Use lsblk for Hard Drives (because it loads without admin and detects NVMe drives, which lshw doesn't)
-                String[] hardDrives = new CommandReader(new String[]{"/bin/lsblk", "-abdPpo", "NAME,SIZE,TRAN,ROTA,TYPE,RM,RO,SERIAL,VENDOR,MODEL", "-x", "NAME"}).getOutputLines();
+                String[] hardDrives = specsProbes.getProbeOutputLines("lsblk");
 
                 ArrayList<String> internalDriveLogicalNames = new ArrayList<>();
 
                 if (hardDrives.length > 0) {
                     for (String thisHardDrive : hardDrives) {
-                        String[] thisHardDriveParts = thisHardDrive.split("\"", -1); // Set -1 limit to include trailing empty elements since it may be possible for the model to be an empty string.
-                        // Split lines on double quotes (") to easily extract each value out of each "lsblk" line, which will be like: NAME="/dev/sda" SIZE="1234567890" TRAN="sata" ROTA="0" TYPE="disk" RM="0" RO="0" SERIAL="ABC123" VENDOR="Some Brand" MODEL="Some Model Name"
-                        if (thisHardDriveParts.length >= 21) {
+                        SpecsParsing.LineFields thisHardDriveFields = new SpecsParsing.LineFields(thisHardDrive, '"', true); // Include trailing empty fields since it may be possible for the model to be an empty string.
+                        // Use double quotes (") as the field delimiter to easily extract each value out of each "lsblk" line, which will be like: NAME="/dev/sda" SIZE="1234567890" TRAN="sata" ROTA="0" TYPE="disk" RM="0" RO="0" SERIAL="ABC123" VENDOR="Some Brand" MODEL="Some Model Name"
+                        if (thisHardDriveFields.getFieldCount() >= 21) {
                             int thisDriveValueIndex = 1;
-                            String thisDriveFullID = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveFullID = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveSizeBytes = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveSizeBytes = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveTransport = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveTransport = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveRotational = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveRotational = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveType = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveType = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveRemovable = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveRemovable = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveReadOnly = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveReadOnly = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
-                            String thisDriveSerial = thisHardDriveParts[thisDriveValueIndex].replaceAll("^[. /]+", "").replaceAll("[. /]+$", ""); // Trim all leading and trailing spaces, periods, and slashes.
+                            String thisDriveSerial = SpecsParsing.trimPeriodsSpacesAndSlashes(thisHardDriveFields.getField(thisDriveValueIndex)); // Trim all leading and trailing spaces, periods, and slashes.
                             thisDriveValueIndex += 2;
-                            String thisDriveBrand = thisHardDriveParts[thisDriveValueIndex];
+                            String thisDriveBrand = thisHardDriveFields.getField(thisDriveValueIndex);
                             thisDriveValueIndex += 2;
 
                             // Only list DISKs that have a TRANsport type of SATA or ATA or NVMe or MMC (for eMMC embedded Memory Cards, which is confirmed below).
@@ -1047,9 +1935,8 @@ public final class GetComputerSpecs {
 
                                     boolean mmcIsEmbedded = false;
                                     if (thisDriveTransport.equals("mmc")) {
-                                        // "udevadm" is at "/sbin/udevadm" on Mint 19.3 and older, but is at "/usr/bin/udevadm" on at least Mint 20.2 and newer. maybe only after usrmerge.
-                                        String mmcType = new CommandReader(new String[]{(new File("/usr/bin/udevadm").exists() ? "/usr/bin/udevadm" : "/sbin/udevadm"), "info", "--query", "property", "--property", "MMC_TYPE", "--value", thisDriveFullID}).getFirstOutputLine();
-                                        if (mmcType.equals("MMC") || (mmcType.isEmpty() && !new CommandReader(new String[]{(new File("/usr/bin/udevadm").exists() ? "/usr/bin/udevadm" : "/sbin/udevadm"), "info", "--query", "property", "--property", "ID_PATH", "--value", thisDriveFullID}).getFirstOutputLine().contains("sdmmc"))) {
+                                        String mmcType = getLinuxUdevBlockDeviceProperty(thisDriveFullID, "MMC_TYPE");
+                                        if (mmcType.equals("MMC") || (mmcType.isEmpty() && !getLinuxUdevBlockDeviceProperty(thisDriveFullID, "ID_PATH").contains("sdmmc"))) {
                                             // Only show eMMC which should have "MMC_TYPE" of "MMC" rather than "SD" (regular Memory Cards can still show as non-removable from "lsblk" though).
                                             // Or, if "MMC_TYPE" doesn't exist (on older versions of "udevadm"?), eMMC should have some "ID_PATH" not containing "sdmmc" which would indicate an actual Memory Card.
                                             mmcIsEmbedded = true;
@@ -1070,12 +1957,13 @@ public final class GetComputerSpecs {
                                             thisDriveSize = new DecimalFormat("#").format((thisDriveGB / 1000)) + " TB";
                                         }
 
-                                        String thisDisk = thisDriveSize + " " + (thisDiskIsNVMe ? "NVMe" : (thisDriveTransport.equals("mmc") ? "eMMC" : (thisDriveRotational.equals("0") ? "SSD" : "HDD"))); // Only internal embedded MMC drives will be detected based on conditions above, so display them as "eMMC".
+                                        String thisDriveKind = (thisDiskIsNVMe ? "NVMe" : (thisDriveTransport.equals("mmc") ? "eMMC" : (thisDriveRotational.equals("0") ? "SSD" : "HDD"))); // Only internal embedded MMC drives will be detected based on conditions above, so display them as "eMMC".
+                                        String thisDisk = thisDriveSize + " " + thisDriveKind;
 
-                                        String thisDriveModel = String.join(" ", Arrays.copyOfRange(thisHardDriveParts, thisDriveValueIndex, thisHardDriveParts.length)).trim().replace("_", " ").replace("(", "").replace(")", "").replaceAll("\\s{2,}", " ");
+                                        String thisDriveModel = SpecsParsing.collapseWhitespace(thisHardDriveFields.joinFieldsFrom(thisDriveValueIndex, ' ').trim().replace("_", " ").replace("(", "").replace(")", ""));
                                         // NOTES:
-                                        // - I don't know if it's possible for models to contain double quotes ("), but if they do there will be more elements at the end of the "thisHardDriveParts" that need to be joined back together to re-create the
-                                        //   full model name which is what is being done with "Arrays.copyOfRange", but just re-join with spaces to not need to worry about removing a trailing quotation mark since there will always be an final empty element in the array.
+                                        // - I don't know if it's possible for models to contain double quotes ("), but if they do there will be more fields at the end of the "thisHardDriveFields" that need to be joined back together to re-create the
+                                        //   full model name which is what is being done with "joinFieldsFrom", but just re-join with spaces to not need to worry about removing a trailing quotation mark since there will always be a final empty field.
                                         //
                                         // - Replace all underscores with spaces since "lsblk" version 2.34 (which shipped with Mint 20.X) seems to include them where spaces should be, but version 2.37.2 which shipped with Mint 21.X properly has spaces instead of underscore.
                                         //   Even though we're currently installing Mint 21.1, still replace them just in case it's still needed for some drive models that I haven't seen in my testing.
@@ -1088,7 +1976,7 @@ public final class GetComputerSpecs {
                                         //   Since we haven't installed Mint 19.3 for multiple years, just use the model name from "lsblk" since it will always be the full model for our usage.
                                         //   (If other companies using QA Helper are still running Mint 19.X, then truncated model names will still be retrieved on those systems but since Mint 19.X is EOL April 2023 it shouldn't really be getting installed anymore anyways.)
 
-                                        thisDriveBrand = thisDriveBrand.trim().replace("_", " ").replace("(", "").replace(")", "").replaceAll("\\s{2,}", " ");
+                                        thisDriveBrand = SpecsParsing.collapseWhitespace(thisDriveBrand.trim().replace("_", " ").replace("(", "").replace(")", ""));
                                         if (!thisDriveBrand.isEmpty()) {
                                             String thisDriveBrandUppercase = thisDriveBrand.toUpperCase();
                                             if (!thisDriveBrandUppercase.equals("GENERAL") && !thisDriveBrandUppercase.equals("ATA")) { // TODO: Find and ignore other generic VENDOR strings.
@@ -1104,7 +1992,7 @@ public final class GetComputerSpecs {
                                             thisDisk += " (" + thisDriveModel + ")";
                                         }
 
-                                        storageArray.add(thisDisk);
+                                        addStorageDrive(thisDisk, (long) thisDiskBytes, thisDriveKind, thisDriveModel);
 
                                         if (!thisDriveSerial.isEmpty()) {
                                             storageSerialsArray.add(thisDriveSerial);
@@ -1128,8 +2016,17 @@ public final class GetComputerSpecs {
                     }
                 }
 
+                publishLoadedSpec("Storage", storageArray);
+
+                // Now that the internal drives are known from "lsblk", start (or reuse) the HD Sentinel drive health check in the background since it is by far the slowest of them all.
+                // Its result is cached for these drives (by serial) for the whole session, so reloading specs won't run HD Sentinel again. Its result will be used after everything else below.
+                CompletableFuture<LinuxDriveHealthCheck> linuxDriveHealthCheck = null;
+                if (shouldLoadSpecsCategory(SpecsCategory.STORAGE)) {
+                    linuxDriveHealthCheck = LinuxDriveHealthCheck.getDriveHealthCheck(adminPassword, internalDriveLogicalNames, storageSerialsArray, getFullStorage().contains("NVMe"), () -> extractHDSentinelBinary(isTestMode), isTestMode);
+                }
+
                 // Wireless and Ethernet MAC for Linux
-                String[] allNetworkDeviceInfo = new CommandReader(new String[]{"/usr/bin/nmcli", "-f", "GENERAL.VENDOR,GENERAL.PRODUCT,GENERAL.HWADDR,GENERAL.TYPE", "device", "show"}).getOutputLines();
+                String[] allNetworkDeviceInfo = specsProbes.getProbeOutputLines("nmcli");
 
                 String thisNetworkDeviceBrand = "";
                 String thisNetworkDeviceModel = "";
@@ -1173,57 +2070,25 @@ public final class GetComputerSpecs {
                 // Cellular for Linux
                 // NOTE: I have seen some cellular cards not show immediately on boot take a minute or two to be initialized and recognized via "mmcli" (or "nmcli"),
                 // and running "mmcli --scan-modems" doesn't seem to help, so "lscpi" will also be used below as a fallback to check for cellular cards.
-                String[] cellularDeviceInfo = new CommandReader(new String[]{"/usr/bin/mmcli", "--list-modems"}).getOutputLines();
+                String[] cellularDeviceInfo = specsProbes.getProbeOutputLines("mmcli");
                 for (String thisCellularDeviceInfoLine : cellularDeviceInfo) {
-                    thisCellularDeviceInfoLine = thisCellularDeviceInfoLine.trim().replaceAll("\\s{2,}", " ");
+                    thisCellularDeviceInfoLine = SpecsParsing.collapseWhitespace(thisCellularDeviceInfoLine.trim());
                     if (thisCellularDeviceInfoLine.contains("/Modem/")) {
                         // The modem line will be like: /org/freedesktop/ModemManager1/Modem/0 [Modem Manufacturer] Modem Model
-                        String modemModelName = thisCellularDeviceInfoLine.substring(thisCellularDeviceInfoLine.indexOf(" ") + 1);
-                        if (modemModelName.contains("] ")) { // Remove Modem Manufacturer in square brackets.
-                            modemModelName = modemModelName.substring(modemModelName.indexOf("] ") + 2);
-                        }
-
-                        modemModelName = cleanDeviceModel(modemModelName);
-
-                        wirelessArray.add("Cellular Detected" + ((modemModelName.isEmpty() || modemModelName.contains("model unknown")) ? "" : " (" + modemModelName + ")"));
-                    }
-                }
-
-                if (pciIDsDbTempPath == null) {
-                    try (InputStream pciIDsDbInputStream = this.getClass().getClassLoader().getResourceAsStream("Resources/pci.ids")) {
-                        File pciIDsDbTempFile = File.createTempFile("qa_helper-pci", ".ids");
-                        pciIDsDbTempFile.deleteOnExit();
-
-                        try (FileOutputStream pciIDsDbOutputStream = new FileOutputStream(pciIDsDbTempFile)) {
-                            byte[] buf = new byte[1024];
-                            int bytesRead;
-
-                            while ((bytesRead = pciIDsDbInputStream.read(buf)) > 0) {
-                                pciIDsDbOutputStream.write(buf, 0, bytesRead);
-                            }
-
-                            pciIDsDbTempPath = pciIDsDbTempFile.getPath();
-                        } catch (Exception writePCIidsDbException) {
-                            if (isTestMode) {
-                                System.out.println("writePCIidsDbException: " + writePCIidsDbException);
-                            }
-                        }
-                    } catch (Exception readPCIidsDbException) {
-                        if (isTestMode) {
-                            System.out.println("readPCIidsDbException: " + readPCIidsDbException);
+                        String modemModelName = thisCellularDeviceInfoLine.substring(thisCellularDeviceInfoLine.indexOf(" ") + 1);
+                        if (modemModelName.contains("] ")) { // Remove Modem Manufacturer in square brackets.
+                            modemModelName = modemModelName.substring(modemModelName.indexOf("] ") + 2);
                         }
+
+                        modemModelName = cleanDeviceModel(modemModelName);
+
+                        wirelessArray.add("Cellular Detected" + ((modemModelName.isEmpty() || modemModelName.contains("model unknown")) ? "" : " (" + modemModelName + ")"));
                     }
                 }
 
                 // Use "lspci" instead of "lshw" for Audo and GPU because it can load SubClass names while "lshw" doesn't.
                 // NOTE: "lscpi" will also be used below as a fallback to check for cellular cards as described above.
-                ArrayList<String> lspciCommand = new ArrayList<>();
-                lspciCommand.addAll(Arrays.asList("/usr/bin/lspci", "-vnnmm"));
-                if (pciIDsDbTempPath != null) {
-                    lspciCommand.addAll(Arrays.asList("-i", pciIDsDbTempPath));
-                }
-
-                String[] lspciLines = new CommandReader(lspciCommand.toArray(String[]::new)).getOutputLines();
+                String[] lspciLines = specsProbes.getProbeOutputLines("lspci");
 
                 boolean isLspciGPU = false;
                 boolean isLspciAudio = false;
@@ -1308,7 +2173,7 @@ public final class GetComputerSpecs {
                 }
 
                 // Bluetooth for Linux
-                String[] bluetoothInfo = new CommandReader(new String[]{"/usr/bin/btmgmt", "info"}).getOutputLinesContaining(new String[]{" version ", "supported settings:"});
+                String[] bluetoothInfo = specsProbes.getProbeOutputLines("btmgmt");
 
                 if (bluetoothInfo.length > 0) {
                     String bluetoothVersion = "";
@@ -1316,7 +2181,7 @@ public final class GetComputerSpecs {
 
                     for (String thisBluetoothInfoLine : bluetoothInfo) {
                         if (thisBluetoothInfoLine.trim().startsWith("addr ") && thisBluetoothInfoLine.contains(" version ")) {
-                            String bluetoothHCIversion = thisBluetoothInfoLine.split(" version ")[1].split(" ")[0].replaceAll("[^0-9]", "");
+                            String bluetoothHCIversion = SpecsParsing.keepDigits(thisBluetoothInfoLine.split(" version ")[1].split(" ")[0]);
 
                             if (!bluetoothHCIversion.isEmpty()) {
                                 // HCI/LMP version references: https://support.microsoft.com/en-us/help/4524769/windows-10-what-bluetooth-version-is-on-my-device
@@ -1337,174 +2202,113 @@ public final class GetComputerSpecs {
                     wirelessArray.add("Bluetooth" + bluetoothVersion + "Detected" + bluetoothFeatures);
                 }
 
-                // Use lshw for Disc Drives, and to detect Hard Drives formatted without a partition table
-                // Must also load Storage class to be able to exclude drives connected via USB.
-                // Volume class is loaded to catch Disks formatted without a partition table.
-                ArrayList<String> lshwCommand = new ArrayList<>();
-                lshwCommand.addAll(Arrays.asList("/usr/bin/lshw", "-xml", "-c", "storage", "-c", "disk", "-c", "volume"));
-
-                // ALSO: Use lshw for systemProductName and ram in case we didn't get them using dmidecode and lsmem. This is useful for ARM procs (such as Raspberry Pi) which don't have dmidecode or lsmem.
-                if (ram.equals("N/A")) {
-                    lshwCommand.addAll(Arrays.asList("-c", "memory"));
-                }
-                if (systemProductName.equals("N/A")) {
-                    lshwCommand.addAll(Arrays.asList("-c", "system"));
-                }
-
-                String lshwOutputXML;
-                if (adminPassword.equals("*UNKNOWN*")) {
-                    lshwOutputXML = new CommandReader(lshwCommand.toArray(String[]::new)).getOutputLinesAsString();
-                } else {
-                    lshwOutputXML = new CommandReader("printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk " + String.join(" ", lshwCommand)).getOutputLinesAsString();
-                }
+                publishLoadedSpec("GPU", gpuArray);
+                publishLoadedSpec("Audio", audioArray);
+                publishLoadedSpec("Wireless", wirelessArray);
 
-                DocumentBuilder documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+                // Use lshw for Disc Drives, and to detect Hard Drives formatted without a partition table (see comments in the "lshw" probe above for more info).
+                LshwXMLParser lshwXMLParser = specsProbes.getProbeResult("lshw", (LshwXMLParser) null);
 
-                NodeList lshwNodeList;
-                try {
-                    lshwNodeList = documentBuilder.parse(new InputSource(new StringReader(lshwOutputXML))).getElementsByTagName("node");
-                } catch (IOException | SAXException xmlParseException) {
-                    throw new Exception("LSHW XML PARSE EXCEPTION: " + xmlParseException + "\n\nRAW LSHW OUTPUT:\n" + lshwOutputXML);
+                if (specsProbes.hasProbe("lshw") && ((lshwXMLParser == null) || (lshwXMLParser.getParseErrorMessage() != null))) {
+                    throw new Exception("LSHW XML PARSE EXCEPTION: " + ((lshwXMLParser == null) ? "NO LSHW OUTPUT" : lshwXMLParser.getParseErrorMessage()));
                 }
 
-                if (lshwNodeList != null && lshwNodeList.getLength() > 0) {
-                    for (int i = 0; i < lshwNodeList.getLength(); i++) {
-                        Node thisNode = lshwNodeList.item(i);
-
-                        if (thisNode.getNodeType() == Node.ELEMENT_NODE) {
-                            Element thisElement = (Element) thisNode;
-                            String thisElementClass = thisElement.getAttribute("class");
-                            String thisElementID = thisElement.getAttribute("id");
-                            if (thisElementID.contains(":")) {
-                                thisElementID = thisElementID.substring(0, thisElementID.indexOf(":")); // Some IDs may be like "id:0", "id:1", etc. So lets just use the part before the colon.
-                            }
-                            if (thisElement.getAttribute("disabled").equals("true")) {
-                                // Skip any disabled elements.
-                            } else if (thisElementClass.equals("system") && !thisElement.getAttribute("handle").isEmpty()) {
-                                if (systemProductName.equals("N/A")) {
-                                    // system class is only loaded if systemProductName is N/A (see comment above).
-                                    NodeList systemProductNodes = thisElement.getElementsByTagName("product");
-                                    if (systemProductNodes != null && systemProductNodes.getLength() > 0 && systemProductNodes.item(0).getParentNode().isSameNode(thisElement)) {
-                                        if (!systemProductNodes.item(0).getTextContent().isEmpty() && !ignoreSpecsPlaceholders(systemProductNodes.item(0).getTextContent())) {
-                                            String possibleSystemProductName = systemProductNodes.item(0).getTextContent();
-
-                                            String[] possibleSystemProductNameParts = possibleSystemProductName.split(" \\(");
-
-                                            if (possibleSystemProductNameParts.length == 2) {
-                                                if (!ignoreSpecsPlaceholders(possibleSystemProductNameParts[0])) {
-                                                    systemProductName = possibleSystemProductNameParts[0].replaceAll("^[. /]+", "").replaceAll("[. /]+$", ""); // Trim all leading and trailing spaces, periods, and slashes.
-                                                }
+                if (lshwXMLParser != null) {
+                    for (LshwXMLParser.LshwNode thisNode : lshwXMLParser.getNodes()) {
+                        String thisNodeClass = thisNode.getNodeClass();
+                        String thisNodeID = thisNode.getNodeID();
+
+                        if (thisNode.isDisabled()) {
+                            // Skip any disabled elements.
+                        } else if (thisNodeClass.equals("system") && !thisNode.getHandle().isEmpty()) {
+                            if (systemProductName.equals("N/A")) {
+                                // system class is only loaded if systemProductName is N/A (see comment above).
+                                String possibleSystemProductName = thisNode.getProduct();
+                                if (possibleSystemProductName != null && !possibleSystemProductName.isEmpty() && !ignoreSpecsPlaceholders(possibleSystemProductName)) {
+                                    String[] possibleSystemProductNameParts = possibleSystemProductName.split(" \\(");
+
+                                    if (possibleSystemProductNameParts.length == 2) {
+                                        if (!ignoreSpecsPlaceholders(possibleSystemProductNameParts[0])) {
+                                            systemProductName = SpecsParsing.trimPeriodsSpacesAndSlashes(possibleSystemProductNameParts[0]); // Trim all leading and trailing spaces, periods, and slashes.
+                                        }
 
-                                                String possibleSystemProductSKU = possibleSystemProductNameParts[1].substring(0, possibleSystemProductNameParts[1].length() - 1).replaceAll("^[. /]+", "").replaceAll("[. /]+$", ""); // Trim all leading and trailing spaces, periods, and slashes.
+                                        String possibleSystemProductSKU = SpecsParsing.trimPeriodsSpacesAndSlashes(possibleSystemProductNameParts[1].substring(0, possibleSystemProductNameParts[1].length() - 1)); // Trim all leading and trailing spaces, periods, and slashes.
 
-                                                if (!ignoreSpecsPlaceholders(possibleSystemProductSKU)) {
-                                                    if (systemProductSKU.equals("N/A")) {
-                                                        systemProductSKU = possibleSystemProductSKU;
-                                                    } else if (!systemProductSKU.toLowerCase().equals(possibleSystemProductSKU.toLowerCase())) {
-                                                        systemProductSKU += " / " + possibleSystemProductSKU;
-                                                    }
-                                                }
-                                            } else {
-                                                systemProductName = possibleSystemProductName;
+                                        if (!ignoreSpecsPlaceholders(possibleSystemProductSKU)) {
+                                            if (systemProductSKU.equals("N/A")) {
+                                                systemProductSKU = possibleSystemProductSKU;
+                                            } else if (!systemProductSKU.toLowerCase().equals(possibleSystemProductSKU.toLowerCase())) {
+                                                systemProductSKU += " / " + possibleSystemProductSKU;
                                             }
                                         }
+                                    } else {
+                                        systemProductName = possibleSystemProductName;
                                     }
                                 }
-                            } else if (thisElementClass.equals("memory") && thisElementID.equals("memory")) {
-                                if (ram.equals("N/A")) {
-                                    // memory class is only loaded if ram is N/A (see comment above).
-                                    NodeList memorySizeNodes = thisElement.getElementsByTagName("size"); // This may not exist, but don't bother with checking banks since if lsmem didn't work, then we probably wouldn't get them anyway.
-                                    if (memorySizeNodes != null && memorySizeNodes.getLength() > 0 && memorySizeNodes.item(0).getParentNode().isSameNode(thisElement)) {
-                                        try {
-                                            ram = new DecimalFormat("#").format((Double.parseDouble(memorySizeNodes.item(0).getTextContent()) / 1024 / 1024 / 1024)) + " GB";
-                                        } catch (NumberFormatException ramSizeException) {
-                                            if (isTestMode) {
-                                                System.out.println("ramSizeException: " + ramSizeException);
-                                            }
+                            }
+                        } else if (thisNodeClass.equals("memory") && thisNodeID.equals("memory")) {
+                            if (ram.equals("N/A")) {
+                                // memory class is only loaded if ram is N/A (see comment above).
+                                String memorySize = thisNode.getSize(); // This may not exist, but don't bother with checking banks since if lsmem didn't work, then we probably wouldn't get them anyway.
+                                if (memorySize != null) {
+                                    try {
+                                        double memorySizeBytes = Double.parseDouble(memorySize);
+                                        ram = new DecimalFormat("#").format((memorySizeBytes / 1024 / 1024 / 1024)) + " GB";
+                                        ramBytes = (long) memorySizeBytes;
+                                    } catch (NumberFormatException ramSizeException) {
+                                        if (isTestMode) {
+                                            System.out.println("ramSizeException: " + ramSizeException);
                                         }
                                     }
                                 }
-                            } else if (thisElementClass.equals("disk") || thisElementClass.equals("volume")) {
-                                // Also check for class=volume to be able to detect disks is formatted without a partition table.
-                                Node thisParentNode = thisElement.getParentNode();
-                                if (thisParentNode.getNodeType() == Node.ELEMENT_NODE) {
-                                    if (!((Element) thisParentNode).getAttribute("id").contains("usb")) {
-                                        // Ignore any USB devices
-                                        if (thisElementID.equals("disk")) {
-                                            if (thisElementClass.equals("volume")) {
-                                                // If id=disk AND class=volume then this disk is formatted without a partition table.
-                                                NodeList logicalNamesNodes = thisElement.getElementsByTagName("logicalname");
-
-                                                if (logicalNamesNodes != null && logicalNamesNodes.getLength() > 0 && logicalNamesNodes.item(0).getParentNode().isSameNode(thisElement)) {
-                                                    disksFormattedWithoutPartitionTable.add(logicalNamesNodes.item(0).getTextContent());
-                                                }
-                                            }
-                                        } else if (thisElementID.equals("cdrom")) {
-                                            String thisDiscDriveInfo = "";
+                            }
+                        } else if (thisNodeClass.equals("disk") || thisNodeClass.equals("volume")) {
+                            // Also check for class=volume to be able to detect disks is formatted without a partition table.
+                            if (!thisNode.getParentNodeID().contains("usb")) {
+                                // Ignore any USB devices
+                                if (thisNodeID.equals("disk")) {
+                                    if (thisNodeClass.equals("volume")) {
+                                        // If id=disk AND class=volume then this disk is formatted without a partition table.
+                                        if (!thisNode.getLogicalNames().isEmpty()) {
+                                            disksFormattedWithoutPartitionTable.add(thisNode.getLogicalNames().get(0));
+                                        }
+                                    }
+                                } else if (thisNodeID.equals("cdrom")) {
+                                    String thisDiscDriveInfo = "";
 
-                                            NodeList discDriveVendorNodes = thisElement.getElementsByTagName("vendor");
-                                            if (discDriveVendorNodes != null && discDriveVendorNodes.getLength() > 0 && discDriveVendorNodes.item(0).getParentNode().isSameNode(thisElement)) {
-                                                thisDiscDriveInfo = discDriveVendorNodes.item(0).getTextContent();
-                                            }
+                                    if (thisNode.getVendor() != null) {
+                                        thisDiscDriveInfo = thisNode.getVendor();
+                                    }
 
-                                            NodeList discDriveProductNodes = thisElement.getElementsByTagName("product");
-                                            if (discDriveProductNodes != null && discDriveProductNodes.getLength() > 0 && discDriveProductNodes.item(0).getParentNode().isSameNode(thisElement)) {
-                                                if (!thisDiscDriveInfo.isEmpty()) {
-                                                    thisDiscDriveInfo += " ";
-                                                }
+                                    if (thisNode.getProduct() != null) {
+                                        if (!thisDiscDriveInfo.isEmpty()) {
+                                            thisDiscDriveInfo += " ";
+                                        }
 
-                                                thisDiscDriveInfo += discDriveProductNodes.item(0).getTextContent().trim().replaceAll("\\s{2,}", " ");
-                                            }
+                                        thisDiscDriveInfo += SpecsParsing.collapseWhitespace(thisNode.getProduct().trim());
+                                    }
 
-                                            if (!thisDiscDriveInfo.isEmpty()) {
-                                                discDriveArray.add(thisDiscDriveInfo);
-                                            }
+                                    if (!thisDiscDriveInfo.isEmpty()) {
+                                        discDriveArray.add(thisDiscDriveInfo);
+                                    }
 
-                                            NodeList cdromLogicalNameNodes = thisElement.getElementsByTagName("logicalname");
-                                            if (cdromLogicalNameNodes != null) {
-                                                for (int j = 0; j < cdromLogicalNameNodes.getLength(); j++) {
-                                                    if (cdromLogicalNameNodes.item(j).getParentNode().isSameNode(thisElement)) {
-                                                        String thisCdromLogicalName = cdromLogicalNameNodes.item(j).getTextContent();
-                                                        if (thisCdromLogicalName.startsWith("/dev/sr")) {
-                                                            discDriveLogicalNames.add(thisCdromLogicalName);
-                                                        }
-                                                    }
-                                                }
-                                            }
+                                    for (String thisCdromLogicalName : thisNode.getLogicalNames()) {
+                                        if (thisCdromLogicalName.startsWith("/dev/sr")) {
+                                            discDriveLogicalNames.add(thisCdromLogicalName);
+                                        }
+                                    }
 
-                                            if (!hasDiscInDiscDrive) {
-                                                NodeList cdromSettingNodes = thisElement.getElementsByTagName("setting");
-                                                if (cdromSettingNodes != null) {
-                                                    for (int j = 0; j < cdromSettingNodes.getLength(); j++) {
-                                                        if (cdromSettingNodes.item(j).getParentNode().getParentNode().isSameNode(thisElement)) {
-                                                            Node thisCdromSettingNode = cdromSettingNodes.item(j);
-                                                            if (thisCdromSettingNode.getNodeType() == Node.ELEMENT_NODE) {
-                                                                Element thisCdromSettingElement = (Element) thisCdromSettingNode;
-                                                                if (thisCdromSettingElement.getAttribute("id").equals("status")) {
-                                                                    String thisCdromStatus = thisCdromSettingElement.getAttribute("value"); // nodisc, open, ready
-                                                                    hasDiscInDiscDrive = (thisCdromStatus.equals("ready"));
-                                                                }
-                                                            }
-                                                        }
-                                                    }
-                                                }
-                                            }
+                                    if (!hasDiscInDiscDrive && (thisNode.getStatusSetting() != null)) {
+                                        hasDiscInDiscDrive = (thisNode.getStatusSetting().equals("ready"));
+                                    }
 
-                                            if (!discDriveCanBurnCDs || !discDriveCanBurnDVDs) {
-                                                NodeList cdromCapabilityNodes = thisElement.getElementsByTagName("capability");
-                                                if (cdromCapabilityNodes != null) {
-                                                    for (int j = 0; j < cdromCapabilityNodes.getLength(); j++) {
-                                                        if (cdromCapabilityNodes.item(j).getParentNode().getParentNode().isSameNode(thisElement)) {
-                                                            String thisCdromCapability = cdromCapabilityNodes.item(j).getTextContent();
-                                                            if (thisCdromCapability.endsWith(" burning")) {
-                                                                if (!discDriveCanBurnCDs && thisCdromCapability.startsWith("CD")) {
-                                                                    discDriveCanBurnCDs = true;
-                                                                } else if (!discDriveCanBurnDVDs && thisCdromCapability.startsWith("DVD")) {
-                                                                    discDriveCanBurnDVDs = true;
-                                                                }
-                                                            }
-                                                        }
-                                                    }
+                                    if (!discDriveCanBurnCDs || !discDriveCanBurnDVDs) {
+                                        for (String thisCdromCapability : thisNode.getCapabilities()) {
+                                            if (thisCdromCapability.endsWith(" burning")) {
+                                                if (!discDriveCanBurnCDs && thisCdromCapability.startsWith("CD")) {
+                                                    discDriveCanBurnCDs = true;
+                                                } else if (!discDriveCanBurnDVDs && thisCdromCapability.startsWith("DVD")) {
+                                                    discDriveCanBurnDVDs = true;
                                                 }
                                             }
                                         }
@@ -1515,324 +2319,143 @@ public final class GetComputerSpecs {
                     }
                 }
 
-                // Drive Health (Hard Disk Sentinel)
-                File hdSentinelOutputFile = new File(System.getProperty("java.io.tmpdir"), "qa_helper-hd_sentinel-output.xml");
-                if (hdSentinelOutputFile.exists()) {
-                    hdSentinelOutputFile.delete();
-                }
+                publishLoadedSpec("Disc Drive", discDriveArray);
 
-                if (hdSentinelOutputFile.exists()) {
-                    try {
-                        Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/rm " + hdSentinelOutputFile.getPath()}).waitFor();
-                    } catch (IOException | InterruptedException deleteHDSentinalOutputException) {
-                        if (isTestMode) {
-                            System.out.println("deleteHDSentinalOutputException: " + deleteHDSentinalOutputException);
-                        }
-                    }
-                }
+                // Battery Health for Linux
+                LinkedHashMap<String, String[]> allBatteryInfo = specsProbes.getProbeResult("upower -i", new LinkedHashMap<>()); // The "DisplayDevice" will have already been ignored by the "upower -i" probe.
+
+                for (String[] thisBatteryInfo : allBatteryInfo.values()) {
+                    String thisBatteryVendor = "";
+                    String thisBatteryModel = "";
+                    String thisBatteryState = "";
+                    String thisBatteryEnergy = "";
+                    String thisBatteryEnergyFull = "";
+                    String thisBatteryEnergyRate = "";
+                    String thisBatteryVoltage = "";
+                    String thisBatteryChargeCycles = "";
+                    String thisBatteryPercentage = "";
+                    String thisBatteryCapacity = "";
+                    double thisBatteryCapacityPercent = -1;
+                    double thisBatteryVolts = -1;
+
+                    for (String thisBatteryInfoLine : thisBatteryInfo) {
+                        if (thisBatteryInfoLine.startsWith("  vendor:")) {
+                            thisBatteryVendor = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("  model:")) {
+                            thisBatteryModel = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    state:")) {
+                            thisBatteryState = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    energy:")) {
+                            thisBatteryEnergy = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    energy-full:")) {
+                            thisBatteryEnergyFull = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    energy-rate:")) {
+                            thisBatteryEnergyRate = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    voltage:")) {
+                            try {
+                                double batteryVoltageDouble = Double.parseDouble(SpecsParsing.keepDigitsAndPeriods(thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1)));
+                                thisBatteryVoltage = new DecimalFormat("#.#").format(batteryVoltageDouble) + " V";
+                                thisBatteryVolts = batteryVoltageDouble;
 
-                if (hdSentinelBinaryTempPath == null) {
-                    try (InputStream hdSentinelInputStream = this.getClass().getClassLoader().getResourceAsStream("Resources/hdsentinel-020-x64")) {
-                        File hdSentinelBinaryTempFile = File.createTempFile("qa_helper-hd_sentinel", "");
-                        hdSentinelBinaryTempFile.deleteOnExit();
+                                String thisBatteryDesignVoltage = batteryDesignVoltages.get(thisBatteryVendor + " " + thisBatteryModel);
 
-                        try (FileOutputStream hdSentinelOutputStream = new FileOutputStream(hdSentinelBinaryTempFile)) {
-                            byte[] buf = new byte[1024];
-                            int bytesRead;
+                                if (thisBatteryDesignVoltage != null) {
+                                    double batteryDesignVoltageDouble = Double.parseDouble(thisBatteryDesignVoltage);
 
-                            while ((bytesRead = hdSentinelInputStream.read(buf)) > 0) {
-                                hdSentinelOutputStream.write(buf, 0, bytesRead);
-                            }
+                                    if (batteryVoltageDouble < (batteryDesignVoltageDouble - 0.1)) {
+                                        batteryHealthWarningArray.add("Low Voltage");
+                                        thisBatteryVoltage += " of " + new DecimalFormat("#.#").format(batteryDesignVoltageDouble) + " V";
+                                    }
+                                }
+                            } catch (NumberFormatException batteryVoltageException) {
+                                thisBatteryVoltage = "";
+                                thisBatteryVolts = -1;
 
-                            hdSentinelBinaryTempFile.setExecutable(true);
-                            hdSentinelBinaryTempPath = hdSentinelBinaryTempFile.getPath();
-                        } catch (Exception writeHDSentinelException) {
-                            if (isTestMode) {
-                                System.out.println("writeHDSentinelException: " + writeHDSentinelException);
+                                if (isTestMode) {
+                                    System.out.println("batteryVoltageException: " + batteryVoltageException);
+                                }
                             }
-                        }
-                    } catch (Exception readHDSentinelException) {
-                        if (isTestMode) {
-                            System.out.println("readHDSentinelException: " + readHDSentinelException);
-                        }
-                    }
-                }
+                        } else if (thisBatteryInfoLine.startsWith("    charge-cycles:")) {
+                            thisBatteryChargeCycles = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    percentage:")) {
+                            thisBatteryPercentage = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
+                        } else if (thisBatteryInfoLine.startsWith("    capacity:")) {
+                            try {
+                                double thisBatteryCapacityDouble = Double.parseDouble(SpecsParsing.keepDigitsAndPeriods(thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1)));
+                                thisBatteryCapacity = new DecimalFormat("#.#").format(thisBatteryCapacityDouble) + "%";
+                                thisBatteryCapacityPercent = thisBatteryCapacityDouble;
 
-                if (hdSentinelBinaryTempPath != null) {
-                    String[] hdSentinelOutputLines = new CommandReader("printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /usr/bin/timeout 15 '" + hdSentinelBinaryTempPath.replace("'", "'\\''") + "' -onlydevs '" + String.join(",", internalDriveLogicalNames).replace("'", "'\\''") + "' -xml -r '" + hdSentinelOutputFile.getPath().replace("'", "'\\''") + "'").getOutputLines();
-                    String hdSentinelTextOutput = "";
+                                if (thisBatteryCapacity.startsWith("0") || thisBatteryEnergyFull.startsWith("0")) { // Also make sure "energy-full" is non-zero to not incorrectly trust a "100%" capacity when the "energy-full" is zero. 
+                                    thisBatteryCapacity = "NO POWER";
+                                    thisBatteryCapacityPercent = -1;
+                                    batteryHealthErrorArray.add("No Power");
+                                } else if (thisBatteryCapacityDouble < 40) {
+                                    batteryHealthErrorArray.add("Capacity < 40%");
+                                } else if (thisBatteryCapacityDouble < 60) {
+                                    batteryHealthWarningArray.add("Capacity < 60%");
+                                } else if (thisBatteryCapacity.equals("100%") && brand.equals("HP")) { // Some HP firmwares list their design capacity as whatever the full charge capacity is always resulting in exactly "100%" capacity. Sometimes updating firmware can correct this.
+                                    thisBatteryCapacity = "UNKNOWN CAPACITY";
+                                    thisBatteryCapacityPercent = -1;
+                                    batteryHealthWarningArray.add("HP Firmware Update Required for Accurate Battery Percentage");
+                                }
+                            } catch (NumberFormatException batteryCapacityException) {
+                                thisBatteryCapacity = "";
+                                thisBatteryCapacityPercent = -1;
 
-                    for (String thisHdSentinelOutputLine : hdSentinelOutputLines) {
-                        if (!thisHdSentinelOutputLine.isEmpty() && !thisHdSentinelOutputLine.startsWith("Start with -r") && !thisHdSentinelOutputLine.startsWith("Examining hard disk") && !thisHdSentinelOutputLine.startsWith("Report file saved as:") && !thisHdSentinelOutputLine.startsWith("No hard disk devices found.")) {
-                            if (hdSentinelTextOutput.isEmpty()) {
-                                hdSentinelTextOutput = thisHdSentinelOutputLine;
-                            } else if (thisHdSentinelOutputLine.startsWith("HDD Device")) {
-                                hdSentinelTextOutput += "\n\n" + thisHdSentinelOutputLine;
-                            } else if (thisHdSentinelOutputLine.startsWith("Temperature") || thisHdSentinelOutputLine.startsWith("Highest Temp.")) {
-                                hdSentinelTextOutput += "\n" + thisHdSentinelOutputLine.replaceAll("[^A-Za-z0-9 :.]", ""); // Remove ° because it doesn't display correctly in pre-install environment (can't directly replace it because it is considered some different character in the pre-install environment).
-                            } else {
-                                hdSentinelTextOutput += "\n" + thisHdSentinelOutputLine;
+                                if (isTestMode) {
+                                    System.out.println("batteryCapacityException: " + batteryCapacityException);
+                                }
                             }
                         }
                     }
 
-                    if (!hdSentinelTextOutput.contains("HDD Device")) {
-                        if (!adminPassword.equals("*UNKNOWN*")) {
-                            if (hdSentinelTextOutput.isEmpty()) {
-                                driveHealth = "FAILED to load Hard Disk Sentinel for unknown reasons.\n\nThis could mean that some installed drive is bad, or this may have happened because of some unrelated issue.\n\nIt is recommended to test all installed drives using other means before continuing.";
-                                driveHealthWarning = true;
-                            } else if (storageArray.isEmpty()) {
-                                driveHealth = hdSentinelTextOutput + "\n\nNo hard drives installed or detected.";
-                            } else {
-                                driveHealth = hdSentinelTextOutput + "\n\nIt appears that Hard Disk Sentinel has failed to detect an installed " + (getFullStorage().contains("NVMe") ? "NVMe" : "hard") + " drive.\n\nIf you have other easy means to test the health of the installed drive, it is recommended to do so. If not, then this Drive Health test should be skipped.";
-                                driveHealthWarning = true;
-                            }
-                        }
-                    } else {
-                        try {
-                            NodeList hdSentinelNodeList = documentBuilder.parse(hdSentinelOutputFile.getPath()).getElementsByTagName("Hard_Disk_Device");
-                            if (hdSentinelNodeList != null && hdSentinelNodeList.getLength() > 0) {
-                                for (int i = 0; i < hdSentinelNodeList.getLength(); i++) {
-                                    Node thisNode = hdSentinelNodeList.item(i);
-                                    String thisDriveID = thisNode.getTextContent();
-
-                                    if (internalDriveLogicalNames.contains(thisDriveID)) {
-                                        hdSentinelTextOutput = hdSentinelTextOutput.replace(": " + thisDriveID + "\n", ": " + thisDriveID + " (INTERNAL)\n");
-
-                                        if (!driveHealthWarning) {
-                                            // On 04/24/26, drive health checks changed FROM: Power On Time < 2500 days, Estimated Remaining Lifetime > 399 days, Description CONTAINS "is PERFECT", Tip IS "No actions needed."
-                                            // TO: Health Percentage >= 70%, Power On Time < 3000 days (Ignoring >= 10000 days as a false reading), Description CONTAINS "is PERFECT", Tip IS "No actions needed." OR "It is recommended to continuously monitor the hard disk status."
-
-                                            Element parentDriveElement = (Element) thisNode.getParentNode();
-
-                                            NodeList driveHealthPercentageNodes = parentDriveElement.getElementsByTagName("Health");
-                                            if (driveHealthPercentageNodes != null && driveHealthPercentageNodes.getLength() > 0 && driveHealthPercentageNodes.item(0).getParentNode().isSameNode(parentDriveElement)) {
-                                                String driveHealthPercentageText = driveHealthPercentageNodes.item(0).getTextContent();
-
-                                                if (!driveHealthPercentageText.isEmpty() && !driveHealthPercentageText.equals("? %") && driveHealthPercentageText.contains(" %")) {
-                                                    try {
-                                                        if (Integer.parseInt(driveHealthPercentageText.replaceAll("[^0-9]", "")) < 70) {
-                                                            driveHealthWarning = true;
-                                                        }
-                                                    } catch (NumberFormatException driveHealthPercentageException) {
-                                                        if (isTestMode) {
-                                                            System.out.println("driveHealthPercentageException: " + driveHealthPercentageException);
-                                                        }
-                                                    }
-                                                }
-                                            }
-
-                                            NodeList drivePowerOnTimeNodes = parentDriveElement.getElementsByTagName("Power_on_time");
-                                            if (drivePowerOnTimeNodes != null && drivePowerOnTimeNodes.getLength() > 0 && drivePowerOnTimeNodes.item(0).getParentNode().isSameNode(parentDriveElement)) {
-                                                String drivePowerOnTimeText = drivePowerOnTimeNodes.item(0).getTextContent();
-
-                                                if (!drivePowerOnTimeText.isEmpty() && drivePowerOnTimeText.contains(" days")) {
-                                                    try {
-                                                        int drivePowerOnTimeDays = Integer.parseInt(drivePowerOnTimeText.substring(0, drivePowerOnTimeText.indexOf(" days")));
-                                                        if ((drivePowerOnTimeDays >= 3000) && (drivePowerOnTimeDays < 10000)) {
-                                                            driveHealthWarning = true;
-                                                        }
-                                                    } catch (NumberFormatException drivePowerOnTimeException) {
-                                                        if (isTestMode) {
-                                                            System.out.println("drivePowerOnTimeException: " + drivePowerOnTimeException);
-                                                        }
-                                                    }
-                                                }
-                                            }
+                    String thisBatteryCycleCount = "";
+                    int thisBatteryCycleCountNumber = -1;
 
-                                            /* NOTE: Once a drive is over 5 years old (1,825 days Power On Time: https://www.hdsentinel.com/help/en/54_pot.html), HDSentinal sets the Estimated Remaining Lifetime days to the Health Percentage (ie. 70% == 70 days, 100% == "more than 100 days"), so checking both is basically redundant. And this also means that if we checked for a higher number of days it would essentially make the lowest Health Percentage check unreachable.
-                                            NodeList driveEstimatedRemainingLifetimeNodes = parentDriveElement.getElementsByTagName("Estimated_remaining_lifetime");
-                                            if (driveEstimatedRemainingLifetimeNodes != null && driveEstimatedRemainingLifetimeNodes.getLength() > 0 && driveEstimatedRemainingLifetimeNodes.item(0).getParentNode().isSameNode(parentDriveElement)) {
-                                                String driveEstimatedRemainingLifetimeText = driveEstimatedRemainingLifetimeNodes.item(0).getTextContent();
-
-                                                if (!driveEstimatedRemainingLifetimeText.isEmpty()) {
-                                                    if (!driveEstimatedRemainingLifetimeText.contains(" days")) {
-                                                        driveHealthWarning = true;
-                                                    } else {
-                                                        try {
-                                                            if (Integer.parseInt(driveEstimatedRemainingLifetimeText.substring(0, driveEstimatedRemainingLifetimeText.indexOf(" days")).replaceAll("[^0-9]", "")) < 70) {
-                                                                driveHealthWarning = true;
-                                                            }
-                                                        } catch (NumberFormatException driveEstimatedRemainingLifetimeException) {
-                                                            if (isTestMode) {
-                                                                System.out.println("driveEstimatedRemainingLifetimeException: " + driveEstimatedRemainingLifetimeException);
-                                                            }
-                                                        }
-                                                    }
-                                                }
-                                            }
-                                             */
-                                            NodeList driveDescriptionNodes = parentDriveElement.getElementsByTagName("Description");
-                                            if (driveDescriptionNodes != null && driveDescriptionNodes.getLength() > 0 && driveDescriptionNodes.item(0).getParentNode().isSameNode(parentDriveElement)) {
-                                                String driveDescriptionText = driveDescriptionNodes.item(0).getTextContent();
-                                                if (!driveDescriptionText.isEmpty() && !driveDescriptionText.toLowerCase().contains("is perfect.")) {
-                                                    driveHealthWarning = true;
-                                                }
-                                            }
+                    try {
+                        int batteryCycleCount = Integer.parseInt(thisBatteryChargeCycles);
+                        if (batteryCycleCount > 0) {
+                            thisBatteryCycleCount = batteryCycleCount + " Cycle" + ((batteryCycleCount == 1) ? "" : "s");
+                            thisBatteryCycleCountNumber = batteryCycleCount;
 
-                                            NodeList driveTipNodes = parentDriveElement.getElementsByTagName("Tip");
-                                            if (driveTipNodes != null && driveTipNodes.getLength() > 0 && driveTipNodes.item(0).getParentNode().isSameNode(parentDriveElement)) {
-                                                String driveTipText = driveTipNodes.item(0).getTextContent();
-                                                if (!driveTipText.isEmpty() && !driveTipText.equals("No actions needed.") && !driveTipText.equals("It is recommended to continuously monitor the hard disk status.")) {
-                                                    driveHealthWarning = true;
-                                                }
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        } catch (IOException | NumberFormatException | DOMException | SAXException parseHDSentinalException) {
-                            if (isTestMode) {
-                                System.out.println("parseHDSentinalException: " + parseHDSentinalException);
+                            if (batteryCycleCount >= 1000) {
+                                batteryHealthErrorArray.add("Cycles >= 1000");
+                            } else if (batteryCycleCount >= 800) {
+                                batteryHealthWarningArray.add("Cycles >= 800");
                             }
-
-                            driveHealthWarning = true;
                         }
-
-                        driveHealth = hdSentinelTextOutput;
-                    }
-
-                    if (hdSentinelOutputFile.exists()) {
-                        hdSentinelOutputFile.delete();
-                    }
-
-                    if (hdSentinelOutputFile.exists()) {
-                        try {
-                            Runtime.getRuntime().exec(new String[]{"/bin/sh", "-c", "printf '%s\\n' " + adminPasswordQuotedForShell + " | /usr/bin/sudo -Sk /bin/rm '" + hdSentinelOutputFile.getPath().replace("'", "'\\''") + "'"}).waitFor();
-                        } catch (IOException | InterruptedException deleteHDSentinalOutputException) {
-                            if (isTestMode) {
-                                System.out.println("deleteHDSentinalOutputException: " + deleteHDSentinalOutputException);
-                            }
+                    } catch (NumberFormatException batteryCycleCountException) {
+                        if (isTestMode) {
+                            System.out.println("batteryCycleCountException: " + batteryCycleCountException);
                         }
                     }
-                }
-
-                // Battery Health for Linux
-                String[] allPowerSources = new CommandReader(new String[]{"/usr/bin/upower", "-e"}).getOutputLines();
-
-                for (String thisPowerSource : allPowerSources) {
-                    if (!thisPowerSource.endsWith("/DisplayDevice")) { // Ignore the "DisplayDevice": https://upower.freedesktop.org/docs/UPower.html#UPower.GetDisplayDevice
-                        String[] thisBatteryInfo = new CommandReader(new String[]{"/usr/bin/upower", "-i", thisPowerSource}).getOutputLines();
-
-                        String thisBatteryVendor = "";
-                        String thisBatteryModel = "";
-                        String thisBatteryState = "";
-                        String thisBatteryEnergy = "";
-                        String thisBatteryEnergyFull = "";
-                        String thisBatteryEnergyRate = "";
-                        String thisBatteryVoltage = "";
-                        String thisBatteryChargeCycles = "";
-                        String thisBatteryPercentage = "";
-                        String thisBatteryCapacity = "";
-
-                        for (String thisBatteryInfoLine : thisBatteryInfo) {
-                            if (thisBatteryInfoLine.startsWith("  vendor:")) {
-                                thisBatteryVendor = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("  model:")) {
-                                thisBatteryModel = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    state:")) {
-                                thisBatteryState = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    energy:")) {
-                                thisBatteryEnergy = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    energy-full:")) {
-                                thisBatteryEnergyFull = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    energy-rate:")) {
-                                thisBatteryEnergyRate = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    voltage:")) {
-                                try {
-                                    double batteryVoltageDouble = Double.parseDouble(thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).replaceAll("[^0-9.]", ""));
-                                    thisBatteryVoltage = new DecimalFormat("#.#").format(batteryVoltageDouble) + " V";
-
-                                    String thisBatteryDesignVoltage = batteryDesignVoltages.get(thisBatteryVendor + " " + thisBatteryModel);
-
-                                    if (thisBatteryDesignVoltage != null) {
-                                        double batteryDesignVoltageDouble = Double.parseDouble(thisBatteryDesignVoltage);
-
-                                        if (batteryVoltageDouble < (batteryDesignVoltageDouble - 0.1)) {
-                                            batteryHealthWarningArray.add("Low Voltage");
-                                            thisBatteryVoltage += " of " + new DecimalFormat("#.#").format(batteryDesignVoltageDouble) + " V";
-                                        }
-                                    }
-                                } catch (NumberFormatException batteryVoltageException) {
-                                    thisBatteryVoltage = "";
-
-                                    if (isTestMode) {
-                                        System.out.println("batteryVoltageException: " + batteryVoltageException);
-                                    }
-                                }
-                            } else if (thisBatteryInfoLine.startsWith("    charge-cycles:")) {
-                                thisBatteryChargeCycles = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    percentage:")) {
-                                thisBatteryPercentage = thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).trim();
-                            } else if (thisBatteryInfoLine.startsWith("    capacity:")) {
-                                try {
-                                    double thisBatteryCapacityDouble = Double.parseDouble(thisBatteryInfoLine.substring(thisBatteryInfoLine.indexOf(":") + 1).replaceAll("[^0-9.]", ""));
-                                    thisBatteryCapacity = new DecimalFormat("#.#").format(thisBatteryCapacityDouble) + "%";
-
-                                    if (thisBatteryCapacity.startsWith("0") || thisBatteryEnergyFull.startsWith("0")) { // Also make sure "energy-full" is non-zero to not incorrectly trust a "100%" capacity when the "energy-full" is zero. 
-                                        thisBatteryCapacity = "NO POWER";
-                                        batteryHealthErrorArray.add("No Power");
-                                    } else if (thisBatteryCapacityDouble < 40) {
-                                        batteryHealthErrorArray.add("Capacity < 40%");
-                                    } else if (thisBatteryCapacityDouble < 60) {
-                                        batteryHealthWarningArray.add("Capacity < 60%");
-                                    } else if (thisBatteryCapacity.equals("100%") && brand.equals("HP")) { // Some HP firmwares list their design capacity as whatever the full charge capacity is always resulting in exactly "100%" capacity. Sometimes updating firmware can correct this.
-                                        thisBatteryCapacity = "UNKNOWN CAPACITY";
-                                        batteryHealthWarningArray.add("HP Firmware Update Required for Accurate Battery Percentage");
-                                    }
-                                } catch (NumberFormatException batteryCapacityException) {
-                                    thisBatteryCapacity = "";
-
-                                    if (isTestMode) {
-                                        System.out.println("batteryCapacityException: " + batteryCapacityException);
-                                    }
-                                }
-                            }
-                        }
 
-                        String thisBatteryCycleCount = "";
+                    if (thisBatteryEnergy.startsWith("0") && thisBatteryEnergyRate.startsWith("0") && thisBatteryPercentage.startsWith("0")) {
+                        // Even if the capacity is not "0%", the battery may still be dead with no energy charging or discharging.
+                        // Checking "startsWith("0")" because I have seen dead batteries show "energy" of "0.123 Wh" or "energy-rate" of "0.123 W".
 
-                        try {
-                            int batteryCycleCount = Integer.parseInt(thisBatteryChargeCycles);
-                            if (batteryCycleCount > 0) {
-                                thisBatteryCycleCount = batteryCycleCount + " Cycle" + ((batteryCycleCount == 1) ? "" : "s");
-
-                                if (batteryCycleCount >= 1000) {
-                                    batteryHealthErrorArray.add("Cycles >= 1000");
-                                } else if (batteryCycleCount >= 800) {
-                                    batteryHealthWarningArray.add("Cycles >= 800");
-                                }
-                            }
-                        } catch (NumberFormatException batteryCycleCountException) {
-                            if (isTestMode) {
-                                System.out.println("batteryCycleCountException: " + batteryCycleCountException);
-                            }
+                        if (thisBatteryVoltage.startsWith("0")) { // If voltage is 0, there may be NO BATTERY installed as I've seen some systems list a battery with all zero values when no battery is installed.
+                            thisBatteryCapacity = "";
+                        } else if (!thisBatteryCapacity.equals("NO POWER")) { // Otherwise, if there is no charge and no energy (charging or draining) then this is probably a DEAD BATTERY.
+                            thisBatteryCapacity = "NO POWER";
+                            thisBatteryCapacityPercent = -1;
+                            batteryHealthErrorArray.add("No Power");
                         }
+                    }
 
-                        if (thisBatteryEnergy.startsWith("0") && thisBatteryEnergyRate.startsWith("0") && thisBatteryPercentage.startsWith("0")) {
-                            // Even if the capacity is not "0%", the battery may still be dead with no energy charging or discharging.
-                            // Checking "startsWith("0")" because I have seen dead batteries show "energy" of "0.123 Wh" or "energy-rate" of "0.123 W".
-
-                            if (thisBatteryVoltage.startsWith("0")) { // If voltage is 0, there may be NO BATTERY installed as I've seen some systems list a battery with all zero values when no battery is installed.
-                                thisBatteryCapacity = "";
-                            } else if (!thisBatteryCapacity.equals("NO POWER")) { // Otherwise, if there is no charge and no energy (charging or draining) then this is probably a DEAD BATTERY.
-                                thisBatteryCapacity = "NO POWER";
-                                batteryHealthErrorArray.add("No Power");
-                            }
+                    if (!thisBatteryCapacity.isEmpty()) {
+                        if ((thisBatteryState.equals("charging") || thisBatteryState.equals("pending-charge")) && thisBatteryEnergyRate.startsWith("0") && !thisBatteryPercentage.equals("100%")) {
+                            batteryHealthWarningArray.add("Not Charging");
                         }
 
-                        if (!thisBatteryCapacity.isEmpty()) {
-                            if ((thisBatteryState.equals("charging") || thisBatteryState.equals("pending-charge")) && thisBatteryEnergyRate.startsWith("0") && !thisBatteryPercentage.equals("100%")) {
-                                batteryHealthWarningArray.add("Not Charging");
-                            }
-
-                            batteryHealthArray.add(thisBatteryCapacity + (thisBatteryVoltage.isEmpty() ? (thisBatteryCycleCount.isEmpty() ? "" : " (" + thisBatteryCycleCount + ")") : " (" + (thisBatteryCycleCount.isEmpty() ? "" : thisBatteryCycleCount + ", ") + thisBatteryVoltage + ")"));
-                        }
+                        addBatteryHealth(thisBatteryCapacity + (thisBatteryVoltage.isEmpty() ? (thisBatteryCycleCount.isEmpty() ? "" : " (" + thisBatteryCycleCount + ")") : " (" + (thisBatteryCycleCount.isEmpty() ? "" : thisBatteryCycleCount + ", ") + thisBatteryVoltage + ")"), thisBatteryCapacityPercent, thisBatteryCycleCountNumber, thisBatteryVolts);
                     }
                 }
 
+                publishLoadedSpec("Battery", batteryHealthArray);
+
                 // Touchscreen Info for Linux ("udevadm" is at "/sbin/udevadm" on Mint 19.3 and older, but is at "/usr/bin/udevadm" on at least Mint 20.2 and newer. maybe only after usrmerge).
-                hasTouchscreen = !new CommandReader(new String[]{(new File("/usr/bin/udevadm").exists() ? "/usr/bin/udevadm" : "/sbin/udevadm"), "info", "--export-db"}).getFirstOutputLineContaining("ID_INPUT_TOUCHSCREEN=1").isEmpty();
+                hasTouchscreen = !specsProbes.getProbeOutputLine("udevadm").isEmpty();
 
                 // Camera Info for Linux
                 String[] devContents = new File("/dev").list();
@@ -1851,7 +2474,7 @@ public final class GetComputerSpecs {
                 int screenWidthMM = 0;
                 int screenHeightMM = 0;
 
-                String[] xrandrOutput = new CommandReader(new String[]{"/usr/bin/xrandr"}).getOutputLines();
+                String[] xrandrOutput = specsProbes.getProbeOutputLines("xrandr");
 
                 for (String thisXrandrOutputLine : xrandrOutput) {
                     if (thisXrandrOutputLine.contains(" connected")) {
@@ -1870,8 +2493,8 @@ public final class GetComputerSpecs {
 
                                 if (mmScreenDimensionsParts.length == 2) {
                                     try {
-                                        screenWidthMM = Integer.parseInt(mmScreenDimensionsParts[0].replaceAll("[^0-9]", ""));
-                                        screenHeightMM = Integer.parseInt(mmScreenDimensionsParts[1].replaceAll("[^0-9]", ""));
+                                        screenWidthMM = Integer.parseInt(SpecsParsing.keepDigits(mmScreenDimensionsParts[0]));
+                                        screenHeightMM = Integer.parseInt(SpecsParsing.keepDigits(mmScreenDimensionsParts[1]));
                                     } catch (NumberFormatException xrandrScreenDimensionsException) {
                                         if (isTestMode) {
                                             System.out.println("xrandrScreenDimensionsException: " + xrandrScreenDimensionsException);
@@ -1900,8 +2523,8 @@ public final class GetComputerSpecs {
 
                         if (mmScreenDimensionsParts.length == 2) {
                             try {
-                                screenWidthMM = Integer.parseInt(mmScreenDimensionsParts[0].replaceAll("[^0-9]", ""));
-                                screenHeightMM = Integer.parseInt(mmScreenDimensionsParts[1].replaceAll("[^0-9]", ""));
+                                screenWidthMM = Integer.parseInt(SpecsParsing.keepDigits(mmScreenDimensionsParts[0]));
+                                screenHeightMM = Integer.parseInt(SpecsParsing.keepDigits(mmScreenDimensionsParts[1]));
                             } catch (NumberFormatException xdpyinfoScreenDimensionsException) {
                                 if (isTestMode) {
                                     System.out.println("xdpyinfoScreenDimensionsException: " + xdpyinfoScreenDimensionsException);
@@ -1925,6 +2548,38 @@ public final class GetComputerSpecs {
                         screenSize += "-inch";
                     }
                 }
+
+                publishLoadedSpec("Screen", screenSize);
+
+                // Drive Health (Hard Disk Sentinel)
+                if (linuxDriveHealthCheck != null) {
+                    try {
+                        LinuxDriveHealthCheck completedDriveHealthCheck = linuxDriveHealthCheck.join();
+                        driveHealth = completedDriveHealthCheck.getDriveHealth();
+                        driveHealthWarning = completedDriveHealthCheck.getDriveHealthWarning();
+                    } catch (CancellationException | CompletionException driveHealthCheckException) {
+                        // The check failed or was canceled (because the installed drives changed while it was waiting to run), so leave Drive Health as "N/A" for it to be checked again on the next load.
+                        if (isTestMode) {
+                            System.out.println("driveHealthCheckException: " + driveHealthCheckException);
+                        }
+                    }
+                }
+
+                if (!driveHealth.equals("N/A")) {
+                    // The full Hard Disk Sentinel output is far too long to show while loading, so only publish the "Health" percentage of each drive (or the first line if there are none, such as when it failed).
+                    ArrayList<String> driveHealthPercentages = new ArrayList<>();
+                    for (String thisDriveHealthLine : driveHealth.split("\n")) {
+                        if (thisDriveHealthLine.startsWith("Health") && thisDriveHealthLine.contains(":")) {
+                            driveHealthPercentages.add(SpecsParsing.collapseWhitespace(thisDriveHealthLine.substring(thisDriveHealthLine.indexOf(":") + 1).trim()));
+                        }
+                    }
+
+                    publishLoadedSpec("Drive Health", (driveHealthPercentages.isEmpty() ? driveHealth.split("\n", 2)[0] : String.join(" + ", driveHealthPercentages)) + (driveHealthWarning ? " (WARNING)" : ""));
+                }
+
+                if (isTestMode) {
+                    specsProbes.waitForAllProbes(); // All probes should already be done at this point, but this will log the total time it took for all of them.
+                }
             } else if (isWindows) {
                 // Windows Info
 
@@ -2085,7 +2740,7 @@ public final class GetComputerSpecs {
                     }
 
                     if (thisWindowsHardwareInfoLine.contains(": ")) {
-                        String thisWindowsHardwareInfoProperty = thisWindowsHardwareInfoLine.substring(thisWindowsHardwareInfoLine.indexOf(": ") + 2).replaceAll("^[. /]+", "").replaceAll("[. /]+$", ""); // Trim all leading and trailing spaces, periods, and slashes.
+                        String thisWindowsHardwareInfoProperty = SpecsParsing.trimPeriodsSpacesAndSlashes(thisWindowsHardwareInfoLine, thisWindowsHardwareInfoLine.indexOf(": ") + 2); // Trim all leading and trailing spaces, periods, and slashes.
 
                         if (!thisWindowsHardwareInfoProperty.isEmpty()) {
                             switch (thisWindowsHardwareClass) {
@@ -2113,7 +2768,7 @@ public final class GetComputerSpecs {
                                     if (!ignoreSpecsPlaceholders(thisWindowsHardwareInfoProperty)) {
                                         if (thisWindowsHardwareInfoLine.startsWith("Vendor")) {
                                             brand = cleanComputerBrand(thisWindowsHardwareInfoProperty);
-                                        } else if (thisWindowsHardwareInfoLine.startsWith("Version") && thisWindowsHardwareInfoProperty.replaceAll("[^A-Za-z0-9]", "").length() > 4) {
+                                        } else if (thisWindowsHardwareInfoLine.startsWith("Version") && SpecsParsing.countAlphanumerics(thisWindowsHardwareInfoProperty) > 4) {
                                             model = thisWindowsHardwareInfoProperty;
                                         } else if (thisWindowsHardwareInfoLine.startsWith("Name")) {
                                             systemProductName = thisWindowsHardwareInfoProperty;
@@ -2129,7 +2784,7 @@ public final class GetComputerSpecs {
                                     if (!ignoreSpecsPlaceholders(thisWindowsHardwareInfoProperty)) {
                                         if (thisWindowsHardwareInfoLine.startsWith("Manufacturer")) {
                                             motherboardBrand = cleanComputerBrand(thisWindowsHardwareInfoProperty);
-                                        } else if (thisWindowsHardwareInfoLine.startsWith("Version") && thisWindowsHardwareInfoProperty.replaceAll("[^A-Za-z0-9]", "").length() > 4) {
+                                        } else if (thisWindowsHardwareInfoLine.startsWith("Version") && SpecsParsing.countAlphanumerics(thisWindowsHardwareInfoProperty) > 4) {
                                             motherboardVersion = thisWindowsHardwareInfoProperty;
                                         } else if (thisWindowsHardwareInfoLine.startsWith("Product")) {
                                             motherboardModel = thisWindowsHardwareInfoProperty;
@@ -2149,13 +2804,15 @@ public final class GetComputerSpecs {
                                         }
                                     } else if (thisWindowsHardwareInfoLine.startsWith("TotalPhysicalMemory")) {
                                         try {
-                                            ram = new DecimalFormat("#").format((Double.parseDouble(thisWindowsHardwareInfoProperty) / 1024 / 1024 / 1024)) + " GB";
+                                            double totalPhysicalMemoryBytes = Double.parseDouble(thisWindowsHardwareInfoProperty);
+                                            ram = new DecimalFormat("#").format((totalPhysicalMemoryBytes / 1024 / 1024 / 1024)) + " GB";
+                                            ramBytes = (long) totalPhysicalMemoryBytes;
                                         } catch (NumberFormatException ramSizeException) {
                                             if (isTestMode) {
                                                 System.out.println("ramSizeException: " + ramSizeException);
                                             }
                                         }
-                                    } else if (thisWindowsHardwareInfoLine.startsWith("SystemSKUNumber") && !ignoreSpecsPlaceholders(thisWindowsHardwareInfoProperty) && thisWindowsHardwareInfoProperty.replaceAll("[^A-Za-z0-9]", "").length() > 1) {
+                                    } else if (thisWindowsHardwareInfoLine.startsWith("SystemSKUNumber") && !ignoreSpecsPlaceholders(thisWindowsHardwareInfoProperty) && SpecsParsing.countAlphanumerics(thisWindowsHardwareInfoProperty) > 1) {
                                         systemProductSKU = thisWindowsHardwareInfoProperty;
                                     }
 
@@ -2266,7 +2923,7 @@ public final class GetComputerSpecs {
                                     break;
                                 case "Win32_SystemEnclosure":
                                     if (thisWindowsHardwareInfoLine.startsWith("ChassisTypes")) {
-                                        String[] windowsChassisTypes = thisWindowsHardwareInfoProperty.replaceAll("[^0-9,]", "").split(",");
+                                        String[] windowsChassisTypes = SpecsParsing.keepDigitsAndCommas(thisWindowsHardwareInfoProperty).split(",");
 
                                         for (String thisWindowsChassisTypeCode : windowsChassisTypes) {
                                             String thisChassisTypeString = "Undefined"; // https://blogs.technet.microsoft.com/brandonlinton/2017/09/15/updated-win32_systemenclosure-chassis-types/
@@ -2470,7 +3127,7 @@ public final class GetComputerSpecs {
                                 case "Win32_PhysicalMemory":
                                     if (thisWindowsHardwareInfoLine.startsWith("Tag")) {
                                         try {
-                                            thisMemorySlotTag = Integer.parseInt(thisWindowsHardwareInfoProperty.replaceAll("[^0-9]", ""));
+                                            thisMemorySlotTag = Integer.parseInt(SpecsParsing.keepDigits(thisWindowsHardwareInfoProperty));
                                         } catch (NumberFormatException ramSlotTagException) {
                                             thisMemorySlotTag = -1;
 
@@ -2555,6 +3212,7 @@ public final class GetComputerSpecs {
                                         }
                                     } else if (ramSpeed.isEmpty() && thisWindowsHardwareInfoLine.startsWith("Speed") && !thisWindowsHardwareInfoProperty.equals("20307")) {
                                         // On Windows, Sony VIAO (SVD13215PBX) laptops showed "20307" as the RAM speed (and showed no speed on Linux), which is not correct so ignore it (like Linux). Not sure how to get the true RAM speed for those.
+                                        ramSpeedMHz = getRAMSpeedMHz(thisWindowsHardwareInfoProperty);
                                         ramSpeed = " @ " + thisWindowsHardwareInfoProperty.replaceAll("3[24]$", "33").replaceAll("67$", "66") + " MHz"; // Replace any MHz speeds that end with "32" or "34" to "33" and "67" to "66" to account for rounding differences (such as "1332 MHz" vs "1333 MHz" and "2667 MHz" vs "2666 MHz" etc) that would make the software show a slightly different number than what would be on the actual RAM label.
                                     } else if (thisWindowsHardwareInfoLine.startsWith("MaxVoltage")) {
                                         // TODO: Look into if this is ever gets filled.
@@ -2573,7 +3231,7 @@ public final class GetComputerSpecs {
                                             thisDriveMediaType = "";
                                         }
                                     } else if (thisWindowsHardwareInfoLine.startsWith("Model")) {
-                                        thisDriveModel = thisWindowsHardwareInfoProperty.trim().replace("(", "").replace(")", "").replaceAll("\\s{2,}", " "); // NOTE: Remove all parens (which shouldn't normally exist anyways) to not break removing models when truncating storage line for PCsCRM.
+                                        thisDriveModel = SpecsParsing.collapseWhitespace(thisWindowsHardwareInfoProperty.trim().replace("(", "").replace(")", "")); // NOTE: Remove all parens (which shouldn't normally exist anyways) to not break removing models when truncating storage line for PCsCRM.
                                     } else if (thisWindowsHardwareInfoLine.startsWith("SerialNumber")) {
                                         if (!thisWindowsHardwareInfoProperty.isEmpty() && !thisDriveBusType.equals("NVMe")) { // NVMe drive seem to not get the actual serial number filled in this field,
                                             storageSerialsArray.add(thisWindowsHardwareInfoProperty);
@@ -2588,7 +3246,8 @@ public final class GetComputerSpecs {
                                         }
 
                                         try {
-                                            double thisDriveGB = (Double.parseDouble(thisWindowsHardwareInfoProperty) / 1000 / 1000 / 1000);
+                                            double thisDriveBytes = Double.parseDouble(thisWindowsHardwareInfoProperty);
+                                            double thisDriveGB = (thisDriveBytes / 1000 / 1000 / 1000);
                                             String thisDriveSize;
                                             if (thisDriveGB < 1000) {
                                                 thisDriveSize = new DecimalFormat("#").format(thisDriveGB) + " GB";
@@ -2596,13 +3255,14 @@ public final class GetComputerSpecs {
                                                 thisDriveSize = new DecimalFormat("#").format((thisDriveGB / 1000)) + " TB";
                                             }
 
-                                            String thisDisk = thisDriveSize + " " + (thisDriveBusType.equals("NVMe") ? "NVMe" : (thisDriveBusType.equals("SD") ? "eMMC" : (thisDriveBusType.equals("RAID") ? ("RAID" + (thisDriveMediaType.isEmpty() ? "" : " " + thisDriveMediaType)) : thisDriveMediaType)));
+                                            String thisDriveKind = (thisDriveBusType.equals("NVMe") ? "NVMe" : (thisDriveBusType.equals("SD") ? "eMMC" : (thisDriveBusType.equals("RAID") ? ("RAID" + (thisDriveMediaType.isEmpty() ? "" : " " + thisDriveMediaType)) : thisDriveMediaType)));
+                                            String thisDisk = thisDriveSize + " " + thisDriveKind;
 
                                             if (!thisDriveModel.isEmpty()) {
                                                 thisDisk += " (" + thisDriveModel + ")";
                                             }
 
-                                            storageArray.add(thisDisk);
+                                            addStorageDrive(thisDisk, (long) thisDriveBytes, thisDriveKind, thisDriveModel);
                                         } catch (NumberFormatException hardDriveSizeException) {
                                             if (isTestMode) {
                                                 System.out.println("hardDriveSizeException: " + hardDriveSizeException);
@@ -2750,7 +3410,7 @@ public final class GetComputerSpecs {
                                                 switch (pnpDeviceClassCode) {
                                                     case "03": // Display
                                                         if ((venIndex = thisWindowsHardwareInfoProperty.indexOf("VEN_")) > -1 && (devIndex = thisWindowsHardwareInfoProperty.indexOf("DEV_")) > -1) {
-                                                            String thisGPUid = thisWindowsHardwareInfoProperty.substring(venIndex + 4, venIndex + 8).toLowerCase().replaceAll("[^a-z0-9]", "") + "-" + thisWindowsHardwareInfoProperty.substring(devIndex + 4, devIndex + 8).toLowerCase().replaceAll("[^a-z0-9]", "");
+                                                            String thisGPUid = SpecsParsing.keepLowercaseAlphanumerics(thisWindowsHardwareInfoProperty.substring(venIndex + 4, venIndex + 8).toLowerCase()) + "-" + SpecsParsing.keepLowercaseAlphanumerics(thisWindowsHardwareInfoProperty.substring(devIndex + 4, devIndex + 8).toLowerCase());
 
                                                             // gpuIDs are for used for the Drivers Cache Model Name
                                                             if (!thisGPUid.equals("1414-5353") && (!pnpDeviceConfigManagerErrorCode.equals("CM_PROB_PHANTOM") || thisGPUid.startsWith("8086-"))) {
@@ -2769,7 +3429,7 @@ public final class GetComputerSpecs {
 
                                                         if (!pnpDeviceConfigManagerErrorCode.equals("CM_PROB_PHANTOM")) {
                                                             // Want some PHANTOM (Error Code 45) devices for gpuIDs, but not listed in GPU field.
-                                                            if (gpuArray.isEmpty() || gpuErrorArray.contains("DRIVER NOT INSTALLED") || getFullGPU().replaceAll("[^0-9]", "").isEmpty()) {
+                                                            if (gpuArray.isEmpty() || gpuErrorArray.contains("DRIVER NOT INSTALLED") || !SpecsParsing.containsDigit(getFullGPU())) {
                                                                 String thisGPUdeviceName = getCleanNameForWindowsDeviceID(thisWindowsHardwareInfoProperty, pnpDeviceName);
 
                                                                 if (!pnpGPU.contains(thisGPUdeviceName)) {
@@ -2783,7 +3443,7 @@ public final class GetComputerSpecs {
                                                         if (pnpDeviceSubClassCode.equals("01") || pnpDeviceSubClassCode.equals("03")) {
                                                             // Only use "Multimedia audio controller" or "Audio device"
                                                             if ((venIndex = thisWindowsHardwareInfoProperty.indexOf("VEN_")) > -1 && (devIndex = thisWindowsHardwareInfoProperty.indexOf("DEV_")) > -1) {
-                                                                String thisAudioID = thisWindowsHardwareInfoProperty.substring(venIndex + 4, venIndex + 8).toLowerCase().replaceAll("[^a-z0-9]", "") + "-" + thisWindowsHardwareInfoProperty.substring(devIndex + 4, devIndex + 8).toLowerCase().replaceAll("[^a-z0-9]", "");
+                                                                String thisAudioID = SpecsParsing.keepLowercaseAlphanumerics(thisWindowsHardwareInfoProperty.substring(venIndex + 4, venIndex + 8).toLowerCase()) + "-" + SpecsParsing.keepLowercaseAlphanumerics(thisWindowsHardwareInfoProperty.substring(devIndex + 4, devIndex + 8).toLowerCase());
 
                                                                 // audioIDs are for used for the Drivers Cache Model Name
                                                                 if (!pnpDeviceConfigManagerErrorCode.equals("CM_PROB_PHANTOM") || thisAudioID.startsWith("8086-")) {
@@ -2961,7 +3621,7 @@ public final class GetComputerSpecs {
                                     break;
                                 case "Win32_CDROMDrive":
                                     if (thisDiscDriveName.isEmpty() && thisWindowsHardwareInfoLine.startsWith("Name")) {
-                                        thisDiscDriveName = thisWindowsHardwareInfoProperty.trim().replaceAll("\\s{2,}", " ");
+                                        thisDiscDriveName = SpecsParsing.collapseWhitespace(thisWindowsHardwareInfoProperty.trim());
                                     } else if (thisDiscDriveLetter.isEmpty() && thisWindowsHardwareInfoLine.startsWith("Drive")) {
                                         thisDiscDriveLetter = thisWindowsHardwareInfoProperty;
                                     } else if (thisDiscDriveCapabilityDescriptions.isEmpty() && thisWindowsHardwareInfoLine.startsWith("CapabilityDescriptions")) {
@@ -3006,7 +3666,7 @@ public final class GetComputerSpecs {
                 // The "ver" command seems to be the only way that I could find to get the revision of the build which is not included in osBuildNumber and indicates the latest Cumulative Update that's been installed.
                 String fullWindowsBuildWithRevision = new CommandReader("VER").getFirstOutputLineContaining("[Version");
                 if (!fullWindowsBuildWithRevision.isEmpty()) {
-                    String[] windowsVersionParts = fullWindowsBuildWithRevision.replaceAll("[^0-9.]", "").split("\\.");
+                    String[] windowsVersionParts = SpecsParsing.keepDigitsAndPeriods(fullWindowsBuildWithRevision).split("\\.");
                     if (windowsVersionParts.length > 0) {
                         String osBuildRevision = windowsVersionParts[windowsVersionParts.length - 1];
                         if (!osBuildRevision.equals(osBuildNumber) && !osBuildRevision.equals("0") && !osBuildRevision.equals("10")) {
@@ -3061,7 +3721,7 @@ public final class GetComputerSpecs {
                         }
                     } else {
                         String pnpGPUString = String.join(" + ", pnpGPU);
-                        if (!pnpGPUString.contains("Device ") && !pnpGPUString.replaceAll("[^0-9]", "").isEmpty() && !getFullGPU().contains(pnpGPUString)) {
+                        if (!pnpGPUString.contains("Device ") && SpecsParsing.containsDigit(pnpGPUString) && !getFullGPU().contains(pnpGPUString)) {
                             // If GPU doesn't contain any numbers and pnpGPU does (but not just Device ####), add on the pnpGPU.
 
                             int lastGPUIndex = (gpuArray.size() - 1);
@@ -3147,6 +3807,7 @@ public final class GetComputerSpecs {
                     if (windowsBatteryFullChargeCapacities.size() == windowsBatteryDesignCapacities.size()) {
                         for (int i = 0; i < windowsBatteryDesignCapacities.size(); i++) {
                             String thisBatteryCapacity = "";
+                            double thisBatteryCapacityPercent = -1;
 
                             try {
                                 double thisBatteryDesignCapacity = Double.parseDouble(windowsBatteryDesignCapacities.get(i));
@@ -3158,9 +3819,11 @@ public final class GetComputerSpecs {
                                 }
 
                                 thisBatteryCapacity = new DecimalFormat("#.#").format(thisBatteryCapacityDouble) + "%";
+                                thisBatteryCapacityPercent = thisBatteryCapacityDouble;
 
                                 if (thisBatteryCapacity.startsWith("0")) {
                                     thisBatteryCapacity = "NO POWER";
+                                    thisBatteryCapacityPercent = -1;
                                     batteryHealthErrorArray.add("No Power");
                                 } else if (thisBatteryCapacityDouble < 40) {
                                     batteryHealthErrorArray.add("Capacity < 40%");
@@ -3168,6 +3831,7 @@ public final class GetComputerSpecs {
                                     batteryHealthWarningArray.add("Capacity < 60%");
                                 } else if (thisBatteryCapacity.equals("100%") && brand.equals("HP")) { // Some HP firmwares list their design capacity as whatever the full charge capacity is always resulting in exactly "100%" capacity. Sometimes updating firmware can correct this.
                                     thisBatteryCapacity = "UNKNOWN CAPACITY";
+                                    thisBatteryCapacityPercent = -1;
                                     batteryHealthWarningArray.add("HP Firmware Update Required for Accurate Battery Percentage");
                                 }
                             } catch (NumberFormatException batteryCapacityException) {
@@ -3177,10 +3841,12 @@ public final class GetComputerSpecs {
                             }
 
                             String thisBatteryVoltage = "";
+                            double thisBatteryVolts = -1;
                             if (windowsBatteryDesignVoltages.size() == windowsBatteryDesignCapacities.size()) {
                                 try {
                                     double batteryVoltageDouble = (Double.parseDouble(windowsBatteryCurrentVoltages.get(i)) / 1000);
                                     thisBatteryVoltage = new DecimalFormat("#.#").format(batteryVoltageDouble) + " V";
+                                    thisBatteryVolts = batteryVoltageDouble;
 
                                     double batteryDesignVoltageDouble = (Double.parseDouble(windowsBatteryDesignVoltages.get(i)) / 1000);
                                     if (batteryVoltageDouble < (batteryDesignVoltageDouble - 0.1)) {
@@ -3195,11 +3861,13 @@ public final class GetComputerSpecs {
                             }
 
                             String thisBatteryCycleCount = "";
+                            int thisBatteryCycleCountNumber = -1;
                             if (windowsBatteryCycleCounts.size() == windowsBatteryDesignCapacities.size()) {
                                 try {
                                     int batteryCycleCount = Integer.parseInt(windowsBatteryCycleCounts.get(i));
                                     if (batteryCycleCount > 0) {
                                         thisBatteryCycleCount = batteryCycleCount + " Cycle" + ((batteryCycleCount == 1) ? "" : "s");
+                                        thisBatteryCycleCountNumber = batteryCycleCount;
 
                                         if (batteryCycleCount >= 1000) {
                                             batteryHealthErrorArray.add("Cycles >= 1000");
@@ -3222,6 +3890,7 @@ public final class GetComputerSpecs {
                                     thisBatteryCapacity = "";
                                 } else if (!thisBatteryCapacity.equals("NO POWER")) { // Otherwise, if there is no charge and no energy (charging or draining) then this is probably a DEAD BATTERY.
                                     thisBatteryCapacity = "NO POWER";
+                                    thisBatteryCapacityPercent = -1;
                                     batteryHealthErrorArray.add("No Power");
                                 }
                             }
@@ -3239,7 +3908,7 @@ public final class GetComputerSpecs {
                                     }
                                 }
 
-                                batteryHealthArray.add(thisBatteryCapacity + (thisBatteryVoltage.isEmpty() ? (thisBatteryCycleCount.isEmpty() ? "" : " (" + thisBatteryCycleCount + ")") : " (" + (thisBatteryCycleCount.isEmpty() ? "" : thisBatteryCycleCount + ", ") + thisBatteryVoltage + ")"));
+                                addBatteryHealth(thisBatteryCapacity + (thisBatteryVoltage.isEmpty() ? (thisBatteryCycleCount.isEmpty() ? "" : " (" + thisBatteryCycleCount + ")") : " (" + (thisBatteryCycleCount.isEmpty() ? "" : thisBatteryCycleCount + ", ") + thisBatteryVoltage + ")"), thisBatteryCapacityPercent, thisBatteryCycleCountNumber, thisBatteryVolts);
                             }
                         }
 
@@ -3284,6 +3953,9 @@ public final class GetComputerSpecs {
 
                 String processorTraySerial = "N/A";
                 String thisStorageDriveInfo = "";
+                long thisStorageDriveBytes = 0L;
+                String thisStorageDriveKind = "";
+                String thisStorageDriveModel = "";
                 String thisDriveModel = "";
                 String thisGPUmodel = "Unknown";
                 String thisGPUbus = "";
@@ -3320,7 +3992,7 @@ public final class GetComputerSpecs {
                                     macShortModelName = thisMacHardwareInfoProperty;
                                 } else if (macModelIdentifierNumber.isEmpty() && thisMacHardwareInfoLine.startsWith("      Model Identifier:")) {
                                     macModelIdentifier = thisMacHardwareInfoProperty;
-                                    macModelIdentifierNumber = macModelIdentifier.replaceAll("[^0-9,]", "");
+                                    macModelIdentifierNumber = SpecsParsing.keepDigitsAndCommas(macModelIdentifier);
                                 } else if (hardwareUUID.equals("N/A") && thisMacHardwareInfoLine.startsWith("      Hardware UUID:")) {
                                     hardwareUUID = thisMacHardwareInfoProperty;
                                 } else if (cpu.equals("N/A") && thisMacHardwareInfoLine.startsWith("      Chip:")) {
@@ -3444,6 +4116,25 @@ public final class GetComputerSpecs {
                                     }
                                 } else if (ram.equals("N/A") && thisMacHardwareInfoLine.startsWith("      Memory:")) {
                                     ram = thisMacHardwareInfoProperty;
+
+                                    String[] ramParts = ram.split(" ");
+                                    if (ramParts.length == 2) {
+                                        try {
+                                            long ramNumber = Long.parseLong(ramParts[0]);
+
+                                            if (ramParts[1].equals("MB")) {
+                                                ramBytes = ramNumber * 1024 * 1024;
+                                            } else if (ramParts[1].equals("GB")) {
+                                                ramBytes = ramNumber * 1024 * 1024 * 1024;
+                                            } else if (ramParts[1].equals("TB")) {
+                                                ramBytes = ramNumber * 1024 * 1024 * 1024 * 1024;
+                                            }
+                                        } catch (NumberFormatException ramSizeException) {
+                                            if (isTestMode) {
+                                                System.out.println("ramSizeException: " + ramSizeException);
+                                            }
+                                        }
+                                    }
                                 } else if (serial.equals("N/A") && thisMacHardwareInfoLine.startsWith("      Serial Number (system):")) {
                                     serial = thisMacHardwareInfoProperty;
                                     if (serial.endsWith("vailable")) { // In "system_profiler", Macs without a serial number will show as "Unavailable" on macOS 11 Big Sur and newer and as "Not Available" on macOS 10.15 Catalina and older.
@@ -3550,7 +4241,7 @@ public final class GetComputerSpecs {
                                 break;
                             case "Disc Burning:":
                                 if (thisMacHardwareInfoLine.startsWith("    ") && !thisMacHardwareInfoLine.startsWith("     ")) {
-                                    discDriveArray.add(thisMacHardwareInfoLine.substring(0, thisMacHardwareInfoLine.length() - 1).trim().replaceAll("\\s{2,}", " "));
+                                    discDriveArray.add(SpecsParsing.collapseWhitespace(thisMacHardwareInfoLine.substring(0, thisMacHardwareInfoLine.length() - 1).trim()));
                                 }
 
                                 if (thisMacHardwareInfoLine.startsWith("      CD-Write:")) {
@@ -3647,7 +4338,9 @@ public final class GetComputerSpecs {
                                     }
                                 } else if (ramSpeed.isEmpty() && thisMacHardwareInfoLine.startsWith("          Speed:")) {
                                     ramSpeed = " @ " + thisMacHardwareInfoProperty.replace("32 ", "33 ").replace("34 ", "33 ").replace("67 ", "66 "); // Replace any MHz speeds that end with "32" or "34" to "33" and "67" to "66" to account for rounding differences (such as "1332 MHz" vs "1333 MHz" and "2667 MHz" vs "2666 MHz" etc) that would make the software show a slightly different number than what would be on the actual RAM label.
-                                    if (!ramSpeed.contains(" MHz")) {
+                                    if (ramSpeed.contains(" MHz")) {
+                                        ramSpeedMHz = getRAMSpeedMHz(thisMacHardwareInfoProperty);
+                                    } else {
                                         ramSpeed = "";
                                     }
                                 } else if (thisMacHardwareInfoLine.equals("      Upgradeable Memory: No") || cpu.startsWith("Apple")) { // Apple Silicon Macs DO NOT have this value set, but all their RAM is integrated into the Chip and not upgradeable. THIS CONDITION MUST BE LAST SINCE IT WILL ALWAYS BE TRUE ON APPLE SILICON AND WOULD PREVENT OTHER CONDITIONS FROM BEING HIT.
@@ -3694,6 +4387,9 @@ public final class GetComputerSpecs {
                                 if (thisMacHardwareInfoLine.startsWith("        ") && !thisMacHardwareInfoLine.startsWith("         ")) {
                                     // This indicates a new device section.
                                     thisStorageDriveInfo = "";
+                                    thisStorageDriveBytes = 0L;
+                                    thisStorageDriveKind = "";
+                                    thisStorageDriveModel = "";
                                     thisDriveModel = "";
                                     break;
                                 }
@@ -3702,6 +4398,19 @@ public final class GetComputerSpecs {
                                     if (thisMacHardwareInfoLine.startsWith("          Capacity:")) {
                                         thisStorageDriveInfo = thisMacHardwareInfoProperty;
 
+                                        // The exact byte count is in parenthesis after the rounded size (such as "500.28 GB (500,277,790,720 bytes)"), but with whatever thousands separator the current locale uses.
+                                        int thisStorageDriveBytesStartIndex = thisStorageDriveInfo.indexOf(" (");
+                                        int thisStorageDriveBytesEndIndex = thisStorageDriveInfo.indexOf(" bytes)");
+                                        if ((thisStorageDriveBytesStartIndex > -1) && (thisStorageDriveBytesEndIndex > thisStorageDriveBytesStartIndex)) {
+                                            try {
+                                                thisStorageDriveBytes = Long.parseLong(thisStorageDriveInfo.substring((thisStorageDriveBytesStartIndex + 2), thisStorageDriveBytesEndIndex).replaceAll("[^0-9]", ""));
+                                            } catch (NumberFormatException thisStorageDriveBytesException) {
+                                                if (isTestMode) {
+                                                    System.out.println("thisStorageDriveBytesException: " + thisStorageDriveBytesException);
+                                                }
+                                            }
+                                        }
+
                                         try {
                                             String[] thisStorageDriveInfoParts = thisStorageDriveInfo.split(" ");
                                             if ((thisStorageDriveInfoParts.length >= 2) && (thisStorageDriveInfoParts[1].length() == 2)) {
@@ -3715,10 +4424,12 @@ public final class GetComputerSpecs {
                                         }
 
                                         if (thisStorageController.equals("    Apple SSD Controller:")) { // This is for NVMe SSDs (which don't have a Medium Type field).
-                                            thisStorageDriveInfo += (thisMacHardwareInfoCategory.equals("NVMExpress:") ? " NVMe" : " SSD");
+                                            thisStorageDriveKind = (thisMacHardwareInfoCategory.equals("NVMExpress:") ? "NVMe" : "SSD");
+                                            thisStorageDriveInfo += " " + thisStorageDriveKind;
                                         }
                                     } else if (thisMacHardwareInfoLine.startsWith("          Model:")) {
-                                        thisDriveModel = thisMacHardwareInfoProperty.trim().replace("(", "").replace(")", "").replaceAll("\\s{2,}", " "); // NOTE: Remove all parens (which shouldn't normally exist anyways) to not break removing models when truncating storage line for PCsCRM.
+                                        thisDriveModel = SpecsParsing.collapseWhitespace(thisMacHardwareInfoProperty.trim().replace("(", "").replace(")", "")); // NOTE: Remove all parens (which shouldn't normally exist anyways) to not break removing models when truncating storage line for PCsCRM.
+                                        thisStorageDriveModel = thisDriveModel;
 
                                         if (!thisStorageDriveInfo.isEmpty() && thisStorageController.equals("    Apple SSD Controller:")) { // Will add model below if NOT in "Apple SSD Controller" section.
                                             if (!thisDriveModel.isEmpty()) {
@@ -3727,7 +4438,7 @@ public final class GetComputerSpecs {
                                             }
                                         }
                                     } else if (thisMacHardwareInfoLine.startsWith("          Serial Number:")) {
-                                        String thisDriveSerial = thisMacHardwareInfoProperty.replaceAll("^[. /]+", "").replaceAll("[. /]+$", ""); // Trim all leading and trailing spaces, periods, and slashes.
+                                        String thisDriveSerial = SpecsParsing.trimPeriodsSpacesAndSlashes(thisMacHardwareInfoProperty); // Trim all leading and trailing spaces, periods, and slashes.
                                         if (!thisDriveSerial.isEmpty()) {
                                             storageSerialsArray.add(thisDriveSerial);
                                         }
@@ -3735,10 +4446,11 @@ public final class GetComputerSpecs {
                                         if (thisMacHardwareInfoProperty.equals("Yes")) { // To ignore DVD drives.
                                             thisStorageDriveInfo = "";
                                         } else {
-                                            storageArray.add(thisStorageDriveInfo);
+                                            addStorageDrive(thisStorageDriveInfo, thisStorageDriveBytes, thisStorageDriveKind, thisStorageDriveModel);
                                         }
                                     } else if (!thisStorageDriveInfo.isEmpty() && !thisStorageController.equals("    Apple SSD Controller:") && thisMacHardwareInfoLine.startsWith("          Medium Type:")) {
                                         String ssdOrHdd = (thisMacHardwareInfoProperty.equals("Solid State") ? "SSD" : "HDD");
+                                        thisStorageDriveKind = ssdOrHdd;
 
                                         int thisStorageDriveInfoIndex = storageArray.lastIndexOf(thisStorageDriveInfo);
 
@@ -3749,9 +4461,9 @@ public final class GetComputerSpecs {
                                         }
 
                                         if (thisStorageDriveInfoIndex >= 0) {
-                                            storageArray.set(thisStorageDriveInfoIndex, thisStorageDriveInfo);
+                                            setStorageDrive(thisStorageDriveInfoIndex, thisStorageDriveInfo, thisStorageDriveBytes, thisStorageDriveKind, thisStorageDriveModel);
                                         } else {
-                                            storageArray.add(thisStorageDriveInfo);
+                                            addStorageDrive(thisStorageDriveInfo, thisStorageDriveBytes, thisStorageDriveKind, thisStorageDriveModel);
                                         }
                                     } else if (!thisStorageDriveInfo.isEmpty() && thisMacHardwareInfoLine.startsWith("          TRIM Support:") && (thisStorageDriveInfo.endsWith(" SSD") || thisStorageDriveInfo.contains(" SSD (") || thisStorageDriveInfo.endsWith(" NVMe") || thisStorageDriveInfo.contains(" NVMe ("))) {
                                         if (!thisMacHardwareInfoProperty.equals("Yes")) {
@@ -3850,6 +4562,8 @@ public final class GetComputerSpecs {
                 // Battery & Power Adapter for Mac
                 if (isLaptop) {
                     String thisBatterySummary;
+                    double thisBatteryCapacityPercent = -1;
+                    int thisBatteryCycleCountNumber = -1;
 
                     try {
                         String[] batteryCapacityLines = new CommandReader(new String[]{"/usr/sbin/ioreg", "-rc", "AppleSmartBattery"}).getOutputLines();
@@ -3869,9 +4583,11 @@ public final class GetComputerSpecs {
                         if (maxCapacity > 0 && designCapacity > 0) {
                             double thisBatteryCapacityDouble = ((maxCapacity / designCapacity) * 100);
                             thisBatterySummary = new DecimalFormat("#.#").format(thisBatteryCapacityDouble) + "%";
+                            thisBatteryCapacityPercent = thisBatteryCapacityDouble;
 
                             if (thisBatterySummary.startsWith("0")) {
                                 thisBatterySummary = "NO POWER";
+                                thisBatteryCapacityPercent = -1;
                                 batteryHealthErrorArray.add("No Power");
                             } else if (thisBatteryCapacityDouble < 40) {
                                 batteryHealthErrorArray.add("Capacity < 40%");
@@ -3896,6 +4612,7 @@ public final class GetComputerSpecs {
 
                         try {
                             int batteryCycleCountInteger = Integer.parseInt(thisBatteryCycleCount);
+                            thisBatteryCycleCountNumber = batteryCycleCountInteger;
 
                             if (batteryCycleCountInteger >= 1000) {
                                 batteryHealthErrorArray.add("Cycles >= 1000");
@@ -3910,7 +4627,7 @@ public final class GetComputerSpecs {
                     }
 
                     if (!thisBatterySummary.isEmpty()) {
-                        batteryHealthArray.add(thisBatterySummary);
+                        addBatteryHealth(thisBatterySummary, thisBatteryCapacityPercent, thisBatteryCycleCountNumber, -1); // Voltage is not shown on macOS.
                     }
 
                     // Battery Health Check
@@ -4016,7 +4733,7 @@ public final class GetComputerSpecs {
                     // So instead of using Family/SystemFamily, we will get the correct shortModelName from the systemProductName which *seems* to always be the correct macModelIdentifier.
 
                     macShortModelName = systemProductName.replaceAll("[^A-Za-z]", "").replace("Pro", " Pro").replace("Air", " Air").replace("mini", " mini"); // The "Mac Studio" does not have a "Studio" suffix in the Model Identifier and Apple Silicon Macs should never be running Linux anyways.
-                    macModelIdentifierNumber = systemProductName.replaceAll("[^0-9,]", "");
+                    macModelIdentifierNumber = SpecsParsing.keepDigitsAndCommas(systemProductName);
 
                     if ((macShortModelName.length() > 3) && macShortModelName.contains("Mac") && (macModelIdentifierNumber.length() > 2) && macModelIdentifierNumber.contains(",")) {
                         // Even though systemProductName seems to always be the correct macModelIdentifier, confirm it anyway and if correct,
@@ -4112,7 +4829,7 @@ public final class GetComputerSpecs {
                 String possibleMarketingModelNames = "";
                 if (isMacOS && cpu.startsWith("Apple")) {
                     // This local marketing model name only exists on Apple Silicon Macs.
-                    String localMarketingModelName = new CommandReader(new String[]{"/bin/bash", "-c", "/usr/libexec/PlistBuddy -c 'Print :0:product-name' /dev/stdin <<< \"$(/usr/sbin/ioreg -arc IOPlatformDevice -k product-name)\" | /usr/bin/tr -d '[:cntrl:]'"}).getFirstOutputLine().trim().replaceAll("\\s{2,}", " "); // Remove control characters because this decoded value could end with a null char.
+                    String localMarketingModelName = SpecsParsing.collapseWhitespace(new CommandReader(new String[]{"/bin/bash", "-c", "/usr/libexec/PlistBuddy -c 'Print :0:product-name' /dev/stdin <<< \"$(/usr/sbin/ioreg -arc IOPlatformDevice -k product-name)\" | /usr/bin/tr -d '[:cntrl:]'"}).getFirstOutputLine().trim()); // Remove control characters because this decoded value could end with a null char.
 
                     if (!localMarketingModelName.isEmpty()) {
                         model = localMarketingModelName;
@@ -4300,7 +5017,7 @@ public final class GetComputerSpecs {
                         // If About This Mac has been opened, the Marketing Model Name will be cached in this user preference.
                         // Since "defaults read" has no option to traverse into keys of dictionary values, use the whole "defaults export" output and parse it with "PlistBuddy" to get at the specific key of the "CPU Names" dictionary value that we want.
                         // Using "defaults export" instead of accessing the plist file directly with "PlistBuddy" is important since preferences are not guaranteed to be written to disk if they were just set.
-                        String cachedMarketingModelName = new CommandReader(new String[]{"/bin/bash", "-c", "/usr/libexec/PlistBuddy -c \"Print :'CPU Names':" + macSerialConfigCode + "-en-US_US\" /dev/stdin <<< \"$(/usr/bin/defaults export com.apple.SystemProfiler -)\""}).getFirstOutputLine().trim().replaceAll("\\s{2,}", " ");
+                        String cachedMarketingModelName = SpecsParsing.collapseWhitespace(new CommandReader(new String[]{"/bin/bash", "-c", "/usr/libexec/PlistBuddy -c \"Print :'CPU Names':" + macSerialConfigCode + "-en-US_US\" /dev/stdin <<< \"$(/usr/bin/defaults export com.apple.SystemProfiler -)\""}).getFirstOutputLine().trim());
                         if (!cachedMarketingModelName.isEmpty() && cachedMarketingModelName.startsWith(macShortModelName)) { // Make sure the value starts with the short model name, since technically anything could be set to this value manually.
                             model = cachedMarketingModelName;
                             marketingModelNameWasCachedOnMacOS = true;
@@ -4332,7 +5049,7 @@ public final class GetComputerSpecs {
                                         downloadedMarketingModelName = "";
                                     }
 
-                                    downloadedMarketingModelName = downloadedMarketingModelName.trim().replaceAll("\\s{2,}", " ");
+                                    downloadedMarketingModelName = SpecsParsing.collapseWhitespace(downloadedMarketingModelName.trim());
                                 }
 
                                 if (downloadedMarketingModelName.isEmpty() || !downloadedMarketingModelName.startsWith(macShortModelName) || downloadedMarketingModelName.equals(macShortModelName)) {
@@ -4357,7 +5074,7 @@ public final class GetComputerSpecs {
                                         downloadedMarketingModelName = "";
                                     }
 
-                                    downloadedMarketingModelName = downloadedMarketingModelName.trim().replaceAll("\\s{2,}", " ");
+                                    downloadedMarketingModelName = SpecsParsing.collapseWhitespace(downloadedMarketingModelName.trim());
                                 }
 
                                 if (!downloadedMarketingModelName.isEmpty()) {
@@ -4609,7 +5326,7 @@ public final class GetComputerSpecs {
 
                 String cpuModelSpeedPart = cpuModelParts[1].trim();
 
-                if (!cpuModelSpeedPart.replaceAll("[^0-9]", "").isEmpty()) {
+                if (SpecsParsing.containsDigit(cpuModelSpeedPart)) {
                     try {
                         if (cpuModelSpeedPart.contains("MHz")) {
                             cpuModelSpeedGHz = (Double.parseDouble(cpuModelSpeedPart.substring(0, cpuModelSpeedPart.indexOf("MHz")).trim()) / 1000);
@@ -4625,7 +5342,7 @@ public final class GetComputerSpecs {
             }
 
             double cpuCurrentSpeedGHz = cpuModelSpeedGHz;
-            if (!cpuCurrentSpeedString.replaceAll("[^0-9]", "").isEmpty()) {
+            if (SpecsParsing.containsDigit(cpuCurrentSpeedString)) {
                 try {
                     if (cpuCurrentSpeedString.contains("MHz")) {
                         cpuCurrentSpeedGHz = (Double.parseDouble(cpuCurrentSpeedString.substring(0, cpuCurrentSpeedString.indexOf("MHz")).trim()) / 1000);
@@ -4640,7 +5357,7 @@ public final class GetComputerSpecs {
             }
 
             double cpuMaxSpeedGHz = cpuCurrentSpeedGHz;
-            if (!cpuMaxSpeedString.replaceAll("[^0-9]", "").isEmpty()) {
+            if (SpecsParsing.containsDigit(cpuMaxSpeedString)) {
                 try {
                     if (cpuMaxSpeedString.contains("MHz")) {
                         cpuMaxSpeedGHz = (Double.parseDouble(cpuMaxSpeedString.substring(0, cpuMaxSpeedString.indexOf("MHz")).trim()) / 1000);
@@ -4751,6 +5468,8 @@ public final class GetComputerSpecs {
             }
 
             if (ramTotalBytesFromBanks > 0L) {
+                ramBytes = ramTotalBytesFromBanks;
+
                 String possibleRAM = new DecimalFormat("#").format((ramTotalBytesFromBanks / 1024 / 1024 / 1024)) + " GB";
                 if (!ram.equals(possibleRAM)) {
                     ram = possibleRAM;
@@ -4809,8 +5528,8 @@ public final class GetComputerSpecs {
             screenSize = screenSize.replace(") (", " + ");
 
             if (false) { // DEBUG: Set to "true" to test proper display for all array values and errors.
-                storageArray.add("DEBUG STORAGE 1");
-                storageArray.add("DEBUG STORAGE 2");
+                addStorageDrive("DEBUG STORAGE 1", 0L, "", "");
+                addStorageDrive("DEBUG STORAGE 2", 0L, "", "");
                 storageSerialsArray.add("DEBUG STORAGE SERIAL 1");
                 storageSerialsArray.add("DEBUG STORAGE SERIAL 2");
                 driveHealth = "DEBUG STORAGE HEALTH";
@@ -4818,8 +5537,8 @@ public final class GetComputerSpecs {
                 driveTrimWarning = true;
                 driveRecalled = true;
 
-                batteryHealthArray.add("DEBUG BATTERY 1");
-                batteryHealthArray.add("DEBUG BATTERY 2");
+                addBatteryHealth("DEBUG BATTERY 1", -1, -1, -1);
+                addBatteryHealth("DEBUG BATTERY 2", -1, -1, -1);
                 batteryHealthWarningArray.add("DEBUG BATTERY WARNING 1");
                 batteryHealthWarningArray.add("DEBUG BATTERY WARNING 2");
                 batteryHealthWarningArray.add("Possibly Recalled");
@@ -4881,12 +5600,17 @@ public final class GetComputerSpecs {
                 fullCPU = "N/A";
                 cpuThreadCount = 0;
                 ram = "N/A";
+                ramBytes = 0L;
+                ramSpeedMHz = 0;
                 detailedRAM = "N/A";
                 fullRAM = "N/A";
                 motherboardRAM = "N/A";
                 fullMotherboardRAM = "N/A";
                 storage = "N/A";
                 storageArray.clear();
+                storageSizesBytesArray.clear();
+                storageKindsArray.clear();
+                storageModelsArray.clear();
                 storageSerial = "";
                 storageSerialsArray.clear();
                 disksFormattedWithoutPartitionTable.clear();
@@ -4895,6 +5619,9 @@ public final class GetComputerSpecs {
                 driveTrimWarning = false;
                 driveRecalled = false;
                 batteryHealthArray.clear();
+                batteryCapacityPercentsArray.clear();
+                batteryCycleCountsArray.clear();
+                batteryVoltsArray.clear();
                 powerAdapter = "";
                 batteryHealthWarningArray.clear();
                 batteryHealthErrorArray.clear();
@@ -4983,7 +5710,7 @@ public final class GetComputerSpecs {
             }
 
             if (serial.length() > maxFieldLength) {
-                serial = serial.replaceAll("[^A-Za-z0-9]", "");
+                serial = SpecsParsing.keepAlphanumerics(serial);
 
                 if (serial.length() > maxFieldLength) {
                     serial = serial.substring(0, maxFieldLength); // Don't do an ellipsis to get the most serial info
@@ -4991,7 +5718,7 @@ public final class GetComputerSpecs {
             }
 
             if (motherboardSerial.length() > maxFieldLength) {
-                motherboardSerial = motherboardSerial.replaceAll("[^A-Za-z0-9]", "");
+                motherboardSerial = SpecsParsing.keepAlphanumerics(motherboardSerial);
 
                 if (motherboardSerial.length() > maxFieldLength) {
                     motherboardSerial = motherboardSerial.substring(0, maxFieldLength); // Don't do an ellipsis to get the most serial info
@@ -5055,7 +5782,7 @@ public final class GetComputerSpecs {
             }
 
             if (storage.length() > maxFieldLength) {
-                storage = storage.replaceAll("\\(.*?\\)", "").trim().replaceAll("\\s{2,}", " "); // Remove all model names which will always be in parens and will never contain parens within them since they were manually removed and there are never parens anywhere else in the line.
+                storage = SpecsParsing.collapseWhitespace(storage.replaceAll("\\(.*?\\)", "").trim()); // Remove all model names which will always be in parens and will never contain parens within them since they were manually removed and there are never parens anywhere else in the line.
 
                 if (storage.length() > maxFieldLength) {
                     storage = storage.replace(" GB", "GB").replace(" TB", "TB").replace(" RAID", "").replace(" + ", "+");
@@ -5075,7 +5802,7 @@ public final class GetComputerSpecs {
             }
 
             if (storageSerial.length() > 75) { // This field has a 75 character limit, unlike the other fields.
-                storageSerial = storageSerial.replaceAll("[^A-Za-z0-9]", "");
+                storageSerial = SpecsParsing.keepAlphanumerics(storageSerial);
 
                 if (storageSerial.length() > 75) {
                     storageSerial = storageSerial.substring(0, 75); // Don't do an ellipsis to get the most storage serial info
@@ -5130,6 +5857,13 @@ public final class GetComputerSpecs {
             loadSpecsExceptionString = loadSpecsException.toString();
         }
 
+        updateSpecsRecord();
+
+        if (specsCategoriesToLoad == null) { // Partial specs are never saved, the instance they are swapped into saves its own updated specs snapshot instead.
+            specsLoadedWithAdmin = !adminPassword.equals("*UNKNOWN*");
+            saveSpecsSnapshot(isTestMode);
+        }
+
         if (isTestMode) {
             printSpecs();
         }
@@ -5425,7 +6159,7 @@ public final class GetComputerSpecs {
                 }
 
                 if (!currentProductIdFromRegistry.isEmpty() && currentProductIdFromRegistry.endsWith("AAOEM")) {
-                    coaIDfromProductID = currentProductIdFromRegistry.replaceAll("[^0-9]", "");
+                    coaIDfromProductID = SpecsParsing.keepDigits(currentProductIdFromRegistry);
                     if (coaIDfromProductID.startsWith("0")) {
                         coaIDfromProductID = coaIDfromProductID.substring(1);
                     }
@@ -5441,7 +6175,7 @@ public final class GetComputerSpecs {
 
                 if (!coaIDfromProductID.isEmpty()) {
                     try {
-                        productKeyID = String.valueOf(Long.parseLong(coaIDfromProductID.replaceAll("[^0-9]", ""))); // Strip dashes out and convert to long to remove leading zeros.
+                        productKeyID = String.valueOf(Long.parseLong(SpecsParsing.keepDigits(coaIDfromProductID))); // Strip dashes out and convert to long to remove leading zeros.
                     } catch (NumberFormatException getProductKeyIDexception) {
                         if (isTestMode) {
                             System.out.println("getProductKeyIDexception: " + getProductKeyIDexception);
@@ -5524,6 +6258,21 @@ public final class GetComputerSpecs {
         return "";
     }
 
+    private synchronized void updateSpecsRecord() {
+        specsRecord = ComputerSpecsRecord.fromComputerSpecs(this);
+    }
+
+    public ComputerSpecsRecord getSpecsRecord() {
+        ComputerSpecsRecord currentSpecsRecord = specsRecord;
+
+        if (currentSpecsRecord == null) { // Should never happen since every way of loading specs builds the record, but never return null.
+            updateSpecsRecord();
+            currentSpecsRecord = specsRecord;
+        }
+
+        return currentSpecsRecord;
+    }
+
     public String getLoadSpecsException() {
         return loadSpecsExceptionString;
     }
@@ -5653,6 +6402,14 @@ public final class GetComputerSpecs {
         return fullRAM;
     }
 
+    public long getRAMbytes() {
+        return ramBytes;
+    }
+
+    public int getRAMspeedMHz() {
+        return ramSpeedMHz;
+    }
+
     public String getMotherboardRAM() {
         return motherboardRAM;
     }
@@ -5741,6 +6498,18 @@ public final class GetComputerSpecs {
         return batteryHealthArray;
     }
 
+    public ArrayList<Double> getBatteryCapacityPercentsArray() {
+        return batteryCapacityPercentsArray;
+    }
+
+    public ArrayList<Integer> getBatteryCycleCountsArray() {
+        return batteryCycleCountsArray;
+    }
+
+    public ArrayList<Double> getBatteryVoltsArray() {
+        return batteryVoltsArray;
+    }
+
     public String getBatteryHealthWarningString() {
         return String.join(" + ", batteryHealthWarningArray);
     }
@@ -5817,6 +6586,18 @@ public final class GetComputerSpecs {
         return storageArray;
     }
 
+    public ArrayList<Long> getStorageSizesBytesArray() {
+        return storageSizesBytesArray;
+    }
+
+    public ArrayList<String> getStorageKindsArray() {
+        return storageKindsArray;
+    }
+
+    public ArrayList<String> getStorageModelsArray() {
+        return storageModelsArray;
+    }
+
     public String getStorageSerial() {
         return storageSerial;
     }
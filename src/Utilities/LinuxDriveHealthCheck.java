@@ -0,0 +1,276 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * This class runs Hard Disk Sentinel in the background to check the health of the internal drives on Linux and caches the results for each set of drives (by serial) for the whole session
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class LinuxDriveHealthCheck {
+
+    // Only ever run one HD Sentinel at a time since multiple instances would just be fighting over the same drives.
+    private static final ExecutorService DRIVE_HEALTH_CHECK_EXECUTOR = Executors.newSingleThreadExecutor((Runnable driveHealthCheckRunnable) -> {
+        Thread driveHealthCheckThread = new Thread(driveHealthCheckRunnable, "qa_helper-drive_health_check");
+        driveHealthCheckThread.setDaemon(true);
+        return driveHealthCheckThread;
+    });
+
+    private static final ConcurrentHashMap<String, CompletableFuture<LinuxDriveHealthCheck>> DRIVE_HEALTH_CHECKS = new ConcurrentHashMap<>();
+
+    private String driveHealth = "N/A";
+    private boolean driveHealthWarning = false;
+    private boolean detectedDrives = false;
+
+    private LinuxDriveHealthCheck() {
+
+    }
+
+    public static CompletableFuture<LinuxDriveHealthCheck> getDriveHealthCheck(String adminPassword, List<String> internalDriveLogicalNames, List<String> internalDriveSerials, boolean hasNVMeDrive, Supplier<String> hdSentinelBinaryPathSupplier, boolean isTestMode) {
+        // Returns the completed or still running check for these exact drives if one was already started this session, otherwise starts a new check in the background.
+        // Only checks where HD Sentinel actually detected drives stay cached, so a check that failed, threw an exception, was canceled (or ran without the admin password) will be run again the next time.
+        List<String> sortedInternalDriveLogicalNames = new ArrayList<>(internalDriveLogicalNames);
+        Collections.sort(sortedInternalDriveLogicalNames);
+        List<String> sortedInternalDriveSerials = new ArrayList<>(internalDriveSerials);
+        Collections.sort(sortedInternalDriveSerials);
+        String driveHealthCheckKey = String.join(",", sortedInternalDriveLogicalNames) + "|" + String.join(",", sortedInternalDriveSerials);
+
+        CompletableFuture<LinuxDriveHealthCheck> driveHealthCheck = DRIVE_HEALTH_CHECKS.compute(driveHealthCheckKey, (String thisDriveHealthCheckKey, CompletableFuture<LinuxDriveHealthCheck> existingDriveHealthCheck) -> {
+            // Never "join" a check that completed exceptionally (or was canceled) since that would throw in here, so any such check is just replaced with a new one.
+            if ((existingDriveHealthCheck != null) && !existingDriveHealthCheck.isCompletedExceptionally() && (!existingDriveHealthCheck.isDone() || existingDriveHealthCheck.join().detectedDrives)) {
+                if (isTestMode) {
+                    System.out.println("Using " + (existingDriveHealthCheck.isDone() ? "Cached" : "Running") + " Drive Health Check for " + thisDriveHealthCheckKey);
+                }
+
+                return existingDriveHealthCheck;
+            }
+
+            return CompletableFuture.supplyAsync(() -> runDriveHealthCheck(adminPassword, sortedInternalDriveLogicalNames, hasNVMeDrive, hdSentinelBinaryPathSupplier, isTestMode), DRIVE_HEALTH_CHECK_EXECUTOR);
+        });
+
+        // Early-cancel any check for a different set of drives that is still waiting to run (such as when a drive was swapped while an earlier load was still going) since the drives it was for are no longer the installed drives,
+        // and HD Sentinel only ever runs one check at a time so it would otherwise hold up this check. A canceled check that hasn't started yet is never run at all, and one that is already running is limited
+        // by its own "timeout" but its result is discarded. Any canceled check is removed so that it would be run again if those drives are ever checked again.
+        DRIVE_HEALTH_CHECKS.forEach((String thisDriveHealthCheckKey, CompletableFuture<LinuxDriveHealthCheck> thisDriveHealthCheck) -> {
+            if (!thisDriveHealthCheckKey.equals(driveHealthCheckKey) && !thisDriveHealthCheck.isDone() && thisDriveHealthCheck.cancel(false)) {
+                DRIVE_HEALTH_CHECKS.remove(thisDriveHealthCheckKey, thisDriveHealthCheck);
+
+                if (isTestMode) {
+                    System.out.println("Canceled Drive Health Check for " + thisDriveHealthCheckKey + " Since the Installed Drives Changed");
+                }
+            }
+        });
+
+        return driveHealthCheck;
+    }
+
+    private static LinuxDriveHealthCheck runDriveHealthCheck(String adminPassword, List<String> internalDriveLogicalNames, boolean hasNVMeDrive, Supplier<String> hdSentinelBinaryPathSupplier, boolean isTestMode) {
+        LinuxDriveHealthCheck driveHealthCheck = new LinuxDriveHealthCheck();
+
+        String hdSentinelBinaryPath = hdSentinelBinaryPathSupplier.get();
+        if (hdSentinelBinaryPath == null) {
+            return driveHealthCheck;
+        }
+
+        // Use a unique report path for each check since it will be owned by root and may not be able to be deleted without the admin password.
+        File hdSentinelOutputFile = new File(System.getProperty("java.io.tmpdir"), "qa_helper-hd_sentinel-output-" + UUID.randomUUID().toString() + ".xml");
+
+        try {
+            // Build the text output as each line streams in instead of collecting all the lines first.
+            StringBuilder hdSentinelTextOutputBuilder = new StringBuilder();
+
+            PrivilegedCommandSession.runCommand(adminPassword, "/usr/bin/timeout 15 '" + hdSentinelBinaryPath.replace("'", "'\\''") + "' -onlydevs '" + String.join(",", internalDriveLogicalNames).replace("'", "'\\''") + "' -xml -r '" + hdSentinelOutputFile.getPath().replace("'", "'\\''") + "'", isTestMode).readOutputLines((String thisHdSentinelOutputLine) -> {
+                if (!thisHdSentinelOutputLine.isEmpty() && !thisHdSentinelOutputLine.startsWith("Start with -r") && !thisHdSentinelOutputLine.startsWith("Examining hard disk") && !thisHdSentinelOutputLine.startsWith("Report file saved as:") && !thisHdSentinelOutputLine.startsWith("No hard disk devices found.")) {
+                    if (hdSentinelTextOutputBuilder.length() == 0) {
+                        hdSentinelTextOutputBuilder.append(thisHdSentinelOutputLine);
+                    } else if (thisHdSentinelOutputLine.startsWith("HDD Device")) {
+                        hdSentinelTextOutputBuilder.append("\n\n").append(thisHdSentinelOutputLine);
+                    } else if (thisHdSentinelOutputLine.startsWith("Temperature") || thisHdSentinelOutputLine.startsWith("Highest Temp.")) {
+                        hdSentinelTextOutputBuilder.append("\n").append(thisHdSentinelOutputLine.replaceAll("[^A-Za-z0-9 :.]", "")); // Remove ° because it doesn't display correctly in pre-install environment (can't directly replace it because it is considered some different character in the pre-install environment).
+                    } else {
+                        hdSentinelTextOutputBuilder.append("\n").append(thisHdSentinelOutputLine);
+                    }
+                }
+
+                return true;
+            });
+
+            String hdSentinelTextOutput = hdSentinelTextOutputBuilder.toString();
+
+            if (!hdSentinelTextOutput.contains("HDD Device")) {
+                if (!adminPassword.equals("*UNKNOWN*")) {
+                    if (hdSentinelTextOutput.isEmpty()) {
+                        driveHealthCheck.driveHealth = "FAILED to load Hard Disk Sentinel for unknown reasons.\n\nThis could mean that some installed drive is bad, or this may have happened because of some unrelated issue.\n\nIt is recommended to test all installed drives using other means before continuing.";
+                        driveHealthCheck.driveHealthWarning = true;
+                    } else if (internalDriveLogicalNames.isEmpty()) {
+                        driveHealthCheck.driveHealth = hdSentinelTextOutput + "\n\nNo hard drives installed or detected.";
+                    } else {
+                        driveHealthCheck.driveHealth = hdSentinelTextOutput + "\n\nIt appears that Hard Disk Sentinel has failed to detect an installed " + (hasNVMeDrive ? "NVMe" : "hard") + " drive.\n\nIf you have other easy means to test the health of the installed drive, it is recommended to do so. If not, then this Drive Health test should be skipped.";
+                        driveHealthCheck.driveHealthWarning = true;
+                    }
+                }
+            } else {
+                driveHealthCheck.detectedDrives = true;
+
+                try (InputStream hdSentinelReportInputStream = new FileInputStream(hdSentinelOutputFile)) {
+                    for (HashMap<String, String> thisDriveReport : parseHDSentinelReport(hdSentinelReportInputStream)) {
+                        String thisDriveID = thisDriveReport.get("Hard_Disk_Device");
+
+                        if (internalDriveLogicalNames.contains(thisDriveID)) {
+                            hdSentinelTextOutput = hdSentinelTextOutput.replace(": " + thisDriveID + "\n", ": " + thisDriveID + " (INTERNAL)\n");
+
+                            if (!driveHealthCheck.driveHealthWarning) {
+                                driveHealthCheck.driveHealthWarning = hasDriveHealthWarning(thisDriveReport, isTestMode);
+                            }
+                        }
+                    }
+                } catch (IOException | XMLStreamException parseHDSentinalException) {
+                    if (isTestMode) {
+                        System.out.println("parseHDSentinalException: " + parseHDSentinalException);
+                    }
+
+                    driveHealthCheck.driveHealthWarning = true;
+                }
+
+                driveHealthCheck.driveHealth = hdSentinelTextOutput;
+            }
+        } finally {
+            if (hdSentinelOutputFile.exists()) {
+                hdSentinelOutputFile.delete();
+            }
+
+            if (hdSentinelOutputFile.exists()) {
+                PrivilegedCommandSession.runCommand(adminPassword, "/bin/rm '" + hdSentinelOutputFile.getPath().replace("'", "'\\''") + "'", isTestMode);
+            }
+        }
+
+        return driveHealthCheck;
+    }
+
+    private static List<HashMap<String, String>> parseHDSentinelReport(InputStream hdSentinelReportInputStream) throws XMLStreamException {
+        // Each drive in the HD Sentinel XML report is an element with the "Hard_Disk_Device" and all other drive values as text elements directly within it.
+        // So, collect the text of every element that only contains text into a map for its parent element, and keep the maps for the parents which contain a "Hard_Disk_Device".
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+        XMLStreamReader hdSentinelReportReader = xmlInputFactory.createXMLStreamReader(hdSentinelReportInputStream);
+
+        try {
+            List<HashMap<String, String>> driveReports = new ArrayList<>();
+            ArrayList<HashMap<String, String>> openElementValues = new ArrayList<>();
+            StringBuilder thisElementText = new StringBuilder();
+
+            while (hdSentinelReportReader.hasNext()) {
+                int thisEventType = hdSentinelReportReader.next();
+
+                if (thisEventType == XMLStreamConstants.START_ELEMENT) {
+                    openElementValues.add(new HashMap<>());
+                    thisElementText.setLength(0);
+                } else if ((thisEventType == XMLStreamConstants.CHARACTERS) || (thisEventType == XMLStreamConstants.CDATA)) {
+                    thisElementText.append(hdSentinelReportReader.getText());
+                } else if (thisEventType == XMLStreamConstants.END_ELEMENT) {
+                    HashMap<String, String> closedElementValues = openElementValues.remove(openElementValues.size() - 1);
+
+                    if (closedElementValues.isEmpty()) {
+                        if (!openElementValues.isEmpty()) {
+                            openElementValues.get(openElementValues.size() - 1).putIfAbsent(hdSentinelReportReader.getLocalName(), thisElementText.toString().trim());
+                        }
+                    } else if (closedElementValues.containsKey("Hard_Disk_Device")) {
+                        driveReports.add(closedElementValues);
+                    }
+
+                    thisElementText.setLength(0);
+                }
+            }
+
+            return driveReports;
+        } finally {
+            hdSentinelReportReader.close();
+        }
+    }
+
+    private static boolean hasDriveHealthWarning(HashMap<String, String> driveReport, boolean isTestMode) {
+        // On 04/24/26, drive health checks changed FROM: Power On Time < 2500 days, Estimated Remaining Lifetime > 399 days, Description CONTAINS "is PERFECT", Tip IS "No actions needed."
+        // TO: Health Percentage >= 70%, Power On Time < 3000 days (Ignoring >= 10000 days as a false reading), Description CONTAINS "is PERFECT", Tip IS "No actions needed." OR "It is recommended to continuously monitor the hard disk status."
+        // NOTE: Once a drive is over 5 years old (1,825 days Power On Time: https://www.hdsentinel.com/help/en/54_pot.html), HDSentinal sets the Estimated Remaining Lifetime days to the Health Percentage (ie. 70% == 70 days, 100% == "more than 100 days"),
+        // so checking both is basically redundant. And this also means that if we checked for a higher number of days it would essentially make the lowest Health Percentage check unreachable.
+        String driveHealthPercentageText = driveReport.getOrDefault("Health", "");
+        if (!driveHealthPercentageText.isEmpty() && !driveHealthPercentageText.equals("? %") && driveHealthPercentageText.contains(" %")) {
+            try {
+                if (Integer.parseInt(driveHealthPercentageText.replaceAll("[^0-9]", "")) < 70) {
+                    return true;
+                }
+            } catch (NumberFormatException driveHealthPercentageException) {
+                if (isTestMode) {
+                    System.out.println("driveHealthPercentageException: " + driveHealthPercentageException);
+                }
+            }
+        }
+
+        String drivePowerOnTimeText = driveReport.getOrDefault("Power_on_time", "");
+        if (!drivePowerOnTimeText.isEmpty() && drivePowerOnTimeText.contains(" days")) {
+            try {
+                int drivePowerOnTimeDays = Integer.parseInt(drivePowerOnTimeText.substring(0, drivePowerOnTimeText.indexOf(" days")));
+                if ((drivePowerOnTimeDays >= 3000) && (drivePowerOnTimeDays < 10000)) {
+                    return true;
+                }
+            } catch (NumberFormatException drivePowerOnTimeException) {
+                if (isTestMode) {
+                    System.out.println("drivePowerOnTimeException: " + drivePowerOnTimeException);
+                }
+            }
+        }
+
+        String driveDescriptionText = driveReport.getOrDefault("Description", "");
+        if (!driveDescriptionText.isEmpty() && !driveDescriptionText.toLowerCase().contains("is perfect.")) {
+            return true;
+        }
+
+        String driveTipText = driveReport.getOrDefault("Tip", "");
+        return (!driveTipText.isEmpty() && !driveTipText.equals("No actions needed.") && !driveTipText.equals("It is recommended to continuously monitor the hard disk status."));
+    }
+
+    public String getDriveHealth() {
+        return driveHealth;
+    }
+
+    public boolean getDriveHealthWarning() {
+        return driveHealthWarning;
+    }
+}
@@ -0,0 +1,773 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * This class reads Linux specs info directly from the files that the kernel (and udev) already expose in /sys, /proc, and /run/udev
+ * so that GetComputerSpecs doesn't need to launch a separate command for each of them. Every method returns "null" when the info
+ * isn't available from these files so that the caller can fall back on the command that was previously used.
+ *
+ * The methods that stand in for a whole command output the same lines that command would so that GetComputerSpecs parses them exactly the same way.
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public final class LinuxSysfsReader {
+
+    private LinuxSysfsReader() {
+        // Only static methods.
+    }
+
+    private static boolean canReadInsteadOfCommands() {
+        // Command fixtures only include command output, so don't read these files while recording or replaying them so that the commands are always what gets recorded and the replayed specs never mix in the current computer.
+        return (!CommandFixtures.isRecording() && !CommandFixtures.isReplaying());
+    }
+
+    public static String readFirstLine(String filePath) {
+        try {
+            List<String> fileLines = Files.readAllLines(Paths.get(filePath));
+
+            if (!fileLines.isEmpty()) {
+                return fileLines.get(0).trim();
+            }
+        } catch (IOException | SecurityException readFirstLineException) {
+            // Ignore readFirstLineException (many sysfs files are only readable by root).
+        }
+
+        return null;
+    }
+
+    public static Long getTotalOnlineMemoryBytes() {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // This is the same info that "lsmem -b" uses for its "Total online memory" (it's the total of every online memory block in "/sys/devices/system/memory/").
+        String memoryBlockSizeHex = readFirstLine("/sys/devices/system/memory/block_size_bytes");
+
+        if ((memoryBlockSizeHex == null) || memoryBlockSizeHex.isEmpty()) {
+            return null;
+        }
+
+        try {
+            long memoryBlockSizeBytes = Long.parseLong(memoryBlockSizeHex, 16);
+
+            File[] memoryBlockFolders = new File("/sys/devices/system/memory/").listFiles((File thisMemoryFolder, String thisMemoryBlockName) -> thisMemoryBlockName.matches("memory[0-9]+"));
+
+            if ((memoryBlockFolders == null) || (memoryBlockFolders.length == 0)) {
+                return null;
+            }
+
+            long onlineMemoryBlockCount = 0L;
+
+            for (File thisMemoryBlockFolder : memoryBlockFolders) {
+                String thisMemoryBlockOnline = readFirstLine(thisMemoryBlockFolder.getPath() + "/online");
+
+                if ((thisMemoryBlockOnline == null) ? "online".equals(readFirstLine(thisMemoryBlockFolder.getPath() + "/state")) : thisMemoryBlockOnline.equals("1")) {
+                    onlineMemoryBlockCount++;
+                }
+            }
+
+            return ((onlineMemoryBlockCount > 0L) ? (memoryBlockSizeBytes * onlineMemoryBlockCount) : null);
+        } catch (NumberFormatException memoryBlockSizeException) {
+            return null;
+        }
+    }
+
+    public static Boolean hasInputDeviceNameContaining(String inputDeviceNameMatch) {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // "/proc/bus/input/devices" lists every input device, which is what "xinput" lists (with the same names) for the devices that X is using.
+        try {
+            for (String thisInputDeviceLine : Files.readAllLines(Paths.get("/proc/bus/input/devices"))) {
+                if (thisInputDeviceLine.startsWith("N: Name=") && thisInputDeviceLine.contains(inputDeviceNameMatch)) {
+                    return true;
+                }
+            }
+
+            return false;
+        } catch (IOException | SecurityException readInputDevicesException) {
+            return null;
+        }
+    }
+
+    public static Boolean hasUdevInputDeviceProperty(String udevProperty) {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // The udev database in "/run/udev/data/" is what "udevadm info --export-db" outputs, and each input device is listed in a file starting with "c13:" (input device major number) or "+input:".
+        // Each property is on a line starting with "E:", such as "E:ID_INPUT_TOUCHSCREEN=1".
+        File[] udevInputDeviceFiles = new File("/run/udev/data/").listFiles((File udevDataFolder, String thisUdevDataFileName) -> (thisUdevDataFileName.startsWith("c13:") || thisUdevDataFileName.startsWith("+input:")));
+
+        if ((udevInputDeviceFiles == null) || (udevInputDeviceFiles.length == 0)) {
+            return null;
+        }
+
+        String udevPropertyLine = "E:" + udevProperty;
+
+        for (File thisUdevInputDeviceFile : udevInputDeviceFiles) {
+            try {
+                if (Files.readAllLines(thisUdevInputDeviceFile.toPath()).contains(udevPropertyLine)) {
+                    return true;
+                }
+            } catch (IOException | SecurityException readUdevDataException) {
+                // Ignore readUdevDataException (the device could have just been removed).
+            }
+        }
+
+        return false;
+    }
+
+    public static String getUdevBlockDeviceProperty(String blockDevicePath, String udevPropertyName) {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // Get a property like "udevadm info --query property --property <NAME> --value <DEVICE>" does by reading the udev database file for the block device (which is named with its "major:minor" device number).
+        String blockDeviceNumber = readFirstLine("/sys/class/block/" + new File(blockDevicePath).getName() + "/dev");
+
+        if ((blockDeviceNumber == null) || blockDeviceNumber.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String udevPropertyPrefix = "E:" + udevPropertyName + "=";
+
+            for (String thisUdevDataLine : Files.readAllLines(Paths.get("/run/udev/data/b" + blockDeviceNumber))) {
+                if (thisUdevDataLine.startsWith(udevPropertyPrefix)) {
+                    return thisUdevDataLine.substring(udevPropertyPrefix.length());
+                }
+            }
+
+            return "";
+        } catch (IOException | SecurityException readUdevDataException) {
+            return null;
+        }
+    }
+
+    public static String[] getDmidecodeLines() {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // The kernel exposes the System, Base Board, and Chassis Information from the SMBIOS tables in "/sys/class/dmi/id/" which (except for the serials and UUID) is readable without root, unlike "dmidecode".
+        // Output those as "dmidecode" formatted lines, but the OEM Strings, Memory Arrays and Devices, and Portable Battery info are only available from "dmidecode" itself.
+        String dmiFolderPath = "/sys/class/dmi/id/";
+        String dmiSystemVendor = readFirstLine(dmiFolderPath + "sys_vendor");
+
+        if (dmiSystemVendor == null) {
+            return null;
+        }
+
+        ArrayList<String> dmidecodeLines = new ArrayList<>();
+
+        dmidecodeLines.add("System Information");
+        addDmidecodePropertyLine(dmidecodeLines, "Manufacturer", dmiSystemVendor);
+        addDmidecodePropertyLine(dmidecodeLines, "Product Name", readFirstLine(dmiFolderPath + "product_name"));
+        addDmidecodePropertyLine(dmidecodeLines, "Version", readFirstLine(dmiFolderPath + "product_version"));
+        addDmidecodePropertyLine(dmidecodeLines, "Serial Number", readFirstLine(dmiFolderPath + "product_serial")); // Only readable by root.
+        addDmidecodePropertyLine(dmidecodeLines, "UUID", readFirstLine(dmiFolderPath + "product_uuid")); // Only readable by root.
+        addDmidecodePropertyLine(dmidecodeLines, "SKU Number", readFirstLine(dmiFolderPath + "product_sku"));
+        addDmidecodePropertyLine(dmidecodeLines, "Family", readFirstLine(dmiFolderPath + "product_family"));
+
+        String dmiBoardVendor = readFirstLine(dmiFolderPath + "board_vendor");
+        String dmiBoardName = readFirstLine(dmiFolderPath + "board_name");
+
+        if ((dmiBoardVendor != null) || (dmiBoardName != null)) {
+            dmidecodeLines.add("Base Board Information");
+            addDmidecodePropertyLine(dmidecodeLines, "Manufacturer", dmiBoardVendor);
+            addDmidecodePropertyLine(dmidecodeLines, "Product Name", dmiBoardName);
+            addDmidecodePropertyLine(dmidecodeLines, "Version", readFirstLine(dmiFolderPath + "board_version"));
+            addDmidecodePropertyLine(dmidecodeLines, "Serial Number", readFirstLine(dmiFolderPath + "board_serial")); // Only readable by root.
+            dmidecodeLines.add("\tType: Motherboard"); // The kernel only exposes the first Base Board structure (without its type), which is the motherboard.
+        }
+
+        String dmiChassisType = readFirstLine(dmiFolderPath + "chassis_type");
+
+        if (dmiChassisType != null) {
+            dmidecodeLines.add("Chassis Information");
+            addDmidecodePropertyLine(dmidecodeLines, "Manufacturer", readFirstLine(dmiFolderPath + "chassis_vendor"));
+
+            try {
+                // These are the same chassis type names that "dmidecode" outputs (the top bit is the chassis lock flag which is not part of the type).
+                String[] dmidecodeChassisTypeNames = new String[]{
+                    "Other", "Unknown", "Desktop", "Low Profile Desktop", "Pizza Box", "Mini Tower", "Tower", "Portable", "Laptop", "Notebook",
+                    "Hand Held", "Docking Station", "All In One", "Sub Notebook", "Space-saving", "Lunch Box", "Main Server Chassis", "Expansion Chassis", "Sub Chassis", "Bus Expansion Chassis",
+                    "Peripheral Chassis", "RAID Chassis", "Rack Mount Chassis", "Sealed-case PC", "Multi-system", "CompactPCI", "AdvancedTCA", "Blade", "Blade Enclosure", "Tablet",
+                    "Convertible", "Detachable", "IoT Gateway", "Embedded PC", "Mini PC", "Stick PC"
+                };
+
+                int dmiChassisTypeNumber = (Integer.parseInt(dmiChassisType) & 0x7F);
+                addDmidecodePropertyLine(dmidecodeLines, "Type", (((dmiChassisTypeNumber >= 1) && (dmiChassisTypeNumber <= dmidecodeChassisTypeNames.length)) ? dmidecodeChassisTypeNames[dmiChassisTypeNumber - 1] : "<OUT OF SPEC>"));
+            } catch (NumberFormatException dmiChassisTypeException) {
+                // Ignore dmiChassisTypeException (just don't include the chassis type).
+            }
+        }
+
+        return dmidecodeLines.toArray(String[]::new);
+    }
+
+    private static void addDmidecodePropertyLine(ArrayList<String> dmidecodeLines, String dmidecodePropertyName, String dmidecodePropertyValue) {
+        if ((dmidecodePropertyValue != null) && !dmidecodePropertyValue.isEmpty()) {
+            dmidecodeLines.add("\t" + dmidecodePropertyName + ": " + dmidecodePropertyValue);
+        }
+    }
+
+    public static String[][] getLscpuOutput() {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // "lscpu" gets the Vendor ID and Model name from "/proc/cpuinfo", the topology from "/sys/devices/system/cpu/cpu*/topology/", and the current and max speeds from "/sys/devices/system/cpu/cpu*/cpufreq/" (or "/proc/cpuinfo").
+        // So, read the same files and output the lines of "lscpu" that are parsed along with the lines of "lscpu -p=SOCKET,CPU,MHZ,MAXMHZ,CORE" (without the header lines).
+        String cpuFolderPath = "/sys/devices/system/cpu/";
+        List<Integer> onlineCPUs = parseCPUList(readFirstLine(cpuFolderPath + "online"));
+
+        if (onlineCPUs.isEmpty()) {
+            return null;
+        }
+
+        String cpuVendorID = null;
+        String cpuModelName = null;
+        HashMap<Integer, String> cpuinfoMHzForProcessors = new HashMap<>();
+
+        try {
+            int thisCpuinfoProcessor = -1;
+
+            for (String thisCpuinfoLine : Files.readAllLines(Paths.get("/proc/cpuinfo"))) {
+                if (thisCpuinfoLine.contains(":")) {
+                    String thisCpuinfoKey = thisCpuinfoLine.substring(0, thisCpuinfoLine.indexOf(":")).trim();
+                    String thisCpuinfoValue = thisCpuinfoLine.substring(thisCpuinfoLine.indexOf(":") + 1).trim();
+
+                    switch (thisCpuinfoKey) {
+                        case "processor":
+                            try {
+                                thisCpuinfoProcessor = Integer.parseInt(thisCpuinfoValue);
+                            } catch (NumberFormatException cpuinfoProcessorException) {
+                                thisCpuinfoProcessor = -1;
+                            }
+
+                            break;
+                        case "vendor_id":
+                            if (cpuVendorID == null) {
+                                cpuVendorID = thisCpuinfoValue;
+                            }
+
+                            break;
+                        case "model name":
+                            if (cpuModelName == null) {
+                                cpuModelName = thisCpuinfoValue;
+                            }
+
+                            break;
+                        case "cpu MHz":
+                            if (thisCpuinfoProcessor >= 0) {
+                                cpuinfoMHzForProcessors.put(thisCpuinfoProcessor, thisCpuinfoValue);
+                            }
+
+                            break;
+                    }
+                }
+            }
+        } catch (IOException | SecurityException readCpuinfoException) {
+            return null;
+        }
+
+        if ((cpuVendorID == null) || (cpuModelName == null)) {
+            return null; // Non-x86 processors list different info in "/proc/cpuinfo" which "lscpu" has its own tables for, so just let "lscpu" handle those.
+        }
+
+        ArrayList<String> lscpuCoreLines = new ArrayList<>();
+        LinkedHashMap<String, Integer> logicalSocketIDs = new LinkedHashMap<>();
+        LinkedHashMap<String, Integer> logicalCoreIDs = new LinkedHashMap<>();
+        int maxThreadsPerCore = 1;
+        long maxCPUSpeedKHz = -1L;
+
+        for (Integer thisCPU : onlineCPUs) {
+            String thisCPUFolderPath = cpuFolderPath + "cpu" + thisCPU + "/";
+            String thisPhysicalPackageID = readFirstLine(thisCPUFolderPath + "topology/physical_package_id");
+            String thisCoreID = readFirstLine(thisCPUFolderPath + "topology/core_id");
+
+            if ((thisPhysicalPackageID == null) || (thisCoreID == null)) {
+                return null;
+            }
+
+            // Like "lscpu", number the sockets and cores in the order they are first seen (the core IDs from the kernel are only unique within each die of each package, and may not be sequential).
+            if (!logicalSocketIDs.containsKey(thisPhysicalPackageID)) {
+                logicalSocketIDs.put(thisPhysicalPackageID, logicalSocketIDs.size());
+            }
+
+            String thisDieID = readFirstLine(thisCPUFolderPath + "topology/die_id");
+            String thisCoreKey = thisPhysicalPackageID + ":" + ((thisDieID == null) ? "0" : thisDieID) + ":" + thisCoreID;
+            if (!logicalCoreIDs.containsKey(thisCoreKey)) {
+                logicalCoreIDs.put(thisCoreKey, logicalCoreIDs.size());
+            }
+
+            int thisThreadsPerCore = parseCPUList(readFirstLine(thisCPUFolderPath + "topology/thread_siblings_list")).size();
+            if (thisThreadsPerCore > maxThreadsPerCore) {
+                maxThreadsPerCore = thisThreadsPerCore;
+            }
+
+            String thisCurrentMHz = "";
+            String thisCurrentKHz = readFirstLine(thisCPUFolderPath + "cpufreq/scaling_cur_freq");
+            if (thisCurrentKHz != null) {
+                thisCurrentMHz = formatLscpuMHz(thisCurrentKHz);
+            } else if (cpuinfoMHzForProcessors.containsKey(thisCPU)) {
+                try {
+                    thisCurrentMHz = String.format(Locale.ROOT, "%.4f", Double.parseDouble(cpuinfoMHzForProcessors.get(thisCPU)));
+                } catch (NumberFormatException cpuinfoMHzException) {
+                    // Ignore cpuinfoMHzException (just leave the current speed empty like "lscpu" would).
+                }
+            }
+
+            String thisMaxMHz = "";
+            String thisMaxKHz = readFirstLine(thisCPUFolderPath + "cpufreq/cpuinfo_max_freq");
+            if (thisMaxKHz != null) {
+                thisMaxMHz = formatLscpuMHz(thisMaxKHz);
+
+                try {
+                    maxCPUSpeedKHz = Math.max(maxCPUSpeedKHz, Long.parseLong(thisMaxKHz));
+                } catch (NumberFormatException cpuMaxKHzException) {
+                    // Ignore cpuMaxKHzException (it was already left empty by "formatLscpuMHz").
+                }
+            }
+
+            lscpuCoreLines.add(logicalSocketIDs.get(thisPhysicalPackageID) + "," + thisCPU + "," + thisCurrentMHz + "," + thisMaxMHz + "," + logicalCoreIDs.get(thisCoreKey));
+        }
+
+        ArrayList<String> lscpuLines = new ArrayList<>();
+        lscpuLines.add("Vendor ID: " + cpuVendorID);
+        lscpuLines.add("Model name: " + cpuModelName);
+        lscpuLines.add("Thread(s) per core: " + maxThreadsPerCore);
+        lscpuLines.add("Core(s) per socket: " + (logicalCoreIDs.size() / logicalSocketIDs.size()));
+        lscpuLines.add("Socket(s): " + logicalSocketIDs.size());
+        if (maxCPUSpeedKHz > 0) {
+            lscpuLines.add("CPU max MHz: " + formatLscpuMHz(Long.toString(maxCPUSpeedKHz)));
+        }
+
+        return new String[][]{lscpuLines.toArray(String[]::new), lscpuCoreLines.toArray(String[]::new)};
+    }
+
+    private static String formatLscpuMHz(String cpuSpeedKHz) {
+        try {
+            return String.format(Locale.ROOT, "%.4f", (Long.parseLong(cpuSpeedKHz) / 1000.0));
+        } catch (NumberFormatException cpuSpeedKHzException) {
+            return "";
+        }
+    }
+
+    private static List<Integer> parseCPUList(String cpuList) {
+        // CPU lists in sysfs are like "0-3,6,8-11".
+        ArrayList<Integer> cpuNumbers = new ArrayList<>();
+
+        if ((cpuList == null) || cpuList.isEmpty()) {
+            return cpuNumbers;
+        }
+
+        try {
+            for (String thisCPURange : cpuList.split(",")) {
+                if (thisCPURange.contains("-")) {
+                    int lastCPUInRange = Integer.parseInt(thisCPURange.substring(thisCPURange.indexOf("-") + 1).trim());
+
+                    for (int thisCPU = Integer.parseInt(thisCPURange.substring(0, thisCPURange.indexOf("-")).trim()); thisCPU <= lastCPUInRange; thisCPU++) {
+                        cpuNumbers.add(thisCPU);
+                    }
+                } else {
+                    cpuNumbers.add(Integer.parseInt(thisCPURange.trim()));
+                }
+            }
+        } catch (NumberFormatException parseCPUListException) {
+            cpuNumbers.clear();
+        }
+
+        return cpuNumbers;
+    }
+
+    public static String[] getLsblkLines() {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // Output the same lines as "lsblk -abdPpo NAME,SIZE,TRAN,ROTA,TYPE,RM,RO,SERIAL,VENDOR,MODEL -x NAME" from the same places that "lsblk" gets them, which are "/sys/block/*/"
+        // (including "size" in 512 byte sectors and "queue/rotational") and the udev database (for the full serials and models), and where the transport is determined from the sysfs device path and SCSI host.
+        // Since the serials and models could be wrong (or truncated) without the udev database, fall back on "lsblk" if it can't be read.
+        String[] blockDeviceNames = new File("/sys/block/").list();
+
+        if ((blockDeviceNames == null) || !new File("/run/udev/data/").canRead()) {
+            return null;
+        }
+
+        Arrays.sort(blockDeviceNames);
+
+        ArrayList<String> lsblkLines = new ArrayList<>();
+
+        for (String thisBlockDeviceName : blockDeviceNames) {
+            String thisBlockDeviceFolderPath = "/sys/block/" + thisBlockDeviceName + "/";
+            String thisBlockDeviceSectors = readFirstLine(thisBlockDeviceFolderPath + "size");
+
+            if (thisBlockDeviceSectors == null) {
+                return null;
+            }
+
+            String thisBlockDeviceSizeBytes;
+            try {
+                thisBlockDeviceSizeBytes = Long.toString(Long.parseLong(thisBlockDeviceSectors) * 512L); // Sysfs always uses 512 byte sectors for "size" regardless of the actual logical sector size of the device.
+            } catch (NumberFormatException blockDeviceSizeException) {
+                return null;
+            }
+
+            HashMap<String, String> thisBlockDeviceUdevProperties = getUdevBlockDeviceProperties(thisBlockDeviceFolderPath);
+
+            String thisBlockDeviceSerial = thisBlockDeviceUdevProperties.get("SCSI_IDENT_SERIAL");
+            for (String thisSerialUdevPropertyName : new String[]{"ID_SCSI_SERIAL", "ID_SERIAL_SHORT", "ID_SERIAL"}) {
+                if (thisBlockDeviceSerial == null) {
+                    thisBlockDeviceSerial = thisBlockDeviceUdevProperties.get(thisSerialUdevPropertyName);
+                }
+            }
+            if (thisBlockDeviceSerial == null) {
+                thisBlockDeviceSerial = readFirstLine(thisBlockDeviceFolderPath + "device/serial");
+            }
+
+            String thisBlockDeviceModel = thisBlockDeviceUdevProperties.get("ID_MODEL_ENC");
+            if (thisBlockDeviceModel != null) {
+                thisBlockDeviceModel = decodeUdevEncodedValue(thisBlockDeviceModel).trim();
+            } else {
+                thisBlockDeviceModel = thisBlockDeviceUdevProperties.get("ID_MODEL");
+                if (thisBlockDeviceModel == null) {
+                    thisBlockDeviceModel = readFirstLine(thisBlockDeviceFolderPath + "device/model");
+                }
+            }
+
+            lsblkLines.add("NAME=\"/dev/" + thisBlockDeviceName + "\""
+                    + " SIZE=\"" + thisBlockDeviceSizeBytes + "\""
+                    + " TRAN=\"" + getBlockDeviceTransport(thisBlockDeviceName) + "\""
+                    + " ROTA=\"" + quoteLsblkValue(readFirstLine(thisBlockDeviceFolderPath + "queue/rotational")) + "\""
+                    + " TYPE=\"" + getBlockDeviceType(thisBlockDeviceName) + "\""
+                    + " RM=\"" + quoteLsblkValue(readFirstLine(thisBlockDeviceFolderPath + "removable")) + "\""
+                    + " RO=\"" + quoteLsblkValue(readFirstLine(thisBlockDeviceFolderPath + "ro")) + "\""
+                    + " SERIAL=\"" + quoteLsblkValue(thisBlockDeviceSerial) + "\""
+                    + " VENDOR=\"" + quoteLsblkValue(readFirstLine(thisBlockDeviceFolderPath + "device/vendor")) + "\""
+                    + " MODEL=\"" + quoteLsblkValue(thisBlockDeviceModel) + "\"");
+        }
+
+        return lsblkLines.toArray(String[]::new);
+    }
+
+    private static HashMap<String, String> getUdevBlockDeviceProperties(String blockDeviceFolderPath) {
+        HashMap<String, String> udevProperties = new HashMap<>();
+        String blockDeviceNumber = readFirstLine(blockDeviceFolderPath + "dev");
+
+        if ((blockDeviceNumber != null) && !blockDeviceNumber.isEmpty()) {
+            try {
+                for (String thisUdevDataLine : Files.readAllLines(Paths.get("/run/udev/data/b" + blockDeviceNumber))) {
+                    if (thisUdevDataLine.startsWith("E:") && thisUdevDataLine.contains("=")) {
+                        udevProperties.put(thisUdevDataLine.substring(2, thisUdevDataLine.indexOf("=")), thisUdevDataLine.substring(thisUdevDataLine.indexOf("=") + 1));
+                    }
+                }
+            } catch (IOException | SecurityException readUdevDataException) {
+                // Ignore readUdevDataException (devices like loop devices that udev hasn't processed won't have any udev data, so they just won't have any udev properties).
+            }
+        }
+
+        return udevProperties;
+    }
+
+    private static String decodeUdevEncodedValue(String udevEncodedValue) {
+        // Values like "ID_MODEL_ENC" have any spaces and special characters encoded like "\x20".
+        StringBuilder udevDecodedValue = new StringBuilder();
+
+        for (int thisCharacterIndex = 0; thisCharacterIndex < udevEncodedValue.length(); thisCharacterIndex++) {
+            if (udevEncodedValue.startsWith("\\x", thisCharacterIndex) && ((thisCharacterIndex + 4) <= udevEncodedValue.length())) {
+                try {
+                    udevDecodedValue.append((char) Integer.parseInt(udevEncodedValue.substring(thisCharacterIndex + 2, thisCharacterIndex + 4), 16));
+                    thisCharacterIndex += 3;
+                    continue;
+                } catch (NumberFormatException udevEncodedCharacterException) {
+                    // Ignore udevEncodedCharacterException (just keep the characters as-is).
+                }
+            }
+
+            udevDecodedValue.append(udevEncodedValue.charAt(thisCharacterIndex));
+        }
+
+        return udevDecodedValue.toString();
+    }
+
+    private static String quoteLsblkValue(String lsblkValue) {
+        // Like "lsblk -P", encode any double quotes so that the values can't break up the fields.
+        return ((lsblkValue == null) ? "" : lsblkValue.replace("\"", "\\x22"));
+    }
+
+    private static String getBlockDeviceTransport(String blockDeviceName) {
+        // This is the same order of checks that "lsblk" does to determine the transport.
+        String blockDeviceSysfsPath;
+        try {
+            blockDeviceSysfsPath = new File("/sys/block/" + blockDeviceName).getCanonicalPath();
+        } catch (IOException | SecurityException blockDeviceSysfsPathException) {
+            return "";
+        }
+
+        String scsiHostName = null;
+        for (String thisSysfsPathComponent : blockDeviceSysfsPath.split("/")) {
+            if (thisSysfsPathComponent.matches("host[0-9]+")) {
+                scsiHostName = thisSysfsPathComponent;
+            }
+        }
+
+        if (scsiHostName != null) {
+            if (new File("/sys/class/spi_host/" + scsiHostName).exists()) {
+                return "spi";
+            } else if (new File("/sys/class/fc_host/" + scsiHostName).exists()) {
+                return "fc";
+            } else if (new File("/sys/class/sas_host/" + scsiHostName).exists() || new File("/sys/block/" + blockDeviceName + "/device/sas_device").exists()) {
+                return "sas";
+            } else if (new File("/sys/block/" + blockDeviceName + "/device/ieee1394_id").exists()) {
+                return "sbp";
+            } else if (new File("/sys/class/iscsi_host/" + scsiHostName).exists()) {
+                return "iscsi";
+            } else if (blockDeviceSysfsPath.contains("/usb")) {
+                return "usb";
+            }
+
+            String scsiHostProcName = readFirstLine("/sys/class/scsi_host/" + scsiHostName + "/proc_name");
+            if (scsiHostProcName != null) {
+                if (scsiHostProcName.startsWith("ahci") || scsiHostProcName.startsWith("sata")) {
+                    return "sata";
+                } else if (scsiHostProcName.contains("ata")) {
+                    return "ata";
+                }
+            }
+        } else if (blockDeviceName.startsWith("nvme")) {
+            return "nvme";
+        } else if (blockDeviceName.startsWith("mmcblk")) {
+            return "mmc";
+        }
+
+        return "";
+    }
+
+    private static String getBlockDeviceType(String blockDeviceName) {
+        // This is the same type name that "lsblk" determines for each kind of block device.
+        if (blockDeviceName.startsWith("loop")) {
+            return "loop";
+        } else if (blockDeviceName.startsWith("md")) {
+            String mdLevel = readFirstLine("/sys/block/" + blockDeviceName + "/md/level");
+            return (((mdLevel == null) || mdLevel.isEmpty()) ? "md" : mdLevel);
+        } else if (blockDeviceName.startsWith("dm-")) {
+            String dmUUID = readFirstLine("/sys/block/" + blockDeviceName + "/dm/uuid");
+            return (((dmUUID == null) || !dmUUID.contains("-")) ? "dm" : dmUUID.substring(0, dmUUID.indexOf("-")).toLowerCase());
+        }
+
+        String scsiDeviceType = readFirstLine("/sys/block/" + blockDeviceName + "/device/type");
+        if (scsiDeviceType != null) {
+            // These are the SCSI peripheral device type names that "lsblk" uses.
+            switch (scsiDeviceType) {
+                case "0":
+                    return "disk";
+                case "1":
+                    return "tape";
+                case "2":
+                    return "printer";
+                case "3":
+                    return "processor";
+                case "4":
+                    return "worm";
+                case "5":
+                    return "rom";
+                case "6":
+                    return "scanner";
+                case "7":
+                    return "mo";
+                case "8":
+                    return "changer";
+                case "9":
+                    return "comm";
+                case "12":
+                    return "raid";
+                case "13":
+                    return "enclosure";
+                case "14":
+                    return "rbc";
+                case "17":
+                    return "osd";
+                case "127":
+                    return "no-lun";
+            }
+        }
+
+        return "disk";
+    }
+
+    public static LinkedHashMap<String, String[]> getUpowerBatteryInfo() {
+        if (!canReadInsteadOfCommands()) {
+            return null;
+        }
+
+        // UPower gets all of its battery info from "/sys/class/power_supply/*/", so read the same files and output the "upower -i" lines that are parsed for each system battery (keyed by the same UPower object path).
+        // Device batteries (such as wireless mice) and other power supplies (such as AC adapters) are not included since they never have any battery health info to parse.
+        File[] powerSupplyFolders = new File("/sys/class/power_supply/").listFiles();
+
+        if (powerSupplyFolders == null) {
+            return null;
+        }
+
+        Arrays.sort(powerSupplyFolders);
+
+        LinkedHashMap<String, String[]> allBatteryInfo = new LinkedHashMap<>();
+        DecimalFormat upowerValueFormat = new DecimalFormat("0.####", DecimalFormatSymbols.getInstance(Locale.ROOT)); // Always use a period as the decimal separator (like "upower" does in the C locale) since these values are parsed with "Double.parseDouble".
+
+        for (File thisPowerSupplyFolder : powerSupplyFolders) {
+            String thisPowerSupplyFolderPath = thisPowerSupplyFolder.getPath() + "/";
+
+            if (!"Battery".equals(readFirstLine(thisPowerSupplyFolderPath + "type")) || "Device".equals(readFirstLine(thisPowerSupplyFolderPath + "scope"))) {
+                continue;
+            }
+
+            ArrayList<String> thisBatteryInfoLines = new ArrayList<>();
+            addUpowerPropertyLine(thisBatteryInfoLines, "  vendor:", readFirstLine(thisPowerSupplyFolderPath + "manufacturer"));
+            addUpowerPropertyLine(thisBatteryInfoLines, "  model:", readFirstLine(thisPowerSupplyFolderPath + "model_name"));
+
+            String thisBatteryStatus = readFirstLine(thisPowerSupplyFolderPath + "status");
+            if (thisBatteryStatus != null) {
+                switch (thisBatteryStatus) {
+                    case "Charging":
+                        addUpowerPropertyLine(thisBatteryInfoLines, "    state:", "charging");
+                        break;
+                    case "Discharging":
+                        addUpowerPropertyLine(thisBatteryInfoLines, "    state:", "discharging");
+                        break;
+                    case "Full":
+                        addUpowerPropertyLine(thisBatteryInfoLines, "    state:", "fully-charged");
+                        break;
+                    case "Not charging":
+                        addUpowerPropertyLine(thisBatteryInfoLines, "    state:", "pending-charge");
+                        break;
+                    default:
+                        addUpowerPropertyLine(thisBatteryInfoLines, "    state:", "unknown");
+                        break;
+                }
+            }
+
+            // Voltages are in µV, energies in µWh, charges in µAh, powers in µW, and currents in µA. Like UPower, convert charges and currents to energies and powers using the design voltage when the battery doesn't report energies.
+            Double thisBatteryVoltage = readPowerSupplyValue(thisPowerSupplyFolderPath, "voltage_now");
+            Double thisBatteryDesignVoltage = readPowerSupplyValue(thisPowerSupplyFolderPath, "voltage_max_design");
+            if (thisBatteryDesignVoltage == null) {
+                thisBatteryDesignVoltage = readPowerSupplyValue(thisPowerSupplyFolderPath, "voltage_min_design");
+            }
+            if (thisBatteryDesignVoltage == null) {
+                thisBatteryDesignVoltage = thisBatteryVoltage;
+            }
+
+            Double thisBatteryEnergy = readPowerSupplyEnergy(thisPowerSupplyFolderPath, "energy_now", "charge_now", thisBatteryDesignVoltage);
+            Double thisBatteryEnergyFull = readPowerSupplyEnergy(thisPowerSupplyFolderPath, "energy_full", "charge_full", thisBatteryDesignVoltage);
+            Double thisBatteryEnergyFullDesign = readPowerSupplyEnergy(thisPowerSupplyFolderPath, "energy_full_design", "charge_full_design", thisBatteryDesignVoltage);
+            Double thisBatteryEnergyRate = readPowerSupplyEnergy(thisPowerSupplyFolderPath, "power_now", "current_now", thisBatteryDesignVoltage);
+
+            if (thisBatteryEnergy != null) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    energy:", upowerValueFormat.format(thisBatteryEnergy) + " Wh");
+            }
+            if (thisBatteryEnergyFull != null) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    energy-full:", upowerValueFormat.format(thisBatteryEnergyFull) + " Wh");
+            }
+            if (thisBatteryEnergyFullDesign != null) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    energy-full-design:", upowerValueFormat.format(thisBatteryEnergyFullDesign) + " Wh");
+            }
+            if (thisBatteryEnergyRate != null) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    energy-rate:", upowerValueFormat.format(Math.abs(thisBatteryEnergyRate)) + " W");
+            }
+            if (thisBatteryVoltage != null) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    voltage:", upowerValueFormat.format(thisBatteryVoltage) + " V");
+            }
+
+            addUpowerPropertyLine(thisBatteryInfoLines, "    charge-cycles:", readFirstLine(thisPowerSupplyFolderPath + "cycle_count"));
+
+            Double thisBatteryPercentage = null;
+            String thisBatteryPercentageString = readFirstLine(thisPowerSupplyFolderPath + "capacity"); // This "capacity" is the current charge percentage, not the health capacity.
+            if ((thisBatteryPercentageString != null) && !thisBatteryPercentageString.isEmpty()) {
+                try {
+                    thisBatteryPercentage = Double.parseDouble(thisBatteryPercentageString);
+                } catch (NumberFormatException batteryPercentageException) {
+                    // Ignore batteryPercentageException (the percentage will be calculated from the energies instead).
+                }
+            }
+            if ((thisBatteryPercentage == null) && (thisBatteryEnergy != null) && (thisBatteryEnergyFull != null) && (thisBatteryEnergyFull > 0)) {
+                thisBatteryPercentage = Math.min(((thisBatteryEnergy / thisBatteryEnergyFull) * 100), 100);
+            }
+            if (thisBatteryPercentage != null) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    percentage:", upowerValueFormat.format(thisBatteryPercentage) + "%");
+            }
+
+            if ((thisBatteryEnergyFull != null) && (thisBatteryEnergyFullDesign != null) && (thisBatteryEnergyFullDesign > 0)) {
+                addUpowerPropertyLine(thisBatteryInfoLines, "    capacity:", upowerValueFormat.format(Math.min(((thisBatteryEnergyFull / thisBatteryEnergyFullDesign) * 100), 100)) + "%"); // Like UPower, never show more than 100% capacity.
+            }
+
+            allBatteryInfo.put("/org/freedesktop/UPower/devices/battery_" + thisPowerSupplyFolder.getName(), thisBatteryInfoLines.toArray(String[]::new));
+        }
+
+        return allBatteryInfo;
+    }
+
+    private static void addUpowerPropertyLine(ArrayList<String> upowerLines, String upowerPropertyPrefix, String upowerPropertyValue) {
+        if ((upowerPropertyValue != null) && !upowerPropertyValue.isEmpty()) {
+            upowerLines.add(upowerPropertyPrefix + " " + upowerPropertyValue);
+        }
+    }
+
+    private static Double readPowerSupplyValue(String powerSupplyFolderPath, String powerSupplyPropertyName) {
+        String powerSupplyValue = readFirstLine(powerSupplyFolderPath + powerSupplyPropertyName);
+
+        if ((powerSupplyValue == null) || powerSupplyValue.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return (Double.parseDouble(powerSupplyValue) / 1000000); // Convert from µ units.
+        } catch (NumberFormatException powerSupplyValueException) {
+            return null;
+        }
+    }
+
+    private static Double readPowerSupplyEnergy(String powerSupplyFolderPath, String energyPropertyName, String chargePropertyName, Double designVoltage) {
+        Double powerSupplyEnergy = readPowerSupplyValue(powerSupplyFolderPath, energyPropertyName);
+
+        if (powerSupplyEnergy == null) {
+            Double powerSupplyCharge = readPowerSupplyValue(powerSupplyFolderPath, chargePropertyName);
+
+            if ((powerSupplyCharge != null) && (designVoltage != null)) {
+                powerSupplyEnergy = (powerSupplyCharge * designVoltage);
+            }
+        }
+
+        return powerSupplyEnergy;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * This class parses "lshw -xml" output as it streams from the command (without building a DOM) and only keeps the few nodes and values that GetComputerSpecs uses
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class LshwXMLParser {
+
+    // Only nodes of these classes are kept, all others (such as "storage" controllers) are only tracked while parsing so that their children know their parent IDs.
+    private static final Set<String> KEPT_NODE_CLASSES = new HashSet<>(Arrays.asList("system", "memory", "disk", "volume"));
+
+    public static class LshwNode {
+
+        private String nodeClass = "";
+        private String nodeID = "";
+        private String parentNodeID = "";
+        private String handle = "";
+        private boolean isDisabled = false;
+        private String product = null;
+        private String vendor = null;
+        private String size = null;
+        private final ArrayList<String> logicalNames = new ArrayList<>();
+        private String statusSetting = null;
+        private final ArrayList<String> capabilities = new ArrayList<>();
+        private int elementDepth;
+
+        public String getNodeClass() {
+            return nodeClass;
+        }
+
+        public String getNodeID() {
+            // Some IDs may be like "id:0", "id:1", etc. So lets just use the part before the colon.
+            return (nodeID.contains(":") ? nodeID.substring(0, nodeID.indexOf(":")) : nodeID);
+        }
+
+        public String getParentNodeID() {
+            return parentNodeID;
+        }
+
+        public String getHandle() {
+            return handle;
+        }
+
+        public boolean isDisabled() {
+            return isDisabled;
+        }
+
+        public String getProduct() { // Will be "null" if the node has no "product" (which is different than an empty "product").
+            return product;
+        }
+
+        public String getVendor() {
+            return vendor;
+        }
+
+        public String getSize() {
+            return size;
+        }
+
+        public List<String> getLogicalNames() {
+            return logicalNames;
+        }
+
+        public String getStatusSetting() {
+            return statusSetting;
+        }
+
+        public List<String> getCapabilities() {
+            return capabilities;
+        }
+    }
+
+    private final ArrayList<LshwNode> lshwNodes = new ArrayList<>();
+    private String parseErrorMessage = null;
+
+    public boolean parse(Reader lshwXMLReader) {
+        // Returns "false" if the XML could not be parsed (and the reason is available from "getParseErrorMessage").
+        // Values are only ever read from the elements directly within each node (or directly within their "configuration" and "capabilities" elements)
+        // so that nothing from nested nodes is ever mixed into their parent nodes, just like checking the parent of each element when using a DOM.
+        XMLStreamReader lshwXMLStreamReader = null;
+
+        try {
+            XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+            xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+
+            lshwXMLStreamReader = xmlInputFactory.createXMLStreamReader(lshwXMLReader);
+
+            Deque<LshwNode> openNodes = new ArrayDeque<>();
+            int elementDepth = 0;
+
+            while (lshwXMLStreamReader.hasNext()) {
+                int thisEventType = lshwXMLStreamReader.next();
+
+                if (thisEventType == XMLStreamConstants.START_ELEMENT) {
+                    elementDepth++;
+                    String thisElementName = lshwXMLStreamReader.getLocalName();
+
+                    if (thisElementName.equals("node")) {
+                        LshwNode thisNode = new LshwNode();
+                        thisNode.nodeClass = getAttributeValue(lshwXMLStreamReader, "class");
+                        thisNode.nodeID = getAttributeValue(lshwXMLStreamReader, "id");
+                        thisNode.handle = getAttributeValue(lshwXMLStreamReader, "handle");
+                        thisNode.isDisabled = getAttributeValue(lshwXMLStreamReader, "disabled").equals("true");
+                        thisNode.elementDepth = elementDepth;
+
+                        LshwNode parentNode = openNodes.peek();
+                        if (parentNode != null) {
+                            thisNode.parentNodeID = parentNode.nodeID;
+                        }
+
+                        openNodes.push(thisNode);
+
+                        if (KEPT_NODE_CLASSES.contains(thisNode.nodeClass)) {
+                            lshwNodes.add(thisNode);
+                        }
+                    } else if (!openNodes.isEmpty()) {
+                        LshwNode currentNode = openNodes.peek();
+                        int depthWithinNode = (elementDepth - currentNode.elementDepth);
+
+                        if ((depthWithinNode == 1) && (thisElementName.equals("product") || thisElementName.equals("vendor") || thisElementName.equals("size") || thisElementName.equals("logicalname"))) {
+                            String thisElementText = lshwXMLStreamReader.getElementText();
+                            elementDepth--; // "getElementText" already read the end of this element.
+
+                            switch (thisElementName) {
+                                case "product":
+                                    if (currentNode.product == null) {
+                                        currentNode.product = thisElementText;
+                                    }
+                                    break;
+                                case "vendor":
+                                    if (currentNode.vendor == null) {
+                                        currentNode.vendor = thisElementText;
+                                    }
+                                    break;
+                                case "size":
+                                    if (currentNode.size == null) {
+                                        currentNode.size = thisElementText;
+                                    }
+                                    break;
+                                default:
+                                    currentNode.logicalNames.add(thisElementText);
+                                    break;
+                            }
+                        } else if ((depthWithinNode == 2) && thisElementName.equals("setting")) {
+                            if (getAttributeValue(lshwXMLStreamReader, "id").equals("status")) {
+                                currentNode.statusSetting = getAttributeValue(lshwXMLStreamReader, "value"); // nodisc, open, ready
+                            }
+                        } else if ((depthWithinNode == 2) && thisElementName.equals("capability")) {
+                            currentNode.capabilities.add(lshwXMLStreamReader.getElementText());
+                            elementDepth--;
+                        }
+                    }
+                } else if (thisEventType == XMLStreamConstants.END_ELEMENT) {
+                    if (lshwXMLStreamReader.getLocalName().equals("node")) {
+                        openNodes.poll();
+                    }
+
+                    elementDepth--;
+                }
+            }
+
+            return true;
+        } catch (XMLStreamException | IllegalArgumentException lshwXMLParseException) {
+            parseErrorMessage = lshwXMLParseException.toString();
+            return false;
+        } finally {
+            if (lshwXMLStreamReader != null) {
+                try {
+                    lshwXMLStreamReader.close();
+                } catch (XMLStreamException closeLshwXMLReaderException) {
+                    // Ignore closeLshwXMLReaderException
+                }
+            }
+        }
+    }
+
+    private static String getAttributeValue(XMLStreamReader lshwXMLStreamReader, String attributeName) {
+        String attributeValue = lshwXMLStreamReader.getAttributeValue(null, attributeName);
+        return ((attributeValue == null) ? "" : attributeValue);
+    }
+
+    public List<LshwNode> getNodes() {
+        return lshwNodes;
+    }
+
+    public String getParseErrorMessage() {
+        return parseErrorMessage;
+    }
+}
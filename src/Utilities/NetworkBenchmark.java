@@ -0,0 +1,296 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures multi-stream TCP throughput and round trip latency from a specific network interface to a NetworkBenchmarkServer
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class NetworkBenchmark {
+
+    public static final int DEFAULT_PORT = 5207;
+
+    static final byte LATENCY_COMMAND = 'L';
+    static final byte DOWNLOAD_COMMAND = 'D';
+    static final byte UPLOAD_COMMAND = 'U';
+    static final int STREAM_BUFFER_SIZE = 65536;
+
+    private static final int LATENCY_SAMPLE_COUNT = 100;
+    private static final int SOCKET_TIMEOUT_MILLIS = 5000;
+
+    // The upper bound of each latency histogram bucket in milliseconds (the last bucket is everything slower than the second to last bound).
+    private static final double[] LATENCY_HISTOGRAM_BUCKET_BOUNDS = {0.5, 1, 2, 5, 10, 20, 50, 100, Double.MAX_VALUE};
+
+    private static final ExecutorService STREAM_EXECUTOR = Executors.newCachedThreadPool((Runnable streamRunnable) -> {
+        Thread streamThread = new Thread(streamRunnable, "qa_helper-network_benchmark_stream");
+        streamThread.setDaemon(true); // Never keep the app from quitting just because a benchmark is still running.
+        return streamThread;
+    });
+
+    public static class Result {
+
+        private final double downloadMbps;
+        private final double uploadMbps;
+        private final double rttP50Millis;
+        private final double rttP99Millis;
+        private final double jitterMillis;
+        private final int[] latencyHistogram;
+        private final String errorMessage;
+
+        private Result(double downloadMbps, double uploadMbps, double rttP50Millis, double rttP99Millis, double jitterMillis, int[] latencyHistogram, String errorMessage) {
+            this.downloadMbps = downloadMbps;
+            this.uploadMbps = uploadMbps;
+            this.rttP50Millis = rttP50Millis;
+            this.rttP99Millis = rttP99Millis;
+            this.jitterMillis = jitterMillis;
+            this.latencyHistogram = latencyHistogram;
+            this.errorMessage = errorMessage;
+        }
+
+        public boolean didSucceed() {
+            return (errorMessage == null);
+        }
+
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+
+        public double getDownloadMbps() {
+            return downloadMbps;
+        }
+
+        public double getUploadMbps() {
+            return uploadMbps;
+        }
+
+        public double getRTTp50Millis() {
+            return rttP50Millis;
+        }
+
+        public double getRTTp99Millis() {
+            return rttP99Millis;
+        }
+
+        public double getJitterMillis() {
+            return jitterMillis;
+        }
+
+        public int[] getLatencyHistogram() {
+            return latencyHistogram.clone();
+        }
+
+        public String getLatencyHistogramString() {
+            // Such as "<0.5ms: 80, <1ms: 15, <2ms: 5" (only including buckets with samples).
+            ArrayList<String> histogramBuckets = new ArrayList<>();
+
+            for (int i = 0; i < latencyHistogram.length; i++) {
+                if (latencyHistogram[i] > 0) {
+                    histogramBuckets.add(((i == (LATENCY_HISTOGRAM_BUCKET_BOUNDS.length - 1)) ? (">=" + formatMillis(LATENCY_HISTOGRAM_BUCKET_BOUNDS[i - 1])) : ("<" + formatMillis(LATENCY_HISTOGRAM_BUCKET_BOUNDS[i]))) + "ms: " + latencyHistogram[i]);
+                }
+            }
+
+            return String.join(", ", histogramBuckets);
+        }
+
+        @Override
+        public String toString() {
+            if (!didSucceed()) {
+                return "FAILED (" + errorMessage + ")";
+            }
+
+            return String.format("%.0f Mbps Down, %.0f Mbps Up, RTT p50 %s ms / p99 %s ms, Jitter %s ms", downloadMbps, uploadMbps, formatMillis(rttP50Millis), formatMillis(rttP99Millis), formatMillis(jitterMillis));
+        }
+
+        private static String formatMillis(double millis) {
+            // Such as "0.35" or "12" (with no trailing zeros after the decimal point, and always with a period regardless of the locale since these are logged).
+            return new DecimalFormat(((millis < 10) ? "0.##" : "0"), DecimalFormatSymbols.getInstance(Locale.ROOT)).format(millis);
+        }
+    }
+
+    private NetworkBenchmark() {
+        // Only static methods.
+    }
+
+    public static Result run(List<InetAddress> localAddresses, InetSocketAddress serverAddress, int streamCount, int durationMillis) {
+        // Measures latency first (while the link is idle), then download and then upload throughput using streamCount parallel TCP connections for durationMillis each.
+        // Multiple streams are needed to fill fast links since a single TCP connection is often limited by its window size (and by a single core on slow computers).
+        if (serverAddress.isUnresolved()) {
+            return new Result(0, 0, 0, 0, 0, new int[LATENCY_HISTOGRAM_BUCKET_BOUNDS.length], "UNKNOWN SERVER " + serverAddress.getHostString());
+        }
+
+        InetAddress localAddress = null;
+        for (InetAddress thisLocalAddress : localAddresses) {
+            if ((thisLocalAddress instanceof Inet6Address) == (serverAddress.getAddress() instanceof Inet6Address)) {
+                localAddress = thisLocalAddress;
+                break;
+            }
+        }
+
+        if (localAddress == null) {
+            return new Result(0, 0, 0, 0, 0, new int[LATENCY_HISTOGRAM_BUCKET_BOUNDS.length], "NO NETWORK ADDRESS");
+        }
+
+        try {
+            double[] rttMillis = measureLatency(localAddress, serverAddress);
+
+            double[] sortedRTTmillis = rttMillis.clone();
+            Arrays.sort(sortedRTTmillis);
+
+            double totalRTTdifferenceMillis = 0;
+            for (int i = 1; i < rttMillis.length; i++) {
+                totalRTTdifferenceMillis += Math.abs(rttMillis[i] - rttMillis[i - 1]);
+            }
+
+            int[] latencyHistogram = new int[LATENCY_HISTOGRAM_BUCKET_BOUNDS.length];
+            for (double thisRTTmillis : rttMillis) {
+                for (int i = 0; i < LATENCY_HISTOGRAM_BUCKET_BOUNDS.length; i++) {
+                    if (thisRTTmillis < LATENCY_HISTOGRAM_BUCKET_BOUNDS[i]) {
+                        latencyHistogram[i]++;
+                        break;
+                    }
+                }
+            }
+
+            double downloadMbps = measureThroughput(localAddress, serverAddress, DOWNLOAD_COMMAND, streamCount, durationMillis);
+            double uploadMbps = measureThroughput(localAddress, serverAddress, UPLOAD_COMMAND, streamCount, durationMillis);
+
+            return new Result(downloadMbps, uploadMbps, getPercentile(sortedRTTmillis, 50), getPercentile(sortedRTTmillis, 99), (totalRTTdifferenceMillis / Math.max(1, (rttMillis.length - 1))), latencyHistogram, null);
+        } catch (Exception networkBenchmarkException) {
+            return new Result(0, 0, 0, 0, 0, new int[LATENCY_HISTOGRAM_BUCKET_BOUNDS.length], networkBenchmarkException.toString());
+        }
+    }
+
+    private static Socket connectFromLocalAddress(InetAddress localAddress, InetSocketAddress serverAddress) throws IOException {
+        // Binding to the local address makes the connection go out through that network interface (like NetworkReachabilityProbe does).
+        Socket benchmarkSocket = new Socket();
+        benchmarkSocket.bind(new InetSocketAddress(localAddress, 0));
+        benchmarkSocket.connect(serverAddress, SOCKET_TIMEOUT_MILLIS);
+        benchmarkSocket.setSoTimeout(SOCKET_TIMEOUT_MILLIS);
+        return benchmarkSocket;
+    }
+
+    private static double[] measureLatency(InetAddress localAddress, InetSocketAddress serverAddress) throws IOException {
+        double[] rttMillis = new double[LATENCY_SAMPLE_COUNT];
+
+        try (Socket latencySocket = connectFromLocalAddress(localAddress, serverAddress)) {
+            latencySocket.setTcpNoDelay(true); // Never let Nagle's algorithm hold back the tiny timestamp packets.
+
+            DataOutputStream latencyOutputStream = new DataOutputStream(latencySocket.getOutputStream());
+            DataInputStream latencyInputStream = new DataInputStream(latencySocket.getInputStream());
+
+            latencyOutputStream.writeByte(LATENCY_COMMAND);
+
+            for (int i = 0; i < LATENCY_SAMPLE_COUNT; i++) {
+                long sentNanoTime = System.nanoTime();
+                latencyOutputStream.writeLong(sentNanoTime);
+                latencyOutputStream.flush();
+
+                if (latencyInputStream.readLong() != sentNanoTime) {
+                    throw new IOException("Latency Echo Mismatch");
+                }
+
+                rttMillis[i] = ((System.nanoTime() - sentNanoTime) / 1000000.0);
+            }
+        }
+
+        return rttMillis;
+    }
+
+    private static double measureThroughput(InetAddress localAddress, InetSocketAddress serverAddress, byte streamCommand, int streamCount, int durationMillis) throws Exception {
+        ArrayList<CompletableFuture<long[]>> streams = new ArrayList<>();
+
+        for (int i = 0; i < Math.max(1, streamCount); i++) {
+            streams.add(CompletableFuture.supplyAsync(() -> {
+                try (Socket streamSocket = connectFromLocalAddress(localAddress, serverAddress)) {
+                    DataOutputStream streamOutputStream = new DataOutputStream(streamSocket.getOutputStream());
+                    byte[] streamBuffer = new byte[STREAM_BUFFER_SIZE];
+                    long transferredByteCount = 0;
+                    long startNanoTime = System.nanoTime();
+
+                    if (streamCommand == DOWNLOAD_COMMAND) {
+                        streamOutputStream.writeByte(DOWNLOAD_COMMAND);
+                        streamOutputStream.writeInt(durationMillis);
+                        streamOutputStream.flush();
+
+                        InputStream streamInputStream = streamSocket.getInputStream();
+                        int bytesRead;
+                        while ((bytesRead = streamInputStream.read(streamBuffer)) != -1) {
+                            transferredByteCount += bytesRead;
+                        }
+                    } else {
+                        streamOutputStream.writeByte(UPLOAD_COMMAND);
+                        streamOutputStream.flush();
+
+                        OutputStream rawOutputStream = streamSocket.getOutputStream();
+                        long endNanoTime = (startNanoTime + TimeUnit.MILLISECONDS.toNanos(durationMillis));
+                        while (System.nanoTime() < endNanoTime) {
+                            rawOutputStream.write(streamBuffer);
+                        }
+
+                        streamSocket.shutdownOutput();
+
+                        // Only count what the server says it actually received since writes can finish before the data has actually been sent.
+                        transferredByteCount = new DataInputStream(streamSocket.getInputStream()).readLong();
+                    }
+
+                    return new long[]{transferredByteCount, (System.nanoTime() - startNanoTime)};
+                } catch (IOException streamException) {
+                    throw new RuntimeException(streamException);
+                }
+            }, STREAM_EXECUTOR));
+        }
+
+        long totalTransferredByteCount = 0;
+        long longestStreamNanos = 1;
+
+        for (CompletableFuture<long[]> thisStream : streams) {
+            long[] thisStreamResult = thisStream.get((durationMillis + (SOCKET_TIMEOUT_MILLIS * 2)), TimeUnit.MILLISECONDS);
+            totalTransferredByteCount += thisStreamResult[0];
+            longestStreamNanos = Math.max(longestStreamNanos, thisStreamResult[1]);
+        }
+
+        return ((totalTransferredByteCount * 8.0) / (longestStreamNanos / 1000000000.0) / 1000000.0);
+    }
+
+    private static double getPercentile(double[] sortedValues, int percentile) {
+        // Nearest-rank percentile.
+        int percentileIndex = (int) Math.ceil((percentile / 100.0) * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, Math.min((sortedValues.length - 1), percentileIndex))];
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is a small network benchmark server that any computer can run (with "java -cp QA_Helper.jar Utilities.NetworkBenchmarkServer [PORT]") to be the target of NetworkBenchmark
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class NetworkBenchmarkServer {
+
+    // Never let a single client keep a stream going for longer than this no matter what duration it asks for.
+    private static final int MAX_STREAM_DURATION_MILLIS = 30000;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionExecutor = Executors.newCachedThreadPool((Runnable connectionRunnable) -> {
+        Thread connectionThread = new Thread(connectionRunnable, "qa_helper-network_benchmark_server_connection");
+        connectionThread.setDaemon(true);
+        return connectionThread;
+    });
+
+    public static void main(String[] args) {
+        int port = NetworkBenchmark.DEFAULT_PORT;
+
+        if (args.length > 0) {
+            try {
+                port = Integer.parseInt(args[0]);
+            } catch (NumberFormatException parsePortException) {
+                System.out.println("Invalid Port: " + args[0]);
+                System.exit(1);
+            }
+        }
+
+        try {
+            NetworkBenchmarkServer networkBenchmarkServer = new NetworkBenchmarkServer(port);
+            System.out.println("QA Helper Network Benchmark Server Listening on Port " + networkBenchmarkServer.getPort());
+            networkBenchmarkServer.acceptConnections();
+        } catch (IOException startServerException) {
+            System.out.println("startServerException: " + startServerException);
+            System.exit(1);
+        }
+    }
+
+    public NetworkBenchmarkServer(int port) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(port));
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void acceptConnections() {
+        // Blocks until the server is closed.
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket clientSocket = serverSocket.accept();
+                connectionExecutor.execute(() -> handleConnection(clientSocket));
+            } catch (IOException acceptConnectionException) {
+                if (!serverSocket.isClosed()) {
+                    System.out.println("acceptConnectionException: " + acceptConnectionException);
+                }
+            }
+        }
+    }
+
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException closeServerException) {
+            // Ignore closeServerException
+        }
+
+        connectionExecutor.shutdownNow();
+    }
+
+    private void handleConnection(Socket clientSocket) {
+        try (Socket thisClientSocket = clientSocket) {
+            thisClientSocket.setSoTimeout(MAX_STREAM_DURATION_MILLIS);
+            thisClientSocket.setTcpNoDelay(true);
+
+            DataInputStream clientInputStream = new DataInputStream(thisClientSocket.getInputStream());
+            DataOutputStream clientOutputStream = new DataOutputStream(thisClientSocket.getOutputStream());
+
+            byte command = clientInputStream.readByte();
+
+            switch (command) {
+                case NetworkBenchmark.LATENCY_COMMAND:
+                    // Echo each timestamp right back until the client closes the connection.
+                    for (;;) {
+                        long thisTimestamp;
+                        try {
+                            thisTimestamp = clientInputStream.readLong();
+                        } catch (IOException endOfLatencySamplesException) {
+                            break;
+                        }
+
+                        clientOutputStream.writeLong(thisTimestamp);
+                        clientOutputStream.flush();
+                    }
+
+                    break;
+                case NetworkBenchmark.DOWNLOAD_COMMAND: {
+                    // Send data as fast as possible for the requested duration and then close the connection (so the client knows when it's done).
+                    long endNanoTime = (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(clientInputStream.readInt(), MAX_STREAM_DURATION_MILLIS)));
+                    byte[] downloadBuffer = new byte[NetworkBenchmark.STREAM_BUFFER_SIZE];
+                    OutputStream rawOutputStream = thisClientSocket.getOutputStream();
+
+                    while (System.nanoTime() < endNanoTime) {
+                        rawOutputStream.write(downloadBuffer);
+                    }
+
+                    break;
+                }
+                case NetworkBenchmark.UPLOAD_COMMAND: {
+                    // Read and discard everything until the client is done sending and then reply with how many bytes were actually received.
+                    // Like downloads, stop reading after the max stream duration so that a client that never stops sending can't hold this worker forever.
+                    long endNanoTime = (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_STREAM_DURATION_MILLIS));
+                    byte[] uploadBuffer = new byte[NetworkBenchmark.STREAM_BUFFER_SIZE];
+                    InputStream rawInputStream = thisClientSocket.getInputStream();
+                    long receivedByteCount = 0;
+                    int bytesRead;
+
+                    while ((System.nanoTime() < endNanoTime) && ((bytesRead = rawInputStream.read(uploadBuffer)) != -1)) {
+                        receivedByteCount += bytesRead;
+                    }
+
+                    clientOutputStream.writeLong(receivedByteCount);
+                    clientOutputStream.flush();
+                    break;
+                }
+                default:
+                    break;
+            }
+        } catch (IOException handleConnectionException) {
+            // The client disconnected early or timed out, which is nothing to worry about.
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class checks which hosts can be reached from specific network interfaces by making TCP connections bound to each interface address all at the same time
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class NetworkReachabilityProbe {
+
+    // Each probe spends all of its time waiting on DNS or the network, so every interface and host combination gets its own thread (which are only kept around for a minute after being used).
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool((Runnable probeRunnable) -> {
+        Thread probeThread = new Thread(probeRunnable, "qa_helper-network_reachability_probe");
+        probeThread.setDaemon(true); // Never keep the app from quitting just because some connection is still waiting to time out.
+        return probeThread;
+    });
+
+    private NetworkReachabilityProbe() {
+        // Only static methods.
+    }
+
+    public static List<InetAddress> getNetworkDeviceAddresses(String networkDeviceID) {
+        // Returns the IPv4 addresses (and global IPv6 addresses) of the network device with the specified name (such as "eth0" or "en0"), which will be empty if the device is not connected.
+        ArrayList<InetAddress> networkDeviceAddresses = new ArrayList<>();
+
+        try {
+            NetworkInterface networkInterface = NetworkInterface.getByName(networkDeviceID);
+
+            if ((networkInterface != null) && networkInterface.isUp()) {
+                for (InetAddress thisAddress : Collections.list(networkInterface.getInetAddresses())) {
+                    // Link-local IPv6 addresses always exist even without a working connection (and can't reach the internet anyway), so never probe from them.
+                    if (!thisAddress.isLoopbackAddress() && !thisAddress.isLinkLocalAddress()) {
+                        networkDeviceAddresses.add(thisAddress);
+                    }
+                }
+            }
+        } catch (SocketException getNetworkDeviceAddressesException) {
+            System.out.println("getNetworkDeviceAddressesException: " + getNetworkDeviceAddressesException);
+        }
+
+        return networkDeviceAddresses;
+    }
+
+    public static Set<String> getReachableHosts(List<InetAddress> localAddresses, String[] hostNames, int port, int deadlineMillis) {
+        // Connects to every host from every local address at the same time and returns which hosts could be reached from at least one of them before the deadline
+        // (returning early as soon as every host has been reached). A completed TCP handshake proves the host is actually reachable, unlike ICMP which is often blocked or rate limited.
+        // NOTE: Binding to a local address makes the connection use that address as its source, which makes it go out through that interface with normal routing
+        // (which is the same as what "ping -S" does on Windows and macOS, but not quite as strict as binding to the device itself like "ping -I" does on Linux).
+        Set<String> reachableHostNames = ConcurrentHashMap.newKeySet();
+
+        if (localAddresses.isEmpty() || (hostNames.length == 0)) {
+            return reachableHostNames;
+        }
+
+        long deadlineNanoTime = (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis));
+
+        CompletableFuture<Void> allHostsReached = new CompletableFuture<>();
+        ArrayList<CompletableFuture<Void>> allProbes = new ArrayList<>();
+
+        for (String thisHostName : hostNames) {
+            // Resolve each host only once for all of the local addresses (and at the same time as resolving the other hosts).
+            CompletableFuture<InetAddress[]> thisHostAddresses = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return InetAddress.getAllByName(thisHostName);
+                } catch (UnknownHostException resolveHostException) {
+                    return new InetAddress[0];
+                }
+            }, PROBE_EXECUTOR);
+
+            for (InetAddress thisLocalAddress : localAddresses) {
+                allProbes.add(thisHostAddresses.thenAcceptAsync((InetAddress[] theseHostAddresses) -> {
+                    if (reachableHostNames.contains(thisHostName)) {
+                        return; // Already reached from another local address.
+                    }
+
+                    InetAddress thisHostAddress = null;
+                    for (InetAddress thisPossibleHostAddress : theseHostAddresses) {
+                        if ((thisPossibleHostAddress instanceof Inet6Address) == (thisLocalAddress instanceof Inet6Address)) {
+                            thisHostAddress = thisPossibleHostAddress;
+                            break;
+                        }
+                    }
+
+                    int remainingMillis = (int) TimeUnit.NANOSECONDS.toMillis(deadlineNanoTime - System.nanoTime());
+
+                    if ((thisHostAddress == null) || (remainingMillis <= 0)) {
+                        return;
+                    }
+
+                    try (Socket probeSocket = new Socket()) {
+                        probeSocket.bind(new InetSocketAddress(thisLocalAddress, 0));
+                        probeSocket.connect(new InetSocketAddress(thisHostAddress, port), remainingMillis);
+
+                        reachableHostNames.add(thisHostName);
+
+                        if (reachableHostNames.size() == hostNames.length) {
+                            allHostsReached.complete(null);
+                        }
+                    } catch (IOException probeConnectionException) {
+                        // This host is not reachable from this local address (or the deadline was reached).
+                    }
+                }, PROBE_EXECUTOR));
+            }
+        }
+
+        try {
+            CompletableFuture.anyOf(allHostsReached, CompletableFuture.allOf(allProbes.toArray(CompletableFuture<?>[]::new))).get(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadlineNanoTime - System.nanoTime())), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException | ExecutionException | TimeoutException waitForProbesException) {
+            // Just return whatever hosts were reached before the deadline (DNS lookups can't be given a timeout, so they may still be running).
+        }
+
+        return new LinkedHashSet<>(reachableHostNames);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class keeps a single privileged helper shell running (started with "sudo" once per session) so that privileged commands don't each need to pipe the admin password into a new "sudo -Sk"
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class PrivilegedCommandSession {
+
+    // How long to wait for "sudo" to authenticate and the helper shell to be ready before giving up on the session and falling back on running each command with its own "sudo -Sk".
+    private static final int SESSION_START_TIMEOUT_SECONDS = 10;
+
+    private static PrivilegedCommandSession currentSession = null;
+    private static String failedSessionAdminPassword = null;
+
+    private final String adminPassword;
+    private final boolean isTestMode;
+    private final String frameMarker = "QA_HELPER_PRIVILEGED_FRAME_" + UUID.randomUUID().toString().replace("-", "");
+    private final ConcurrentHashMap<Long, CompletableFuture<CommandReader>> pendingCommands = new ConcurrentHashMap<>();
+    private final AtomicLong nextCommandID = new AtomicLong(1L);
+    private final CompletableFuture<Boolean> sessionReady = new CompletableFuture<>();
+    private Process sessionProcess;
+    private OutputStream sessionInput;
+    private volatile boolean sessionEnded = false;
+
+    private PrivilegedCommandSession(String adminPassword, boolean isTestMode) {
+        this.adminPassword = adminPassword;
+        this.isTestMode = isTestMode;
+    }
+
+    public static synchronized boolean startSession(String adminPassword, boolean isTestMode) {
+        // Returns "true" if a privileged helper is running for this admin password (which also confirms that the admin password is correct).
+        if ((adminPassword == null) || adminPassword.equals("*UNKNOWN*") || System.getProperty("os.name").startsWith("Windows") || System.getProperty("os.name").startsWith("Mac")) {
+            return false;
+        }
+
+        if ((currentSession != null) && currentSession.adminPassword.equals(adminPassword) && !currentSession.sessionEnded) {
+            return true;
+        }
+
+        if (adminPassword.equals(failedSessionAdminPassword)) { // Don't wait on "sudo" again for an admin password that was already rejected.
+            return false;
+        }
+
+        closeSession();
+
+        PrivilegedCommandSession newSession = new PrivilegedCommandSession(adminPassword, isTestMode);
+        Boolean sessionStarted = newSession.start();
+
+        if (Boolean.TRUE.equals(sessionStarted)) {
+            currentSession = newSession;
+            failedSessionAdminPassword = null;
+            return true;
+        }
+
+        if (Boolean.FALSE.equals(sessionStarted)) {
+            // Only remember the admin password as failed when "sudo" actually rejected it. If starting the session failed for any other reason (such as timing out while the system was busy), it will be tried again next time.
+            failedSessionAdminPassword = adminPassword;
+        }
+
+        return false;
+    }
+
+    public static synchronized void closeSession() {
+        if (currentSession != null) {
+            currentSession.endSession();
+            currentSession = null;
+        }
+    }
+
+    public static CommandReader runCommand(String adminPassword, String commandString, boolean isTestMode) {
+        return runCommand(adminPassword, commandString, 0, isTestMode);
+    }
+
+    public static CommandReader runCommand(String adminPassword, String commandString, int timeoutSeconds, boolean isTestMode) {
+        // Privileged commands are recorded and replayed as "sudo COMMAND" so that the fixtures never depend on (or include) the admin password or whether the helper session was used.
+        String[] fixtureCommandArray = new String[]{"sudo", commandString};
+
+        if (CommandFixtures.isReplaying()) {
+            CommandFixtures.Fixture replayFixture = CommandFixtures.getReplayFixture(fixtureCommandArray);
+
+            if (replayFixture != null) {
+                return new CommandReader(replayFixture.output, replayFixture.errorOutput, replayFixture.exitCode, replayFixture.reachedDeadline);
+            }
+        }
+
+        CommandReader privilegedCommandReader = runPrivilegedCommand(adminPassword, commandString, timeoutSeconds, isTestMode);
+
+        if (CommandFixtures.isRecording()) {
+            CommandFixtures.setRecordingAdminPassword(adminPassword);
+
+            // The privileged output has always been fully collected already, so reading it here to record it doesn't change anything for the caller.
+            String privilegedCommandOutput = privilegedCommandReader.getOutputLinesAsString();
+            CommandFixtures.recordFixture(fixtureCommandArray, privilegedCommandOutput, privilegedCommandReader.getErrorOutput(), privilegedCommandReader.getExitCode(), privilegedCommandReader.reachedDeadline(), false);
+
+            return new CommandReader(privilegedCommandOutput, privilegedCommandReader.getErrorOutput(), privilegedCommandReader.getExitCode(), privilegedCommandReader.reachedDeadline());
+        }
+
+        return privilegedCommandReader;
+    }
+
+    private static CommandReader runPrivilegedCommand(String adminPassword, String commandString, int timeoutSeconds, boolean isTestMode) {
+        // The helper reads one request per line, so any multi-line command (which nothing currently uses) is just run with its own "sudo -Sk" instead.
+        if (!commandString.contains("\n") && startSession(adminPassword, isTestMode)) {
+            PrivilegedCommandSession thisSession;
+            synchronized (PrivilegedCommandSession.class) {
+                thisSession = currentSession;
+            }
+
+            if (thisSession != null) {
+                CommandReader privilegedCommandReader = thisSession.runSessionCommand(commandString, timeoutSeconds);
+
+                if (privilegedCommandReader != null) {
+                    return privilegedCommandReader;
+                }
+            }
+        }
+
+        // Always wait for the command to finish (just like when it's run by the helper) so that callers which don't need the output can just ignore the returned CommandReader.
+        CommandReader sudoCommandReader = new CommandReader("printf '%s\\n' '" + ((adminPassword == null) ? "" : adminPassword.replace("'", "'\\''")) + "' | /usr/bin/sudo -Sk " + commandString, timeoutSeconds, false);
+        String sudoCommandOutput = sudoCommandReader.getOutputLinesAsString();
+
+        return new CommandReader(sudoCommandOutput, sudoCommandReader.getErrorOutput(), sudoCommandReader.getExitCode(), sudoCommandReader.reachedDeadline());
+    }
+
+    private Boolean start() {
+        // Returns "true" if the helper is ready, "false" if "sudo" rejected the admin password, or "null" if the helper could not be started for any other reason (such as timing out).
+        // "sudo" only reads the password from stdin when it actually needs one (it won't when running as root or with NOPASSWD), and it reads it byte-by-byte so it never takes more than that one line.
+        // So, the helper shell first skips every line until the sync line so that the password line is never run as a command when "sudo" didn't read it.
+        // The sync line is sent as many times as "sudo" tries a password so that a wrong password fails right away instead of "sudo" waiting for another attempt. Any extra sync lines are just ignored.
+        // After that, each request line calls "qa_helper_run" with a command ID and a quoted command, which runs the command in the background (so that multiple privileged commands can still run at the same time)
+        // with its stdout and stderr written to files in a private temporary folder. When the command is done, a frame header line (with the marker, command ID, exit code, stdout length and stderr length)
+        // is written followed by the stdout and stderr contents, while holding a lock so that the frames from concurrent commands never get mixed together.
+        String helperScript = "while IFS= read -r qa_helper_line; do [ \"$qa_helper_line\" = '" + frameMarker + "_SYNC' ] && break; done\n"
+                + "qa_helper_dir=\"$(/bin/mktemp -d)\" || exit 1\n"
+                + "trap '/bin/rm -rf \"$qa_helper_dir\"' EXIT\n"
+                + "qa_helper_run() {\n"
+                + "    (\n"
+                + "        /bin/sh -c \"$2\" < /dev/null > \"$qa_helper_dir/$1.out\" 2> \"$qa_helper_dir/$1.err\"\n"
+                + "        qa_helper_exit_code=$?\n"
+                + "        {\n"
+                + "            /usr/bin/flock 9\n"
+                + "            printf '%s %s %s %s %s\\n' '" + frameMarker + "' \"$1\" \"$qa_helper_exit_code\" \"$(/usr/bin/wc -c < \"$qa_helper_dir/$1.out\")\" \"$(/usr/bin/wc -c < \"$qa_helper_dir/$1.err\")\"\n"
+                + "            /bin/cat \"$qa_helper_dir/$1.out\" \"$qa_helper_dir/$1.err\"\n"
+                + "        } 9> \"$qa_helper_dir/lock\"\n"
+                + "        /bin/rm -f \"$qa_helper_dir/$1.out\" \"$qa_helper_dir/$1.err\"\n"
+                + "    ) &\n"
+                + "}\n"
+                + "echo '" + frameMarker + " READY'\n"
+                + "while IFS= read -r qa_helper_request; do case \"$qa_helper_request\" in 'qa_helper_run '*) eval \"$qa_helper_request\" ;; esac; done\n"
+                + "wait\n";
+
+        try {
+            sessionProcess = new ProcessBuilder("/usr/bin/sudo", "-Sk", "-p", "", "/bin/sh", "-c", helperScript).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+            sessionInput = sessionProcess.getOutputStream();
+
+            Thread frameReaderThread = new Thread(() -> readFrames(sessionProcess.getInputStream()), "qa_helper-privileged_session_reader");
+            frameReaderThread.setDaemon(true);
+            frameReaderThread.start();
+
+            writeSessionLine(adminPassword);
+            for (int syncAttempt = 0; syncAttempt < 3; syncAttempt++) { // "sudo" allows 3 password attempts by default.
+                writeSessionLine(frameMarker + "_SYNC");
+            }
+
+            if (sessionReady.get(SESSION_START_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                if (isTestMode) {
+                    System.out.println("Started Privileged Command Session");
+                }
+
+                return true;
+            }
+
+            // The helper output ended before it was ready. When the admin password is wrong, "sudo" fails every attempt ("Sorry, try again") using the sync lines and then exits with a non-zero exit code.
+            if (sessionProcess.waitFor(SESSION_START_TIMEOUT_SECONDS, TimeUnit.SECONDS) && (sessionProcess.exitValue() != 0)) {
+                if (isTestMode) {
+                    System.out.println("Privileged Command Session Admin Password Rejected");
+                }
+
+                endSession();
+                return false;
+            }
+        } catch (IOException | InterruptedException | ExecutionException | TimeoutException startSessionException) {
+            if (isTestMode) {
+                System.out.println("startSessionException: " + startSessionException);
+            }
+        }
+
+        // If "sudo" is still waiting to read another password attempt, closing its stdin makes it give up and exit.
+        endSession();
+        return null;
+    }
+
+    private synchronized void writeSessionLine(String sessionLine) throws IOException {
+        sessionInput.write((sessionLine + "\n").getBytes(StandardCharsets.UTF_8));
+        sessionInput.flush();
+    }
+
+    private void readFrames(InputStream sessionOutput) {
+        try (BufferedInputStream sessionOutputReader = new BufferedInputStream(sessionOutput)) {
+            String thisFrameHeader;
+            while ((thisFrameHeader = readFrameHeader(sessionOutputReader)) != null) {
+                if (!thisFrameHeader.startsWith(frameMarker + " ")) {
+                    continue; // Nothing other than frames should ever be output, but ignore anything else just in case.
+                }
+
+                String[] thisFrameHeaderParts = thisFrameHeader.substring(frameMarker.length()).trim().split("\\s+");
+
+                if ((thisFrameHeaderParts.length == 1) && thisFrameHeaderParts[0].equals("READY")) {
+                    sessionReady.complete(true);
+                } else if (thisFrameHeaderParts.length == 4) {
+                    long thisCommandID = Long.parseLong(thisFrameHeaderParts[0]);
+                    int thisCommandExitCode = Integer.parseInt(thisFrameHeaderParts[1]);
+                    String thisCommandOutput = readFrameContents(sessionOutputReader, Integer.parseInt(thisFrameHeaderParts[2]));
+                    String thisCommandErrorOutput = readFrameContents(sessionOutputReader, Integer.parseInt(thisFrameHeaderParts[3]));
+
+                    CompletableFuture<CommandReader> thisPendingCommand = pendingCommands.remove(thisCommandID);
+                    if (thisPendingCommand != null) {
+                        thisPendingCommand.complete(new CommandReader(thisCommandOutput, thisCommandErrorOutput, thisCommandExitCode, (thisCommandExitCode == 124)));
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException readFramesException) {
+            if (isTestMode) {
+                System.out.println("readFramesException: " + readFramesException);
+            }
+        }
+
+        // Once the helper is gone, any commands that are still waiting are run with their own "sudo -Sk" instead (see "runSessionCommand").
+        sessionEnded = true;
+        sessionReady.complete(false);
+        pendingCommands.values().forEach((CompletableFuture<CommandReader> thisPendingCommand) -> thisPendingCommand.complete(null));
+        pendingCommands.clear();
+    }
+
+    private static String readFrameHeader(InputStream sessionOutputReader) throws IOException {
+        ByteArrayOutputStream frameHeaderBytes = new ByteArrayOutputStream();
+
+        int thisByte;
+        while ((thisByte = sessionOutputReader.read()) != -1) {
+            if (thisByte == '\n') {
+                return frameHeaderBytes.toString(StandardCharsets.UTF_8);
+            }
+
+            frameHeaderBytes.write(thisByte);
+        }
+
+        return null;
+    }
+
+    private static String readFrameContents(InputStream sessionOutputReader, int frameContentsLength) throws IOException {
+        byte[] frameContentsBytes = sessionOutputReader.readNBytes(frameContentsLength);
+
+        if (frameContentsBytes.length != frameContentsLength) {
+            throw new IOException("Privileged Command Session Ended Mid-Frame");
+        }
+
+        return new String(frameContentsBytes, StandardCharsets.UTF_8);
+    }
+
+    private CommandReader runSessionCommand(String commandString, int timeoutSeconds) {
+        // Returns "null" if the helper isn't usable so that the caller can fall back on running the command with its own "sudo -Sk".
+        if (sessionEnded) {
+            return null;
+        }
+
+        long thisCommandID = nextCommandID.getAndIncrement();
+        CompletableFuture<CommandReader> thisPendingCommand = new CompletableFuture<>();
+        pendingCommands.put(thisCommandID, thisPendingCommand);
+
+        try {
+            writeSessionLine("qa_helper_run " + thisCommandID + " '" + commandString.replace("'", "'\\''") + "'");
+
+            // NOTE: A command running as root can't be killed from here, so the deadline only stops waiting on it. Commands that could hang should still use "timeout" within the command itself.
+            return ((timeoutSeconds > 0) ? thisPendingCommand.get(timeoutSeconds, TimeUnit.SECONDS) : thisPendingCommand.get());
+        } catch (TimeoutException commandTimeoutException) {
+            pendingCommands.remove(thisCommandID);
+            return new CommandReader("", "", 124, true);
+        } catch (IOException | InterruptedException | ExecutionException runSessionCommandException) {
+            if (isTestMode) {
+                System.out.println("runSessionCommandException: " + runSessionCommandException);
+            }
+
+            pendingCommands.remove(thisCommandID);
+            return null;
+        }
+    }
+
+    private void endSession() {
+        sessionEnded = true;
+
+        // Closing stdin makes the helper shell exit (and remove its temporary folder) after any commands that are still running are done.
+        if (sessionInput != null) {
+            try {
+                sessionInput.close();
+            } catch (IOException closeSessionInputException) {
+                // Ignore closeSessionInputException
+            }
+        }
+    }
+}
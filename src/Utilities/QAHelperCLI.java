@@ -0,0 +1,259 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * This class loads all specs and runs the non-interactive checks without any Swing or AWT and prints the results as JSON (with "java -cp QA_Helper.jar Utilities.QAHelperCLI")
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class QAHelperCLI {
+
+    private static final int EXIT_CODE_CHECK_FAILED = 2;
+    private static final int EXIT_CODE_CHECK_SKIPPED = 3;
+
+    public static void main(String[] args) {
+        // This class must never reference anything in the GUI package (or any AWT class) since even just loading a JFrame subclass like QAHelper initializes AWT.
+        // Setting headless is just to make sure that nothing that happens to touch AWT later on (such as a library) could ever try to open a display.
+        System.setProperty("java.awt.headless", "true");
+
+        boolean shouldReadAdminPasswordFromStdin = false;
+        boolean shouldRunChecks = true;
+        int cpuStressSeconds = 0;
+        int jsonIndentFactor = 0;
+
+        for (int argIndex = 0; argIndex < args.length; argIndex++) {
+            switch (args[argIndex]) {
+                case "--admin-password-stdin":
+                    shouldReadAdminPasswordFromStdin = true;
+                    break;
+                case "--skip-checks":
+                    shouldRunChecks = false;
+                    break;
+                case "--cpu-stress":
+                    try {
+                        cpuStressSeconds = Integer.parseInt(args[++argIndex]);
+                    } catch (ArrayIndexOutOfBoundsException | NumberFormatException cpuStressSecondsException) {
+                        cpuStressSeconds = -1;
+                    }
+
+                    if (cpuStressSeconds < 1) {
+                        System.err.println("Invalid CPU Stress Seconds (Must Be a Whole Number Greater Than 0)");
+                        System.exit(1);
+                    }
+                    break;
+                case "--pretty":
+                    jsonIndentFactor = 4;
+                    break;
+                default:
+                    System.err.println("Usage: java -cp QA_Helper.jar Utilities.QAHelperCLI [--admin-password-stdin] [--skip-checks] [--cpu-stress SECONDS] [--pretty]\n\n"
+                            + "  --admin-password-stdin  Read the admin password from the first line of stdin (to load specs that require admin, such as from \"dmidecode\" on Linux).\n"
+                            + "  --skip-checks           Only output specs without any check results.\n"
+                            + "  --cpu-stress SECONDS    Also run the built-in CPU Stress Test for this many seconds (along with CPU sensors on Linux).\n"
+                            + "  --pretty                Indent the JSON output.\n\n"
+                            + "Exit Codes: 0 = All Checks Passed, 1 = Error, " + EXIT_CODE_CHECK_FAILED + " = Some Check Failed, " + EXIT_CODE_CHECK_SKIPPED + " = No Check Failed But Some Could Not Be Run (see \"checks\" in the JSON output)\n"
+                            + "Each check has \"passed\" set to \"null\" and \"skipped\" set to \"true\" (with a \"skippedReason\") if it could not be run (such as drive health without admin on Linux).");
+                    System.exit(args[argIndex].equals("--help") ? 0 : 1);
+            }
+        }
+
+        String adminPassword = "*UNKNOWN*";
+        if (shouldReadAdminPasswordFromStdin) {
+            try {
+                String adminPasswordLine = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)).readLine();
+                if ((adminPasswordLine != null) && !adminPasswordLine.isEmpty()) {
+                    adminPassword = adminPasswordLine;
+                }
+            } catch (IOException readAdminPasswordException) {
+                System.err.println("readAdminPasswordException: " + readAdminPasswordException);
+                System.exit(1);
+            }
+        }
+
+        try {
+            // Never use test mode here since all of the test mode logging goes to stdout which would break the JSON output.
+            // Load headless so that a Terminal window is never launched to install any missing required tools on Linux (any missing tools are reported in the "loadSpecsException" instead).
+            GetComputerSpecs computerSpecs = new GetComputerSpecs(adminPassword, false, true);
+
+            ComputerSpecsRecord specsRecord = computerSpecs.getSpecsRecord();
+
+            JSONObject outputJSON = new JSONObject();
+            outputJSON.put("specs", specsRecord.toJSON());
+
+            if (!computerSpecs.getLoadSpecsException().isEmpty()) {
+                outputJSON.put("loadSpecsException", computerSpecs.getLoadSpecsException());
+            }
+
+            boolean anyCheckFailed = false;
+            boolean anyCheckSkipped = false;
+
+            if (shouldRunChecks) {
+                JSONObject checksJSON = new JSONObject();
+
+                JSONObject driveHealthCheckJSON = getDriveHealthCheckJSON(specsRecord);
+                checksJSON.put("driveHealth", driveHealthCheckJSON);
+                anyCheckFailed |= Boolean.FALSE.equals(driveHealthCheckJSON.opt("passed"));
+                anyCheckSkipped |= driveHealthCheckJSON.getBoolean("skipped");
+
+                JSONObject batteryCheckJSON = getBatteryCheckJSON(specsRecord);
+                checksJSON.put("battery", batteryCheckJSON);
+                anyCheckFailed |= Boolean.FALSE.equals(batteryCheckJSON.opt("passed"));
+                anyCheckSkipped |= batteryCheckJSON.getBoolean("skipped");
+
+                if (cpuStressSeconds > 0) {
+                    JSONObject cpuStressCheckJSON = getCPUStressCheckJSON(specsRecord, cpuStressSeconds);
+                    checksJSON.put("cpuStress", cpuStressCheckJSON);
+                    anyCheckFailed |= !cpuStressCheckJSON.getBoolean("passed");
+                }
+
+                // Only claim that all checks passed if every check was actually run, otherwise it's unknown if the skipped checks would have passed.
+                checksJSON.put("passed", (anyCheckFailed ? Boolean.FALSE : (anyCheckSkipped ? JSONObject.NULL : Boolean.TRUE)));
+                outputJSON.put("checks", checksJSON);
+            }
+
+            System.out.println(outputJSON.toString(jsonIndentFactor));
+            System.out.flush();
+
+            PrivilegedCommandSession.closeSession();
+            System.exit(anyCheckFailed ? EXIT_CODE_CHECK_FAILED : (anyCheckSkipped ? EXIT_CODE_CHECK_SKIPPED : 0));
+        } catch (Exception qaHelperCLIException) {
+            System.err.println("qaHelperCLIException: " + qaHelperCLIException);
+            PrivilegedCommandSession.closeSession();
+            System.exit(1);
+        }
+    }
+
+    private static JSONObject getDriveHealthCheckJSON(ComputerSpecsRecord specsRecord) {
+        JSONObject driveHealthCheckJSON = new JSONObject();
+
+        if (specsRecord.getDriveHealth().equals("N/A") && !specsRecord.getDriveRecalled()) {
+            // Drive health couldn't be checked (such as without admin on Linux), so it's unknown whether or not it would have passed. A recalled drive still always fails since that doesn't depend on the health check.
+            putSkippedCheck(driveHealthCheckJSON, "Drive Health Could Not Be Checked" + ((System.getProperty("os.name").startsWith("Linux")) ? " (Admin Password Required)" : ""));
+        } else {
+            driveHealthCheckJSON.put("passed", (!specsRecord.getDriveHealthWarning() && !specsRecord.getDriveRecalled()));
+            driveHealthCheckJSON.put("skipped", false);
+        }
+
+        driveHealthCheckJSON.put("healthWarning", specsRecord.getDriveHealthWarning());
+        driveHealthCheckJSON.put("trimWarning", specsRecord.getDriveTrimWarning());
+        driveHealthCheckJSON.put("recalled", specsRecord.getDriveRecalled());
+        driveHealthCheckJSON.put("report", specsRecord.getDriveHealth()); // Will be "N/A" if drive health couldn't be checked (such as without admin on Linux).
+        return driveHealthCheckJSON;
+    }
+
+    private static JSONObject getBatteryCheckJSON(ComputerSpecsRecord specsRecord) {
+        JSONObject batteryCheckJSON = new JSONObject();
+
+        if (specsRecord.getBatteries().isEmpty() && specsRecord.getBatteryErrors().isEmpty()) {
+            putSkippedCheck(batteryCheckJSON, "No Battery Detected");
+        } else {
+            batteryCheckJSON.put("passed", specsRecord.getBatteryErrors().isEmpty()); // Battery WARNINGS (such as being a bit worn) are not considered failures, same as in the GUI.
+            batteryCheckJSON.put("skipped", false);
+        }
+
+        batteryCheckJSON.put("hasBattery", !specsRecord.getBatteries().isEmpty());
+        batteryCheckJSON.put("health", specsRecord.getBatteryHealthSummary());
+        batteryCheckJSON.put("warnings", new JSONArray(specsRecord.getBatteryWarnings()));
+        batteryCheckJSON.put("errors", new JSONArray(specsRecord.getBatteryErrors()));
+        return batteryCheckJSON;
+    }
+
+    private static void putSkippedCheck(JSONObject checkJSON, String skippedReason) {
+        checkJSON.put("passed", JSONObject.NULL);
+        checkJSON.put("skipped", true);
+        checkJSON.put("skippedReason", skippedReason);
+    }
+
+    private static JSONObject getCPUStressCheckJSON(ComputerSpecsRecord specsRecord, int cpuStressSeconds) throws InterruptedException {
+        int cpuStressWorkerCount = specsRecord.getThreadCount();
+        if (cpuStressWorkerCount < 1) {
+            cpuStressWorkerCount = Runtime.getRuntime().availableProcessors();
+        }
+
+        CPUStressEngine cpuStressEngine = new CPUStressEngine(cpuStressWorkerCount);
+        cpuStressEngine.prepare(); // Compute the correct results to verify against before sampling sensors and timing the stress test so that setup is not counted as stressing.
+
+        CPUSensorSampler cpuSensorSampler = null;
+
+        if (System.getProperty("os.name").startsWith("Linux")) {
+            cpuSensorSampler = new CPUSensorSampler(1000, (cpuStressSeconds + 60));
+            if (cpuSensorSampler.isAvailable()) {
+                cpuSensorSampler.start();
+            } else {
+                cpuSensorSampler = null;
+            }
+        }
+
+        CPUStressEngine.Result cpuStressResult;
+        CPUSensorSampler.Summary cpuSensorSummary = null;
+
+        cpuStressEngine.start();
+        try {
+            Thread.sleep(cpuStressSeconds * 1000L);
+        } finally {
+            cpuStressResult = cpuStressEngine.stop();
+
+            if (cpuSensorSampler != null) {
+                cpuSensorSampler.stop();
+                cpuSensorSummary = cpuSensorSampler.getSummary();
+            }
+        }
+
+        JSONObject cpuStressCheckJSON = new JSONObject();
+        cpuStressCheckJSON.put("passed", (cpuStressResult.didPass() && ((cpuSensorSummary == null) || !cpuSensorSummary.didThermalThrottle())));
+        cpuStressCheckJSON.put("skipped", false);
+        cpuStressCheckJSON.put("score", cpuStressResult.getScore());
+        cpuStressCheckJSON.put("workerCount", cpuStressResult.getWorkerCount());
+        cpuStressCheckJSON.put("elapsedMillis", cpuStressResult.getElapsedMillis());
+        cpuStressCheckJSON.put("verificationErrorCount", cpuStressResult.getVerificationErrorCount());
+
+        JSONObject workloadOpsPerSecondJSON = new JSONObject();
+        for (CPUStressEngine.Workload thisWorkload : CPUStressEngine.Workload.values()) {
+            workloadOpsPerSecondJSON.put(thisWorkload.name(), Math.round(cpuStressResult.getWorkloadOpsPerSecond(thisWorkload)));
+        }
+        cpuStressCheckJSON.put("workloadOpsPerSecond", workloadOpsPerSecondJSON);
+
+        if (cpuSensorSummary != null) {
+            JSONObject cpuSensorsJSON = new JSONObject();
+            cpuSensorsJSON.put("sampleCount", cpuSensorSummary.getSampleCount());
+            putSensorValue(cpuSensorsJSON, "minCelsius", cpuSensorSummary.getMinCelsius());
+            putSensorValue(cpuSensorsJSON, "averageCelsius", cpuSensorSummary.getAverageCelsius());
+            putSensorValue(cpuSensorsJSON, "maxCelsius", cpuSensorSummary.getMaxCelsius());
+            putSensorValue(cpuSensorsJSON, "minFrequencyMHz", cpuSensorSummary.getMinFrequencyMHz());
+            putSensorValue(cpuSensorsJSON, "averageFrequencyMHz", cpuSensorSummary.getAverageFrequencyMHz());
+            putSensorValue(cpuSensorsJSON, "peakFrequencyMHz", cpuSensorSummary.getPeakFrequencyMHz());
+            cpuSensorsJSON.put("throttleCount", cpuSensorSummary.getThrottleCount());
+            cpuSensorsJSON.put("thermalThrottled", cpuSensorSummary.didThermalThrottle());
+            cpuStressCheckJSON.put("sensors", cpuSensorsJSON);
+        }
+
+        return cpuStressCheckJSON;
+    }
+
+    private static void putSensorValue(JSONObject sensorsJSON, String sensorKey, double sensorValue) {
+        // Sensor values are NaN when they couldn't be read (such as no temperature sensors), but JSON doesn't allow NaN so output null instead.
+        sensorsJSON.put(sensorKey, (Double.isNaN(sensorValue) ? JSONObject.NULL : sensorValue));
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.util.regex.Pattern;
+
+/**
+ * This class contains precompiled patterns and allocation-light string helpers shared by the GetComputerSpecs parsers
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+final class SpecsParsing {
+
+    // These "clean" strings were previously each compiled into a new case-insensitive regex for every single value being cleaned (which is a lot of compiling while parsing every device).
+    // Now they are compiled only once and still applied one after another in the same order so that the results are identical (a single alternation pattern would not always match the same way since removing one string can create a match for another).
+    static final Pattern[] COMPUTER_BRAND_STRINGS_TO_REMOVE_PATTERNS = compileCaseInsensitiveLiteralPatterns(",", " inc.", " incorporated", " inc", " ltd.", " ltd", " limited", " co.", " corp.", " corporation", " computers", " computer", " systems", " technology", " electronics", " software international", " gmbh", "(r) client");
+    static final Pattern[] CPU_STRINGS_TO_REPLACE_WITH_SPACE_PATTERNS = compileCaseInsensitiveLiteralPatterns("genuine", "authentic", "(r)", "(tm)", "?", " cpu", " apu", " processor");
+    // "(R)", "®" (\u00AE), "(TM)", and "™" (\u2122) could exist when brand is coming from Windows driver info rather than PCI ID Repo
+    static final Pattern[] DEVICE_BRAND_STRINGS_TO_REMOVE_PATTERNS = compileCaseInsensitiveLiteralPatterns("(r)", "\u00AE", "(tm)", "\u2122", "?", ",", " inc.", " incorporated", " inc", " ltd.", " ltd", " limited", " co.", " corp.", " corporation", " computers", " computer", " systems", " semiconductors", " semiconductor", " and subsidiaries");
+
+    private SpecsParsing() {
+        // All static, never instantiated.
+    }
+
+    private static Pattern[] compileCaseInsensitiveLiteralPatterns(String... literalStrings) {
+        Pattern[] literalPatterns = new Pattern[literalStrings.length];
+        for (int i = 0; i < literalStrings.length; i++) {
+            // Same as the previous "(?i)" + Pattern.quote(...) which is case-insensitive for US-ASCII only.
+            literalPatterns[i] = Pattern.compile(literalStrings[i], Pattern.LITERAL | Pattern.CASE_INSENSITIVE);
+        }
+        return literalPatterns;
+    }
+
+    static String replaceAll(String string, Pattern[] patternsToReplace, String replacement) {
+        for (Pattern thisPatternToReplace : patternsToReplace) {
+            string = thisPatternToReplace.matcher(string).replaceAll(replacement);
+        }
+
+        return string;
+    }
+
+    private static boolean isWhitespace(char thisChar) {
+        // Matches exactly what the regex "\s" matches (which is NOT the same as "Character.isWhitespace").
+        return ((thisChar == ' ') || (thisChar == '\t') || (thisChar == '\n') || (thisChar == '\u000B') || (thisChar == '\f') || (thisChar == '\r'));
+    }
+
+    private static boolean isPeriodSpaceOrSlash(char thisChar) {
+        return ((thisChar == '.') || (thisChar == ' ') || (thisChar == '/'));
+    }
+
+    private static boolean isDigit(char thisChar) {
+        return ((thisChar >= '0') && (thisChar <= '9'));
+    }
+
+    private static boolean isLowercaseLetter(char thisChar) {
+        return ((thisChar >= 'a') && (thisChar <= 'z'));
+    }
+
+    private static boolean isAlphanumeric(char thisChar) {
+        return (isDigit(thisChar) || isLowercaseLetter(thisChar) || ((thisChar >= 'A') && (thisChar <= 'Z')));
+    }
+
+    static String collapseWhitespace(String string) {
+        // Same result as "string.replaceAll("\\s{2,}", " ")" but without compiling a regex every time and returning the original string when there is nothing to collapse (which is almost always).
+        int stringLength = string.length();
+        int firstRunIndex = -1;
+        for (int i = 0; i < (stringLength - 1); i++) {
+            if (isWhitespace(string.charAt(i)) && isWhitespace(string.charAt(i + 1))) {
+                firstRunIndex = i;
+                break;
+            }
+        }
+
+        if (firstRunIndex == -1) {
+            return string;
+        }
+
+        StringBuilder collapsedString = new StringBuilder(stringLength);
+        collapsedString.append(string, 0, firstRunIndex);
+
+        int i = firstRunIndex;
+        while (i < stringLength) {
+            char thisChar = string.charAt(i);
+            if (isWhitespace(thisChar)) {
+                int runEndIndex = i + 1;
+                while ((runEndIndex < stringLength) && isWhitespace(string.charAt(runEndIndex))) {
+                    runEndIndex++;
+                }
+
+                if ((runEndIndex - i) >= 2) {
+                    collapsedString.append(' ');
+                } else {
+                    collapsedString.append(thisChar); // A single whitespace character is left as-is (even if it's a tab).
+                }
+
+                i = runEndIndex;
+            } else {
+                collapsedString.append(thisChar);
+                i++;
+            }
+        }
+
+        return collapsedString.toString();
+    }
+
+    static String trimPeriodsSpacesAndSlashes(String string) {
+        return trimPeriodsSpacesAndSlashes(string, 0);
+    }
+
+    static String trimPeriodsSpacesAndSlashes(String string, int fromIndex) {
+        // Same result as "string.substring(fromIndex).replaceAll("^[. /]+", "").replaceAll("[. /]+$", "")" but only ever creates the final trimmed substring.
+        int startIndex = fromIndex;
+        int endIndex = string.length();
+
+        while ((startIndex < endIndex) && isPeriodSpaceOrSlash(string.charAt(startIndex))) {
+            startIndex++;
+        }
+
+        // The regex "$" also matches right before a single final line terminator, so a trailing run before one is removed while the line terminator itself is kept (lines from a CommandReader will never have one, but other values could).
+        int lineTerminatorLength = 0;
+        if (endIndex > startIndex) {
+            char lastChar = string.charAt(endIndex - 1);
+            if ((lastChar == '\n') && (endIndex - 1 > startIndex) && (string.charAt(endIndex - 2) == '\r')) {
+                lineTerminatorLength = 2;
+            } else if ((lastChar == '\n') || (lastChar == '\r') || (lastChar == '\u0085') || (lastChar == '\u2028') || (lastChar == '\u2029')) {
+                lineTerminatorLength = 1;
+            }
+        }
+
+        int trimmedEndIndex = endIndex - lineTerminatorLength;
+        while ((trimmedEndIndex > startIndex) && isPeriodSpaceOrSlash(string.charAt(trimmedEndIndex - 1))) {
+            trimmedEndIndex--;
+        }
+
+        if (lineTerminatorLength > 0) {
+            return string.substring(startIndex, trimmedEndIndex) + string.substring(endIndex - lineTerminatorLength, endIndex);
+        }
+
+        return string.substring(startIndex, trimmedEndIndex);
+    }
+
+    static String keepDigits(String string) {
+        // Same result as "string.replaceAll("[^0-9]", "")".
+        return keepOnly(string, false, false, false, false);
+    }
+
+    static String keepDigitsAndPeriods(String string) {
+        // Same result as "string.replaceAll("[^0-9.]", "")".
+        return keepOnly(string, false, false, true, false);
+    }
+
+    static String keepDigitsAndCommas(String string) {
+        // Same result as "string.replaceAll("[^0-9,]", "")".
+        return keepOnly(string, false, false, false, true);
+    }
+
+    static String keepLowercaseAlphanumerics(String string) {
+        // Same result as "string.replaceAll("[^a-z0-9]", "")" (so uppercase letters are REMOVED, this is meant to be used on strings that have already been lowercased).
+        return keepOnly(string, true, false, false, false);
+    }
+
+    static String keepAlphanumerics(String string) {
+        // Same result as "string.replaceAll("[^A-Za-z0-9]", "")".
+        return keepOnly(string, true, true, false, false);
+    }
+
+    static int countAlphanumerics(String string) {
+        // Same result as "string.replaceAll("[^A-Za-z0-9]", "").length()" without creating the intermediate string.
+        int alphanumericCount = 0;
+        for (int i = 0; i < string.length(); i++) {
+            if (isAlphanumeric(string.charAt(i))) {
+                alphanumericCount++;
+            }
+        }
+
+        return alphanumericCount;
+    }
+
+    static boolean containsDigit(String string) {
+        // Same result as "!string.replaceAll("[^0-9]", "").isEmpty()".
+        for (int i = 0; i < string.length(); i++) {
+            if (isDigit(string.charAt(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static boolean containsOnlyZerosAndOnes(String string) {
+        // Same result as "string.replaceAll("[0-1]", "").isEmpty()".
+        for (int i = 0; i < string.length(); i++) {
+            char thisChar = string.charAt(i);
+            if ((thisChar != '0') && (thisChar != '1')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean shouldKeep(char thisChar, boolean keepLowercaseLetters, boolean keepUppercaseLetters, boolean keepPeriods, boolean keepCommas) {
+        return (isDigit(thisChar)
+                || (keepLowercaseLetters && isLowercaseLetter(thisChar))
+                || (keepUppercaseLetters && (thisChar >= 'A') && (thisChar <= 'Z'))
+                || (keepPeriods && (thisChar == '.'))
+                || (keepCommas && (thisChar == ',')));
+    }
+
+    private static String keepOnly(String string, boolean keepLowercaseLetters, boolean keepUppercaseLetters, boolean keepPeriods, boolean keepCommas) {
+        int stringLength = string.length();
+        int firstRemovedIndex = -1;
+        for (int i = 0; i < stringLength; i++) {
+            if (!shouldKeep(string.charAt(i), keepLowercaseLetters, keepUppercaseLetters, keepPeriods, keepCommas)) {
+                firstRemovedIndex = i;
+                break;
+            }
+        }
+
+        if (firstRemovedIndex == -1) {
+            return string; // Nothing to remove, so don't bother copying anything.
+        }
+
+        StringBuilder keptString = new StringBuilder(stringLength - 1);
+        keptString.append(string, 0, firstRemovedIndex);
+        for (int i = firstRemovedIndex + 1; i < stringLength; i++) {
+            char thisChar = string.charAt(i);
+            if (shouldKeep(thisChar, keepLowercaseLetters, keepUppercaseLetters, keepPeriods, keepCommas)) {
+                keptString.append(thisChar);
+            }
+        }
+
+        return keptString.toString();
+    }
+
+    /**
+     * Index-based field access into a single delimited line without splitting the whole line into a new array of strings
+     */
+    static final class LineFields {
+
+        private final CharSequence line;
+        private final int[] fieldStartIndexes;
+        private final int[] fieldEndIndexes;
+        private final int fieldCount;
+
+        LineFields(CharSequence line, char delimiter, boolean includeTrailingEmptyFields) {
+            // Field counts match "String.split" for a single non-regex delimiter character, which is "split(delimiter, -1)" when "includeTrailingEmptyFields" is true and "split(delimiter)" when it's false.
+            this.line = line;
+
+            int lineLength = line.length();
+            int delimiterCount = 0;
+            for (int i = 0; i < lineLength; i++) {
+                if (line.charAt(i) == delimiter) {
+                    delimiterCount++;
+                }
+            }
+
+            fieldStartIndexes = new int[delimiterCount + 1];
+            fieldEndIndexes = new int[delimiterCount + 1];
+
+            int thisFieldIndex = 0;
+            int thisFieldStartIndex = 0;
+            for (int i = 0; i < lineLength; i++) {
+                if (line.charAt(i) == delimiter) {
+                    fieldStartIndexes[thisFieldIndex] = thisFieldStartIndex;
+                    fieldEndIndexes[thisFieldIndex] = i;
+                    thisFieldIndex++;
+                    thisFieldStartIndex = i + 1;
+                }
+            }
+            fieldStartIndexes[thisFieldIndex] = thisFieldStartIndex;
+            fieldEndIndexes[thisFieldIndex] = lineLength;
+
+            int countedFields = delimiterCount + 1;
+            if (!includeTrailingEmptyFields && (delimiterCount > 0)) {
+                while ((countedFields > 0) && (fieldStartIndexes[countedFields - 1] == fieldEndIndexes[countedFields - 1])) {
+                    countedFields--;
+                }
+            }
+            fieldCount = countedFields;
+        }
+
+        int getFieldCount() {
+            return fieldCount;
+        }
+
+        String getField(int fieldIndex) {
+            checkFieldIndex(fieldIndex);
+            return line.subSequence(fieldStartIndexes[fieldIndex], fieldEndIndexes[fieldIndex]).toString();
+        }
+
+        boolean isFieldEmpty(int fieldIndex) {
+            checkFieldIndex(fieldIndex);
+            return (fieldStartIndexes[fieldIndex] == fieldEndIndexes[fieldIndex]);
+        }
+
+        boolean fieldEquals(int fieldIndex, String string) {
+            checkFieldIndex(fieldIndex);
+
+            int fieldStartIndex = fieldStartIndexes[fieldIndex];
+            if ((fieldEndIndexes[fieldIndex] - fieldStartIndex) != string.length()) {
+                return false;
+            }
+
+            for (int i = 0; i < string.length(); i++) {
+                if (line.charAt(fieldStartIndex + i) != string.charAt(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        String joinFieldsFrom(int fromFieldIndex, char separator) {
+            // Same result as "String.join(separator, Arrays.copyOfRange(fields, fromFieldIndex, fieldCount))".
+            if (fromFieldIndex >= fieldCount) {
+                return "";
+            }
+
+            StringBuilder joinedFields = new StringBuilder(fieldEndIndexes[fieldCount - 1] - fieldStartIndexes[fromFieldIndex]);
+            for (int thisFieldIndex = fromFieldIndex; thisFieldIndex < fieldCount; thisFieldIndex++) {
+                if (thisFieldIndex > fromFieldIndex) {
+                    joinedFields.append(separator);
+                }
+                joinedFields.append(line, fieldStartIndexes[thisFieldIndex], fieldEndIndexes[thisFieldIndex]);
+            }
+
+            return joinedFields.toString();
+        }
+
+        private void checkFieldIndex(int fieldIndex) {
+            if ((fieldIndex < 0) || (fieldIndex >= fieldCount)) {
+                throw new IndexOutOfBoundsException("Field Index " + fieldIndex + " Out of Bounds for Field Count " + fieldCount);
+            }
+        }
+    }
+}
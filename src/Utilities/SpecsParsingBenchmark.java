@@ -0,0 +1,169 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.Console;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONObject;
+
+/**
+ * This class records command fixtures of a computer and benchmarks parsing all of its specs from those fixtures (with "java -cp QA_Helper.jar Utilities.SpecsParsingBenchmark")
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class SpecsParsingBenchmark {
+
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASURED_ITERATIONS = 20;
+
+    public static void main(String[] args) {
+        if ((args.length == 0) || args[0].equals("--help")) {
+            System.out.println("Usage:\n"
+                    + "  Record Fixtures:    java -cp QA_Helper.jar Utilities.SpecsParsingBenchmark --record FIXTURE.jsonl\n"
+                    + "  Benchmark Parsing:  java -cp QA_Helper.jar Utilities.SpecsParsingBenchmark [--warmup N] [--iterations N] FIXTURE.jsonl [FIXTURE.jsonl ...]");
+            return;
+        }
+
+        try {
+            if (args[0].equals("--record") && (args.length == 2)) {
+                recordFixtures(new File(args[1]));
+                return;
+            }
+
+            int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
+            int measuredIterations = DEFAULT_MEASURED_ITERATIONS;
+            ArrayList<File> fixtureFiles = new ArrayList<>();
+
+            for (int argIndex = 0; argIndex < args.length; argIndex++) {
+                if (args[argIndex].equals("--warmup") && ((argIndex + 1) < args.length)) {
+                    warmupIterations = Integer.parseInt(args[++argIndex]);
+                } else if (args[argIndex].equals("--iterations") && ((argIndex + 1) < args.length)) {
+                    measuredIterations = Math.max(1, Integer.parseInt(args[++argIndex]));
+                } else {
+                    fixtureFiles.add(new File(args[argIndex]));
+                }
+            }
+
+            for (File thisFixtureFile : fixtureFiles) {
+                benchmarkFixtures(thisFixtureFile, warmupIterations, measuredIterations);
+            }
+        } catch (IOException | NumberFormatException specsParsingBenchmarkException) {
+            System.out.println("specsParsingBenchmarkException: " + specsParsingBenchmarkException);
+            System.exit(1);
+        }
+    }
+
+    private static void recordFixtures(File fixtureFile) throws IOException {
+        // Admin is needed to record the same privileged commands (such as "dmidecode") that QA Helper runs when it's logged in, but the password itself is never saved in the fixtures.
+        String adminPassword = "*UNKNOWN*";
+        Console console = System.console();
+
+        if (console != null) {
+            char[] adminPasswordChars = console.readPassword("Admin Password (Leave Blank to Record Without Admin): ");
+
+            if ((adminPasswordChars != null) && (adminPasswordChars.length > 0)) {
+                adminPassword = new String(adminPasswordChars);
+            }
+        }
+
+        CommandFixtures.startRecording(fixtureFile, adminPassword);
+
+        try {
+            long startNanoTime = System.nanoTime();
+            GetComputerSpecs recordedComputerSpecs = new GetComputerSpecs(adminPassword, false);
+
+            System.out.println("Recorded Command Fixtures for \"" + recordedComputerSpecs.getFullModel() + "\" in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanoTime) + " ms: " + fixtureFile.getPath());
+        } finally {
+            CommandFixtures.stopAfterPendingRecordings(30);
+            PrivilegedCommandSession.closeSession();
+        }
+    }
+
+    private static void benchmarkFixtures(File fixtureFile, int warmupIterations, int measuredIterations) throws IOException {
+        JSONObject fixtureHeader = CommandFixtures.startReplaying(fixtureFile);
+
+        // Parse as the OS the fixtures were recorded on so that the same parsing code runs no matter which computer is running the benchmark.
+        String originalOSname = System.getProperty("os.name");
+        String originalOSversion = System.getProperty("os.version");
+        System.setProperty("os.name", fixtureHeader.optString("os.name", originalOSname));
+        System.setProperty("os.version", fixtureHeader.optString("os.version", originalOSversion));
+
+        String replayAdminPassword = (fixtureHeader.optBoolean("recordedWithAdmin") ? CommandFixtures.ADMIN_PASSWORD_PLACEHOLDER : "*UNKNOWN*");
+
+        try {
+            String firstSpecsJSON = null;
+            boolean specsChangedBetweenIterations = false;
+            long[] iterationNanos = new long[measuredIterations];
+
+            for (int iteration = 0; iteration < (warmupIterations + measuredIterations); iteration++) {
+                if (iteration == warmupIterations) {
+                    System.gc(); // Start the measured iterations with a clean heap so that garbage from warming up isn't counted against them.
+                }
+
+                CommandFixtures.rewindReplay();
+
+                long iterationStartNanoTime = System.nanoTime();
+                GetComputerSpecs replayedComputerSpecs = new GetComputerSpecs(replayAdminPassword, false);
+                long iterationElapsedNanos = (System.nanoTime() - iterationStartNanoTime);
+
+                if (iteration >= warmupIterations) {
+                    iterationNanos[iteration - warmupIterations] = iterationElapsedNanos;
+                }
+
+                // Replaying the same fixtures must always parse the exact same specs, so anything different means the parsing depends on something other than the command outputs.
+                String thisSpecsJSON = replayedComputerSpecs.getSpecsAsJSON().toString();
+                if (firstSpecsJSON == null) {
+                    firstSpecsJSON = thisSpecsJSON;
+
+                    System.out.println("\n" + fixtureFile.getName() + " (" + fixtureHeader.optString("os.name") + " " + fixtureHeader.optString("os.version") + ", Recorded " + fixtureHeader.optString("recorded") + ")");
+                    System.out.println("  Model: " + replayedComputerSpecs.getFullModel());
+                    System.out.println("  CPU: " + replayedComputerSpecs.getFullCPU());
+                } else if (!firstSpecsJSON.equals(thisSpecsJSON)) {
+                    specsChangedBetweenIterations = true;
+                }
+            }
+
+            Arrays.sort(iterationNanos);
+
+            double totalMillis = 0;
+            for (long thisIterationNanos : iterationNanos) {
+                totalMillis += (thisIterationNanos / 1000000.0);
+            }
+
+            System.out.println(String.format("  Parse Time: %.2f ms avg, %.2f ms p50, %.2f ms min, %.2f ms max (%d Iterations after %d Warmup)", (totalMillis / measuredIterations),
+                    (iterationNanos[measuredIterations / 2] / 1000000.0), (iterationNanos[0] / 1000000.0), (iterationNanos[measuredIterations - 1] / 1000000.0), measuredIterations, warmupIterations));
+            System.out.println("  Specs JSON Hash: " + Integer.toHexString(firstSpecsJSON.hashCode()) + (specsChangedBetweenIterations ? " (SPECS CHANGED BETWEEN ITERATIONS)" : ""));
+
+            List<String> missingReplayCommands = CommandFixtures.getMissingReplayCommands();
+            if (!missingReplayCommands.isEmpty()) {
+                System.out.println("  Commands Not in Fixtures (" + missingReplayCommands.size() + "):");
+                missingReplayCommands.forEach((thisMissingReplayCommand) -> System.out.println("    " + thisMissingReplayCommand));
+            }
+        } finally {
+            CommandFixtures.stop();
+
+            System.setProperty("os.name", originalOSname);
+            System.setProperty("os.version", originalOSversion);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * This class matches normalized spec values against known placeholder values using a hash set for exact placeholders and an Aho-Corasick automaton for placeholders that can be contained within a longer value
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+final class SpecsPlaceholderMatcher {
+
+    // Normalized values only ever contain "a" through "z" and "0" through "9" (see "normalize" below), so the automaton only needs these 36 symbols.
+    private static final int SYMBOL_COUNT = 36;
+
+    private final HashSet<String> exactPlaceholders;
+    private final int[][] containedPlaceholderTransitions;
+    private final boolean[] containedPlaceholderMatchStates;
+
+    SpecsPlaceholderMatcher(String[] exactPlaceholders, String[] containedPlaceholders) {
+        this.exactPlaceholders = new HashSet<>(Arrays.asList(exactPlaceholders));
+
+        // Build a trie of all the contained placeholders, and then fill in every missing transition by following the failure links (breadth first) so that matching is a single table lookup per character with no backtracking.
+        ArrayList<int[]> trieTransitions = new ArrayList<>();
+        ArrayList<Boolean> trieMatchStates = new ArrayList<>();
+        trieTransitions.add(newEmptyTransitions());
+        trieMatchStates.add(false);
+
+        for (String thisContainedPlaceholder : containedPlaceholders) {
+            if (thisContainedPlaceholder.isEmpty()) {
+                throw new IllegalArgumentException("Contained Specs Placeholders Cannot Be Empty");
+            }
+
+            int thisState = 0;
+            for (int i = 0; i < thisContainedPlaceholder.length(); i++) {
+                int thisSymbol = getSymbol(thisContainedPlaceholder.charAt(i));
+                if (thisSymbol == -1) {
+                    throw new IllegalArgumentException("Contained Specs Placeholder \"" + thisContainedPlaceholder + "\" Is Not Normalized");
+                }
+
+                if (trieTransitions.get(thisState)[thisSymbol] == -1) {
+                    trieTransitions.get(thisState)[thisSymbol] = trieTransitions.size();
+                    trieTransitions.add(newEmptyTransitions());
+                    trieMatchStates.add(false);
+                }
+
+                thisState = trieTransitions.get(thisState)[thisSymbol];
+            }
+
+            trieMatchStates.set(thisState, true);
+        }
+
+        int stateCount = trieTransitions.size();
+        containedPlaceholderTransitions = trieTransitions.toArray(new int[stateCount][]);
+        containedPlaceholderMatchStates = new boolean[stateCount];
+        for (int thisState = 0; thisState < stateCount; thisState++) {
+            containedPlaceholderMatchStates[thisState] = trieMatchStates.get(thisState);
+        }
+
+        int[] failureStates = new int[stateCount];
+        ArrayDeque<Integer> statesToVisit = new ArrayDeque<>();
+
+        for (int thisSymbol = 0; thisSymbol < SYMBOL_COUNT; thisSymbol++) {
+            int nextState = containedPlaceholderTransitions[0][thisSymbol];
+            if (nextState == -1) {
+                containedPlaceholderTransitions[0][thisSymbol] = 0;
+            } else {
+                failureStates[nextState] = 0;
+                statesToVisit.add(nextState);
+            }
+        }
+
+        while (!statesToVisit.isEmpty()) {
+            int thisState = statesToVisit.poll();
+
+            // A state also matches if any shorter placeholder ends at the same place, which is always its failure state (that has already been visited since it's closer to the root).
+            if (containedPlaceholderMatchStates[failureStates[thisState]]) {
+                containedPlaceholderMatchStates[thisState] = true;
+            }
+
+            for (int thisSymbol = 0; thisSymbol < SYMBOL_COUNT; thisSymbol++) {
+                int nextState = containedPlaceholderTransitions[thisState][thisSymbol];
+                if (nextState == -1) {
+                    containedPlaceholderTransitions[thisState][thisSymbol] = containedPlaceholderTransitions[failureStates[thisState]][thisSymbol];
+                } else {
+                    failureStates[nextState] = containedPlaceholderTransitions[failureStates[thisState]][thisSymbol];
+                    statesToVisit.add(nextState);
+                }
+            }
+        }
+    }
+
+    private static int[] newEmptyTransitions() {
+        int[] emptyTransitions = new int[SYMBOL_COUNT];
+        Arrays.fill(emptyTransitions, -1);
+        return emptyTransitions;
+    }
+
+    private static int getSymbol(char thisChar) {
+        if ((thisChar >= '0') && (thisChar <= '9')) {
+            return (thisChar - '0');
+        } else if ((thisChar >= 'a') && (thisChar <= 'z')) {
+            return (10 + (thisChar - 'a'));
+        }
+
+        return -1;
+    }
+
+    static String normalize(String rawValue) {
+        return SpecsParsing.keepLowercaseAlphanumerics(rawValue.toLowerCase()); // Make lowercase and remove all except letters and number to not have to worry about any possible slight variations.
+    }
+
+    boolean matches(String normalizedValue) {
+        if (exactPlaceholders.contains(normalizedValue)) {
+            return true;
+        }
+
+        int thisState = 0;
+        for (int i = 0; i < normalizedValue.length(); i++) {
+            int thisSymbol = getSymbol(normalizedValue.charAt(i));
+            if (thisSymbol == -1) {
+                thisState = 0; // Should never happen with a normalized value, but never let a placeholder match across some other character.
+                continue;
+            }
+
+            thisState = containedPlaceholderTransitions[thisState][thisSymbol];
+            if (containedPlaceholderMatchStates[thisState]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
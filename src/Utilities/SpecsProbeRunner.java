@@ -0,0 +1,138 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * This class runs spec probes (which are mostly CommandReader subprocesses) concurrently on a bounded executor so that GetComputerSpecs can parse their results in order
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class SpecsProbeRunner {
+
+    // Probes spend almost all of their time waiting on subprocesses, so allow more probes than cores, but keep it bounded so that slow systems don't get swamped with dozens of processes at once.
+    private static final int MAX_CONCURRENT_PROBES = Math.max(4, Math.min(8, (Runtime.getRuntime().availableProcessors() * 2)));
+
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_PROBES, (Runnable probeRunnable) -> {
+        Thread probeThread = new Thread(probeRunnable, "qa_helper-specs_probe");
+        probeThread.setDaemon(true); // Never keep the app from quitting just because some probe is still running.
+        return probeThread;
+    });
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> probes = new ConcurrentHashMap<>();
+    private final boolean isTestMode;
+    private final long startTime = System.currentTimeMillis();
+
+    public SpecsProbeRunner(boolean isTestMode) {
+        this.isTestMode = isTestMode;
+    }
+
+    public void addProbe(String probeName, Supplier<?> probe, String... dependencyProbeNames) {
+        if (probes.containsKey(probeName)) {
+            throw new IllegalArgumentException("Specs Probe \"" + probeName + "\" Already Added");
+        }
+
+        CompletableFuture<?>[] dependencyProbes = new CompletableFuture<?>[dependencyProbeNames.length];
+        for (int i = 0; i < dependencyProbeNames.length; i++) {
+            dependencyProbes[i] = probes.get(dependencyProbeNames[i]);
+
+            if (dependencyProbes[i] == null) {
+                throw new IllegalArgumentException("Specs Probe \"" + probeName + "\" Depends on Unknown Probe \"" + dependencyProbeNames[i] + "\"");
+            }
+        }
+
+        // Use "handleAsync" instead of "thenApplyAsync" so that a dependent probe will still run even if one of the probes it depends on failed (it will just get the fallback result for that probe).
+        probes.put(probeName, CompletableFuture.allOf(dependencyProbes).handleAsync((Void ignoredResult, Throwable ignoredException) -> runProbe(probeName, probe), PROBE_EXECUTOR));
+    }
+
+    private Object runProbe(String probeName, Supplier<?> probe) {
+        long probeStartTime = System.currentTimeMillis();
+
+        try {
+            return probe.get();
+        } catch (Exception runProbeException) { // A probe failing should never break loading all the other specs.
+            if (isTestMode) {
+                System.out.println("runProbeException (" + probeName + "): " + runProbeException);
+            }
+
+            return null;
+        } finally {
+            if (isTestMode) {
+                long probeEndTime = System.currentTimeMillis();
+                System.out.println("Specs Probe \"" + probeName + "\" Took " + (probeEndTime - probeStartTime) + " ms (Finished at " + (probeEndTime - startTime) + " ms)");
+            }
+        }
+    }
+
+    public boolean hasProbe(String probeName) {
+        return probes.containsKey(probeName);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getProbeResult(String probeName, T fallbackResult) {
+        CompletableFuture<Object> thisProbe = probes.get(probeName);
+
+        if (thisProbe == null) {
+            return fallbackResult;
+        }
+
+        try {
+            Object probeResult = thisProbe.get();
+
+            if ((probeResult == null) || ((fallbackResult != null) && !fallbackResult.getClass().isInstance(probeResult))) {
+                return fallbackResult;
+            }
+
+            return (T) probeResult;
+        } catch (InterruptedException | ExecutionException getProbeResultException) {
+            if (isTestMode) {
+                System.out.println("getProbeResultException (" + probeName + "): " + getProbeResultException);
+            }
+
+            return fallbackResult;
+        }
+    }
+
+    public String[] getProbeOutputLines(String probeName) {
+        return getProbeResult(probeName, new String[0]);
+    }
+
+    public String getProbeOutputLine(String probeName) {
+        return getProbeResult(probeName, "");
+    }
+
+    public void waitForAllProbes() {
+        try {
+            CompletableFuture.allOf(probes.values().toArray(CompletableFuture<?>[]::new)).get();
+        } catch (InterruptedException | ExecutionException waitForAllProbesException) {
+            if (isTestMode) {
+                System.out.println("waitForAllProbesException: " + waitForAllProbesException);
+            }
+        }
+
+        if (isTestMode) {
+            System.out.println("All " + probes.size() + " Specs Probes Finished in " + (System.currentTimeMillis() - startTime) + " ms");
+        }
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * This class durably queues outbound form POSTs in an append-only journal file and sends them in the background so that they are never lost when there is no internet connection
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class WebOutbox {
+
+    // Only send this many entries per pass before checking if anything else was queued so that a long backlog after being offline for a while doesn't hold up everything else.
+    private static final int MAX_ENTRIES_PER_BATCH = 10;
+
+    // When sending fails because there is no connection, wait this long before trying again (doubling after each failed pass up to the max).
+    private static final long INITIAL_RETRY_DELAY_SECONDS = 5;
+    private static final long MAX_RETRY_DELAY_SECONDS = 300;
+
+    private final Path journalPath;
+    private final Map<String, Map<String, String>> endpointsSecretFields;
+    private final boolean isTestMode;
+    private final LinkedHashMap<String, OutboxEntry> pendingEntries = new LinkedHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<String>> pendingEntryResults = new ConcurrentHashMap<>();
+    private FileChannel journalChannel = null;
+    private ScheduledFuture<?> scheduledSend = null;
+    private long currentRetryDelaySeconds = INITIAL_RETRY_DELAY_SECONDS;
+
+    private static final WebRetryPolicy SEND_RETRY_POLICY = new WebRetryPolicy(2, 1000, 2000, 5, 20, 30);
+
+    private final ScheduledExecutorService senderExecutor = Executors.newSingleThreadScheduledExecutor((Runnable senderRunnable) -> {
+        Thread senderThread = new Thread(senderRunnable, "qa_helper-web_outbox_sender");
+        senderThread.setDaemon(true); // Never keep the app from quitting just because something is still queued since it will still be in the journal to be sent on the next launch.
+        return senderThread;
+    });
+
+    private static class OutboxEntry {
+
+        private final String entryID;
+        private final String url;
+        private final LinkedHashMap<String, String> formFields;
+        private final String successResponseSuffix;
+
+        private OutboxEntry(String entryID, String url, LinkedHashMap<String, String> formFields, String successResponseSuffix) {
+            this.entryID = entryID;
+            this.url = url;
+            this.formFields = formFields;
+            this.successResponseSuffix = successResponseSuffix;
+        }
+    }
+
+    public WebOutbox(String journalFilePath, Map<String, Map<String, String>> endpointsSecretFields, boolean isTestMode) {
+        // The endpointsSecretFields must include every URL that will ever be queued, mapped to any secret form fields for that URL (such as keys) which are never written to the journal
+        // and are only added to the form fields when the entry is sent. Any entry in the journal for any other URL is never sent, so a journal that was somehow modified can't be used to send anything anywhere else.
+        this.journalPath = Paths.get(journalFilePath);
+        this.endpointsSecretFields = new HashMap<>(endpointsSecretFields);
+        this.isTestMode = isTestMode;
+
+        replayJournal();
+
+        try {
+            journalChannel = openPrivateJournalChannel();
+        } catch (IOException | UnsupportedOperationException openJournalException) {
+            // Still send everything that gets queued, it just won't survive the app being quit before it's sent.
+            if (isTestMode) {
+                System.out.println("openJournalException: " + openJournalException);
+            }
+        }
+
+        synchronized (this) {
+            if (!pendingEntries.isEmpty()) {
+                if (isTestMode) {
+                    System.out.println("Web Outbox Resuming " + pendingEntries.size() + " Pending Entries From " + journalPath);
+                }
+
+                scheduleSend(0);
+            }
+        }
+    }
+
+    private FileChannel openPrivateJournalChannel() throws IOException {
+        // The journal includes everything that is queued to be sent (such as specs and technician info), so make sure only the current user can ever read or write it,
+        // even if it already existed with other permissions.
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Set<PosixFilePermission> ownerOnlyPermissions = PosixFilePermissions.fromString("rw-------");
+
+            if (Files.exists(journalPath)) {
+                Files.setPosixFilePermissions(journalPath, ownerOnlyPermissions);
+            }
+
+            return FileChannel.open(journalPath, Set.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND), PosixFilePermissions.asFileAttribute(ownerOnlyPermissions));
+        }
+
+        FileChannel privateJournalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        // Windows doesn't support POSIX permissions, so remove read and write access for everyone and then only give it back to the owner.
+        File journalFile = journalPath.toFile();
+        journalFile.setReadable(false, false);
+        journalFile.setReadable(true, true);
+        journalFile.setWritable(false, false);
+        journalFile.setWritable(true, true);
+
+        return privateJournalChannel;
+    }
+
+    private boolean isKnownEndpoint(String url) {
+        return endpointsSecretFields.containsKey(url);
+    }
+
+    private LinkedHashMap<String, String> getFormFieldsToSend(OutboxEntry outboxEntry) {
+        // Add the secret fields for the URL first (they were never written to the journal) followed by all the fields that were queued.
+        LinkedHashMap<String, String> formFieldsToSend = new LinkedHashMap<>(endpointsSecretFields.getOrDefault(outboxEntry.url, Collections.emptyMap()));
+        formFieldsToSend.putAll(outboxEntry.formFields);
+
+        return formFieldsToSend;
+    }
+
+    private void replayJournal() {
+        // Every queued entry is written as a "queued" line and then a "sent", "rejected", or "unconfirmed" line is appended once it's done, so any entry without a matching done line is still pending.
+        // An incomplete last line (from the app or computer stopping in the middle of a write) will just fail to parse and be ignored.
+        if (!Files.isRegularFile(journalPath)) {
+            return;
+        }
+
+        try (BufferedReader journalReader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String thisJournalLine;
+            while ((thisJournalLine = journalReader.readLine()) != null) {
+                if (thisJournalLine.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    JSONObject thisJournalRecord = new JSONObject(thisJournalLine);
+
+                    if (thisJournalRecord.has("queued")) {
+                        LinkedHashMap<String, String> thisFormFields = new LinkedHashMap<>();
+                        JSONArray thisFormFieldsArray = thisJournalRecord.getJSONArray("fields");
+
+                        for (int i = 0; i < thisFormFieldsArray.length(); i++) {
+                            JSONArray thisFormField = thisFormFieldsArray.getJSONArray(i);
+                            thisFormFields.put(thisFormField.getString(0), thisFormField.getString(1));
+                        }
+
+                        String thisEntryID = thisJournalRecord.getString("queued");
+                        String thisURL = thisJournalRecord.getString("url");
+
+                        if (!isKnownEndpoint(thisURL)) {
+                            // This could only have been written by a different version of QA Helper (or was not written by QA Helper at all), so never send it.
+                            if (isTestMode) {
+                                System.out.println("Web Outbox Ignoring Journal Entry For Unknown Endpoint: " + thisURL);
+                            }
+
+                            continue;
+                        }
+
+                        pendingEntries.put(thisEntryID, new OutboxEntry(thisEntryID, thisURL, thisFormFields, thisJournalRecord.optString("success", "")));
+                    } else if (thisJournalRecord.has("sent")) {
+                        pendingEntries.remove(thisJournalRecord.getString("sent"));
+                    } else if (thisJournalRecord.has("rejected")) {
+                        pendingEntries.remove(thisJournalRecord.getString("rejected"));
+                    } else if (thisJournalRecord.has("unconfirmed")) {
+                        pendingEntries.remove(thisJournalRecord.getString("unconfirmed"));
+                    }
+                } catch (JSONException parseJournalLineException) {
+                    if (isTestMode) {
+                        System.out.println("parseJournalLineException: " + parseJournalLineException);
+                    }
+                }
+            }
+        } catch (IOException readJournalException) {
+            if (isTestMode) {
+                System.out.println("readJournalException: " + readJournalException);
+            }
+        }
+    }
+
+    private synchronized void appendToJournal(JSONObject journalRecord) {
+        if (journalChannel == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer journalLineBuffer = ByteBuffer.wrap((journalRecord.toString() + "\n").getBytes(StandardCharsets.UTF_8));
+            while (journalLineBuffer.hasRemaining()) {
+                journalChannel.write(journalLineBuffer);
+            }
+
+            journalChannel.force(false); // Make sure the record is actually on disk before moving on since these computers often get powered off abruptly.
+        } catch (IOException appendToJournalException) {
+            if (isTestMode) {
+                System.out.println("appendToJournalException: " + appendToJournalException);
+            }
+        }
+    }
+
+    public CompletableFuture<String> enqueue(String url, Map<String, String> formFields) {
+        return enqueue(url, formFields, "");
+    }
+
+    public CompletableFuture<String> enqueue(String url, Map<String, String> formFields, String successResponseSuffix) {
+        // The returned CompletableFuture completes with the response once the entry has been sent, or exceptionally if the server responded with anything that doesn't end with the successResponseSuffix
+        // (if the successResponseSuffix is empty, any successful HTTP response counts). It will NOT complete while there is no connection since the entry is just kept in the journal until it can be sent.
+        if (!isKnownEndpoint(url)) {
+            throw new IllegalArgumentException("The URL " + url + " is not one of the endpoints this WebOutbox was created with.");
+        }
+
+        LinkedHashMap<String, String> entryFormFields = new LinkedHashMap<>(formFields);
+        entryFormFields.keySet().removeAll(endpointsSecretFields.get(url).keySet()); // Secret fields are only ever added when sending, so they are never written to the journal.
+
+        String entryID = UUID.randomUUID().toString();
+        OutboxEntry newEntry = new OutboxEntry(entryID, url, entryFormFields, ((successResponseSuffix == null) ? "" : successResponseSuffix));
+
+        JSONArray formFieldsArray = new JSONArray();
+        newEntry.formFields.forEach((thisKey, thisValue) -> formFieldsArray.put(new JSONArray().put(thisKey).put(thisValue)));
+
+        CompletableFuture<String> entryResult = new CompletableFuture<>();
+        pendingEntryResults.put(entryID, entryResult);
+
+        synchronized (this) {
+            appendToJournal(new JSONObject().put("queued", entryID).put("url", url).put("fields", formFieldsArray).put("success", newEntry.successResponseSuffix).put("time", System.currentTimeMillis()));
+            pendingEntries.put(entryID, newEntry);
+
+            currentRetryDelaySeconds = INITIAL_RETRY_DELAY_SECONDS; // Something new was queued, so try right away even if the last attempt failed.
+            scheduleSend(0);
+        }
+
+        return entryResult;
+    }
+
+    public synchronized void sendNow() {
+        // Try sending right away instead of waiting for the current retry delay (such as when someone chooses to "Try Again" after fixing their connection).
+        currentRetryDelaySeconds = INITIAL_RETRY_DELAY_SECONDS;
+
+        if (!pendingEntries.isEmpty()) {
+            scheduleSend(0);
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingEntries.size();
+    }
+
+    private synchronized void scheduleSend(long delaySeconds) {
+        if (scheduledSend != null) {
+            // If a send is already waiting on a longer retry delay, replace it so that it happens sooner (unless it already started).
+            if ((scheduledSend.getDelay(TimeUnit.SECONDS) <= delaySeconds) || !scheduledSend.cancel(false)) {
+                return;
+            }
+        }
+
+        scheduledSend = senderExecutor.schedule(this::sendPendingEntries, delaySeconds, TimeUnit.SECONDS);
+    }
+
+    private void sendPendingEntries() {
+        ArrayList<OutboxEntry> entriesBatch;
+
+        synchronized (this) {
+            scheduledSend = null;
+            entriesBatch = new ArrayList<>(pendingEntries.values());
+        }
+
+        if (entriesBatch.size() > MAX_ENTRIES_PER_BATCH) {
+            entriesBatch = new ArrayList<>(entriesBatch.subList(0, MAX_ENTRIES_PER_BATCH));
+        }
+
+        boolean lostConnection = false;
+
+        // Entries are sent in the order they were queued (and one at a time since the endpoints each only accept a single form POST) to keep the logs on the server in order.
+        // Since they are all sent from this single sender thread one after another, each one reuses the same idle keep-alive connection from the JDK pool (see "WebReader") instead of connecting again.
+        for (OutboxEntry thisEntry : entriesBatch) {
+            if (!sendEntry(thisEntry)) {
+                // Never received a response (or only a temporary HTTP error), so leave this entry (unless it may have already been received) and all the entries after it in the journal to be sent once connected again.
+                if (isTestMode) {
+                    System.out.println("Web Outbox Failed to Send - " + getPendingCount() + " Entries Still Pending");
+                }
+
+                lostConnection = true;
+                break;
+            }
+        }
+
+        synchronized (this) {
+            if (lostConnection) {
+                scheduleSend(currentRetryDelaySeconds);
+                currentRetryDelaySeconds = Math.min(MAX_RETRY_DELAY_SECONDS, (currentRetryDelaySeconds * 2));
+            } else {
+                currentRetryDelaySeconds = INITIAL_RETRY_DELAY_SECONDS;
+
+                if (!pendingEntries.isEmpty()) {
+                    scheduleSend(0);
+                } else if (journalChannel != null) {
+                    // Once nothing is pending, none of the journal is needed anymore, so empty it instead of letting it grow forever.
+                    // This is safe to do in place since even if it gets interrupted, there is nothing in it that still needs to be sent.
+                    try {
+                        journalChannel.truncate(0);
+                        journalChannel.force(false);
+                    } catch (IOException truncateJournalException) {
+                        if (isTestMode) {
+                            System.out.println("truncateJournalException: " + truncateJournalException);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean sendEntry(OutboxEntry outboxEntry) {
+        // Returns "false" if no response (or only a temporary HTTP error) was received (so the entry is still pending unless it may have already been received).
+        WebReader entryWebReader = new WebReader(outboxEntry.url, getFormFieldsToSend(outboxEntry), SEND_RETRY_POLICY);
+        String entryResponse = entryWebReader.getOutputLinesAsString();
+
+        if ((entryWebReader.getFailureCause() != WebReader.FailureCause.NONE) && (entryWebReader.getFailureCause() != WebReader.FailureCause.HTTP_ERROR)) {
+            if (entryWebReader.requestMayHaveBeenReceived()) {
+                finishUnconfirmedEntry(outboxEntry, entryWebReader.getFailureCause());
+            }
+
+            return false;
+        }
+
+        if ((entryWebReader.getFailureCause() == WebReader.FailureCause.HTTP_ERROR) && isTemporaryHTTPError(entryWebReader.getResponseCode())) {
+            // The server (or something in front of it) is temporarily unavailable or overloaded, so keep the entry pending to be tried again after the retry delay (just like when there is no connection)
+            // instead of dropping exactly what the outbox exists to protect. Only permanent client errors (such as "400 Bad Request") finish the entry as rejected.
+            if (isTestMode) {
+                System.out.println("Web Outbox Temporary HTTP Error (" + entryWebReader.getResponseCode() + ") - Will Try Again");
+            }
+
+            return false;
+        }
+
+        boolean wasAccepted = ((entryWebReader.getFailureCause() == WebReader.FailureCause.NONE) && (outboxEntry.successResponseSuffix.isEmpty() || entryResponse.endsWith(outboxEntry.successResponseSuffix)));
+        finishEntry(outboxEntry, wasAccepted, (((entryResponse.isEmpty() && !wasAccepted)) ? ("NO RESPONSE (" + entryWebReader.getFailureCause().toString().replace("_", " ") + ")") : entryResponse));
+
+        return true;
+    }
+
+    private static boolean isTemporaryHTTPError(int responseCode) {
+        // "408 Request Timeout", "429 Too Many Requests", and every 5XX server error may succeed if sent again later. Any other response code (or none at all) is treated as permanent.
+        return ((responseCode == 408) || (responseCode == 429) || ((responseCode >= 500) && (responseCode <= 599)));
+    }
+
+    private void finishUnconfirmedEntry(OutboxEntry outboxEntry, WebReader.FailureCause failureCause) {
+        // The request was sent but no response was received, so the server may or may not have processed it. The endpoints don't ignore duplicates, so sending it again could log the same thing twice.
+        // Instead, finish the entry as "unconfirmed" so that it's never automatically sent again and the caller (and the technician) can decide whether it needs to be queued again.
+        finishEntry(outboxEntry, "unconfirmed", false, "NO RESPONSE AFTER SENDING (" + failureCause.toString().replace("_", " ") + ") - MAY HAVE STILL BEEN RECEIVED");
+    }
+
+    private void finishEntry(OutboxEntry outboxEntry, boolean wasAccepted, String entryResponse) {
+        finishEntry(outboxEntry, (wasAccepted ? "sent" : "rejected"), wasAccepted, entryResponse);
+    }
+
+    private void finishEntry(OutboxEntry outboxEntry, String journalRecordKey, boolean wasAccepted, String entryResponse) {
+        synchronized (this) {
+            appendToJournal(new JSONObject().put(journalRecordKey, outboxEntry.entryID).put("response", entryResponse).put("time", System.currentTimeMillis()));
+            pendingEntries.remove(outboxEntry.entryID);
+        }
+
+        CompletableFuture<String> entryResult = pendingEntryResults.remove(outboxEntry.entryID);
+        if (entryResult != null) {
+            if (wasAccepted) {
+                entryResult.complete(entryResponse);
+            } else {
+                entryResult.completeExceptionally(new IOException(entryResponse));
+            }
+        }
+
+        if (isTestMode && !wasAccepted) {
+            System.out.println("Web Outbox Entry Rejected: " + entryResponse);
+        }
+    }
+}
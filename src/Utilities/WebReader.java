@@ -19,18 +19,41 @@
 package Utilities;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
 
 /**
  * This class reads commands determined by constructor and returns all lines or line containing a given string
@@ -42,6 +65,183 @@ public class WebReader {
     private final boolean debugLogging = false;
     private HttpURLConnection webConnection;
     private BufferedReader webReader;
+    private int responseCode = -1;
+    private FailureCause failureCause = FailureCause.NONE;
+    private boolean requestMayHaveBeenReceived = false;
+
+    public enum FailureCause {
+        NONE,
+        INVALID_URL,
+        CONNECT_TIMEOUT,
+        CONNECTION_FAILED, // The host could not be resolved or reached, or the connection was lost or refused.
+        READ_TIMEOUT,
+        HTTP_ERROR, // An HTTP error response was received (its contents can still be read since they may explain the error).
+        DEADLINE_EXCEEDED // The overall deadline of the WebRetryPolicy ran out before a response could be received.
+    }
+
+    // Web requests spend almost all of their time waiting on the network, so a few threads are plenty to let independent requests overlap without each one tying up its own SwingWorker thread.
+    // This matches the default of 5 idle keep-alive connections per host that HttpURLConnection will keep around to be reused.
+    private static final ExecutorService WEB_READER_EXECUTOR = Executors.newFixedThreadPool(5, (Runnable webReaderRunnable) -> {
+        Thread webReaderThread = new Thread(webReaderRunnable, "qa_helper-web_reader");
+        webReaderThread.setDaemon(true); // Never keep the app from quitting just because some request is still waiting on a response.
+        return webReaderThread;
+    });
+
+    // If a response is not read all the way, read up to this many more characters so that the connection can still be reused (anything longer is not worth reading just to reuse the connection, so the connection is closed instead).
+    private static final int MAX_UNREAD_OUTPUT_TO_DRAIN = 65536;
+
+    private static final ConcurrentHashMap<String, HostConnectionMetrics> HOST_CONNECTION_METRICS = new ConcurrentHashMap<>();
+
+    private static class HostConnectionMetrics {
+
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong newConnectionCount = new AtomicLong();
+        private final AtomicLong closedConnectionCount = new AtomicLong();
+        private final AtomicLong bytesSent = new AtomicLong();
+        private final AtomicLong uncompressedBytesSent = new AtomicLong();
+        private final AtomicLong bytesReceived = new AtomicLong();
+        private final AtomicLong uncompressedBytesReceived = new AtomicLong();
+        private volatile boolean isHTTPS = false;
+    }
+
+    // Only JSON bodies at least this large are worth gzipping (form fields are always small), and ONLY to hosts that are known to decode gzipped request bodies (see "allowGzippedRequestBodies")
+    // since most servers don't and will respond with a "400 Bad Request" or "500 Internal Server Error" (or even process the compressed bytes as if they were the body) instead of a "415 Unsupported Media Type".
+    private static final int MIN_JSON_BODY_BYTES_TO_GZIP = 8192;
+    private static final Set<String> HOSTS_WITH_GZIPPED_BODY_SUPPORT = ConcurrentHashMap.newKeySet();
+
+    private static class ByteCountingInputStream extends FilterInputStream {
+
+        private final AtomicLong byteCount;
+
+        private ByteCountingInputStream(InputStream inputStream, AtomicLong byteCount) {
+            super(inputStream);
+            this.byteCount = byteCount;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int thisByte = super.read();
+
+            if (thisByte != -1) {
+                byteCount.incrementAndGet();
+            }
+
+            return thisByte;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int bytesRead = super.read(buffer, offset, length);
+
+            if (bytesRead > 0) {
+                byteCount.addAndGet(bytesRead);
+            }
+
+            return bytesRead;
+        }
+    }
+
+    private static HostConnectionMetrics getHostConnectionMetrics(String host) {
+        return HOST_CONNECTION_METRICS.computeIfAbsent(((host == null) ? "" : host.toLowerCase()), (String thisHost) -> new HostConnectionMetrics());
+    }
+
+    // The JDK already keeps a per-host pool of idle keep-alive connections (up to "http.maxConnections" per host, which is 5 by default) that HttpURLConnection reuses automatically
+    // as long as each response is read all the way and closed without calling "disconnect()". For HTTPS, that pool is keyed by the SSLSocketFactory,
+    // so every connection must use this same factory instance to be able to be reused. This factory also counts each new TLS connection per host for the metrics.
+    // Unconnected sockets are intentionally not supported (the default from SocketFactory) so that HttpsURLConnection always creates new TLS connections
+    // with "createSocket(Socket, String, int, boolean)", which is the only method that includes the host.
+    private static final SSLSocketFactory CONNECTION_COUNTING_SSL_SOCKET_FACTORY = new SSLSocketFactory() {
+        private final SSLSocketFactory defaultSSLSocketFactory = HttpsURLConnection.getDefaultSSLSocketFactory();
+
+        @Override
+        public String[] getDefaultCipherSuites() {
+            return defaultSSLSocketFactory.getDefaultCipherSuites();
+        }
+
+        @Override
+        public String[] getSupportedCipherSuites() {
+            return defaultSSLSocketFactory.getSupportedCipherSuites();
+        }
+
+        @Override
+        public Socket createSocket(Socket plainSocket, String host, int port, boolean autoClose) throws IOException {
+            getHostConnectionMetrics(host).newConnectionCount.incrementAndGet();
+            return defaultSSLSocketFactory.createSocket(plainSocket, host, port, autoClose);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            getHostConnectionMetrics(host).newConnectionCount.incrementAndGet();
+            return defaultSSLSocketFactory.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localAddress, int localPort) throws IOException {
+            getHostConnectionMetrics(host).newConnectionCount.incrementAndGet();
+            return defaultSSLSocketFactory.createSocket(host, port, localAddress, localPort);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port) throws IOException {
+            getHostConnectionMetrics(address.getHostName()).newConnectionCount.incrementAndGet();
+            return defaultSSLSocketFactory.createSocket(address, port);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            getHostConnectionMetrics(address.getHostName()).newConnectionCount.incrementAndGet();
+            return defaultSSLSocketFactory.createSocket(address, port, localAddress, localPort);
+        }
+    };
+
+    public static Map<String, String> getConnectionMetrics() {
+        // Returns a summary for each host that has been connected to, such as "12 Requests, 2 New Connections, 10 Reused Connections, 0 Closed Connections, 5120 Bytes Sent (5120 Uncompressed), 8192 Bytes Received (40960 Uncompressed)"
+        // (new connections can only be counted for HTTPS, and bytes only count the bodies of requests and responses, not the headers).
+        TreeMap<String, String> connectionMetrics = new TreeMap<>();
+
+        HOST_CONNECTION_METRICS.forEach((String thisHost, HostConnectionMetrics thisHostConnectionMetrics) -> {
+            long thisRequestCount = thisHostConnectionMetrics.requestCount.get();
+            String thisConnectionCounts = "";
+
+            if (thisHostConnectionMetrics.isHTTPS) {
+                long thisNewConnectionCount = thisHostConnectionMetrics.newConnectionCount.get();
+                thisConnectionCounts = thisNewConnectionCount + " New Connections, " + Math.max(0, (thisRequestCount - thisNewConnectionCount)) + " Reused Connections, ";
+            }
+
+            connectionMetrics.put(thisHost, thisRequestCount + " Requests, " + thisConnectionCounts + thisHostConnectionMetrics.closedConnectionCount.get() + " Closed Connections, "
+                    + thisHostConnectionMetrics.bytesSent.get() + " Bytes Sent (" + thisHostConnectionMetrics.uncompressedBytesSent.get() + " Uncompressed), "
+                    + thisHostConnectionMetrics.bytesReceived.get() + " Bytes Received (" + thisHostConnectionMetrics.uncompressedBytesReceived.get() + " Uncompressed)");
+        });
+
+        return connectionMetrics;
+    }
+
+    public static void allowGzippedRequestBodies(String host) {
+        // Only call this for a host whose server is known to decode "Content-Encoding: gzip" request bodies. If it ever responds with "415 Unsupported Media Type" to a gzipped body,
+        // the request is still sent again uncompressed and gzipped bodies are never sent to it again.
+        if ((host != null) && !host.isEmpty()) {
+            HOSTS_WITH_GZIPPED_BODY_SUPPORT.add(host.toLowerCase());
+        }
+    }
+
+    public static CompletableFuture<WebResponse> readAsync(String url) {
+        return readAsync(() -> new WebReader(url));
+    }
+
+    public static CompletableFuture<WebResponse> readAsync(String url, HashMap<String, String> formFields) {
+        return readAsync(() -> new WebReader(url, formFields));
+    }
+
+    public static CompletableFuture<WebResponse> readAsync(Supplier<WebReader> webReaderSupplier) {
+        // The WebReader is created (which sends the request) and its whole response is read on the WEB_READER_EXECUTOR so that the calling thread is never blocked.
+        // Any WebReader constructor can be used through the webReaderSupplier, such as "WebReader.readAsync(() -> new WebReader(url, bearerToken, jsonBody, "PUT"))".
+        return CompletableFuture.supplyAsync(() -> {
+            WebReader webReader = webReaderSupplier.get();
+            String[] outputLines = webReader.getOutputLines();
+
+            return new WebResponse(webReader.getResponseCode(), webReader.getFailureCause(), outputLines);
+        }, WEB_READER_EXECUTOR);
+    }
 
     public WebReader(String url) {
         initWebReader(url, null, null, null, null, null, null, 0, 0);
@@ -83,6 +283,10 @@ public class WebReader {
         initWebReader(url, null, null, null, null, formFields, null, 0, readTimeoutSeconds);
     }
 
+    public WebReader(String url, HashMap<String, String> formFields, WebRetryPolicy retryPolicy) {
+        initWebReader(url, null, null, null, null, formFields, null, retryPolicy);
+    }
+
     private void initWebReader(String url, String username, String password, String bearerToken, String jsonBody, HashMap<String, String> formFields, String requestMethod) {
         initWebReader(url, username, password, bearerToken, jsonBody, formFields, requestMethod, 0, 0);
     }
@@ -92,198 +296,394 @@ public class WebReader {
     }
 
     private void initWebReader(String url, String username, String password, String bearerToken, String jsonBody, HashMap<String, String> formFields, String requestMethod, int connectTimeoutSeconds, int readTimeoutSeconds) {
-        try {
-            // NOTE: Cannot use newer HttpClient because all existing Linux and Windows installs of QA Helper use a jlink JRE which doesn't include "java.net.http" module,
-            // and would be a bigger hassle to automate updating the jlink JRE than use the older HttpURLConnection.
+        initWebReader(url, username, password, bearerToken, jsonBody, formFields, requestMethod, new WebRetryPolicy(connectTimeoutSeconds, readTimeoutSeconds));
+    }
 
-            webConnection = (HttpURLConnection) URI.create(url).toURL().openConnection();
+    private void initWebReader(String url, String username, String password, String bearerToken, String jsonBody, HashMap<String, String> formFields, String requestMethod, WebRetryPolicy retryPolicy) {
+        // NOTE: Cannot use newer HttpClient because all existing Linux and Windows installs of QA Helper use a jlink JRE which doesn't include "java.net.http" module,
+        // and would be a bigger hassle to automate updating the jlink JRE than use the older HttpURLConnection.
 
-            if (connectTimeoutSeconds <= 0) {
-                connectTimeoutSeconds = 5;
+        if (retryPolicy == null) {
+            retryPolicy = new WebRetryPolicy(0, 0);
+        }
+
+        String bodyString = "";
+        if ((formFields != null) && !formFields.isEmpty()) {
+            StringBuilder formFieldParametersBuilder = new StringBuilder();
+            formFields.forEach((thisKey, thisValue) -> {
+                try {
+                    String thisURLEncodedKey = URLEncoder.encode(thisKey, StandardCharsets.UTF_8.toString());
+                    String thisURLEncodedValue = URLEncoder.encode(thisValue, StandardCharsets.UTF_8.toString());
+
+                    if (formFieldParametersBuilder.length() != 0) { // StringBuilder.isEmpty() is not available on Java 11!
+                        formFieldParametersBuilder.append('&');
+                    }
+
+                    formFieldParametersBuilder.append(thisURLEncodedKey);
+                    formFieldParametersBuilder.append('=');
+                    formFieldParametersBuilder.append(thisURLEncodedValue);
+                } catch (UnsupportedEncodingException encodeValueException) {
+                }
+            });
+
+            bodyString = formFieldParametersBuilder.toString();
+        } else if (jsonBody != null) {
+            jsonBody = jsonBody.trim();
+
+            if (jsonBody.startsWith("{")) {
+                bodyString = jsonBody;
+            }
+        }
+
+        String httpRequestMethod = "GET";
+        if (!bodyString.isEmpty()) {
+            httpRequestMethod = (((requestMethod != null) && requestMethod.toUpperCase().equals("PUT")) ? "PUT" : "POST");
+        } else if (requestMethod != null) {
+            switch (requestMethod.toUpperCase()) {
+                case "PUT":
+                    httpRequestMethod = "PUT";
+                    break;
+                case "POST":
+                    httpRequestMethod = "POST";
+                    break;
+                default:
+                    break;
             }
+        }
 
-            webConnection.setConnectTimeout(connectTimeoutSeconds * 1000);
+        // Once a request has been sent, only a GET request is safe to send again after a failure since anything else may have already been processed by the server (such as decrementing DPK counts).
+        // Failures while connecting are always safe to retry since nothing was sent yet.
+        boolean requestIsIdempotent = httpRequestMethod.equals("GET");
 
-            if (readTimeoutSeconds <= 0) {
-                readTimeoutSeconds = 10;
+        if (debugLogging) {
+            if (!bodyString.isEmpty()) {
+                System.out.println("WebReader bodyString: " + bodyString);
             }
 
-            webConnection.setReadTimeout(readTimeoutSeconds * 1000);
+            System.out.println("WebReader baseURL: " + (url.contains("?") ? url.substring(0, url.indexOf("?")) : url));
+        }
 
-            if ((bearerToken != null) && !bearerToken.isEmpty()) {
-                webConnection.setRequestProperty("Authorization", "Bearer " + bearerToken);
-            } else if ((username != null) && !username.isEmpty() && (password != null) && !password.isEmpty()) {
-                webConnection.setRequestProperty("Authorization", "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes()));
+        long deadlineNanoTime = (System.nanoTime() + TimeUnit.SECONDS.toNanos(retryPolicy.getDeadlineSeconds()));
+        int maxWebReaderAttempts = retryPolicy.getMaxAttempts();
+
+        for (int webReaderAttemptCount = 1; webReaderAttemptCount <= maxWebReaderAttempts; webReaderAttemptCount++) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanoTime - System.nanoTime());
+            if (remainingMillis <= 0) {
+                failureCause = FailureCause.DEADLINE_EXCEEDED;
+                break;
             }
 
-            String bodyString = "";
-            if ((formFields != null) && !formFields.isEmpty()) {
-                StringBuilder formFieldParametersBuilder = new StringBuilder();
-                formFields.forEach((thisKey, thisValue) -> {
-                    try {
-                        String thisURLEncodedKey = URLEncoder.encode(thisKey, StandardCharsets.UTF_8.toString());
-                        String thisURLEncodedValue = URLEncoder.encode(thisValue, StandardCharsets.UTF_8.toString());
+            // Never let a single attempt run past the overall deadline, no matter what its own timeouts are.
+            int connectTimeoutMillis = (int) Math.min((retryPolicy.getConnectTimeoutSeconds() * 1000L), remainingMillis);
+            int readTimeoutMillis = (int) Math.min((retryPolicy.getReadTimeoutSeconds() * 1000L), remainingMillis);
+            boolean attemptLimitedByDeadline = ((connectTimeoutMillis < (retryPolicy.getConnectTimeoutSeconds() * 1000L)) || (readTimeoutMillis < (retryPolicy.getReadTimeoutSeconds() * 1000L)));
+
+            boolean isConnected = false;
+            boolean sentGzippedBody = false;
+            requestMayHaveBeenReceived = false;
+            boolean canRetry;
+
+            try {
+                webConnection = (HttpURLConnection) URI.create(url).toURL().openConnection();
+
+                HostConnectionMetrics thisHostConnectionMetrics = getHostConnectionMetrics(webConnection.getURL().getHost());
+                thisHostConnectionMetrics.requestCount.incrementAndGet();
+
+                if (webConnection instanceof HttpsURLConnection) {
+                    ((HttpsURLConnection) webConnection).setSSLSocketFactory(CONNECTION_COUNTING_SSL_SOCKET_FACTORY);
+                    thisHostConnectionMetrics.isHTTPS = true;
+                }
+
+                webConnection.setConnectTimeout(connectTimeoutMillis);
+                webConnection.setReadTimeout(readTimeoutMillis);
+
+                if ((bearerToken != null) && !bearerToken.isEmpty()) {
+                    webConnection.setRequestProperty("Authorization", "Bearer " + bearerToken);
+                } else if ((username != null) && !username.isEmpty() && (password != null) && !password.isEmpty()) {
+                    webConnection.setRequestProperty("Authorization", "Basic " + Base64.getEncoder().encodeToString((username + ":" + password).getBytes()));
+                }
 
-                        if (formFieldParametersBuilder.length() != 0) { // StringBuilder.isEmpty() is not available on Java 11!
-                            formFieldParametersBuilder.append('&');
+                webConnection.setRequestMethod(httpRequestMethod);
+
+                // HttpURLConnection never asks for or decodes compressed responses on its own, so ask for gzip and decode it in getResponseReader() (a server can still always respond uncompressed).
+                webConnection.setRequestProperty("Accept-Encoding", "gzip");
+
+                byte[] bodyStringBytes = null;
+                if (!bodyString.isEmpty()) {
+                    webConnection.setDoOutput(true);
+                    webConnection.setRequestProperty("Content-Type", (bodyString.startsWith("{") ? "application/json" : "application/x-www-form-urlencoded"));
+
+                    bodyStringBytes = bodyString.getBytes(StandardCharsets.UTF_8);
+                    thisHostConnectionMetrics.uncompressedBytesSent.addAndGet(bodyStringBytes.length);
+
+                    if (bodyString.startsWith("{") && (bodyStringBytes.length >= MIN_JSON_BODY_BYTES_TO_GZIP) && HOSTS_WITH_GZIPPED_BODY_SUPPORT.contains(webConnection.getURL().getHost().toLowerCase())) {
+                        ByteArrayOutputStream gzippedBodyOutputStream = new ByteArrayOutputStream(bodyStringBytes.length / 4);
+                        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzippedBodyOutputStream)) {
+                            gzipOutputStream.write(bodyStringBytes);
                         }
 
-                        formFieldParametersBuilder.append(thisURLEncodedKey);
-                        formFieldParametersBuilder.append('=');
-                        formFieldParametersBuilder.append(thisURLEncodedValue);
-                    } catch (UnsupportedEncodingException encodeValueException) {
+                        bodyStringBytes = gzippedBodyOutputStream.toByteArray();
+                        webConnection.setRequestProperty("Content-Encoding", "gzip");
+                        sentGzippedBody = true;
                     }
-                });
 
-                bodyString = formFieldParametersBuilder.toString();
-            } else if (jsonBody != null) {
-                jsonBody = jsonBody.trim();
+                    thisHostConnectionMetrics.bytesSent.addAndGet(bodyStringBytes.length);
+                    webConnection.setRequestProperty("Content-Length", String.valueOf(bodyStringBytes.length));
+                }
+
+                webConnection.connect();
+                isConnected = true;
 
-                if (jsonBody.startsWith("{")) {
-                    bodyString = jsonBody;
+                if (bodyStringBytes != null) {
+                    try (OutputStream httpConnectionOutputStream = webConnection.getOutputStream()) {
+                        httpConnectionOutputStream.write(bodyStringBytes);
+                        httpConnectionOutputStream.flush();
+                    }
                 }
-            }
 
-            if (!bodyString.isEmpty()) {
+                responseCode = webConnection.getResponseCode();
                 if (debugLogging) {
-                    System.out.println("WebReader bodyString: " + bodyString);
+                    System.out.println("WebReader responseCode: " + responseCode);
+                }
+
+                if (responseCode < 400) {
+                    webReader = getResponseReader(webConnection.getInputStream());
+                    failureCause = FailureCause.NONE;
+                    break;
+                }
+
+                if (sentGzippedBody && (responseCode == 415)) {
+                    // This host doesn't actually accept gzipped bodies, so never gzip them for it again and immediately send this same request uncompressed without counting it as a failed attempt
+                    // (the request was not processed, so this is safe even if it's not idempotent, and it can only happen once per host since the host is now removed).
+                    HOSTS_WITH_GZIPPED_BODY_SUPPORT.remove(webConnection.getURL().getHost().toLowerCase());
+                    drainErrorResponse();
+                    webReaderAttemptCount--;
+                    continue;
                 }
 
-                webConnection.setDoOutput(true);
-                webConnection.setRequestProperty("Content-Type", (bodyString.startsWith("{") ? "application/json" : "application/x-www-form-urlencoded"));
+                failureCause = FailureCause.HTTP_ERROR;
 
-                if ((requestMethod != null) && requestMethod.toUpperCase().equals("PUT")) {
-                    webConnection.setRequestMethod("PUT");
+                // These responses mean the server was too busy (or a proxy could not reach it) to handle the request, so it's worth trying again after backing off.
+                // A "502 Bad Gateway" or "504 Gateway Timeout" could have still been processed by the server after the proxy gave up, so only retry those for idempotent requests.
+                canRetry = ((responseCode == 429) || (responseCode == 503) || (requestIsIdempotent && ((responseCode == 502) || (responseCode == 504))));
+
+                if (!canRetry || (webReaderAttemptCount == maxWebReaderAttempts)) {
+                    // Return the contents of the error response since the callers display or log it.
+                    if (webConnection.getErrorStream() != null) {
+                        webReader = getResponseReader(webConnection.getErrorStream());
+                    } else {
+                        webConnection.disconnect();
+                    }
+
+                    break;
+                }
+
+                drainErrorResponse(); // Will be retried, so this response won't be used.
+            } catch (IllegalArgumentException | MalformedURLException invalidURLException) {
+                failureCause = FailureCause.INVALID_URL;
+                webConnection = null;
+
+                if (debugLogging) {
+                    System.out.println("WebReader invalidURLException: " + invalidURLException);
+                }
+
+                break;
+            } catch (Exception webReaderAttemptException) {
+                if (!isConnected) {
+                    failureCause = ((webReaderAttemptException instanceof SocketTimeoutException) ? FailureCause.CONNECT_TIMEOUT : FailureCause.CONNECTION_FAILED);
+                    canRetry = true;
                 } else {
-                    webConnection.setRequestMethod("POST");
+                    failureCause = ((webReaderAttemptException instanceof SocketTimeoutException) ? FailureCause.READ_TIMEOUT : FailureCause.CONNECTION_FAILED);
+                    canRetry = requestIsIdempotent;
+                    requestMayHaveBeenReceived = true; // Some or all of the request was sent, so the server may have still processed it even though no response was received.
+                }
+
+                if (attemptLimitedByDeadline && (webReaderAttemptException instanceof SocketTimeoutException)) {
+                    failureCause = FailureCause.DEADLINE_EXCEEDED;
                 }
 
-                byte[] bodyStringBytes = bodyString.getBytes(StandardCharsets.UTF_8.toString());
-                webConnection.setRequestProperty("Content-Length", String.valueOf(bodyStringBytes.length));
+                if (webConnection != null) {
+                    webConnection.disconnect(); // Nothing will ever be read from this connection, so don't leave it open.
+                }
 
-                OutputStream httpConnectionOutputStream = webConnection.getOutputStream();
-                httpConnectionOutputStream.write(bodyStringBytes);
-                httpConnectionOutputStream.flush();
-            } else if (requestMethod != null) {
-                switch (requestMethod.toUpperCase()) {
-                    case "PUT":
-                        webConnection.setRequestMethod("PUT");
-                        break;
-                    case "POST":
-                        webConnection.setRequestMethod("POST");
-                        break;
-                    default:
-                        webConnection.setRequestMethod("GET");
-                        break;
+                if (debugLogging) {
+                    System.out.println("webReaderAttemptException (ATTEMPT " + webReaderAttemptCount + " OF " + maxWebReaderAttempts + " - " + failureCause + "): " + webReaderAttemptException);
                 }
-            }
 
-            if (debugLogging) {
-                System.out.println("WebReader baseURL: " + (url.contains("?") ? url.substring(0, url.indexOf("?")) : url));
+                if (!canRetry) {
+                    break;
+                }
             }
 
-            int maxWebReaderAttempts = 3;
-            for (int webReaderAttemptCount = 1; webReaderAttemptCount <= maxWebReaderAttempts; webReaderAttemptCount++) {
-                try {
-                    try {
-                        int responseCode = webConnection.getResponseCode();
-                        if (debugLogging) {
-                            System.out.println("WebReader responseCode: " + responseCode);
-                        }
-
-                        webReader = new BufferedReader(new InputStreamReader(webConnection.getInputStream()));
-                        break;
-                    } catch (NullPointerException | IOException readInputStreamException) {
-                        if (debugLogging) {
-                            System.out.println("WebReader readInputStreamException: " + readInputStreamException);
-                        }
+            if (webReaderAttemptCount < maxWebReaderAttempts) {
+                long backoffMillis = retryPolicy.getBackoffMillis(webReaderAttemptCount);
 
-                        webReader = new BufferedReader(new InputStreamReader(webConnection.getErrorStream()));
-                        break;
-                    }
-                } catch (Exception webReaderAttemptException) {
-                    if (debugLogging) {
-                        System.out.println("webReaderAttemptException (ATTEMPT " + webReaderAttemptCount + " OF " + maxWebReaderAttempts + "): " + webReaderAttemptException);
-                    }
+                if (backoffMillis >= TimeUnit.NANOSECONDS.toMillis(deadlineNanoTime - System.nanoTime())) {
+                    // Fail now instead of sleeping until the deadline just to not be able to try again.
+                    failureCause = FailureCause.DEADLINE_EXCEEDED;
+                    break;
+                }
 
-                    if (webReaderAttemptCount < maxWebReaderAttempts) {
-                        try {
-                            TimeUnit.SECONDS.sleep(webReaderAttemptCount);
-                        } catch (InterruptedException sleepException) {
-                            // Ignore sleepException
-                        }
-                    } else {
-                        throw webReaderAttemptException;
-                    }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(backoffMillis);
+                } catch (InterruptedException sleepException) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
             }
-        } catch (Exception webReaderException) {
-            webReader = null;
-            // Ignore Error
+        }
 
+        if ((webReader == null) && (failureCause != FailureCause.NONE)) {
             //JOptionPane.showMessageDialog(null, "<html><b>Failed To Load URL</b><br/><br/>" + url + "</html>", "QA Helper  —  Web Reader Error", JOptionPane.ERROR_MESSAGE);
-            System.out.println("webReaderException: " + webReaderException);
+            System.out.println("webReaderException: " + failureCause + ((responseCode > 0) ? (" (" + responseCode + ")") : ""));
         }
     }
 
-    public String getFirstOutputLine() {
-        return getFirstOutputLineContaining("");
+    private BufferedReader getResponseReader(InputStream responseInputStream) throws IOException {
+        HostConnectionMetrics thisHostConnectionMetrics = getHostConnectionMetrics(webConnection.getURL().getHost());
+        InputStream countedResponseInputStream = new ByteCountingInputStream(responseInputStream, thisHostConnectionMetrics.bytesReceived);
+
+        if ("gzip".equalsIgnoreCase(webConnection.getContentEncoding())) {
+            try {
+                countedResponseInputStream = new ByteCountingInputStream(new GZIPInputStream(countedResponseInputStream), thisHostConnectionMetrics.uncompressedBytesReceived);
+            } catch (EOFException emptyGzipResponseException) {
+                // A gzip encoded response with no body at all (such as "204 No Content") has no gzip header to read.
+                countedResponseInputStream = new ByteArrayInputStream(new byte[0]);
+            }
+        } else {
+            countedResponseInputStream = new ByteCountingInputStream(countedResponseInputStream, thisHostConnectionMetrics.uncompressedBytesReceived);
+        }
+
+        return new BufferedReader(new InputStreamReader(countedResponseInputStream));
     }
 
-    public String getFirstOutputLineContaining(String match) {
-        if (webReader == null) {
-            return "";
+    private void drainErrorResponse() {
+        // Read and close an error response that won't be used so that the connection can still be reused.
+        try (InputStream errorInputStream = webConnection.getErrorStream()) {
+            if (errorInputStream != null) {
+                byte[] drainBuffer = new byte[8192];
+                while (errorInputStream.read(drainBuffer) != -1) {
+                    // Just discard it.
+                }
+            }
+        } catch (IOException drainErrorResponseException) {
+            webConnection.disconnect();
         }
+    }
 
-        boolean getFirstLine = match.isEmpty();
+    public FailureCause getFailureCause() {
+        return failureCause;
+    }
 
-        String outputLine = "";
+    public boolean requestMayHaveBeenReceived() {
+        // Will be "true" if the last attempt failed without a response after it was connected, which means it's unknown whether or not the server received and processed the request.
+        // If this is "false" after a failure, the request never reached the server so it's always safe to send again.
+        return requestMayHaveBeenReceived;
+    }
 
-        try {
-            String thisLine;
-            while ((thisLine = webReader.readLine()) != null) {
-                if (getFirstLine || thisLine.contains(match)) {
-                    outputLine = thisLine;
-                    break;
+    public int getResponseCode() {
+        // Will be "-1" if no response was received at all.
+        return responseCode;
+    }
+
+    private void finishWebReader(boolean stoppedReadingEarly) {
+        // Never call "disconnect()" after a response was read all the way since that would close the connection instead of letting it be reused for the next request to the same host.
+        boolean canReuseConnection = true;
+
+        if (stoppedReadingEarly) {
+            try {
+                char[] drainBuffer = new char[8192];
+                int drainedCharacterCount = 0;
+                int charactersRead;
+
+                while ((charactersRead = webReader.read(drainBuffer)) != -1) {
+                    drainedCharacterCount += charactersRead;
+
+                    if (drainedCharacterCount > MAX_UNREAD_OUTPUT_TO_DRAIN) {
+                        canReuseConnection = false;
+                        break;
+                    }
                 }
+            } catch (IOException drainOutputException) {
+                canReuseConnection = false;
             }
+        }
 
+        try {
             webReader.close();
-        } catch (IOException readLineException) {
-
+        } catch (IOException closeReaderException) {
+            canReuseConnection = false;
         }
 
-        webConnection.disconnect();
+        if (!canReuseConnection) {
+            getHostConnectionMetrics(webConnection.getURL().getHost()).closedConnectionCount.incrementAndGet();
+            webConnection.disconnect();
+        }
 
-        return outputLine;
+        if (debugLogging) {
+            System.out.println("WebReader connectionMetrics: " + getConnectionMetrics());
+        }
     }
 
-    public String getFirstOutputLineNotContaining(String match) {
+    public void readOutputLines(Predicate<String> outputLineHandler) {
+        // Pass each line to the outputLineHandler as it is read. Return "false" from the outputLineHandler to stop reading.
         if (webReader == null) {
-            return "";
+            return;
         }
 
-        boolean getFirstNonEmptyLine = match.isEmpty();
-
-        String outputLine = "";
+        boolean stoppedReadingEarly = false;
 
         try {
             String thisLine;
             while ((thisLine = webReader.readLine()) != null) {
-                if ((getFirstNonEmptyLine && !thisLine.isEmpty()) || !thisLine.contains(match)) {
-                    outputLine = thisLine;
+                if (!outputLineHandler.test(thisLine)) {
+                    stoppedReadingEarly = true;
                     break;
                 }
             }
-
-            webReader.close();
         } catch (IOException readLineException) {
-
+            stoppedReadingEarly = true;
         }
 
-        webConnection.disconnect();
+        finishWebReader(stoppedReadingEarly);
+    }
+
+    public String getFirstOutputLine() {
+        return getFirstOutputLineContaining("");
+    }
+
+    public String getFirstOutputLineContaining(String match) {
+        boolean getFirstLine = match.isEmpty();
+
+        String[] outputLine = {""};
+
+        readOutputLines((String thisLine) -> {
+            if (getFirstLine || thisLine.contains(match)) {
+                outputLine[0] = thisLine;
+                return false;
+            }
+
+            return true;
+        });
+
+        return outputLine[0];
+    }
+
+    public String getFirstOutputLineNotContaining(String match) {
+        boolean getFirstNonEmptyLine = match.isEmpty();
+
+        String[] outputLine = {""};
+
+        readOutputLines((String thisLine) -> {
+            if ((getFirstNonEmptyLine && !thisLine.isEmpty()) || !thisLine.contains(match)) {
+                outputLine[0] = thisLine;
+                return false;
+            }
+
+            return true;
+        });
 
-        return outputLine;
+        return outputLine[0];
     }
 
     public String[] getOutputLines() {
@@ -313,27 +713,21 @@ public class WebReader {
             }
         }
 
-        try {
-            String thisLine;
-            while ((thisLine = webReader.readLine()) != null) {
-                if (matchAllLines) {
-                    outputLines.add(thisLine);
-                } else {
-                    for (String thisMatch : matches) {
-                        if (thisLine.contains(thisMatch)) {
-                            outputLines.add(thisLine);
-                            break;
-                        }
+        boolean addAllLines = matchAllLines;
+        readOutputLines((String thisLine) -> {
+            if (addAllLines) {
+                outputLines.add(thisLine);
+            } else {
+                for (String thisMatch : matches) {
+                    if (thisLine.contains(thisMatch)) {
+                        outputLines.add(thisLine);
+                        break;
                     }
                 }
             }
 
-            webReader.close();
-        } catch (IOException readLineException) {
-
-        }
-
-        webConnection.disconnect();
+            return true;
+        });
 
         return outputLines.toArray(String[]::new);
     }
@@ -357,31 +751,25 @@ public class WebReader {
             }
         }
 
-        try {
-            String thisLine;
-            while ((thisLine = webReader.readLine()) != null) {
-                if (!matchNonEmptyLines || (matchNonEmptyLines && !thisLine.isEmpty())) {
-                    boolean lineContainsMatch = false;
+        boolean onlyNonEmptyLines = matchNonEmptyLines;
+        readOutputLines((String thisLine) -> {
+            if (!onlyNonEmptyLines || !thisLine.isEmpty()) {
+                boolean lineContainsMatch = false;
 
-                    for (String thisMatch : matches) {
-                        if (!thisMatch.isEmpty() && thisLine.contains(thisMatch)) {
-                            lineContainsMatch = true;
-                            break;
-                        }
+                for (String thisMatch : matches) {
+                    if (!thisMatch.isEmpty() && thisLine.contains(thisMatch)) {
+                        lineContainsMatch = true;
+                        break;
                     }
+                }
 
-                    if (!lineContainsMatch) {
-                        outputLines.add(thisLine);
-                    }
+                if (!lineContainsMatch) {
+                    outputLines.add(thisLine);
                 }
             }
 
-            webReader.close();
-        } catch (IOException readLineException) {
-
-        }
-
-        webConnection.disconnect();
+            return true;
+        });
 
         return outputLines.toArray(String[]::new);
     }
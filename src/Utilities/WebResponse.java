@@ -0,0 +1,89 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.util.ArrayList;
+
+/**
+ * This class holds the completed response of an asynchronous WebReader request and returns all lines or lines containing a given string
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class WebResponse {
+
+    private final int responseCode;
+    private final WebReader.FailureCause failureCause;
+    private final String[] outputLines;
+
+    public WebResponse(int responseCode, WebReader.FailureCause failureCause, String[] outputLines) {
+        this.responseCode = responseCode;
+        this.failureCause = ((failureCause == null) ? WebReader.FailureCause.NONE : failureCause);
+        this.outputLines = ((outputLines == null) ? new String[0] : outputLines.clone());
+    }
+
+    public int getResponseCode() {
+        // Will be "-1" if no response was received at all.
+        return responseCode;
+    }
+
+    public WebReader.FailureCause getFailureCause() {
+        return failureCause;
+    }
+
+    public boolean isSuccessful() {
+        return ((responseCode >= 200) && (responseCode < 300));
+    }
+
+    public String getFirstOutputLine() {
+        return getFirstOutputLineContaining("");
+    }
+
+    public String getFirstOutputLineContaining(String match) {
+        for (String thisLine : outputLines) {
+            if (match.isEmpty() || thisLine.contains(match)) {
+                return thisLine;
+            }
+        }
+
+        return "";
+    }
+
+    public String[] getOutputLines() {
+        return outputLines.clone();
+    }
+
+    public String getOutputLinesAsString() {
+        return String.join("\n", outputLines);
+    }
+
+    public String[] getOutputLinesContaining(String match) {
+        if (match.isEmpty()) {
+            return getOutputLines();
+        }
+
+        ArrayList<String> matchingOutputLines = new ArrayList<>();
+
+        for (String thisLine : outputLines) {
+            if (thisLine.contains(match)) {
+                matchingOutputLines.add(thisLine);
+            }
+        }
+
+        return matchingOutputLines.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ * MIT License
+ *
+ * Copyright (c) 2026 Free Geek
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package Utilities;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class determines how many times and how long WebReader will retry a failed request, and the overall deadline for all attempts combined
+ *
+ * @author Pico Mitchell (of Free Geek)
+ */
+public class WebRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final int connectTimeoutSeconds;
+    private final int readTimeoutSeconds;
+    private final int deadlineSeconds;
+
+    public WebRetryPolicy(int connectTimeoutSeconds, int readTimeoutSeconds) {
+        this(3, 1000, 8000, connectTimeoutSeconds, readTimeoutSeconds, 0);
+    }
+
+    public WebRetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis, int connectTimeoutSeconds, int readTimeoutSeconds, int deadlineSeconds) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+        this.connectTimeoutSeconds = ((connectTimeoutSeconds <= 0) ? 5 : connectTimeoutSeconds);
+        this.readTimeoutSeconds = ((readTimeoutSeconds <= 0) ? 10 : readTimeoutSeconds);
+
+        if (deadlineSeconds <= 0) {
+            // When no deadline is specified, allow every attempt to use its full timeouts, plus the longest possible backoff between each attempt.
+            deadlineSeconds = (int) Math.ceil(((this.maxAttempts * (this.connectTimeoutSeconds + this.readTimeoutSeconds) * 1000L) + ((this.maxAttempts - 1) * this.maxBackoffMillis)) / 1000.0);
+        }
+
+        this.deadlineSeconds = deadlineSeconds;
+    }
+
+    public static WebRetryPolicy failFast(int deadlineSeconds) {
+        // For requests where a person is waiting on the result and would rather be told about the failure quickly (so they can fix their connection and try again)
+        // than have a congested connection stall for a minute or more while stacking timeouts. Only one quick retry is allowed, and all attempts must finish within the deadline.
+        return new WebRetryPolicy(2, 500, 500, 5, deadlineSeconds, deadlineSeconds);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public int getConnectTimeoutSeconds() {
+        return connectTimeoutSeconds;
+    }
+
+    public int getReadTimeoutSeconds() {
+        return readTimeoutSeconds;
+    }
+
+    public int getDeadlineSeconds() {
+        return deadlineSeconds;
+    }
+
+    public long getBackoffMillis(int failedAttemptCount) {
+        // Exponential backoff with "equal jitter" (half of the backoff is fixed and the other half is random) so that multiple computers that lost their connection at
+        // the same time don't all retry in lockstep, while still always waiting at least a little while before retrying.
+        if ((failedAttemptCount < 1) || (initialBackoffMillis == 0)) {
+            return 0;
+        }
+
+        long exponentialBackoffMillis = Math.min(maxBackoffMillis, (initialBackoffMillis << Math.min(20, (failedAttemptCount - 1))));
+        long halfBackoffMillis = (exponentialBackoffMillis / 2);
+
+        return (halfBackoffMillis + ThreadLocalRandom.current().nextLong(halfBackoffMillis + 1));
+    }
+}